@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.benchmark;
+
+import jakarta.annotation.Nonnull;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * Embedded H2 database shared by the benchmarks.
+ *
+ * <p>Each call to {@link #create(int)} returns a fresh in-memory database with the {@code city} and {@code owner}
+ * tables, seeded with the requested number of owners. The database lives until the JVM exits, which matches the
+ * lifetime of a JMH fork.</p>
+ */
+public final class BenchmarkDatabase {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    /** Number of seeded cities. Owners are spread evenly across them. */
+    public static final int CITY_COUNT = 16;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Creates a new in-memory database seeded with the specified number of owners.
+     *
+     * @param ownerCount the number of owners to insert.
+     * @return a data source for the new database.
+     * @throws SQLException if the schema could not be created.
+     */
+    public static DataSource create(int ownerCount) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:storm_benchmark_%d;DB_CLOSE_DELAY=-1".formatted(SEQUENCE.incrementAndGet()));
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table city (id integer auto_increment, name varchar(255), primary key (id))");
+            statement.execute("create table owner (id integer auto_increment, first_name varchar(255), last_name varchar(255), address varchar(255), city_id integer, telephone varchar(255), version integer default 0, primary key (id))");
+            statement.execute("alter table owner add constraint owner_city_fk foreign key (city_id) references city (id)");
+            for (int i = 1; i <= CITY_COUNT; i++) {
+                statement.execute("insert into city (name) values ('City %d')".formatted(i));
+            }
+            seedOwners(statement, ownerCount);
+        }
+        return dataSource;
+    }
+
+    private static void seedOwners(@Nonnull Statement statement, int ownerCount) throws SQLException {
+        for (int i = 1; i <= ownerCount; i++) {
+            statement.addBatch("insert into owner (first_name, last_name, address, city_id, telephone) values ('First %d', 'Last %d', 'Street %d', %d, '555-%04d')"
+                    .formatted(i, i, i, (i % CITY_COUNT) + 1, i % 10_000));
+            if (i % 1_000 == 0) {
+                statement.executeBatch();
+            }
+        }
+        statement.executeBatch();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.benchmark;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import st.orm.benchmark.model.City;
+import st.orm.core.repository.EntityRepository;
+import st.orm.core.template.ORMTemplate;
+
+/**
+ * Benchmarks for batch insert and batch update through the entity repository against an embedded H2 database.
+ *
+ * <p>Scores are reported per entity. Both benchmarks run outside a transaction, so updates are full-row updates
+ * without dirty checking.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityRepositoryBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private EntityRepository<City, Integer> cities;
+    private List<City> inserts;
+    private List<City> existing;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        cities = ORMTemplate.of(BenchmarkDatabase.create(0)).entity(City.class);
+        inserts = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            inserts.add(new City(null, "Inserted %d".formatted(i)));
+        }
+        cities.insert(inserts);
+        existing = cities.findAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() {
+        cities.insert(inserts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void updateBatch() {
+        String name = "Updated %d".formatted(round++);
+        List<City> updates = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            updates.add(new City(existing.get(i).id(), name));
+        }
+        cities.update(updates);
+    }
+}
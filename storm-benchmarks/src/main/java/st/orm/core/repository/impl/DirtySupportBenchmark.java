@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.repository.impl;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import st.orm.Metamodel;
+import st.orm.StormConfig;
+import st.orm.benchmark.BenchmarkDatabase;
+import st.orm.benchmark.model.Owner;
+import st.orm.core.spi.CacheRetention;
+import st.orm.core.spi.EntityCache;
+import st.orm.core.spi.EntityCacheImpl;
+import st.orm.core.template.ORMTemplate;
+
+/**
+ * Benchmarks for {@link DirtySupport#getDirty(st.orm.Entity, EntityCache)}.
+ *
+ * <ul>
+ *   <li>{@link #identical()}: the entity is the cached instance (identity short-cut).</li>
+ *   <li>{@link #clean()}: the entity is a copy of the cached instance; every updatable column is compared.</li>
+ *   <li>{@link #dirty()}: the entity differs from the cached instance in its last name.</li>
+ * </ul>
+ *
+ * <p>The {@code updateMode} and {@code dirtyCheck} parameters map to {@code storm.update.default_mode} and
+ * {@code storm.update.dirty_check}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirtySupportBenchmark {
+
+    @Param({"ENTITY", "FIELD"})
+    public String updateMode;
+
+    @Param({"INSTANCE", "VALUE"})
+    public String dirtyCheck;
+
+    private DirtySupport<Owner, Integer> dirtySupport;
+    private EntityCache<Owner, Integer> cache;
+    private Owner cached;
+    private Owner copy;
+    private Owner modified;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        var orm = ORMTemplate.of(BenchmarkDatabase.create(1));
+        var config = StormConfig.of(Map.of(
+                "storm.update.default_mode", updateMode,
+                "storm.update.dirty_check", dirtyCheck));
+        dirtySupport = new DirtySupport<>(orm.entity(Owner.class).model(), config);
+        cached = orm.entity(Owner.class).getById(1);
+        cache = new EntityCacheImpl<>(CacheRetention.DEFAULT);
+        cache.intern(cached);
+        copy = new Owner(cached.id(), cached.firstName(), cached.lastName(),
+                cached.address(), cached.telephone(), cached.version());
+        modified = new Owner(cached.id(), cached.firstName(), cached.lastName() + "-modified",
+                cached.address(), cached.telephone(), cached.version());
+    }
+
+    @Benchmark
+    public Optional<Set<Metamodel<?, ?>>> identical() {
+        return dirtySupport.getDirty(cached, cache);
+    }
+
+    @Benchmark
+    public Optional<Set<Metamodel<?, ?>>> clean() {
+        return dirtySupport.getDirty(copy, cache);
+    }
+
+    @Benchmark
+    public Optional<Set<Metamodel<?, ?>>> dirty() {
+        return dirtySupport.getDirty(modified, cache);
+    }
+}
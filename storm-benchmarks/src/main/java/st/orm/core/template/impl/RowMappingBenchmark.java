@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static st.orm.core.template.TemplateString.raw;
+import static st.orm.core.template.Templates.from;
+import static st.orm.core.template.Templates.select;
+import static st.orm.core.template.impl.ObjectMapperFactory.getObjectMapper;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import st.orm.benchmark.BenchmarkDatabase;
+import st.orm.benchmark.model.Owner;
+import st.orm.core.spi.RefFactoryImpl;
+import st.orm.core.template.ORMTemplate;
+import st.orm.core.template.SqlTemplateException;
+import st.orm.core.template.TemplateString;
+
+/**
+ * Benchmarks for reading rows and hydrating records.
+ *
+ * <ul>
+ *   <li>{@link #readRows()}: executes a query against an embedded H2 database and reads every row as
+ *       {@code Object[]}.</li>
+ *   <li>{@link #readOwners()}: executes the same query and reads every row through
+ *       {@link QueryImpl#readNext} into nested {@link Owner} records.</li>
+ *   <li>{@link #hydrateOwner()}: maps a pre-read, flat column array into an {@link Owner} through the
+ *       {@link RecordMapper} plan, without any JDBC involvement.</li>
+ * </ul>
+ *
+ * <p>Scores of the read benchmarks are reported per row.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    private static final int ROW_COUNT = 1_000;
+
+    private ORMTemplate orm;
+    private TemplateString query;
+    private ObjectMapper<Owner> mapper;
+    private Object[][] rows;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException, SqlTemplateException {
+        orm = ORMTemplate.of(BenchmarkDatabase.create(ROW_COUNT));
+        query = raw("SELECT \0 FROM \0", select(Owner.class), from(Owner.class, true));
+        rows = orm.query(query).getResultList().toArray(new Object[0][]);
+        mapper = getObjectMapper(rows[0].length, Owner.class, new RefFactoryImpl(orm))
+                .orElseThrow(() -> new SqlTemplateException("No mapper for Owner."));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public List<Object[]> readRows() {
+        return orm.query(query).getResultList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public List<Owner> readOwners() {
+        return orm.query(query).getResultList(Owner.class);
+    }
+
+    @Benchmark
+    public Owner hydrateOwner() throws SqlTemplateException {
+        var row = rows[index++ % ROW_COUNT];
+        return mapper.newInstance(row);
+    }
+}
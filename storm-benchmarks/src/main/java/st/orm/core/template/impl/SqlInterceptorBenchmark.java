@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static st.orm.core.template.TemplateString.raw;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import st.orm.core.template.Sql;
+import st.orm.core.template.SqlTemplate;
+import st.orm.core.template.SqlTemplateException;
+
+/**
+ * Benchmarks for intercepting SQL statements with {@link SqlInterceptorManager}.
+ *
+ * <ul>
+ *   <li>{@link #intercept()}: intercepting a statement on a single thread.</li>
+ *   <li>{@link #interceptAllThreads()}: intercepting statements on all available processors at once, which shows how
+ *   the global interceptor registry scales with the number of cores.</li>
+ * </ul>
+ *
+ * <p>The {@code observers} parameter controls the number of registered global observers.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlInterceptorBenchmark {
+
+    @Param({"0", "1"})
+    private int observers;
+
+    private Sql sql;
+    private Consumer<Sql>[] registered;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws SqlTemplateException {
+        sql = SqlTemplate.PS.process(raw("SELECT 1"));
+        registered = new Consumer[observers];
+        for (int i = 0; i < observers; i++) {
+            registered[i] = ignore -> {};
+            SqlInterceptorManager.registerGlobalObserver(registered[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (var observer : registered) {
+            SqlInterceptorManager.unregisterGlobalObserver(observer);
+        }
+    }
+
+    @Benchmark
+    public Sql intercept() {
+        return SqlInterceptorManager.intercept(sql);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Sql interceptAllThreads() {
+        return SqlInterceptorManager.intercept(sql);
+    }
+}
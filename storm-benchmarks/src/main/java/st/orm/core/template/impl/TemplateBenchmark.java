@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static st.orm.core.template.TemplateString.raw;
+import static st.orm.core.template.Templates.from;
+import static st.orm.core.template.Templates.select;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import st.orm.StormConfig;
+import st.orm.benchmark.model.Owner;
+import st.orm.core.template.Sql;
+import st.orm.core.template.SqlTemplate;
+import st.orm.core.template.SqlTemplateException;
+import st.orm.core.template.TemplateString;
+import st.orm.core.template.impl.TemplatePreparation.BindingContext;
+
+/**
+ * Benchmarks for SQL template compilation and parameter binding.
+ *
+ * <ul>
+ *   <li>{@link #cacheHit()}: preprocessing, compilation key lookup and binding of a cached template shape.</li>
+ *   <li>{@link #cacheMiss()}: full compilation of the same shape with the template cache disabled.</li>
+ *   <li>{@link #bind()}: binding of an already compiled {@link TemplateProcessor} in isolation.</li>
+ * </ul>
+ *
+ * <p>The template selects an owner together with its inline address and city foreign key, which makes it
+ * representative of a typical {@code findById} call.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateBenchmark {
+
+    private SqlTemplateImpl cached;
+    private SqlTemplate uncached;
+    private TemplateProcessor processor;
+    private BindingContext bindingContext;
+    private int id;
+
+    @Setup(Level.Trial)
+    public void setup() throws SqlTemplateException {
+        cached = (SqlTemplateImpl) SqlTemplate.PS;
+        uncached = SqlTemplate.PS.withConfig(StormConfig.of(Map.of("storm.template_cache.size", "0")));
+        var preparation = new TemplatePreparation(cached, ModelBuilder.newInstance());
+        bindingContext = preparation.preprocess(query(1));
+        var prepared = preparation.prepare(bindingContext);
+        prepared.processor().compile(prepared.context(), false);
+        processor = prepared.processor();
+        cached.process(query(1));   // Populate the template cache.
+    }
+
+    private static TemplateString query(int id) {
+        return raw("SELECT \0 FROM \0 WHERE \0", select(Owner.class), from(Owner.class, true), id);
+    }
+
+    @Benchmark
+    public Sql cacheHit() throws SqlTemplateException {
+        return cached.process(query(++id));
+    }
+
+    @Benchmark
+    public Sql cacheMiss() throws SqlTemplateException {
+        return uncached.process(query(++id));
+    }
+
+    @Benchmark
+    public Sql bind() throws SqlTemplateException {
+        return processor.bind(bindingContext);
+    }
+}
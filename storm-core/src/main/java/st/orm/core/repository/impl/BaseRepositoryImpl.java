@@ -23,11 +23,18 @@ import static st.orm.Operator.EQUALS;
 import static st.orm.core.spi.Providers.selectFrom;
 import static st.orm.core.spi.Providers.selectRefFrom;
 import static st.orm.core.template.TemplateString.wrap;
+import static st.orm.core.template.impl.Futures.await;
 
 import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -37,6 +44,7 @@ import st.orm.NoResultException;
 import st.orm.PersistenceException;
 import st.orm.Ref;
 import st.orm.core.repository.Repository;
+import st.orm.core.spi.Providers;
 import st.orm.core.template.Model;
 import st.orm.core.template.ORMTemplate;
 import st.orm.core.template.QueryBuilder;
@@ -546,6 +554,59 @@ abstract class BaseRepositoryImpl<E extends Data, ID> implements Repository {
         return chunked(ids, chunkSize, batch -> select().whereId(batch).getResultStream()); // Stream returned by getResultStream is closed by the batch operation.
     }
 
+    /**
+     * Retrieves a stream of entities based on their primary keys, executing up to {@code parallelism} chunks
+     * concurrently.
+     *
+     * <p>The chunks are executed on virtual threads, each on its own connection obtained from the underlying
+     * {@code DataSource}. The entities are emitted in chunk order: the entities of a chunk are emitted after those of
+     * all preceding chunks, regardless of the order in which the chunks complete. At most {@code parallelism} chunks
+     * are executed or buffered at any time.</p>
+     *
+     * <p>The chunks are executed sequentially, as with {@link #selectById(Stream, int)}, if {@code parallelism} is
+     * {@code 1}, if a transaction is active, or if the template is not backed by a {@code DataSource}. Queries of a
+     * transaction must run on the transaction's connection, which cannot be shared between threads.</p>
+     *
+     * <p><strong>Note:</strong> Since the stream holds resources open while in use, it must be closed after usage to
+     * prevent resource leaks. Closing the stream does not abort chunks that are already executing; their results are
+     * discarded.</p>
+     *
+     * @param ids a stream of entity IDs to retrieve from the repository.
+     * @param chunkSize the number of primary keys to include in each batch.
+     * @param parallelism the maximum number of chunks to execute concurrently.
+     * @return a stream of entities corresponding to the provided primary keys. If an id does not correspond to any
+     * entity in the database, it will simply be skipped. If the same entity is requested multiple times, it may be
+     * included in the stream multiple times if it is part of a separate batch.
+     * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}.
+     * @throws PersistenceException if the selection operation fails due to underlying database issues, such as
+     *                              connectivity.
+     * @since 1.11
+     */
+    public Stream<E> selectById(@Nonnull Stream<ID> ids, int chunkSize, int parallelism) {
+        if (!isParallel(parallelism)) {
+            return selectById(ids, chunkSize);
+        }
+        return chunked(ids, chunkSize, parallelism, batch -> select().whereId(batch).getResultStream());
+    }
+
+    /**
+     * Returns whether chunks can be executed concurrently with the specified parallelism.
+     *
+     * @param parallelism the requested parallelism.
+     * @return {@code true} if chunks are to be executed concurrently, {@code false} if they must be executed
+     * sequentially.
+     * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}.
+     * @since 1.11
+     */
+    protected boolean isParallel(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+        return parallelism > 1
+                && ormTemplate.supportsConcurrentQueries()
+                && Providers.getTransactionTemplate().currentContext().isEmpty();
+    }
+
     /**
      * Retrieves a stream of entities based on their primary keys.
      *
@@ -669,6 +730,67 @@ abstract class BaseRepositoryImpl<E extends Data, ID> implements Repository {
                 .flatMap(function); // Note that the flatMap operation closes the stream passed to it.
     }
 
+    /**
+     * Performs the function in multiple batches on virtual threads, executing up to {@code parallelism} batches
+     * concurrently.
+     *
+     * <p>The results are emitted in batch order. Each batch is fully read into memory by the thread that executes it,
+     * so at most {@code parallelism} batch results are held at any time. Closing the returned stream closes the input
+     * stream and discards the results of batches that are still executing.</p>
+     *
+     * @param stream the stream to batch.
+     * @param batchSize the maximum number of elements to include in each batch.
+     * @param parallelism the maximum number of batches to execute concurrently.
+     * @param function the function to apply to each batch.
+     * @return a stream of results from each batch.
+     * @param <X> the type of elements in the stream.
+     * @param <Y> the type of elements in the result stream.
+     * @since 1.11
+     */
+    protected static <X, Y> Stream<Y> chunked(@Nonnull Stream<X> stream,
+                                              int batchSize,
+                                              int parallelism,
+                                              @Nonnull Function<List<X>, Stream<Y>> function) {
+        final Iterator<List<X>> batches = chunked(stream, batchSize).iterator();
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        final Deque<Future<List<Y>>> pending = new ArrayDeque<>();
+        var it = new Iterator<List<Y>>() {
+            @Override
+            public boolean hasNext() {
+                submit();
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public List<Y> next() {
+                submit();
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                return await(pending.removeFirst());
+            }
+
+            private void submit() {
+                while (pending.size() < parallelism && batches.hasNext()) {
+                    List<X> batch = batches.next();
+                    pending.addLast(executor.submit(() -> {
+                        try (var results = function.apply(batch)) {
+                            return results.toList();
+                        }
+                    }));
+                }
+            }
+        };
+        return StreamSupport.stream(spliteratorUnknownSize(it, ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(() -> {
+                    // Running batches complete in the background and release their connections.
+                    pending.forEach(future -> future.cancel(false));
+                    executor.shutdown();
+                    stream.close();
+                });
+    }
+
     /**
      * Generates a stream of slices, each containing a subset of elements from the original stream up to a specified
      * size. This method is designed to facilitate batch processing of large streams by dividing the stream into
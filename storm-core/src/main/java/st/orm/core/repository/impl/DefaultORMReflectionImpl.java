@@ -47,6 +47,7 @@ public final class DefaultORMReflectionImpl implements ORMReflection {
     private static final Map<Class<?>, Optional<RecordField>> PK_FIELD_CACHE = new ConcurrentHashMap<>();
     private static final Map<Class<?>, Optional<Constructor<?>>> CONSTRUCTOR_CACHE = new ConcurrentHashMap<>();
     private static final Map<Method, Accessor> ACCESSOR_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Method, MethodHandle> DEFAULT_METHOD_CACHE = new ConcurrentHashMap<>();
 
     private interface Accessor {
         Object get(Object receiver) throws Throwable;
@@ -302,10 +303,14 @@ public final class DefaultORMReflectionImpl implements ORMReflection {
 
     @Override
     public Object execute(@Nonnull Object proxy, @Nonnull Method method, @Nonnull Object... args) throws Throwable {
-        // Handle default methods using MethodHandles.
-        final Class<?> declaringClass = method.getDeclaringClass();
-        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
-        MethodHandle methodHandle = lookup.findSpecial(declaringClass, method.getName(), MethodType.methodType(method.getReturnType(), method.getParameterTypes()), declaringClass);
+        // Handle default methods using MethodHandles. The lookup is done once per method.
+        MethodHandle methodHandle = DEFAULT_METHOD_CACHE.get(method);
+        if (methodHandle == null) {
+            final Class<?> declaringClass = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            methodHandle = lookup.findSpecial(declaringClass, method.getName(), MethodType.methodType(method.getReturnType(), method.getParameterTypes()), declaringClass);
+            DEFAULT_METHOD_CACHE.putIfAbsent(method, methodHandle);
+        }
         return methodHandle.bindTo(proxy).invokeWithArguments(args);
     }
 }
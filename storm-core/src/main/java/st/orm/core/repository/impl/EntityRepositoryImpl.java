@@ -28,14 +28,17 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import st.orm.BindVars;
 import st.orm.Entity;
 import st.orm.EntityCallback;
 import st.orm.GenerationStrategy;
@@ -50,6 +53,7 @@ import st.orm.core.spi.CacheRetention;
 import st.orm.core.spi.EntityCache;
 import st.orm.core.spi.EntityCacheMetrics;
 import st.orm.core.spi.Providers;
+import st.orm.core.spi.SharedEntityCache;
 import st.orm.core.spi.TransactionContext;
 import st.orm.core.spi.TransactionTemplate;
 import st.orm.core.template.Column;
@@ -59,8 +63,10 @@ import st.orm.core.template.PreparedQuery;
 import st.orm.core.template.QueryBuilder;
 import st.orm.core.template.TemplateString;
 import st.orm.core.template.Templates;
+import st.orm.core.template.impl.FixedRows;
 import st.orm.core.template.impl.JoinedEntityHelper;
 import st.orm.core.template.impl.LazySupplier;
+import st.orm.core.template.impl.SqlInterceptorManager;
 
 /**
  * Default implementation of {@link EntityRepository}.
@@ -89,7 +95,10 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
     protected final GenerationStrategy generationStrategy;
     private final DirtySupport<E, ID> dirtySupport;
     private final CacheRetention cacheRetention;
+    private final int multiRowInsertSize;
+    private final int multiRowUpsertSize;
     private final List<EntityCallback<E>> entityCallbacks;
+    private final SharedEntityCache<E, ID> sharedCache;
 
     public EntityRepositoryImpl(@Nonnull ORMTemplate ormTemplate, @Nonnull Model<E, ID> model) {
         super(ormTemplate, model);
@@ -106,7 +115,10 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
         }
         this.dirtySupport = new DirtySupport<>(model, ormTemplate.config());
         this.cacheRetention = CacheRetention.fromConfig(ormTemplate.config());
+        this.multiRowInsertSize = Integer.parseInt(ormTemplate.config().getProperty("storm.insert.multi_row_size", "0").trim());
+        this.multiRowUpsertSize = Integer.parseInt(ormTemplate.config().getProperty("storm.upsert.multi_row_size", "0").trim());
         this.entityCallbacks = resolveCallbacks(ormTemplate.entityCallbacks(), model.type());
+        this.sharedCache = SharedEntityCache.<E, ID>of(ormTemplate.sharedCacheScope(), model.type()).orElse(null);
         EntityCacheMetrics.getInstance().registerEntity(model.type().getName(), cacheRetention.name());
         LOGGER.debug("{}: cacheRetention={}", model.type().getSimpleName(), cacheRetention);
     }
@@ -673,149 +685,205 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
                 .orElse(false);
     }
 
+    /**
+     * Returns the entity for the given primary key from the cache hierarchy, or {@code null} if it is not cached.
+     *
+     * <p>The transaction-local cache is consulted first if the isolation level is {@code REPEATABLE_READ} or
+     * higher, followed by the shared cache if the entity is {@link st.orm.Cacheable}.</p>
+     */
+    private @Nullable E cached(@Nonnull ID id, @Nullable EntityCache<E, ID> entityCache,
+                               @Nullable TransactionContext context) {
+        if (entityCache != null) {
+            Optional<E> cached = entityCache.get(id);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        if (sharedCache != null) {
+            return sharedCache.get(id, context).orElse(null);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the transaction-local cache if cached reads are enabled, or {@code null} otherwise.
+     */
+    private @Nullable EntityCache<E, ID> readCache() {
+        return isRepeatableRead() ? entityCache().orElse(null) : null;
+    }
+
     // Cache-first lookup methods.
 
     /**
      * {@inheritDoc}
      *
      * <p>This implementation first checks the entity cache (if available and isolation is REPEATABLE_READ or higher)
-     * before querying the database.</p>
+     * and the shared cache (if the entity is {@link st.orm.Cacheable}) before querying the database.</p>
      */
     @Override
     public Optional<E> findById(@Nonnull ID id) {
-        if (isRepeatableRead()) {
-            var cache = entityCache();
-            if (cache.isPresent()) {
-                Optional<E> cached = cache.get().get(id);
-                if (cached.isPresent()) {
-                    return cached;
-                }
-            }
+        var context = TRANSACTION_TEMPLATE.currentContext().orElse(null);
+        E cached = cached(id, readCache(), context);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (sharedCache == null) {
+            return super.findById(id);
         }
-        return super.findById(id);
+        long generation = sharedCache.generation();
+        Optional<E> entity = super.findById(id);
+        entity.ifPresent(e -> sharedCache.put(e, generation, context));
+        return entity;
     }
 
     /**
      * {@inheritDoc}
      *
      * <p>This implementation first checks the entity cache (if available and isolation is REPEATABLE_READ or higher)
-     * before querying the database.</p>
+     * and the shared cache (if the entity is {@link st.orm.Cacheable}) before querying the database.</p>
      */
     @Override
     public E getById(@Nonnull ID id) {
-        if (isRepeatableRead()) {
-            var cache = entityCache();
-            if (cache.isPresent()) {
-                Optional<E> cached = cache.get().get(id);
-                if (cached.isPresent()) {
-                    return cached.get();
-                }
-            }
+        var context = TRANSACTION_TEMPLATE.currentContext().orElse(null);
+        E cached = cached(id, readCache(), context);
+        if (cached != null) {
+            return cached;
         }
-        return super.getById(id);
+        if (sharedCache == null) {
+            return super.getById(id);
+        }
+        long generation = sharedCache.generation();
+        E entity = super.getById(id);
+        sharedCache.put(entity, generation, context);
+        return entity;
     }
 
     /**
      * {@inheritDoc}
      *
      * <p>This implementation first checks the entity cache (if available and isolation is REPEATABLE_READ or higher)
-     * before querying the database.</p>
+     * and the shared cache (if the entity is {@link st.orm.Cacheable}) before querying the database.</p>
      */
     @Override
     public Optional<E> findByRef(@Nonnull Ref<E> ref) {
-        if (isRepeatableRead()) {
-            var cache = entityCache();
-            if (cache.isPresent()) {
-                //noinspection unchecked
-                Optional<E> cached = cache.get().get((ID) ref.id());
-                if (cached.isPresent()) {
-                    return cached;
-                }
-            }
+        var context = TRANSACTION_TEMPLATE.currentContext().orElse(null);
+        //noinspection unchecked
+        E cached = cached((ID) ref.id(), readCache(), context);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (sharedCache == null) {
+            return super.findByRef(ref);
         }
-        return super.findByRef(ref);
+        long generation = sharedCache.generation();
+        Optional<E> entity = super.findByRef(ref);
+        entity.ifPresent(e -> sharedCache.put(e, generation, context));
+        return entity;
     }
 
     /**
      * {@inheritDoc}
      *
      * <p>This implementation first checks the entity cache (if available and isolation is REPEATABLE_READ or higher)
-     * before querying the database.</p>
+     * and the shared cache (if the entity is {@link st.orm.Cacheable}) before querying the database.</p>
      */
     @Override
     public E getByRef(@Nonnull Ref<E> ref) {
-        if (isRepeatableRead()) {
-            var cache = entityCache();
-            if (cache.isPresent()) {
-                //noinspection unchecked
-                Optional<E> cached = cache.get().get((ID) ref.id());
-                if (cached.isPresent()) {
-                    return cached.get();
-                }
-            }
+        var context = TRANSACTION_TEMPLATE.currentContext().orElse(null);
+        //noinspection unchecked
+        E cached = cached((ID) ref.id(), readCache(), context);
+        if (cached != null) {
+            return cached;
+        }
+        if (sharedCache == null) {
+            return super.getByRef(ref);
         }
-        return super.getByRef(ref);
+        long generation = sharedCache.generation();
+        E entity = super.getByRef(ref);
+        sharedCache.put(entity, generation, context);
+        return entity;
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>This implementation partitions IDs into cached and uncached (when isolation is REPEATABLE_READ or higher),
-     * returning cached entities immediately and only querying the database for uncached IDs.</p>
+     * <p>This implementation partitions IDs into cached and uncached (when isolation is REPEATABLE_READ or higher, or
+     * when the entity is {@link st.orm.Cacheable}), returning cached entities immediately and only querying the
+     * database for uncached IDs.</p>
      */
     @Override
     public Stream<E> selectById(@Nonnull Stream<ID> ids, int chunkSize) {
-        if (!isRepeatableRead()) {
+        EntityCache<E, ID> entityCache = readCache();
+        if (entityCache == null && sharedCache == null) {
             return super.selectById(ids, chunkSize);
         }
-        var cache = entityCache();
-        if (cache.isEmpty()) {
-            return super.selectById(ids, chunkSize);
+        var context = TRANSACTION_TEMPLATE.currentContext().orElse(null);
+        return chunked(ids, chunkSize, batch -> selectChunk(batch, entityCache, context));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation consults the shared cache (if the entity is {@link st.orm.Cacheable}) for each chunk,
+     * and only queries the database for uncached IDs.</p>
+     */
+    @Override
+    public Stream<E> selectById(@Nonnull Stream<ID> ids, int chunkSize, int parallelism) {
+        if (!isParallel(parallelism)) {
+            return selectById(ids, chunkSize);
         }
-        EntityCache<E, ID> entityCache = cache.get();
-        return chunked(ids, chunkSize, batch -> {
-            List<E> cached = new ArrayList<>();
-            List<ID> uncached = new ArrayList<>();
-            for (ID id : batch) {
-                Optional<E> cachedEntity = entityCache.get(id);
-                if (cachedEntity.isPresent()) {
-                    cached.add(cachedEntity.get());
-                } else {
-                    uncached.add(id);
-                }
-            }
-            if (uncached.isEmpty()) {
-                return cached.stream();
+        if (sharedCache == null) {
+            return super.selectById(ids, chunkSize, parallelism);
+        }
+        // Parallel chunks only run outside a transaction, so there is no transaction-scoped entity cache.
+        return chunked(ids, chunkSize, parallelism, batch -> selectChunk(batch, null, null));
+    }
+
+    /**
+     * Selects the entities of a single chunk of IDs, returning cached entities first and querying the database for
+     * the remaining IDs.
+     */
+    private Stream<E> selectChunk(@Nonnull List<ID> batch,
+                                  @Nullable EntityCache<E, ID> entityCache,
+                                  @Nullable TransactionContext context) {
+        List<E> cached = new ArrayList<>();
+        List<ID> uncached = new ArrayList<>();
+        for (ID id : batch) {
+            E cachedEntity = cached(id, entityCache, context);
+            if (cachedEntity != null) {
+                cached.add(cachedEntity);
+            } else {
+                uncached.add(id);
             }
-            return Stream.concat(cached.stream(),
-                select().whereId(uncached).getResultStream());
-        });
+        }
+        if (uncached.isEmpty()) {
+            return cached.stream();
+        }
+        return Stream.concat(cached.stream(), publish(select().whereId(uncached).getResultStream(), context));
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>This implementation partitions refs into cached and uncached (when isolation is REPEATABLE_READ or higher),
-     * returning cached entities immediately and only querying the database for uncached refs.</p>
+     * <p>This implementation partitions refs into cached and uncached (when isolation is REPEATABLE_READ or higher, or
+     * when the entity is {@link st.orm.Cacheable}), returning cached entities immediately and only querying the
+     * database for uncached refs.</p>
      */
     @Override
     @SuppressWarnings("unchecked")
     public Stream<E> selectByRef(@Nonnull Stream<Ref<E>> refs, int chunkSize) {
-        if (!isRepeatableRead()) {
+        EntityCache<E, ID> entityCache = readCache();
+        if (entityCache == null && sharedCache == null) {
             return super.selectByRef(refs, chunkSize);
         }
-        var cache = entityCache();
-        if (cache.isEmpty()) {
-            return super.selectByRef(refs, chunkSize);
-        }
-        EntityCache<E, ID> entityCache = cache.get();
+        var context = TRANSACTION_TEMPLATE.currentContext().orElse(null);
         return chunked(refs, chunkSize, batch -> {
             List<E> cached = new ArrayList<>();
             List<Ref<E>> uncached = new ArrayList<>();
             for (Ref<E> ref : batch) {
-                Optional<E> cachedEntity = entityCache.get((ID) ref.id());
-                if (cachedEntity.isPresent()) {
-                    cached.add(cachedEntity.get());
+                E cachedEntity = cached((ID) ref.id(), entityCache, context);
+                if (cachedEntity != null) {
+                    cached.add(cachedEntity);
                 } else {
                     uncached.add(ref);
                 }
@@ -823,11 +891,22 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
             if (uncached.isEmpty()) {
                 return cached.stream();
             }
-            return Stream.concat(cached.stream(),
-                select().whereRef(uncached).getResultStream());
+            return Stream.concat(cached.stream(), publish(select().whereRef(uncached).getResultStream(), context));
         });
     }
 
+    /**
+     * Publishes the entities of the given stream to the shared cache as they are consumed, if the entity is
+     * {@link st.orm.Cacheable}.
+     */
+    private Stream<E> publish(@Nonnull Stream<E> entities, @Nullable TransactionContext context) {
+        if (sharedCache == null) {
+            return entities;
+        }
+        long generation = sharedCache.generation();
+        return entities.peek(e -> sharedCache.put(e, generation, context));
+    }
+
     /**
      * Updates a single entity in the database.
      *
@@ -1491,7 +1570,7 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
         }
         try (var query = prepareInsertQuery()) {
             chunked(entities, batchSize)
-                    .forEach(batch -> insert(batch, query));
+                    .forEach(batch -> insert(batch, query, false, batchSize));
         }
     }
 
@@ -1523,45 +1602,234 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
         }
         try (var query = prepareInsertQuery(ignoreAutoGenerate)) {
             chunked(entities, batchSize)
-                    .forEach(batch -> insert(batch, query, ignoreAutoGenerate));
+                    .forEach(batch -> insert(batch, query, ignoreAutoGenerate, batchSize));
         }
     }
 
+    /**
+     * Writer for the rows of a streaming insert that does not use prepared statements, such as a vendor specific
+     * bulk load protocol.
+     *
+     * @param <E> the type of the entity.
+     * @see #writeInserts(Stream, int, boolean, InsertWriter)
+     * @since 1.11
+     */
+    protected interface InsertWriter<E> {
+
+        /**
+         * Writes the specified entity.
+         *
+         * @param entity the validated entity, after the before-insert callbacks have been applied.
+         */
+        void write(@Nonnull E entity);
+
+        /**
+         * Sends the entities written so far to the database.
+         */
+        void flush();
+
+        /**
+         * Completes the insert.
+         *
+         * @return the number of inserted rows.
+         */
+        long finish();
+    }
+
+    /**
+     * Inserts a stream of entities through the specified writer.
+     *
+     * <p>The before-insert callbacks are applied to each entity, and the result is validated before it is passed to
+     * the writer. If entity callbacks are registered, the writer is flushed after every {@code chunkSize} entities,
+     * and the after-insert callbacks are fired for the entities of that chunk, so at most one chunk is retained. The
+     * after-insert callbacks of the last chunk are fired once the writer has finished.</p>
+     *
+     * @param entities the entities to insert.
+     * @param chunkSize the number of entities after which the after-insert callbacks are fired.
+     * @param ignoreAutoGenerate true to ignore the auto-generate flag on the primary key.
+     * @param writer the writer to write the entities to.
+     * @return the number of inserted rows, as reported by {@link InsertWriter#finish()}.
+     * @since 1.11
+     */
+    protected long writeInserts(@Nonnull Stream<E> entities, int chunkSize, boolean ignoreAutoGenerate,
+                                @Nonnull InsertWriter<E> writer) {
+        boolean callbacks = hasEntityCallbacks();
+        List<E> chunk = new ArrayList<>();
+        entities.forEachOrdered(entity -> {
+            entity = validateInsert(fireBeforeInsert(entity), ignoreAutoGenerate);
+            writer.write(entity);
+            if (callbacks) {
+                chunk.add(entity);
+                if (chunk.size() >= chunkSize) {
+                    writer.flush();
+                    chunk.forEach(this::fireAfterInsert);
+                    chunk.clear();
+                }
+            }
+        });
+        long count = writer.finish();
+        chunk.forEach(this::fireAfterInsert);
+        return count;
+    }
+
+    /**
+     * Compiles the statements that this repository issues for the lookup by primary key and for batch inserts,
+     * updates and deletes, so that their first execution is served from the template cache. The statements are not
+     * executed, and are not passed to the registered {@code SqlInterceptor} instances.
+     *
+     * <p>The lookup by primary key is only compiled for primary keys of a basic type, such as numbers, strings and
+     * UUIDs. Entities using joined inheritance are skipped, as their statements are issued per table.</p>
+     *
+     * @throws PersistenceException if one of the statements fails to compile.
+     * @since 1.11
+     */
+    public void warmUp() {
+        if (model.isJoinedInheritance()) {
+            return;
+        }
+        SqlInterceptorManager.silent(() -> {
+            Object id = samplePrimaryKey(model.primaryKeyType());
+            if (id != null) {
+                //noinspection unchecked
+                select().where((ID) id).build();
+            }
+            ormTemplate.query(insertTemplate(ormTemplate.createBindVars(), false));
+            ormTemplate.query(updateTemplate(ormTemplate.createBindVars(), Set.of()));
+            ormTemplate.query(deleteTemplate(ormTemplate.createBindVars()));
+        });
+    }
+
+    /**
+     * Returns a value of the specified primary key type, or {@code null} if the type is not a basic type.
+     *
+     * <p>The value only serves to compile the lookup by primary key. The compiled statement does not depend on it.</p>
+     */
+    private static Object samplePrimaryKey(@Nonnull Class<?> type) {
+        if (type == Integer.class || type == int.class) {
+            return 0;
+        }
+        if (type == Long.class || type == long.class) {
+            return 0L;
+        }
+        if (type == Short.class || type == short.class) {
+            return (short) 0;
+        }
+        if (type == String.class) {
+            return "";
+        }
+        if (type == UUID.class) {
+            return new UUID(0, 0);
+        }
+        return null;
+    }
+
     protected PreparedQuery prepareInsertQuery() {
         return prepareInsertQuery(false);
     }
 
     protected PreparedQuery prepareInsertQuery(boolean ignoreAutoGenerate) {
-        var bindVars = ormTemplate.createBindVars();
-        return ormTemplate.query(raw("""
+        return ormTemplate.query(insertTemplate(ormTemplate.createBindVars(), ignoreAutoGenerate)).managed().prepare();
+    }
+
+    private TemplateString insertTemplate(@Nonnull BindVars bindVars, boolean ignoreAutoGenerate) {
+        return raw("""
                 INSERT INTO \0
                 VALUES \0""",
                 Templates.insert(model.type(), ignoreAutoGenerate),
-                Templates.values(bindVars, ignoreAutoGenerate))).managed().prepare();
+                Templates.values(bindVars, ignoreAutoGenerate));
     }
 
     protected void insert(@Nonnull List<E> batch, @Nonnull PreparedQuery query) {
         insert(batch, query, false);
     }
 
+    /**
+     * Inserts the batch of entities.
+     *
+     * <p>See {@link #insert(List, PreparedQuery, boolean, int)} for details. The batch is assumed to be a chunk of
+     * the default batch size.</p>
+     */
     @SuppressWarnings("SameParameterValue")
     protected void insert(@Nonnull List<E> batch, @Nonnull PreparedQuery query, boolean ignoreAutoGenerate) {
+        insert(batch, query, ignoreAutoGenerate, defaultBatchSize);
+    }
+
+    /**
+     * Inserts the batch of entities.
+     *
+     * <p>If the {@code storm.insert.multi_row_size} property enables multi-row inserts, the entities are inserted
+     * using {@code INSERT ... VALUES (...), (...), ...} statements with a fixed number of rows each, so that all
+     * chunks share a single compiled template. The number of rows is capped by the batch size of the caller. The
+     * remaining entities that do not fill a complete statement are added to the JDBC batch of the specified query.</p>
+     *
+     * @param batch the batch of entities to insert.
+     * @param query the prepared insert query.
+     * @param ignoreAutoGenerate true to ignore the auto-generate flag on the primary key.
+     * @param batchSize the batch size of the caller; {@code batch} holds at most this number of entities.
+     * @since 1.11
+     */
+    protected void insert(@Nonnull List<E> batch, @Nonnull PreparedQuery query, boolean ignoreAutoGenerate,
+                          int batchSize) {
         if (batch.isEmpty()) {
             return;
         }
         List<E> transformed = batch.stream()
                 .map(this::fireBeforeInsert)
                 .toList();
-        transformed.stream()
+        List<E> validated = transformed.stream()
                 .map(e -> validateInsert(e, ignoreAutoGenerate))
-                .forEach(query::addBatch);
-        int[] result = query.executeBatch();
-        if (IntStream.of(result).anyMatch(r -> r != 1)) {
-            throw new PersistenceException("Batch insert of %s failed. One or more rows were not affected.".formatted(model.type().getSimpleName()));
+                .toList();
+        int rows = Math.min(multiRowInsertRows(ignoreAutoGenerate), batchSize);
+        int offset = 0;
+        if (rows > 1) {
+            for (; offset + rows <= validated.size(); offset += rows) {
+                insertRows(validated.subList(offset, offset + rows), ignoreAutoGenerate);
+            }
+        }
+        if (offset < validated.size()) {
+            validated.subList(offset, validated.size()).forEach(query::addBatch);
+            int[] result = query.executeBatch();
+            if (IntStream.of(result).anyMatch(r -> r != 1)) {
+                throw new PersistenceException("Batch insert of %s failed. One or more rows were not affected.".formatted(model.type().getSimpleName()));
+            }
         }
         transformed.forEach(this::fireAfterInsert);
     }
 
+    /**
+     * Returns the number of rows per multi-row insert statement, or {@code 0} if entities must be inserted using JDBC
+     * batching.
+     *
+     * <p>The number of rows is capped so that a statement never exceeds the parameter and row limits of the dialect.
+     * Entities with sequence-generated primary keys always use JDBC batching, as not all databases accept sequence
+     * expressions in a multi-row {@code VALUES} clause.</p>
+     */
+    private int multiRowInsertRows(boolean ignoreAutoGenerate) {
+        if (multiRowInsertSize <= 1 || (generationStrategy == SEQUENCE && !ignoreAutoGenerate)) {
+            return 0;
+        }
+        long parameters = model.declaredColumns().stream()
+                .filter(Column::insertable)
+                .filter(column -> column.generation() == NONE || ignoreAutoGenerate)
+                .count();
+        if (parameters == 0) {
+            return 0;
+        }
+        var dialect = ormTemplate.dialect();
+        long rows = Math.min(Math.min(multiRowInsertSize, dialect.maxValuesRowCount()), dialect.maxParameterCount() / parameters);
+        return rows > 1 ? (int) rows : 0;
+    }
+
+    private void insertRows(@Nonnull List<E> rows, boolean ignoreAutoGenerate) {
+        var query = ormTemplate.query(raw("""
+                INSERT INTO \0
+                VALUES \0""", Templates.insert(model.type(), ignoreAutoGenerate), Templates.values(FixedRows.of(rows), ignoreAutoGenerate)))
+                .managed();
+        if (query.executeUpdate() != rows.size()) {
+            throw new PersistenceException("Batch insert of %s failed. One or more rows were not affected.".formatted(model.type().getSimpleName()));
+        }
+    }
+
     protected List<ID> insertAndFetchIds(@Nonnull List<E> batch, @Nonnull PreparedQuery query) {
         return insertAndFetchIds(batch, query, false);
     }
@@ -1696,12 +1964,14 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
     }
 
     protected PreparedQuery prepareUpdateQuery(@Nonnull Set<Metamodel<?, ?>> fields) {
-        var bindVars = ormTemplate.createBindVars();
-        return ormTemplate.query(TemplateString.raw("""
+        return ormTemplate.query(updateTemplate(ormTemplate.createBindVars(), fields)).managed().prepare();
+    }
+
+    private TemplateString updateTemplate(@Nonnull BindVars bindVars, @Nonnull Set<Metamodel<?, ?>> fields) {
+        return raw("""
                 UPDATE \0
                 SET \0
-                WHERE \0""", model.type(), Templates.set(bindVars, fields), bindVars))
-                .managed().prepare();
+                WHERE \0""", model.type(), Templates.set(bindVars, fields), bindVars);
     }
 
     protected void update(@Nonnull List<E> batch, @Nonnull PreparedQuery query, @Nullable EntityCache<E, ID> cache) {
@@ -1827,7 +2097,7 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
                         List<E> batch = !entityCallbacks.isEmpty()
                                 ? partition.chunk().stream().map(this::fireBeforeUpsert).toList()
                                 : partition.chunk();
-                        doUpsertBatch(batch, upsertQuery.get(), entityCache.orElse(null));
+                        doUpsertBatch(batch, upsertQuery.get(), entityCache.orElse(null), batchSize);
                         if (!entityCallbacks.isEmpty()) {
                             batch.forEach(this::fireAfterUpsert);
                         }
@@ -1877,6 +2147,99 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
         throw upsertNotAvailable();
     }
 
+    /**
+     * Performs the SQL-level upsert for a batch of entities, without lifecycle callbacks.
+     *
+     * <p>The default implementation delegates to {@link #doUpsertBatch(List, PreparedQuery, EntityCache)}.
+     * Dialect-specific subclasses that support multi-row upserts override this method and pass the batch size to
+     * {@link #upsertRows(List, int)}.</p>
+     *
+     * @param batch the batch of entities to upsert.
+     * @param query the prepared upsert query.
+     * @param cache the entity cache, or {@code null} if not available.
+     * @param batchSize the batch size of the caller; {@code batch} holds at most this number of entities.
+     * @since 1.11
+     */
+    protected void doUpsertBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query,
+                                 @Nullable EntityCache<E, ID> cache, int batchSize) {
+        doUpsertBatch(batch, query, cache);
+    }
+
+    /**
+     * Upserts the leading entities of the batch using multi-row upsert statements, if enabled by the
+     * {@code storm.upsert.multi_row_size} property.
+     *
+     * <p>Each statement upserts the same, fixed number of rows, so that all statements share a single compiled
+     * template. The number of rows is capped by the batch size of the caller, so that a multi-row size larger than
+     * the batch size still results in multi-row statements. The entities that do not fill a complete statement are
+     * left to the caller, which typically adds them to the JDBC batch of the prepared upsert query.</p>
+     *
+     * <p>Batches that contain the same primary key more than once are left to the caller entirely, as most databases
+     * reject a multi-row upsert that affects the same row twice. Entities with a default primary key (for instance
+     * {@code 0} or {@code null} for auto-generated keys) are not part of this check, as they are always inserted as
+     * new rows and therefore never affect the same row twice.</p>
+     *
+     * @param batch the validated batch of entities to upsert.
+     * @param batchSize the batch size of the caller; {@code batch} holds at most this number of entities.
+     * @return the number of leading entities of the batch that were upserted.
+     * @since 1.11
+     */
+    protected int upsertRows(@Nonnull List<E> batch, int batchSize) {
+        int rows = Math.min(multiRowUpsertRows(), batchSize);
+        if (rows <= 1 || batch.size() < rows || hasDuplicatePrimaryKeys(batch)) {
+            return 0;
+        }
+        int offset = 0;
+        for (; offset + rows <= batch.size(); offset += rows) {
+            doUpsertRows(FixedRows.of(batch.subList(offset, offset + rows)));
+        }
+        return offset;
+    }
+
+    /**
+     * Performs the SQL-level upsert for the given rows using a single multi-row statement, without lifecycle
+     * callbacks.
+     *
+     * <p>Dialect-specific subclasses that call {@link #upsertRows(List, int)} must override this method.</p>
+     *
+     * @param rows the entities to upsert; the number of rows is the same for every call.
+     * @since 1.11
+     */
+    protected void doUpsertRows(@Nonnull List<E> rows) {
+        throw upsertNotAvailable();
+    }
+
+    /**
+     * Returns the number of rows per multi-row upsert statement, or {@code 0} if multi-row upserts are disabled.
+     *
+     * <p>The number of rows is capped so that a statement never exceeds the parameter and row limits of the dialect.</p>
+     */
+    private int multiRowUpsertRows() {
+        if (multiRowUpsertSize <= 1) {
+            return 0;
+        }
+        long parameters = model.declaredColumns().stream()
+                .map(Column::name)
+                .distinct()
+                .count();
+        if (parameters == 0) {
+            return 0;
+        }
+        var dialect = ormTemplate.dialect();
+        long rows = Math.min(Math.min(multiRowUpsertSize, dialect.maxValuesRowCount()), dialect.maxParameterCount() / parameters);
+        return rows > 1 ? (int) rows : 0;
+    }
+
+    private boolean hasDuplicatePrimaryKeys(@Nonnull List<E> batch) {
+        var ids = new HashSet<ID>();
+        for (E entity : batch) {
+            if (!model.isDefaultPrimaryKey(entity.id()) && !ids.add(entity.id())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Performs the SQL-level upsert for a batch of entities and returns their IDs, without lifecycle callbacks.
      *
@@ -1944,11 +2307,8 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
             });
             return;
         }
-        var bindVars = ormTemplate.createBindVars();
         var entityCache = entityCache();
-        try (var query = ormTemplate.query(TemplateString.raw("""
-                DELETE FROM \0
-                WHERE \0""", model.type(), bindVars)).managed().prepare()) {
+        try (var query = ormTemplate.query(deleteTemplate(ormTemplate.createBindVars())).managed().prepare()) {
             chunked(entities, batchSize).forEach(chunk -> {
                 chunk.stream().map(this::validateDelete).forEach(e -> {
                     fireBeforeDelete(e);
@@ -2028,6 +2388,12 @@ public class EntityRepositoryImpl<E extends Entity<ID>, ID>
         });
     }
 
+    private TemplateString deleteTemplate(@Nonnull BindVars bindVars) {
+        return raw("""
+                DELETE FROM \0
+                WHERE \0""", model.type(), bindVars);
+    }
+
     /**
      * Helper method to close queries without one exception preventing the others to close.
      */
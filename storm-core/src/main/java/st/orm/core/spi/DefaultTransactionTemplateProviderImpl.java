@@ -148,7 +148,7 @@ public class DefaultTransactionTemplateProviderImpl implements TransactionTempla
             // - This class intentionally does not try to clear or split caches for NESTED savepoints. Spring does not
             //   expose reliable hooks here for "rolled back to savepoint", only for transaction completion.
             // - computeIfAbsent avoids duplicate allocations and keeps the method simpler and harder to get wrong.
-            return caches.computeIfAbsent(entityType, k -> new EntityCacheImpl<>(retention));
+            return caches.computeIfAbsent(entityType, k -> EntityCache.create(k, retention));
         }
 
         @Override
@@ -172,6 +172,16 @@ public class DefaultTransactionTemplateProviderImpl implements TransactionTempla
             }
         }
 
+        @Override
+        public boolean onCompletion(@Nonnull Runnable callback) {
+            return springReflection.registerAfterCompletion(callback);
+        }
+
+        @Override
+        public boolean onCommit(@Nonnull Runnable callback) {
+            return springReflection.registerSynchronization("afterCommit", callback);
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public <T> Decorator<T> getDecorator(@Nonnull Class<T> resourceType) {
@@ -285,22 +295,35 @@ public class DefaultTransactionTemplateProviderImpl implements TransactionTempla
 
         void registerCleanupOnTxCompletion(Object key) {
             // If we could not reflect the synchronization APIs, we cannot auto-clean.
-            if (registerSynchronization == null || unbindResourceIfPossible == null || transactionSynchronizationType == null) {
+            if (unbindResourceIfPossible == null) {
                 return;
             }
+            registerAfterCompletion(() -> {
+                try {
+                    unbindResourceIfPossible.invoke(null, key);
+                } catch (Throwable ignored) {
+                    // best effort
+                }
+            });
+        }
+
+        boolean registerAfterCompletion(Runnable callback) {
+            // afterCompletion(int status)
+            return registerSynchronization("afterCompletion", callback);
+        }
+
+        boolean registerSynchronization(String callbackMethod, Runnable callback) {
+            if (registerSynchronization == null || transactionSynchronizationType == null) {
+                return false;
+            }
             try {
                 Object sync = Proxy.newProxyInstance(
                         transactionSynchronizationType.getClassLoader(),
                         new Class<?>[]{transactionSynchronizationType},
                         (proxy, method, args) -> {
                             String name = method.getName();
-                            if ("afterCompletion".equals(name)) {
-                                // afterCompletion(int status)
-                                try {
-                                    unbindResourceIfPossible.invoke(null, key);
-                                } catch (Throwable ignored) {
-                                    // best effort
-                                }
+                            if (callbackMethod.equals(name)) {
+                                callback.run();
                                 return null;
                             }
                             // Default return values for other methods.
@@ -312,8 +335,10 @@ public class DefaultTransactionTemplateProviderImpl implements TransactionTempla
                         }
                 );
                 registerSynchronization.invoke(null, sync);
+                return true;
             } catch (Throwable ignored) {
-                // Best effort cleanup registration; if this fails, we at least will not break tx execution.
+                // Best effort registration; if this fails, we at least will not break tx execution.
+                return false;
             }
         }
     }
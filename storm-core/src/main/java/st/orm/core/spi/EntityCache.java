@@ -18,6 +18,8 @@ package st.orm.core.spi;
 import jakarta.annotation.Nonnull;
 import java.util.Optional;
 import st.orm.Entity;
+import st.orm.PK;
+import st.orm.mapping.RecordField;
 
 /**
  * Transaction-local cache that interns entities by primary key.
@@ -56,6 +58,32 @@ import st.orm.Entity;
  */
 public interface EntityCache<E extends Entity<ID>, ID> {
 
+    /**
+     * Creates a new entity cache for the given entity type.
+     *
+     * <p>Entities with an {@code int} or {@code long} primary key are cached in a
+     * {@link PrimitiveKeyEntityCacheImpl}, which stores the keys without boxing. All other entities are cached in an
+     * {@link EntityCacheImpl}.</p>
+     *
+     * @param entityType the entity type to cache.
+     * @param retention the cache retention strategy to use.
+     * @return a new entity cache.
+     * @since 1.11
+     */
+    static EntityCache<? extends Entity<?>, ?> create(@Nonnull Class<? extends Entity<?>> entityType,
+                                                      @Nonnull CacheRetention retention) {
+        boolean primitive = Providers.getORMReflection().findRecordType(entityType)
+                .flatMap(type -> type.fields().stream()
+                        .filter(field -> field.isAnnotationPresent(PK.class))
+                        .findFirst())
+                .map(RecordField::type)
+                .filter(PrimitiveKeyEntityCacheImpl::supports)
+                .isPresent();
+        return primitive
+                ? new PrimitiveKeyEntityCacheImpl<>(retention)
+                : new EntityCacheImpl<>(retention);
+    }
+
     /**
      * Retrieves an entity from the cache by primary key, if available.
      *
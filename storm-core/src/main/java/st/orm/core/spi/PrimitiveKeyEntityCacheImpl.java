@@ -0,0 +1,308 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+import st.orm.Entity;
+
+/**
+ * Transaction-local entity cache for entities with an {@code int} or {@code long} primary key.
+ *
+ * <p>This cache has the same interning and retention semantics as {@link EntityCacheImpl}, but stores the primary
+ * keys in an open-addressing table of primitive {@code long} values. Compared to a {@link java.util.HashMap}, this
+ * avoids a boxed key and a map node per cached entity, which reduces memory usage and GC pressure in transactions
+ * that touch many rows of the same entity type.</p>
+ *
+ * <p>The table uses linear probing and backward-shift deletion, so removed entries leave no tombstones behind. Cache
+ * entries of garbage-collected entities are cleaned up lazily when new entries are interned.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>This implementation is not thread-safe. It is intended for use as a transaction-scoped cache accessed by a single
+ * thread.</p>
+ *
+ * @param <E> the entity type.
+ * @param <ID> the primary key type; must be {@link Integer} or {@link Long}.
+ * @since 1.11
+ */
+public final class PrimitiveKeyEntityCacheImpl<E extends Entity<ID>, ID> implements EntityCache<E, ID> {
+
+    private static final EntityCacheMetrics metrics = EntityCacheMetrics.getInstance();
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CacheRetention retention;
+
+    /** Queue for tracking garbage-collected entities to enable lazy cleanup of the table. */
+    private final ReferenceQueue<E> queue = new ReferenceQueue<>();
+
+    /** Primary keys of the table. A slot is occupied if the corresponding {@link #values} slot is non-null. */
+    private long[] keys;
+
+    /** Referenced entities of the table; {@code null} marks an empty slot. */
+    private PkReference<E>[] values;
+
+    /** Number of occupied slots. */
+    private int size;
+
+    /**
+     * Creates a new entity cache with the specified retention behavior.
+     *
+     * @param retention the cache retention strategy to use.
+     */
+    public PrimitiveKeyEntityCacheImpl(@Nonnull CacheRetention retention) {
+        this.retention = requireNonNull(retention);
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns whether this cache supports the given primary key type.
+     *
+     * @param pkType the primary key type.
+     * @return {@code true} if the primary key type is {@code int} or {@code long} (boxed or unboxed).
+     */
+    public static boolean supports(@Nonnull Class<?> pkType) {
+        return pkType == Long.class || pkType == long.class || pkType == Integer.class || pkType == int.class;
+    }
+
+    /**
+     * Retrieves an entity from the cache by primary key, if available.
+     *
+     * @param pk the primary key to look up.
+     * @return an {@link Optional} containing the cached entity if present and still alive, or
+     * {@link Optional#empty()} otherwise.
+     */
+    @Override
+    public Optional<E> get(@Nonnull ID pk) {
+        int slot = find(key(requireNonNull(pk)));
+        if (slot < 0) {
+            metrics.recordGetMiss();
+            return Optional.empty();
+        }
+        E value = values[slot].get();
+        if (value != null) {
+            metrics.recordGetHit();
+            return Optional.of(value);
+        }
+        // Collected but not yet drained.
+        removeSlot(slot);
+        metrics.recordGetMiss();
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a canonical instance for the given entity within this cache.
+     *
+     * <p>If an entity with the same primary key is already cached, still reachable and equal to the given entity, the
+     * cached instance is returned. Otherwise, the cache is updated to reference the given entity and that instance is
+     * returned.</p>
+     *
+     * @param entity the entity to intern.
+     * @return the canonical cached instance for the entity's primary key.
+     */
+    @Override
+    public E intern(@Nonnull E entity) {
+        drainQueue();
+        long key = key(entity.id());
+        int slot = find(key);
+        if (slot >= 0) {
+            E existing = values[slot].get();
+            if (existing != null && existing.equals(entity)) {
+                metrics.recordInternHit();
+                return existing;
+            }
+            values[slot] = createReference(key, entity);
+        } else {
+            insert(key, createReference(key, entity));
+        }
+        metrics.recordInternMiss();
+        return entity;
+    }
+
+    /**
+     * Removes the cached entry for the given primary key, if present.
+     *
+     * @param pk the primary key to remove; must not be {@code null}.
+     */
+    @Override
+    public void remove(@Nonnull ID pk) {
+        int slot = find(key(requireNonNull(pk)));
+        if (slot >= 0) {
+            removeSlot(slot);
+        }
+        metrics.recordRemoval();
+    }
+
+    /**
+     * Clears all cached mappings and releases the table.
+     */
+    @Override
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        metrics.recordClear();
+    }
+
+    private static long key(@Nonnull Object pk) {
+        return ((Number) pk).longValue();
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = (PkReference<E>[]) new PkReference[capacity];
+        size = 0;
+    }
+
+    /**
+     * Returns the slot of the given key, or {@code -1} if the key is not present.
+     */
+    private int find(long key) {
+        int mask = values.length - 1;
+        for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a key that is known to be absent.
+     */
+    private void insert(long key, @Nonnull PkReference<E> value) {
+        if ((size + 1) * 4L > values.length * 3L) {
+            resize(values.length * 2);
+        }
+        int mask = values.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        PkReference<E>[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes the entry at the given slot and shifts the entries of the same probe sequence back, so lookups never
+     * have to skip deleted slots.
+     */
+    private void removeSlot(int slot) {
+        int mask = values.length - 1;
+        values[slot] = null;
+        size--;
+        int gap = slot;
+        for (int i = (slot + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            // Move the entry into the gap if the gap lies between its home slot and its current slot.
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                values[i] = null;
+                gap = i;
+            }
+        }
+    }
+
+    /**
+     * Removes stale entries by polling the reference queue. Only the exact reference is removed, so a newer entry for
+     * the same primary key is kept.
+     */
+    private void drainQueue() {
+        Reference<? extends E> ref;
+        while ((ref = queue.poll()) != null) {
+            if (ref instanceof PkReference<?> pkRef) {
+                int slot = find(pkRef.pk());
+                if (slot >= 0 && values[slot] == pkRef) {
+                    removeSlot(slot);
+                    metrics.recordEviction();
+                }
+            }
+        }
+    }
+
+    private PkReference<E> createReference(long pk, E entity) {
+        return retention == CacheRetention.LIGHT
+                ? new PkWeakReference<>(pk, entity, queue)
+                : new PkSoftReference<>(pk, entity, queue);
+    }
+
+    /**
+     * A reference to an entity that retains the associated primary key for table cleanup.
+     *
+     * @param <E> the entity type.
+     */
+    private sealed interface PkReference<E> permits PkWeakReference, PkSoftReference {
+        long pk();
+        E get();
+    }
+
+    /**
+     * A weak reference implementation of {@link PkReference}.
+     */
+    private static final class PkWeakReference<E> extends WeakReference<E> implements PkReference<E> {
+        private final long pk;
+
+        PkWeakReference(long pk, E referent, ReferenceQueue<? super E> q) {
+            super(referent, q);
+            this.pk = pk;
+        }
+
+        @Override
+        public long pk() {
+            return pk;
+        }
+    }
+
+    /**
+     * A soft reference implementation of {@link PkReference}.
+     */
+    private static final class PkSoftReference<E> extends SoftReference<E> implements PkReference<E> {
+        private final long pk;
+
+        PkSoftReference(long pk, E referent, ReferenceQueue<? super E> q) {
+            super(referent, q);
+            this.pk = pk;
+        }
+
+        @Override
+        public long pk() {
+            return pk;
+        }
+    }
+}
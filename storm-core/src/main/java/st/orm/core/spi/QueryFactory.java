@@ -21,6 +21,7 @@ import javax.sql.DataSource;
 import st.orm.BindVars;
 import st.orm.PersistenceException;
 import st.orm.core.template.Query;
+import st.orm.core.template.QueryTemplate.ConnectionCallback;
 import st.orm.core.template.SqlTemplate;
 import st.orm.core.template.TemplateString;
 
@@ -68,4 +69,34 @@ public interface QueryFactory {
     default @Nullable DataSource dataSource() {
         return null;
     }
+
+    /**
+     * Returns the scope of the shared caches of {@link st.orm.Cacheable} entities read through this factory.
+     *
+     * <p>Factories backed by the same {@link DataSource} share a scope; all other factories have a scope of their
+     * own.</p>
+     *
+     * @return the shared cache scope.
+     * @since 1.11
+     */
+    default @Nonnull Object sharedCacheScope() {
+        DataSource dataSource = dataSource();
+        return dataSource != null ? dataSource : this;
+    }
+
+    /**
+     * Executes the specified callback with the JDBC connection of the current transaction.
+     *
+     * <p>The connection is obtained and released the same way as for the queries created by this factory. The
+     * callback must not close it.</p>
+     *
+     * @param callback the callback to execute.
+     * @return the result of the callback.
+     * @param <T> the result type.
+     * @throws PersistenceException if the factory is not backed by a JDBC connection, or if the callback fails.
+     * @since 1.11
+     */
+    default <T> T withConnection(@Nonnull ConnectionCallback<T> callback) {
+        throw new PersistenceException("Connection access is not supported by this query factory.");
+    }
 }
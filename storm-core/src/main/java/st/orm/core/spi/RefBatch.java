@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import st.orm.Entity;
+
+/**
+ * Batch window for entity refs.
+ *
+ * <p>While a batch window is active on the current thread, entity refs created by {@link RefFactoryImpl} are
+ * registered as pending. When one of them is fetched, all pending refs of the same type are loaded with a single
+ * query, so that iterating over a list of entities and fetching their refs no longer issues one query per ref.</p>
+ *
+ * <p>Pending refs are held until they are fetched or the window is closed. Closing the window releases all refs that
+ * are still pending; refs that are fetched after the window has closed are fetched individually.</p>
+ *
+ * @since 1.11
+ */
+final class RefBatch {
+
+    private static final ThreadLocal<RefBatch> CURRENT = new ThreadLocal<>();
+
+    private final Map<Key, List<RefImpl<?, ?>>> pending = new HashMap<>();
+
+    private record Key(@Nonnull RefFactoryImpl factory, @Nonnull Class<?> type) {}
+
+    private RefBatch() {
+    }
+
+    /**
+     * Returns the batch window that is active on the current thread, or {@code null} if none is active.
+     *
+     * @return the active batch window, or {@code null}.
+     */
+    @Nullable
+    static RefBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executes the given action within a batch window. If a batch window is already active, the action joins it.
+     *
+     * @param supplier the action to execute.
+     * @return the result of the action.
+     * @param <T> the result type.
+     */
+    static <T> T execute(@Nonnull Supplier<T> supplier) {
+        requireNonNull(supplier, "supplier");
+        if (CURRENT.get() != null) {
+            return supplier.get();
+        }
+        var batch = new RefBatch();
+        CURRENT.set(batch);
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.remove();
+            batch.clear();
+        }
+    }
+
+    /**
+     * Registers an unresolved ref as pending.
+     *
+     * @param ref the ref to register.
+     */
+    synchronized void register(@Nonnull RefImpl<?, ?> ref) {
+        pending.computeIfAbsent(new Key(ref.factory(), ref.type()), ignore -> new ArrayList<>()).add(ref);
+    }
+
+    /**
+     * Releases all pending refs.
+     */
+    private synchronized void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Fetches the entity for the specified primary key, together with all pending refs of the same type.
+     *
+     * @param factory the factory that created the ref.
+     * @param type the entity type.
+     * @param pk the primary key of the entity to fetch.
+     * @return the fetched entity.
+     */
+    <E extends Entity<ID>, ID> E fetch(@Nonnull RefFactoryImpl factory, @Nonnull Class<E> type, @Nonnull ID pk) {
+        List<RefImpl<?, ?>> refs;
+        synchronized (this) {
+            refs = pending.remove(new Key(factory, type));
+        }
+        if (refs != null) {
+            //noinspection unchecked,rawtypes
+            E entity = factory.fetchAll(type, (List) refs).get(pk);
+            if (entity != null) {
+                return entity;
+            }
+        }
+        return factory.fetch(type, pk);
+    }
+}
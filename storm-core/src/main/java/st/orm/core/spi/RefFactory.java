@@ -49,4 +49,15 @@ public interface RefFactory {
      * @param <ID> primary key type.
      */
     <T extends Data, ID> Ref<T> create(@Nonnull T record, @Nonnull ID pk);
+
+    /**
+     * Returns the scope of the shared caches of {@link st.orm.Cacheable} entities that are consulted when fetching
+     * refs created by this factory.
+     *
+     * @return the shared cache scope.
+     * @since 1.11
+     */
+    default Object sharedCacheScope() {
+        return this;
+    }
 }
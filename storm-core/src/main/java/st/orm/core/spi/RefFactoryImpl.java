@@ -20,7 +20,15 @@ import static st.orm.core.spi.Providers.getTransactionTemplate;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import st.orm.Data;
 import st.orm.Entity;
 import st.orm.Ref;
@@ -52,7 +60,10 @@ public final class RefFactoryImpl implements RefFactory {
      * Creates a ref instance for the specified record {@code type} and {@code pk}. This method can be used to generate
      * ref instances for entities, projections and regular records.
      *
-     * <p>For entity types, this method first checks the entity cache (if available) before querying the database.</p>
+     * <p>For entity types, fetching the ref first checks the entity cache (if available) and the shared cache (for
+     * {@link st.orm.Cacheable} entities) before querying the database. Within a batch window, see
+     * {@link #batch(Supplier)}, the entity is fetched together with all other pending refs of
+     * the same type.</p>
      *
      * @param type record type.
      * @param pk primary key.
@@ -63,27 +74,189 @@ public final class RefFactoryImpl implements RefFactory {
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Data, ID> Ref<T> create(@Nonnull Class<T> type, @Nonnull ID pk) {
-        var supplier = new LazySupplier<>(() -> {
-            // Cache-first lookup for entities.
-            if (Entity.class.isAssignableFrom(type)) {
-                var context = getTransactionTemplate().currentContext();
-                if (context.isPresent()) {
-                    var cache = (EntityCache<?, ID>) context.get()
-                        .findEntityCache((Class<? extends Entity<?>>) type);
-                    if (cache != null) {
-                        var cached = cache.get(pk);
-                        if (cached.isPresent()) {
-                            return (T) cached.get();
-                        }
+        var batch = RefBatch.current();
+        if (batch != null && Entity.class.isAssignableFrom(type)) {
+            var ref = create(new LazySupplier<>(() ->
+                    (T) batch.fetch(this, (Class<Entity<ID>>) type, pk)), type, pk);
+            batch.register((RefImpl<?, ?>) ref);
+            return ref;
+        }
+        return create(new LazySupplier<>(() -> fetch(type, pk)), type, pk);
+    }
+
+    /**
+     * Fetches the record for the specified {@code type} and {@code pk}.
+     *
+     * <p>For entity types, this method first checks the entity cache (if available) and the shared cache (for
+     * {@link st.orm.Cacheable} entities) before querying the database.</p>
+     *
+     * @param type record type.
+     * @param pk primary key.
+     * @return the fetched record.
+     * @param <T> record type.
+     * @param <ID> primary key type.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Data, ID> T fetch(@Nonnull Class<T> type, @Nonnull ID pk) {
+        // Cache-first lookup for entities.
+        if (Entity.class.isAssignableFrom(type)) {
+            var context = getTransactionTemplate().currentContext();
+            if (context.isPresent()) {
+                var cache = (EntityCache<?, ID>) context.get()
+                    .findEntityCache((Class<? extends Entity<?>>) type);
+                if (cache != null) {
+                    var cached = cache.get(pk);
+                    if (cached.isPresent()) {
+                        return (T) cached.get();
                     }
                 }
             }
-            return ((QueryBuilder<T, T, ID>) template
-                    .selectFrom(type))
-                    .where(pk)
-                    .getSingleResult();
-        });
-        return create(supplier, type, pk);
+            var shared = SharedEntityCache.<Entity<ID>, ID>of(sharedCacheScope(), type);
+            if (shared.isPresent()) {
+                return (T) fetchShared(shared.get(), (Class<Entity<ID>>) type, pk, context.orElse(null));
+            }
+        }
+        return ((QueryBuilder<T, T, ID>) template
+                .selectFrom(type))
+                .where(pk)
+                .getSingleResult();
+    }
+
+    /**
+     * Fetches the entity from the shared cache, falling back to the database and publishing the result.
+     */
+    @SuppressWarnings("unchecked")
+    private <E extends Entity<ID>, ID> E fetchShared(@Nonnull SharedEntityCache<E, ID> cache,
+                                                     @Nonnull Class<E> type,
+                                                     @Nonnull ID pk,
+                                                     @Nullable TransactionContext context) {
+        var cached = cache.get(pk, context);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long generation = cache.generation();
+        E entity = ((QueryBuilder<E, E, ID>) template
+                .selectFrom(type))
+                .where(pk)
+                .getSingleResult();
+        cache.put(entity, generation, context);
+        return entity;
+    }
+
+    /**
+     * Fetches the entities of the specified refs, which must all be of the specified {@code type} and created by this
+     * factory, and completes the refs with the fetched entities.
+     *
+     * <p>The entity cache (if available) and the shared cache (for {@link st.orm.Cacheable} entities) are checked
+     * first. The remaining entities are fetched using {@code IN} queries, which also populate the entity cache of the
+     * current transaction. Refs for which no entity exists remain unresolved.</p>
+     *
+     * @param type entity type.
+     * @param refs the refs to fetch.
+     * @return the fetched entities by primary key.
+     * @param <E> entity type.
+     * @param <ID> primary key type.
+     */
+    @SuppressWarnings("unchecked")
+    <E extends Entity<ID>, ID> Map<ID, E> fetchAll(@Nonnull Class<E> type, @Nonnull List<RefImpl<E, ID>> refs) {
+        Set<ID> pks = new LinkedHashSet<>();
+        for (var ref : refs) {
+            if (!ref.isLoaded()) {
+                pks.add(ref.id());
+            }
+        }
+        if (pks.isEmpty()) {
+            return Map.of();
+        }
+        Map<ID, E> entities = new HashMap<>();
+        var context = getTransactionTemplate().currentContext().orElse(null);
+        var cache = context == null ? null : (EntityCache<E, ID>) context.findEntityCache(type);
+        var shared = SharedEntityCache.<E, ID>of(sharedCacheScope(), type).orElse(null);
+        List<ID> uncached = new ArrayList<>();
+        for (ID pk : pks) {
+            E cached = cache == null ? null : cache.get(pk).orElse(null);
+            if (cached == null && shared != null) {
+                cached = shared.get(pk, context).orElse(null);
+            }
+            if (cached != null) {
+                entities.put(pk, cached);
+            } else {
+                uncached.add(pk);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            long generation = shared == null ? 0 : shared.generation();
+            int chunkSize = chunkSize(uncached.getFirst());
+            for (int i = 0; i < uncached.size(); i += chunkSize) {
+                var chunk = uncached.subList(i, Math.min(i + chunkSize, uncached.size()));
+                for (E entity : ((QueryBuilder<E, E, ID>) template.selectFrom(type))
+                        .whereId(chunk)
+                        .getResultList()) {
+                    entities.put(entity.id(), entity);
+                    if (shared != null) {
+                        shared.put(entity, generation, context);
+                    }
+                }
+            }
+        }
+        for (var ref : refs) {
+            E entity = entities.get(ref.id());
+            if (entity != null) {
+                ref.complete(entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Fetches all unresolved refs in as few queries as possible. Entity refs are grouped by type and fetched using
+     * {@code IN} queries; other refs are fetched one by one. Detached refs are ignored.
+     *
+     * @param refs the refs to fetch.
+     * @since 1.11
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static void fetchAll(@Nonnull Iterable<? extends Ref<?>> refs) {
+        Map<RefFactoryImpl, Map<Class<?>, List<RefImpl<?, ?>>>> groups = new LinkedHashMap<>();
+        for (Ref<?> ref : refs) {
+            if (!(ref instanceof RefImpl<?, ?> impl) || impl.isLoaded()) {
+                continue;
+            }
+            if (Entity.class.isAssignableFrom(impl.type())) {
+                groups.computeIfAbsent(impl.factory(), ignore -> new LinkedHashMap<>())
+                        .computeIfAbsent(impl.type(), ignore -> new ArrayList<>())
+                        .add(impl);
+            } else {
+                impl.fetchOrNull();
+            }
+        }
+        groups.forEach((factory, byType) ->
+                byType.forEach((type, group) -> factory.fetchAll((Class) type, (List) group)));
+    }
+
+    /**
+     * Executes the given action within a batch window. Entity refs created within the window are fetched together
+     * with all other pending refs of the same type when one of them is fetched.
+     *
+     * @param supplier the action to execute.
+     * @return the result of the action.
+     * @param <T> the result type.
+     * @since 1.11
+     */
+    public static <T> T batch(@Nonnull Supplier<T> supplier) {
+        return RefBatch.execute(supplier);
+    }
+
+    /**
+     * Returns the number of primary keys to include in a single {@code IN} query.
+     */
+    private int chunkSize(@Nonnull Object pk) {
+        if (template.dialect().supportsMultiValueTuples()) {
+            return 1000;
+        }
+        return pk instanceof Record
+                ? 100   // Compound PKs can become quite large, so we default to a smaller chunk size.
+                : 1000;
     }
 
     /**
@@ -104,6 +277,11 @@ public final class RefFactoryImpl implements RefFactory {
         return create(supplier, type, pk);
     }
 
+    @Override
+    public Object sharedCacheScope() {
+        return template.sharedCacheScope();
+    }
+
     /**
      * Creates a ref instance for the specified record {@code type} and {@code pk}. This method can be used to generate
      * ref instances for entities, projections and regular records.
@@ -115,6 +293,6 @@ public final class RefFactoryImpl implements RefFactory {
      * @param <ID> primary key type.
      */
     private <T extends Data, ID> Ref<T> create(@Nonnull LazySupplier<T> supplier, @Nonnull Class<T> type, @Nonnull ID pk) {
-        return new RefImpl<>(supplier, type, pk);
+        return new RefImpl<>(this, supplier, type, pk);
     }
 }
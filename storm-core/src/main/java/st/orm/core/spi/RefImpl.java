@@ -32,16 +32,38 @@ import st.orm.core.template.impl.LazySupplier;
  * @param <ID> primary key type.
  */
 final class RefImpl<T extends Data, ID> extends AbstractRef<T> {
+    private final RefFactoryImpl factory;
     private final LazySupplier<T> supplier;
     private final Class<T> type;
     private final ID pk;
 
-    RefImpl(@Nonnull LazySupplier<T> supplier, @Nonnull Class<T> type, @Nonnull ID pk) {
+    RefImpl(@Nonnull RefFactoryImpl factory, @Nonnull LazySupplier<T> supplier, @Nonnull Class<T> type,
+            @Nonnull ID pk) {
+        this.factory = requireNonNull(factory, "factory");
         this.supplier = requireNonNull(supplier, "supplier");
         this.type = requireNonNull(type, "type");
         this.pk = requireNonNull(pk, "pk");
     }
 
+    /**
+     * The factory that created this ref, used to fetch records in batches.
+     *
+     * @return the factory that created this ref.
+     */
+    RefFactoryImpl factory() {
+        return factory;
+    }
+
+    /**
+     * Sets the record if it has not been fetched yet, without triggering a database call.
+     *
+     * @param record the record that was fetched as part of a batch.
+     * @return {@code true} if the record was set, {@code false} if the ref was already loaded.
+     */
+    boolean complete(@Nonnull T record) {
+        return supplier.complete(record);
+    }
+
     /**
      * The type of the record.
      *
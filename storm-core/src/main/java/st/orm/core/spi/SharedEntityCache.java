@@ -0,0 +1,374 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.spi;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import st.orm.Cacheable;
+import st.orm.Entity;
+import st.orm.core.template.impl.SegmentedLruCache;
+
+/**
+ * Shared, cross-transaction cache for entities annotated with {@link Cacheable}.
+ *
+ * <p>Where {@link EntityCache} is scoped to a single transaction, this cache is shared by all transactions and sits
+ * behind the transaction-local cache: primary key lookups first consult the transaction-local cache (if applicable),
+ * then this cache, and only then the database.</p>
+ *
+ * <p>Caches are scoped: each scope, typically the {@code DataSource} of a template (see
+ * {@link st.orm.core.template.QueryTemplate#sharedCacheScope()}), holds its own cache per entity type. Templates
+ * connected to different databases therefore never see each other's entities.</p>
+ *
+ * <h2>Eviction</h2>
+ * <p>Entries are held in a {@link SegmentedLruCache} bounded by {@link Cacheable#maxSize()}. Each entry carries an
+ * expiry time derived from {@link Cacheable#ttl()}, which must be positive; expired entries are removed lazily when
+ * they are looked up.</p>
+ *
+ * <h2>Invalidation</h2>
+ * <p>Any mutation of the entity type executed through Storm invalidates the whole cache for that type, as the
+ * affected primary keys are not always known (bulk statements, triggers, batches). Invalidation bumps a generation
+ * counter; entities loaded before the invalidation are not published afterward, which prevents a concurrent reader
+ * from re-populating the cache with stale state.</p>
+ *
+ * <p>When a mutation is executed within a transaction, that transaction is registered as a writer and bypasses this
+ * cache for the remainder of the transaction. The cache is invalidated once more when the writing transaction
+ * completes, which discards entities that other callers loaded while the mutation was not yet committed. Changes
+ * made outside of Storm can be announced through {@link #invalidate(Object, Class, TransactionContext)}.</p>
+ *
+ * <p>Entities read outside of a transaction are published immediately. Entities read within a transaction are
+ * published once the transaction has been committed, and only if the cache was not invalidated in the meantime, which
+ * excludes transactions that mutated the entity type. Entities read within a transaction that is rolled back, or whose
+ * transaction does not support commit callbacks, are not published.</p>
+ *
+ * <p>Mutations do not touch any shared state until the first {@link Cacheable} entity type has been resolved, so
+ * applications that do not use this cache do not pay for it on the write path.</p>
+ *
+ * <h2>Thread-safety</h2>
+ * <p>This implementation is thread-safe.</p>
+ *
+ * @param <E> the entity type.
+ * @param <ID> the primary key type.
+ * @since 1.11
+ */
+public final class SharedEntityCache<E extends Entity<ID>, ID> {
+
+    /**
+     * Scopes by key. The keys are held weakly, so the caches of a scope are discarded together with the scope.
+     */
+    private static final Map<Object, Scope> SCOPES = new ConcurrentHashMap<>();
+
+    /**
+     * Queue of scope keys whose scope has been garbage collected.
+     */
+    private static final ReferenceQueue<Object> STALE_SCOPES = new ReferenceQueue<>();
+
+    /**
+     * Whether a {@link Cacheable} entity type has been resolved in any scope. Invalidation is a no-op until then.
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * The shared caches of a single scope.
+     */
+    private static final class Scope {
+        private final Map<Class<?>, Optional<SharedEntityCache<?, ?>>> caches = new ConcurrentHashMap<>();
+        private final List<SharedEntityCache<?, ?>> instances = new CopyOnWriteArrayList<>();
+        private final Map<TransactionContext, Boolean> globalWriters = synchronizedMap(new WeakHashMap<>());
+
+        private Optional<SharedEntityCache<?, ?>> get(@Nonnull Class<?> type) {
+            return caches.computeIfAbsent(type, ignore -> {
+                Cacheable cacheable = type.getAnnotation(Cacheable.class);
+                if (cacheable == null || !Entity.class.isAssignableFrom(type)) {
+                    return Optional.empty();
+                }
+                var cache = new SharedEntityCache<>(this, cacheable.ttl(), cacheable.maxSize());
+                instances.add(cache);
+                enabled = true;
+                return Optional.of(cache);
+            });
+        }
+    }
+
+    /**
+     * Weak reference to a scope key. Keys are compared by identity.
+     */
+    private static final class ScopeKey extends WeakReference<Object> {
+        private final int hash;
+
+        private ScopeKey(@Nonnull Object referent) {
+            super(referent, STALE_SCOPES);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            Object referent = get();
+            return referent != null && switch (obj) {
+                case ScopeKey other -> referent == other.get();
+                case ScopeLookup other -> referent == other.referent();
+                case null, default -> false;
+            };
+        }
+    }
+
+    /**
+     * Key used to look up a scope without allocating a weak reference.
+     */
+    private record ScopeLookup(@Nonnull Object referent) {
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ScopeKey other && referent == other.get();
+        }
+    }
+
+    private final Scope scope;
+    private final long ttlNanos;
+    private final SegmentedLruCache<ID, Entry<E>> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<TransactionContext, Boolean> writers = synchronizedMap(new WeakHashMap<>());
+    private final Map<TransactionContext, List<Pending<E>>> pending = synchronizedMap(new WeakHashMap<>());
+
+    private SharedEntityCache(@Nonnull Scope scope, long ttlSeconds, int maxSize) {
+        if (ttlSeconds <= 0) {
+            throw new IllegalArgumentException("Cacheable.ttl must be > 0.");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cacheable.maxSize must be > 0.");
+        }
+        this.scope = scope;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.cache = new SegmentedLruCache<>(maxSize);
+    }
+
+    private static Scope scope(@Nonnull Object key) {
+        Scope scope = SCOPES.get(new ScopeLookup(requireNonNull(key, "scope")));
+        if (scope != null) {
+            return scope;
+        }
+        expungeStaleScopes();
+        return SCOPES.computeIfAbsent(new ScopeKey(key), ignore -> new Scope());
+    }
+
+    private static void expungeStaleScopes() {
+        for (Object key; (key = STALE_SCOPES.poll()) != null; ) {
+            SCOPES.remove(key);
+        }
+    }
+
+    /**
+     * Returns the shared cache for the specified type within the specified scope, or an empty optional if the type is
+     * not an entity annotated with {@link Cacheable}.
+     *
+     * @param scope the scope of the cache, see {@link st.orm.core.template.QueryTemplate#sharedCacheScope()}.
+     * @param type the entity type.
+     * @return the shared cache for the specified type, if enabled.
+     * @param <E> the entity type.
+     * @param <ID> the primary key type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Entity<ID>, ID> Optional<SharedEntityCache<E, ID>> of(@Nonnull Object scope,
+                                                                                 @Nonnull Class<?> type) {
+        return (Optional<SharedEntityCache<E, ID>>) (Optional<?>) scope(scope).get(type);
+    }
+
+    /**
+     * Invalidates the shared cache for the specified type within the specified scope as result of a mutation.
+     *
+     * <p>If {@code type} is {@code null}, the affected type is unknown and all shared caches of the scope are
+     * invalidated. This method can also be used to announce changes that were made outside of Storm.</p>
+     *
+     * @param scope the scope of the cache, see {@link st.orm.core.template.QueryTemplate#sharedCacheScope()}.
+     * @param type the affected type, or {@code null} if unknown.
+     * @param context the transaction context in which the mutation was executed, or {@code null} if none.
+     */
+    public static void invalidate(@Nonnull Object scope, @Nullable Class<?> type, @Nullable TransactionContext context) {
+        if (!enabled) {
+            return;     // No Cacheable entity type in use.
+        }
+        Scope resolved = scope(scope);
+        if (type == null) {
+            if (resolved.instances.isEmpty()) {
+                return;
+            }
+            if (context != null && resolved.globalWriters.put(context, Boolean.TRUE) == null) {
+                context.onCompletion(() -> resolved.globalWriters.remove(context));
+            }
+            for (SharedEntityCache<?, ?> cache : resolved.instances) {
+                cache.invalidate(context);
+            }
+        } else {
+            resolved.get(type).ifPresent(cache -> cache.invalidate(context));
+        }
+    }
+
+    /**
+     * Clears the shared caches of all scopes without registering a writer.
+     *
+     * <p>This method is intended for tests and administrative tasks.</p>
+     */
+    public static void clearAll() {
+        for (Scope scope : SCOPES.values()) {
+            for (SharedEntityCache<?, ?> cache : scope.instances) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the current generation of this cache. The generation must be obtained before loading entities from the
+     * database and passed to {@link #put(Entity, long, TransactionContext)} when publishing them.
+     *
+     * @return the current generation.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Retrieves an entity from the cache by primary key, if available and not expired.
+     *
+     * @param pk the primary key to look up.
+     * @param context the current transaction context, or {@code null} if none.
+     * @return the cached entity, or an empty optional if absent, expired or bypassed for the transaction.
+     */
+    public Optional<E> get(@Nonnull ID pk, @Nullable TransactionContext context) {
+        if (isWriter(context)) {
+            return Optional.empty();
+        }
+        Entry<E> entry = cache.get(requireNonNull(pk));
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            cache.remove(pk);
+            return Optional.empty();
+        }
+        return Optional.of(entry.entity());
+    }
+
+    /**
+     * Publishes an entity that was loaded from the database.
+     *
+     * <p>If the entity was loaded within a transaction, it is published once the transaction has been committed. The
+     * entity is not published if the cache was invalidated after {@code generation} was obtained, which is also the
+     * case if the transaction mutated the entity type.</p>
+     *
+     * @param entity the entity to publish.
+     * @param generation the generation obtained before the entity was loaded.
+     * @param context the current transaction context, or {@code null} if none.
+     */
+    public void put(@Nonnull E entity, long generation, @Nullable TransactionContext context) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        if (context == null) {
+            publish(entity, generation);
+            return;
+        }
+        if (isWriter(context)) {
+            return;
+        }
+        List<Pending<E>> entities = pending.get(context);
+        if (entities == null) {
+            if (!context.onCommit(() -> publishPending(context))) {
+                return;     // The commit cannot be observed.
+            }
+            context.onCompletion(() -> pending.remove(context));
+            entities = new ArrayList<>();
+            pending.put(context, entities);
+        }
+        entities.add(new Pending<>(entity, generation));
+    }
+
+    private void publishPending(@Nonnull TransactionContext context) {
+        List<Pending<E>> entities = pending.remove(context);
+        if (entities != null) {
+            for (Pending<E> entry : entities) {
+                publish(entry.entity(), entry.generation());
+            }
+        }
+    }
+
+    private void publish(@Nonnull E entity, long generation) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        ID pk = entity.id();
+        cache.put(pk, new Entry<>(entity, System.nanoTime() + ttlNanos));
+        if (generation != this.generation.get()) {
+            // Invalidated concurrently; the entity may be stale.
+            cache.remove(pk);
+        }
+    }
+
+    /**
+     * Invalidates all entries of this cache and registers the transaction, if any, as writer.
+     *
+     * <p>The cache is invalidated again when the writing transaction completes, if the transaction supports
+     * completion callbacks.</p>
+     *
+     * @param context the transaction context in which the mutation was executed, or {@code null} if none.
+     */
+    public void invalidate(@Nullable TransactionContext context) {
+        if (context != null && writers.put(context, Boolean.TRUE) == null) {
+            context.onCompletion(() -> {
+                writers.remove(context);
+                clear();
+            });
+        }
+        clear();
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private boolean isWriter(@Nullable TransactionContext context) {
+        return context != null && (writers.containsKey(context) || scope.globalWriters.containsKey(context));
+    }
+
+    private record Entry<E>(@Nonnull E entity, long expiresAt) {}
+
+    private record Pending<E>(@Nonnull E entity, long generation) {}
+}
@@ -95,6 +95,34 @@ public interface TransactionContext {
      */
     void clearAllEntityCaches();
 
+    /**
+     * Registers a callback that is invoked once the current transaction completes, either by commit or by rollback.
+     *
+     * <p>Callbacks are invoked before the connection of the transaction is released. Implementations that cannot
+     * observe the completion of the transaction return {@code false}; the callback is not invoked in that case.</p>
+     *
+     * @param callback the callback to invoke on completion.
+     * @return {@code true} if the callback was registered, {@code false} if completion callbacks are not supported.
+     * @since 1.11
+     */
+    default boolean onCompletion(@Nonnull Runnable callback) {
+        return false;
+    }
+
+    /**
+     * Registers a callback that is invoked once the current transaction has been committed successfully.
+     *
+     * <p>The callback is not invoked if the transaction is rolled back. Implementations that cannot observe the
+     * commit of the transaction return {@code false}; the callback is not invoked in that case.</p>
+     *
+     * @param callback the callback to invoke after commit.
+     * @return {@code true} if the callback was registered, {@code false} if commit callbacks are not supported.
+     * @since 1.11
+     */
+    default boolean onCommit(@Nonnull Runnable callback) {
+        return false;
+    }
+
     /**
      * Decorates a transaction resource before it is used.
      *
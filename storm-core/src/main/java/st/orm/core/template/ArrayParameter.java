@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A parameter that binds a list of values as a single SQL array.
+ *
+ * <p>Array parameters are produced for {@code IN} and {@code NOT IN} expressions when the dialect binds value lists
+ * as a single array, see {@link SqlDialect#arrayType(Class)}. The values are bound using
+ * {@link SqlDialect#setParameter(java.sql.PreparedStatement, int, ArrayParameter)}.</p>
+ *
+ * @param type the SQL type name of the array elements, as returned by {@link SqlDialect#arrayType(Class)}.
+ * @param values the element values, already converted to their JDBC representation.
+ * @since 1.11
+ */
+public record ArrayParameter(@Nonnull String type, @Nonnull List<Object> values) {
+
+    public ArrayParameter {
+        requireNonNull(type, "type");
+        values = unmodifiableList(new ArrayList<>(values));   // Allow null values.
+    }
+}
@@ -60,6 +60,20 @@ public interface ORMTemplate extends QueryTemplate, RepositoryLookup {
         return List.of();
     }
 
+    /**
+     * Returns whether queries of this template may be executed concurrently from multiple threads.
+     *
+     * <p>This is the case for templates backed by a {@link DataSource}, as each query obtains its own connection.
+     * Templates created from a single {@code Connection} or {@code EntityManager} do not support concurrent
+     * queries.</p>
+     *
+     * @return {@code true} if queries may be executed concurrently, {@code false} otherwise.
+     * @since 1.11
+     */
+    default boolean supportsConcurrentQueries() {
+        return false;
+    }
+
     /**
      * Returns a new {@code ORMTemplate} with the specified entity callback added.
      *
@@ -151,6 +165,33 @@ public interface ORMTemplate extends QueryTemplate, RepositoryLookup {
         throw new PersistenceException("Schema validation is not supported by this template.");
     }
 
+    /**
+     * Compiles the statements that repositories issue for all discovered entity types, so that the first requests
+     * after startup are served from the template cache.
+     *
+     * <p>For each entity type, the lookup by primary key and the batch insert, update and delete statements are
+     * compiled. The statements are not executed. Statements whose shape depends on the entity values, such as
+     * dirty-checked updates, are compiled on first use.</p>
+     *
+     * <p>Templates created from an {@link jakarta.persistence.EntityManager} ignore this call.</p>
+     *
+     * @since 1.11
+     */
+    default void warmUp() {
+    }
+
+    /**
+     * Compiles the statements that repositories issue for the specified types, so that the first requests after
+     * startup are served from the template cache. Types that are not entities are ignored.
+     *
+     * <p>Templates created from an {@link jakarta.persistence.EntityManager} ignore this call.</p>
+     *
+     * @param types the entity types to compile the statements for.
+     * @since 1.11
+     */
+    default void warmUp(@Nonnull Iterable<Class<? extends Data>> types) {
+    }
+
     /**
      * Returns an {@link ORMTemplate} for use with JPA.
      *
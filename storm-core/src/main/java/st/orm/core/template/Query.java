@@ -19,6 +19,7 @@ import jakarta.annotation.Nonnull;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
+import st.orm.ColumnBatch;
 import st.orm.Data;
 import st.orm.NoResultException;
 import st.orm.NonUniqueResultException;
@@ -242,6 +243,29 @@ public interface Query {
      */
     <T extends Data> Stream<Ref<T>> getRefStream(@Nonnull Class<T> type, @Nonnull Class<?> pkType);
 
+    /**
+     * Execute a SELECT query and return the resulting rows as a stream of column batches.
+     *
+     * <p>The columns of each batch follow the flattened column structure of the specified {@code type}, as used when
+     * the rows are mapped to instances of that type. The rows are not mapped, however: integral, boolean and
+     * floating-point columns are read into primitive arrays, and SQL {@code NULL} values are tracked in a bitmap per
+     * column. This avoids the construction of an object per row when the results are processed column by column, for
+     * instance in analytics and reporting.</p>
+     *
+     * <p><strong>Note:</strong> Calling this method does trigger the execution of the underlying query, so it should
+     * only be invoked when the query is intended to run. Since the stream holds resources open while in use, it must be
+     * closed after usage to prevent resource leaks. As the stream is {@code AutoCloseable}, it is recommended to use it
+     * within a {@code try-with-resources} block.</p>
+     *
+     * @param type the type that determines the columns of the batches.
+     * @param batchSize the maximum number of rows per batch.
+     * @return a stream of column batches.
+     * @throws PersistenceException if the query operation fails due to underlying database issues, such as
+     *                              connectivity.
+     * @since 1.11
+     */
+    Stream<ColumnBatch> getColumnBatches(@Nonnull Class<?> type, int batchSize);
+
     /**
      * Returns true if the query is version aware, false otherwise.
      *
@@ -249,6 +273,16 @@ public interface Query {
      */
     boolean isVersionAware();
 
+    /**
+     * Returns the fetch size hint that is applied when the results of this query are streamed.
+     *
+     * @return the fetch size hint, or {@code 0} if the driver default is used.
+     * @since 1.11
+     */
+    default int getFetchSize() {
+        return 0;
+    }
+
     /**
      * Execute a command, such as an INSERT, UPDATE, or DELETE statement.
      *
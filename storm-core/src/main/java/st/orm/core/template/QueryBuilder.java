@@ -16,18 +16,27 @@
 package st.orm.core.template;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static st.orm.Operator.EQUALS;
 import static st.orm.Operator.GREATER_THAN;
 import static st.orm.Operator.IN;
 import static st.orm.Operator.LESS_THAN;
 import static st.orm.core.template.TemplateString.wrap;
+import static st.orm.core.template.impl.Futures.await;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import st.orm.Data;
 import st.orm.JoinType;
 import st.orm.MappedWindow;
@@ -894,6 +903,119 @@ public abstract class QueryBuilder<T extends Data, R, ID> {
         }
     }
 
+    /**
+     * Executes the query as a sequence of keyset windows over the specified key and returns all results as a lazy
+     * stream.
+     *
+     * <p>Windows of {@code windowSize} rows are fetched one query at a time, each continuing after the last key of the
+     * previous window. Every window is read completely before it is consumed, so no database cursor is held open
+     * while the stream is processed. This makes the method suitable for exporting large tables, where offset-based
+     * pagination slows down with every page.</p>
+     *
+     * @param key the unique key to order and continue by; must not be nullable.
+     * @param windowSize the number of rows per window (must be positive).
+     * @return a lazy stream of all results, ordered by the key.
+     * @throws IllegalArgumentException if {@code windowSize} is not positive.
+     * @throws PersistenceException if the key is nullable or the query has explicit orderBy calls.
+     * @since 1.11
+     */
+    public final Stream<R> scrollAll(@Nonnull Metamodel.Key<T, ?> key, int windowSize) {
+        return scrollAll(key, windowSize, false);
+    }
+
+    /**
+     * Executes the query as a sequence of keyset windows over the specified key and returns all results as a lazy
+     * stream.
+     *
+     * <p>Windows of {@code windowSize} rows are fetched one query at a time, each continuing after the last key of the
+     * previous window. Every window is read completely before it is consumed, so no database cursor is held open
+     * while the stream is processed. This makes the method suitable for exporting large tables, where offset-based
+     * pagination slows down with every page.</p>
+     *
+     * <p>If {@code prefetch} is {@code true}, the next window is fetched on a virtual thread while the current window
+     * is consumed. Prefetching only takes effect for templates that support concurrent queries and outside a
+     * transaction, as a transaction binds its connection to the calling thread. Otherwise, windows are fetched when
+     * they are needed.</p>
+     *
+     * <p>The stream must be closed after use. Closing the stream discards a window that is still being fetched.</p>
+     *
+     * @param key the unique key to order and continue by; must not be nullable.
+     * @param windowSize the number of rows per window (must be positive).
+     * @param prefetch whether to fetch the next window while the current window is consumed.
+     * @return a lazy stream of all results, ordered by the key.
+     * @throws IllegalArgumentException if {@code windowSize} is not positive.
+     * @throws PersistenceException if the key is nullable or the query has explicit orderBy calls.
+     * @since 1.11
+     */
+    public final Stream<R> scrollAll(@Nonnull Metamodel.Key<T, ?> key, int windowSize, boolean prefetch) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive.");
+        }
+        validateKeyNotNullable(key);
+        if (hasOrderBy()) {
+            throw new PersistenceException("scrollAll manages ORDER BY internally; remove explicit orderBy calls.");
+        }
+        final ExecutorService executor = prefetch && supportsPrefetch()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : null;
+        var it = new Iterator<List<R>>() {
+            private Scrollable<T> next = Scrollable.of(key, windowSize);
+            private Future<MappedWindow<R, T>> pending;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || pending != null;
+            }
+
+            @Override
+            public List<R> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                MappedWindow<R, T> window;
+                if (pending != null) {
+                    window = await(pending);
+                    pending = null;
+                } else {
+                    window = scroll(next);
+                }
+                next = null;
+                if (window.hasNext()) {
+                    Scrollable<T> scrollable = window.nextScrollable();
+                    if (scrollable == null) {
+                        throw new PersistenceException("scrollAll requires the query to select %s to continue after each window.".formatted(getFromType().getSimpleName()));
+                    }
+                    if (executor != null) {
+                        pending = executor.submit(() -> scroll(scrollable));
+                    } else {
+                        next = scrollable;
+                    }
+                }
+                return window.content();
+            }
+        };
+        return StreamSupport.stream(spliteratorUnknownSize(it, ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(() -> {
+                    if (executor != null) {
+                        if (it.pending != null) {
+                            it.pending.cancel(false);
+                        }
+                        executor.shutdown();
+                    }
+                });
+    }
+
+    /**
+     * Returns whether {@link #scrollAll(Metamodel.Key, int, boolean)} may fetch the next window on another thread.
+     *
+     * @return {@code true} if windows may be prefetched, {@code false} otherwise.
+     * @since 1.11
+     */
+    protected boolean supportsPrefetch() {
+        return false;
+    }
+
     //
     // Execution methods.
     //
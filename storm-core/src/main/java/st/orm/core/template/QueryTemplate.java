@@ -18,8 +18,11 @@ package st.orm.core.template;
 import static st.orm.core.template.TemplateString.wrap;
 
 import jakarta.annotation.Nonnull;
+import java.sql.Connection;
+import java.sql.SQLException;
 import st.orm.BindVars;
 import st.orm.Data;
+import st.orm.PersistenceException;
 import st.orm.Ref;
 
 /**
@@ -47,6 +50,55 @@ public interface QueryTemplate extends SubqueryTemplate {
      */
     BindVars createBindVars();
 
+    /**
+     * Returns the scope of the shared caches of {@link st.orm.Cacheable} entities read through this template.
+     *
+     * <p>Templates that return the same scope share their caches. Templates backed by the same {@code DataSource}
+     * share a scope; all other templates have a scope of their own.</p>
+     *
+     * @return the shared cache scope.
+     * @since 1.11
+     */
+    default Object sharedCacheScope() {
+        return this;
+    }
+
+    /**
+     * Callback that operates on the JDBC connection of a template.
+     *
+     * @param <T> the result type.
+     * @since 1.11
+     */
+    @FunctionalInterface
+    interface ConnectionCallback<T> {
+
+        /**
+         * Performs an operation on the given connection.
+         *
+         * @param connection the connection of the current transaction.
+         * @return the result of the operation.
+         * @throws SQLException if a database access error occurs.
+         */
+        T doInConnection(@Nonnull Connection connection) throws SQLException;
+    }
+
+    /**
+     * Executes the specified callback with the JDBC connection of the current transaction.
+     *
+     * <p>This method allows dialect specific extensions to use vendor APIs, such as PostgreSQL's {@code COPY}
+     * protocol, within the same connection and transaction as the rest of the ORM. The connection is owned by the
+     * template; the callback must not close it.</p>
+     *
+     * @param callback the callback to execute.
+     * @return the result of the callback.
+     * @param <T> the result type.
+     * @throws PersistenceException if the template is not backed by a JDBC connection, or if the callback fails.
+     * @since 1.11
+     */
+    default <T> T withConnection(@Nonnull ConnectionCallback<T> callback) {
+        throw new PersistenceException("Connection access is not supported by this template.");
+    }
+
     /**
      * Creates a ref instance for the specified record {@code type} and {@code pk}. This method can be used to generate
      * ref instances for entities, projections and regular records.
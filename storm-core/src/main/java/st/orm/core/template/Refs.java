@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.function.Supplier;
+import st.orm.Ref;
+import st.orm.core.spi.RefFactoryImpl;
+
+/**
+ * Batch fetching of {@link Ref refs}.
+ *
+ * <p>Each {@link Ref#fetch()} issues its own query. Iterating over a list of entities and fetching a ref of each
+ * entity therefore results in one query per ref. The methods of this class load the records of multiple refs of the
+ * same entity type with a single {@code IN} query instead. Fetched entities are added to the entity cache of the
+ * current transaction, if any.</p>
+ *
+ * <pre>{@code
+ * List<Pet> pets = orm.entity(Pet.class).findAll();
+ * Refs.fetchAll(pets.stream().map(Pet::type).toList());   // Single query for all pet types.
+ * }</pre>
+ *
+ * @since 1.11
+ */
+public final class Refs {
+
+    private Refs() {
+    }
+
+    /**
+     * Fetches the records of all unresolved refs. Entity refs are grouped by type and fetched with a single query per
+     * type (split into chunks for large collections); refs of other record types are fetched one by one. Refs that
+     * are already loaded and detached refs are ignored.
+     *
+     * <p>Refs for which no record exists remain unresolved.</p>
+     *
+     * @param refs the refs to fetch.
+     * @throws st.orm.PersistenceException if fetching the records fails.
+     */
+    public static void fetchAll(@Nonnull Iterable<? extends Ref<?>> refs) {
+        RefFactoryImpl.fetchAll(requireNonNull(refs, "refs"));
+    }
+
+    /**
+     * Executes a {@code Runnable} action within a batch window.
+     *
+     * <p>Entity refs created within the window, for instance as part of the entities returned by a query, are
+     * registered as pending. When one of them is fetched, the records of all pending refs of the same type are fetched
+     * with a single query. Nested windows join the outer window.</p>
+     *
+     * @param runnable the action to execute.
+     */
+    public static void batch(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, "runnable");
+        RefFactoryImpl.batch(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Executes a {@code Supplier} within a batch window, returning its result.
+     *
+     * <p>Entity refs created within the window, for instance as part of the entities returned by a query, are
+     * registered as pending. When one of them is fetched, the records of all pending refs of the same type are fetched
+     * with a single query. Nested windows join the outer window.</p>
+     *
+     * @param supplier the action supplying the result.
+     * @param <T> the type of the supplied result.
+     * @return the result of the supplied action.
+     */
+    public static <T> T batch(@Nonnull Supplier<T> supplier) {
+        return RefFactoryImpl.batch(supplier);
+    }
+}
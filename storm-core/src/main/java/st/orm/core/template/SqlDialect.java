@@ -31,6 +31,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.SequencedMap;
 import java.util.UUID;
 import java.util.function.Function;
@@ -368,6 +369,57 @@ public interface SqlDialect {
         preparedStatement.setString(index, uuid.toString());
     }
 
+    /**
+     * Returns the SQL array type to use when binding an {@code IN} list of the given element type as a single array
+     * parameter.
+     *
+     * <p>When present, {@code IN} and {@code NOT IN} expressions over a single column are compiled using
+     * {@link #arrayIn(Operator, String, String)} and all values are bound as one {@link ArrayParameter}. As a result,
+     * the SQL text no longer depends on the number of values. The default implementation returns an empty optional,
+     * which expands the values into individual parameters.</p>
+     *
+     * @param elementType the type of the values in the {@code IN} list.
+     * @return the SQL array type, or an empty optional if the values must be bound individually.
+     * @since 1.11
+     */
+    default Optional<String> arrayType(@Nonnull Class<?> elementType) {
+        return Optional.empty();
+    }
+
+    /**
+     * Builds an {@code IN} or {@code NOT IN} expression that compares the column against a single array parameter.
+     *
+     * <p>This method is only invoked for element types for which {@link #arrayType(Class)} returns a value.</p>
+     *
+     * @param operator the operator, either {@link Operator#IN} or {@link Operator#NOT_IN}.
+     * @param column the column to compare.
+     * @param parameter the placeholder of the array parameter.
+     * @return the SQL fragment representing the expression.
+     * @throws SqlTemplateException if the operator is not supported.
+     * @since 1.11
+     */
+    default String arrayIn(@Nonnull Operator operator, @Nonnull String column, @Nonnull String parameter)
+            throws SqlTemplateException {
+        throw new SqlTemplateException("Array parameters are not supported by the %s dialect.".formatted(name()));
+    }
+
+    /**
+     * Sets an array parameter on the given prepared statement.
+     *
+     * <p>The default implementation uses {@link java.sql.Connection#createArrayOf(String, Object[])}.</p>
+     *
+     * @param preparedStatement the prepared statement.
+     * @param index the parameter index.
+     * @param array the array parameter.
+     * @throws SQLException if a database access error occurs.
+     * @since 1.11
+     */
+    default void setParameter(@Nonnull PreparedStatement preparedStatement, int index,
+                              @Nonnull ArrayParameter array) throws SQLException {
+        preparedStatement.setArray(index,
+                preparedStatement.getConnection().createArrayOf(array.type(), array.values().toArray()));
+    }
+
     /**
      * Returns the SQL statement for getting the next value of the given sequence.
      *
@@ -508,4 +560,29 @@ public interface SqlDialect {
         return false;
     }
 
+    /**
+     * Returns the maximum number of bind parameters that a single statement may contain.
+     *
+     * <p>The default of 65535 matches the limit of the PostgreSQL and MySQL wire protocols.</p>
+     *
+     * @return the maximum number of bind parameters per statement.
+     * @since 1.11
+     */
+    default int maxParameterCount() {
+        return 65535;
+    }
+
+    /**
+     * Returns the maximum number of rows that a single {@code VALUES} clause may contain.
+     *
+     * <p>Multi-row insert and upsert statements are capped by this number of rows, in addition to
+     * {@link #maxParameterCount()}.</p>
+     *
+     * @return the maximum number of rows per {@code VALUES} clause.
+     * @since 1.11
+     */
+    default int maxValuesRowCount() {
+        return Integer.MAX_VALUE;
+    }
+
 }
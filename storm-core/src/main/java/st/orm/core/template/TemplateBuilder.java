@@ -31,7 +31,7 @@ public interface TemplateBuilder {
             values.add(o);
             return "\0";
         });
-        List<String> fragments = parseFragments(raw);
+        List<String> fragments = TemplateFragments.parse(raw);
         return new TemplateString(fragments, values);
     }
 
@@ -45,35 +45,7 @@ public interface TemplateBuilder {
      * @return a {@link TemplateString} with fragments and values.
      */
     static TemplateString create(@Nonnull String template, @Nonnull Object... values) {
-        return new TemplateString(parseFragments(template), asList(values));
-    }
-
-    /**
-     * Parses the given string into template fragments, splitting on unescaped NULs (\0)
-     * and turning "\\0" into a real NUL within fragments.
-     *
-     * @param raw the raw string with '\0' delimiters and '\\0' escapes.
-     * @return a List of fragments between each NUL delimiter.
-     */
-    private static List<String> parseFragments(String raw) {
-        List<String> fragments = new ArrayList<>();
-        StringBuilder cur = new StringBuilder();
-        for (int i = 0; i < raw.length(); i++) {
-            char c = raw.charAt(i);
-            if (c == '\\' && i + 1 < raw.length() && raw.charAt(i + 1) == '0') {
-                // Escaped null sequence.
-                cur.append('\0');
-                i++;
-            } else if (c == '\0') {
-                // Delimiter: end fragment.
-                fragments.add(cur.toString());
-                cur.setLength(0);
-            } else {
-                cur.append(c);
-            }
-        }
-        fragments.add(cur.toString());
-        return fragments;
+        return new TemplateString(TemplateFragments.of(template), asList(values));
     }
 
     /**
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses raw templates into their fragments.
+ *
+ * <p>The fragments of templates that are passed as the same string instance more than once, such as string literals,
+ * are memoized, so that those calls return the same list instance. This allows the template compiler to memoize the
+ * fingerprint of the fragments by identity.</p>
+ *
+ * @since 1.11
+ */
+final class TemplateFragments {
+
+    private static final int TABLE_SIZE = 1024;
+
+    /**
+     * Direct-mapped table indexed by the identity hash code of the template. Lookups never mutate the table on a hit,
+     * so concurrent callers of the same template do not contend. Templates are only memoized once the same instance
+     * is seen a second time, so one-off templates that are built at runtime never evict memoized templates.
+     */
+    private static final Entry[] TABLE = new Entry[TABLE_SIZE];
+
+    private record Entry(@Nonnull String template, List<String> fragments) {}
+
+    private TemplateFragments() {}
+
+    /**
+     * Returns the fragments of the specified template, reusing the fragments of a previous call with the same
+     * template instance if available.
+     *
+     * @param template the literal template containing (possibly escaped) NUL sequences.
+     * @return a list of fragments between each NUL delimiter.
+     */
+    static List<String> of(@Nonnull String template) {
+        int index = System.identityHashCode(template) & (TABLE_SIZE - 1);
+        Entry entry = TABLE[index];
+        if (entry != null && entry.template() == template) {
+            if (entry.fragments() != null) {
+                return entry.fragments();
+            }
+            // Seen before: memoize.
+            List<String> fragments = List.copyOf(parse(template));
+            TABLE[index] = new Entry(template, fragments);   // Benign race; entries are immutable.
+            return fragments;
+        }
+        if (entry == null || entry.fragments() == null) {
+            TABLE[index] = new Entry(template, null);       // Candidate; memoized when seen again.
+        }
+        return parse(template);
+    }
+
+    /**
+     * Parses the given string into template fragments, splitting on unescaped NULs (\0)
+     * and turning "\\0" into a real NUL within fragments.
+     *
+     * @param raw the raw string with '\0' delimiters and '\\0' escapes.
+     * @return a List of fragments between each NUL delimiter.
+     */
+    static List<String> parse(@Nonnull String raw) {
+        List<String> fragments = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '\\' && i + 1 < raw.length() && raw.charAt(i + 1) == '0') {
+                // Escaped null sequence.
+                cur.append('\0');
+                i++;
+            } else if (c == '\0') {
+                // Delimiter: end fragment.
+                fragments.add(cur.toString());
+                cur.setLength(0);
+            } else {
+                cur.append(c);
+            }
+        }
+        fragments.add(cur.toString());
+        return fragments;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static st.orm.Operator.IN;
+import static st.orm.Operator.NOT_IN;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import st.orm.Data;
+import st.orm.Operator;
+import st.orm.Ref;
+import st.orm.core.template.SqlTemplate;
+
+/**
+ * Decides whether the values of an {@code IN} expression are bound as a single array parameter.
+ *
+ * <p>The decision only depends on the template configuration, the dialect, the operator and the type of the first
+ * value. The compilation key and the compiled SQL must agree on it, so both use this class.</p>
+ *
+ * @since 1.11
+ */
+final class ArrayInSupport {
+
+    private ArrayInSupport() {}
+
+    /**
+     * Returns the SQL array type to bind the values of the given object expression with, or {@code null} if the
+     * values must be bound as individual parameters.
+     *
+     * @param template the template that compiles the expression.
+     * @param operator the operator of the expression.
+     * @param object the object of the expression.
+     * @return the SQL array type, or {@code null} if the values are not bound as an array.
+     */
+    @Nullable
+    static String arrayType(@Nonnull SqlTemplate template, @Nonnull Operator operator, @Nonnull Object object) {
+        if (!template.positionalOnly() || template.inlineParameters()) {
+            return null;
+        }
+        if (operator != IN && operator != NOT_IN) {
+            return null;
+        }
+        Object first = switch (object) {
+            case Collection<?> c when !c.isEmpty() -> c.iterator().next();
+            case Object[] a when a.length > 0 -> a[0];
+            default -> null;
+        };
+        if (first instanceof Ref<?> ref) {
+            first = ref.id();
+        }
+        if (first == null || first instanceof Data || first instanceof Record) {
+            // Entities and compound keys map to multiple columns.
+            return null;
+        }
+        return template.dialect().arrayType(first.getClass()).orElse(null);
+    }
+}
@@ -19,9 +19,9 @@ import static java.lang.Long.toHexString;
 import static java.lang.System.identityHashCode;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
 import st.orm.BindVars;
 import st.orm.Data;
 import st.orm.PersistenceException;
@@ -36,8 +36,9 @@ import st.orm.core.template.SqlTemplate.PositionalParameter;
  * events.</p>
  */
 final class BindVarsImpl implements BindVars, BindVariables {
-    private final List<Function<Data, List<PositionalParameter>>> parameterExtractors;
+    private final List<ParameterExtractor> parameterExtractors;
     private BatchListener batchListener;
+    private BatchBinder batchBinder;
     private RecordListener recordListener;
 
     public BindVarsImpl() {
@@ -53,7 +54,7 @@ final class BindVarsImpl implements BindVars, BindVariables {
     @Override
     public BindVarsHandle getHandle() {
         return record -> {
-            if (batchListener == null) {
+            if (batchListener == null && batchBinder == null) {
                 throw new IllegalStateException("Batch listener not set.");
             }
             if (parameterExtractors.isEmpty()) {
@@ -63,10 +64,20 @@ final class BindVarsImpl implements BindVars, BindVariables {
                 recordListener.onRecord(record);
             }
             try {
-                var positionalParameters = parameterExtractors.stream()
-                        .flatMap(pe -> pe.apply(record).stream())
-                        .toList();
-                batchListener.onBatch(positionalParameters);
+                if (batchBinder != null) {
+                    // Write the values straight to the statement, without materializing positional parameters.
+                    for (var extractor : parameterExtractors) {
+                        extractor.extract(record, batchBinder);
+                    }
+                    batchBinder.addBatch();
+                } else {
+                    List<PositionalParameter> positionalParameters = new ArrayList<>();
+                    for (var extractor : parameterExtractors) {
+                        extractor.extract(record, (position, value) ->
+                                positionalParameters.add(new PositionalParameter(position, value)));
+                    }
+                    batchListener.onBatch(positionalParameters);
+                }
             } catch (UncheckedSqlTemplateException e) {
                 throw new PersistenceException(e.getCause());
             }
@@ -96,12 +107,28 @@ final class BindVarsImpl implements BindVars, BindVariables {
      */
     @Override
     public void setBatchListener(@Nonnull BatchListener listener) {
-        if (batchListener != null) {
+        if (batchListener != null || batchBinder != null) {
             throw new PersistenceException("Record listener already set.");
         }
         this.batchListener = listener;
     }
 
+    /**
+     * Registers a binder that writes the parameters of each record directly to the statement.
+     *
+     * <p>The binder is used instead of a {@link BatchListener}, avoiding the creation of positional parameters for
+     * every record.</p>
+     *
+     * @param binder the binder to write the parameters of each record to.
+     * @since 1.11
+     */
+    void setBatchBinder(@Nonnull BatchBinder binder) {
+        if (batchListener != null || batchBinder != null) {
+            throw new PersistenceException("Record listener already set.");
+        }
+        this.batchBinder = binder;
+    }
+
     /**
      * Registers a function that extracts positional parameters from a record.
      *
@@ -109,12 +136,59 @@ final class BindVarsImpl implements BindVars, BindVariables {
      * @code UncheckedSqlTemplateException} if the record does not comply with the expected format or if there are
      * issues.</p>
      *
-     * @param parameterExtractor the function that extracts positional parameters from a record.
+     * @param parameterExtractor the extractor that writes the positional parameters of a record to a sink.
      */
-    void addParameterExtractor(@Nonnull Function<Data, List<PositionalParameter>> parameterExtractor) {
+    void addParameterExtractor(@Nonnull ParameterExtractor parameterExtractor) {
         parameterExtractors.add(parameterExtractor);
     }
 
+    /**
+     * Receives the positional parameters of a record.
+     *
+     * @since 1.11
+     */
+    @FunctionalInterface
+    interface ParameterSink {
+
+        /**
+         * Sets the value of the parameter at the specified position.
+         *
+         * @param position the 1-based parameter position.
+         * @param value the value of the parameter.
+         */
+        void set(int position, @Nullable Object value);
+    }
+
+    /**
+     * Writes the positional parameters of a record to a sink.
+     *
+     * @since 1.11
+     */
+    @FunctionalInterface
+    interface ParameterExtractor {
+
+        /**
+         * Extracts the positional parameters from the record and writes them to the sink.
+         *
+         * @param record the record to extract the parameters from.
+         * @param sink the sink to write the parameters to.
+         */
+        void extract(@Nonnull Data record, @Nonnull ParameterSink sink);
+    }
+
+    /**
+     * Binds the parameters of each record directly to a statement and adds the record to the batch.
+     *
+     * @since 1.11
+     */
+    interface BatchBinder extends ParameterSink {
+
+        /**
+         * Adds the parameters set since the previous call to the batch.
+         */
+        void addBatch();
+    }
+
     @Override
     public String toString() {
         return "%s@%s".formatted(getClass().getSimpleName(), toHexString(identityHashCode(this)));
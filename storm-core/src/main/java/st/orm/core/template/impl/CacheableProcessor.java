@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.function.Function;
 import st.orm.Data;
 import st.orm.Ref;
+import st.orm.core.template.SqlTemplate;
 import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TemplateString;
 import st.orm.core.template.impl.BindHint.NoBindHint;
@@ -31,6 +32,7 @@ final class CacheableProcessor implements ElementProcessor<Cacheable> {
 
     private static final int MAX_ARITY = 2;
     private static final Class<?> CONSTANT_SHAPE = Object.class;
+    private static final Class<?> ARRAY_SHAPE = Object[].class;
 
     /**
      * Returns a compilation key for the given element, optionally delegating to the provided {@code keyGenerator}
@@ -42,20 +44,28 @@ final class CacheableProcessor implements ElementProcessor<Cacheable> {
      *
      * <p>If this method returns {@code null}, the element is treated as non-cacheable.</p>
      *
+     * <p>Object expressions whose values are bound as a single array parameter compile to the same SQL regardless of
+     * the number of values, so their key does not include the size of the collection.</p>
+     *
      * @param cacheable the element to compute a key for.
      * @param keyGenerator a function that generates compilation keys for sub-templates.
+     * @param template the template that compiles the element.
      * @return an immutable key for caching, or {@code null} if the element or its compilation cannot be cached.
      * @throws SqlTemplateException if the key generation fails.
      */
     @Override
     public Object getCompilationKey(
             @Nonnull Cacheable cacheable,
-            @Nonnull Function<TemplateString, Object> keyGenerator
+            @Nonnull Function<TemplateString, Object> keyGenerator,
+            @Nonnull SqlTemplate template
     ) throws SqlTemplateException {
         return switch(cacheable.expression()) {
-            case TemplateExpression(var template) -> keyGenerator.apply(template);
+            case TemplateExpression(var t) -> keyGenerator.apply(t);
             case ObjectExpression(var metamodel, var operator, var object) -> {
-                var objectShape = getObjectShape(object);
+                var arrayType = ArrayInSupport.arrayType(template, operator, object);
+                var objectShape = arrayType != null
+                        ? List.of(ARRAY_SHAPE, arrayType)
+                        : getObjectShape(object);
                 if (objectShape == null) {
                     yield null;
                 }
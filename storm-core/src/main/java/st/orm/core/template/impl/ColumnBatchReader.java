@@ -0,0 +1,186 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static java.util.Arrays.copyOf;
+import static st.orm.core.template.impl.LazySupplier.lazy;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.function.Supplier;
+import st.orm.ColumnBatch;
+
+/**
+ * Reads the rows of a {@link ResultSet} into {@link ColumnBatch} instances.
+ *
+ * <p>Integral, boolean and floating-point columns are read with the primitive getters of the result set and written
+ * to primitive arrays, so these columns are read without boxing. The remaining columns are read with the
+ * {@link ColumnReader} of their type. The column kinds are resolved once per result set.</p>
+ *
+ * @since 1.11
+ */
+final class ColumnBatchReader {
+
+    private static final int LONG = 0;
+    private static final int BOOLEAN = 1;
+    private static final int DOUBLE = 2;
+    private static final int OBJECT = 3;
+
+    private final ResultSet resultSet;
+    private final Class<?>[] types;
+    private final int[] kinds;
+    private final ColumnReader[] readers;
+    private final Supplier<Calendar> utc;
+    private final int batchSize;
+
+    /**
+     * Creates a reader for the specified result set.
+     *
+     * @param resultSet the result set to read from.
+     * @param types the types of the columns, as flattened by the object mapper of the result type.
+     * @param batchSize the maximum number of rows per batch.
+     */
+    ColumnBatchReader(@Nonnull ResultSet resultSet, @Nonnull Class<?>[] types, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive.");
+        }
+        this.resultSet = resultSet;
+        this.types = types;
+        this.kinds = new int[types.length];
+        this.readers = new ColumnReader[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (type == Boolean.TYPE || type == Boolean.class) {
+                kinds[i] = BOOLEAN;
+            } else if (isLongType(type)) {
+                kinds[i] = LONG;
+            } else if (isDoubleType(type)) {
+                kinds[i] = DOUBLE;
+            } else {
+                kinds[i] = OBJECT;
+                readers[i] = ColumnReader.of(type);
+            }
+        }
+        this.utc = lazy(() -> Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads the next batch of rows.
+     *
+     * @return the next batch, or {@code null} if no more rows are available.
+     * @throws SQLException if the rows could not be read.
+     */
+    @Nullable
+    ColumnBatch next() throws SQLException {
+        int columnCount = types.length;
+        Object[] columns = new Object[columnCount];
+        long[][] nulls = new long[columnCount][bitmapLength(batchSize)];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = switch (kinds[i]) {
+                case LONG, BOOLEAN -> new long[batchSize];
+                case DOUBLE -> new double[batchSize];
+                default -> new Object[batchSize];
+            };
+        }
+        int row = 0;
+        while (row < batchSize && resultSet.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                int index = i + 1;
+                boolean isNull;
+                switch (kinds[i]) {
+                    case LONG -> {
+                        ((long[]) columns[i])[row] = resultSet.getLong(index);
+                        isNull = resultSet.wasNull();
+                    }
+                    case BOOLEAN -> {
+                        ((long[]) columns[i])[row] = resultSet.getBoolean(index) ? 1 : 0;
+                        isNull = resultSet.wasNull();
+                    }
+                    case DOUBLE -> {
+                        ((double[]) columns[i])[row] = resultSet.getDouble(index);
+                        isNull = resultSet.wasNull();
+                    }
+                    default -> {
+                        Object value = readers[i].read(resultSet, index, utc);
+                        ((Object[]) columns[i])[row] = value;
+                        isNull = value == null;
+                    }
+                }
+                if (isNull) {
+                    nulls[i][row >>> 6] |= 1L << row;
+                }
+            }
+            row++;
+        }
+        if (row == 0) {
+            return null;
+        }
+        if (row < batchSize) {
+            // Trim the last batch, so the arrays of every batch hold exactly its rows.
+            for (int i = 0; i < columnCount; i++) {
+                columns[i] = switch (columns[i]) {
+                    case long[] values -> copyOf(values, row);
+                    case double[] values -> copyOf(values, row);
+                    case Object[] values -> copyOf(values, row);
+                    default -> throw new IllegalStateException();
+                };
+                nulls[i] = copyOf(nulls[i], bitmapLength(row));
+            }
+        }
+        return ColumnBatch.of(types, row, columns, nulls);
+    }
+
+    /**
+     * Returns whether columns of the specified type are stored in a {@code long[]}.
+     *
+     * @param type the column type.
+     * @return {@code true} if the type is a (boxed) {@code byte}, {@code short}, {@code int}, {@code long} or
+     * {@code boolean}.
+     */
+    static boolean isLongType(@Nonnull Class<?> type) {
+        return type == Long.TYPE || type == Long.class
+                || type == Integer.TYPE || type == Integer.class
+                || type == Short.TYPE || type == Short.class
+                || type == Byte.TYPE || type == Byte.class
+                || type == Boolean.TYPE || type == Boolean.class;
+    }
+
+    /**
+     * Returns whether columns of the specified type are stored in a {@code double[]}.
+     *
+     * @param type the column type.
+     * @return {@code true} if the type is a (boxed) {@code float} or {@code double}.
+     */
+    static boolean isDoubleType(@Nonnull Class<?> type) {
+        return type == Double.TYPE || type == Double.class || type == Float.TYPE || type == Float.class;
+    }
+
+    /**
+     * Returns the number of {@code long} words of a null bitmap for the specified number of rows.
+     *
+     * @param size the number of rows.
+     * @return the length of the null bitmap.
+     */
+    static int bitmapLength(int size) {
+        return (size + 63) >>> 6;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import jakarta.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Reads a single column from the current row of a {@link ResultSet} as a specific target type.
+ *
+ * <p>Readers are resolved once per result shape through {@link #plan(Class[])} when a result set is opened, and are
+ * then reused for every row. This keeps the type dispatch out of the per-cell read path.</p>
+ *
+ * @since 1.11
+ */
+@FunctionalInterface
+interface ColumnReader {
+
+    /**
+     * Reads the value of the specified column from the current row.
+     *
+     * @param resultSet the result set to read from.
+     * @param columnIndex the 1-based column index.
+     * @param utc supplies the UTC calendar shared by all reads of the same result set.
+     * @return the column value, or {@code null} if the column is SQL {@code NULL}.
+     * @throws SQLException if the column could not be read.
+     */
+    Object read(@Nonnull ResultSet resultSet, int columnIndex, @Nonnull Supplier<Calendar> utc) throws SQLException;
+
+    /**
+     * Returns the readers for the specified target types, one reader per column.
+     *
+     * @param types the target types of the columns.
+     * @return the readers for the specified target types.
+     */
+    static ColumnReader[] plan(@Nonnull Class<?>[] types) {
+        ColumnReader[] readers = new ColumnReader[types.length];
+        for (int i = 0; i < types.length; i++) {
+            readers[i] = of(types[i]);
+        }
+        return readers;
+    }
+
+    /**
+     * Returns the reader for the specified target type.
+     *
+     * @param targetType the target type of the column.
+     * @return the reader for the specified target type.
+     */
+    static ColumnReader of(@Nonnull Class<?> targetType) {
+        return switch (targetType) {
+            // Primitives & basics. JDBC returns default values for SQL NULL, so these readers check wasNull.
+            case Class<?> c when c == Short.TYPE || c == Short.class     -> (rs, i, utc) -> nullable(rs, rs.getShort(i));
+            case Class<?> c when c == Integer.TYPE || c == Integer.class -> (rs, i, utc) -> nullable(rs, rs.getInt(i));
+            case Class<?> c when c == Long.TYPE || c == Long.class       -> (rs, i, utc) -> nullable(rs, rs.getLong(i));
+            case Class<?> c when c == Float.TYPE || c == Float.class     -> (rs, i, utc) -> nullable(rs, rs.getFloat(i));
+            case Class<?> c when c == Double.TYPE || c == Double.class   -> (rs, i, utc) -> nullable(rs, rs.getDouble(i));
+            case Class<?> c when c == Byte.TYPE || c == Byte.class       -> (rs, i, utc) -> nullable(rs, rs.getByte(i));
+            case Class<?> c when c == Boolean.TYPE || c == Boolean.class -> (rs, i, utc) -> nullable(rs, rs.getBoolean(i));
+            case Class<?> c when c == String.class                       -> (rs, i, utc) -> rs.getString(i);
+            case Class<?> c when c == BigDecimal.class                   -> (rs, i, utc) -> rs.getBigDecimal(i);
+            case Class<?> c when c == byte[].class                       -> (rs, i, utc) -> rs.getBytes(i);
+            case Class<?> c when c == ByteBuffer.class -> (rs, i, utc) -> {
+                byte[] bytes = rs.getBytes(i);
+                return bytes != null ? ByteBuffer.wrap(bytes).asReadOnlyBuffer() : null;
+            };
+            case Class<?> c when c == UUID.class -> (rs, i, utc) -> {
+                Object obj = rs.getObject(i);
+                return obj instanceof UUID u ? u : obj != null ? UUID.fromString(obj.toString()) : null;
+            };
+            case Class<?> c when c.isEnum()                              -> (rs, i, utc) -> rs.getString(i); // Enum handled by mapper.
+            case Class<?> c when c == java.util.Date.class -> (rs, i, utc) -> {
+                Timestamp ts = rs.getTimestamp(i, utc.get());
+                return ts != null ? new java.util.Date(ts.getTime()) : null;
+            };
+            case Class<?> c when c == Calendar.class -> (rs, i, utc) -> {
+                Timestamp ts = rs.getTimestamp(i, utc.get());
+                if (ts == null) return null;
+                Calendar out = (Calendar) utc.get().clone();
+                out.setTimeInMillis(ts.getTime());
+                return out;
+            };
+            case Class<?> c when c == Timestamp.class     -> (rs, i, utc) -> rs.getTimestamp(i, utc.get());
+            case Class<?> c when c == java.sql.Date.class -> (rs, i, utc) -> rs.getDate(i);
+            case Class<?> c when c == Time.class          -> (rs, i, utc) -> rs.getTime(i);
+            // java.time using vendor-safe approach.
+            case Class<?> c when c == LocalDateTime.class -> (rs, i, utc) -> {
+                Timestamp ts = rs.getTimestamp(i);
+                return ts != null ? ts.toLocalDateTime() : null;
+            };
+            case Class<?> c when c == LocalDate.class -> (rs, i, utc) -> {
+                java.sql.Date d = rs.getDate(i);
+                return d != null ? d.toLocalDate() : null;
+            };
+            case Class<?> c when c == LocalTime.class -> (rs, i, utc) -> {
+                Time t = rs.getTime(i);
+                return t != null ? t.toLocalTime() : null;
+            };
+            case Class<?> c when c == Instant.class -> (rs, i, utc) -> {
+                Timestamp ts = rs.getTimestamp(i, utc.get());
+                return ts != null ? ts.toInstant() : null;
+            };
+            case Class<?> c when c == OffsetDateTime.class -> (rs, i, utc) -> {
+                Timestamp ts = rs.getTimestamp(i, utc.get());
+                return ts != null ? OffsetDateTime.ofInstant(ts.toInstant(), ZoneOffset.UTC) : null;
+            };
+            case Class<?> c when c == ZonedDateTime.class -> (rs, i, utc) -> {
+                Timestamp ts = rs.getTimestamp(i, utc.get());
+                return ts != null ? ZonedDateTime.ofInstant(ts.toInstant(), ZoneOffset.UTC) : null;
+            };
+            default -> (rs, i, utc) -> rs.getObject(i);
+        };
+    }
+
+    /**
+     * Returns {@code null} if the last column read was SQL {@code NULL}, or the specified value otherwise.
+     */
+    private static Object nullable(@Nonnull ResultSet resultSet, Object value) throws SQLException {
+        return resultSet.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static java.lang.invoke.MethodType.methodType;
+import static st.orm.core.template.impl.ObjectMapperFactory.isNonnull;
+import static st.orm.core.template.impl.ObjectMapperFactory.nullableHint;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import st.orm.core.template.SqlTemplateException;
+import st.orm.mapping.RecordInstantiator;
+import st.orm.mapping.RecordType;
+
+/**
+ * Creates instances through a constructor that is bound to a {@link MethodHandle} once, instead of going through
+ * {@link Constructor#newInstance(Object...)} for every row.
+ *
+ * <p>The handle takes the constructor arguments as a single {@code Object[]} and returns the new instance. The
+ * nullability of the constructor parameters is resolved up front as well, so that the per-row null checks only
+ * inspect the arguments that must not be {@code null}.</p>
+ *
+ * <p>For records that have a {@link RecordInstantiator} generated by the metamodel processor, the generated
+ * instantiator is used instead, which invokes the constructor directly without going through a method handle.</p>
+ *
+ * <p>Invokers are cached globally per constructor.</p>
+ *
+ * @param <T> the type of the instance to create.
+ * @since 1.11
+ */
+final class ConstructorInvoker<T> {
+
+    /** Global cache of invokers, keyed by constructor. Thread-safe for concurrent access. */
+    private static final ConcurrentMap<Constructor<?>, ConstructorInvoker<?>> INVOKERS = new ConcurrentHashMap<>();
+
+    private final Constructor<T> constructor;
+    private final RecordInstantiator<T> instantiator;
+    private final MethodHandle handle;
+    private final Throwable failure;
+    private final Parameter[] parameters;
+    private final int[] nonnullIndices;
+
+    private ConstructorInvoker(@Nonnull Constructor<T> constructor, @Nullable RecordInstantiator<T> instantiator) {
+        this.constructor = constructor;
+        this.instantiator = instantiator;
+        this.parameters = constructor.getParameters();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        int[] indices = new int[parameterTypes.length];
+        int count = 0;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive() || isNonnull(parameters[i])) {
+                indices[count++] = i;
+            }
+        }
+        this.nonnullIndices = Arrays.copyOf(indices, count);
+        MethodHandle handle = null;
+        Throwable failure = null;
+        if (instantiator == null) {
+            try {
+                constructor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, parameterTypes.length)
+                        .asType(methodType(Object.class, Object[].class));
+            } catch (Throwable t) {
+                // Report the failure when an instance is requested, consistent with reflective construction.
+                failure = t;
+            }
+        }
+        this.handle = handle;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the invoker for the specified constructor.
+     *
+     * @param constructor the constructor to invoke.
+     * @return the invoker for the specified constructor.
+     * @param <T> the type of the instance to create.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ConstructorInvoker<T> of(@Nonnull Constructor<T> constructor) {
+        return (ConstructorInvoker<T>) INVOKERS.computeIfAbsent(constructor, c -> new ConstructorInvoker<>(c, null));
+    }
+
+    /**
+     * Returns the invoker for the canonical constructor of the specified record type. The generated instantiator of
+     * the record type is used if available.
+     *
+     * @param type the record type to instantiate.
+     * @return the invoker for the canonical constructor of the record type.
+     * @param <T> the type of the instance to create.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ConstructorInvoker<T> of(@Nonnull RecordType type) {
+        return (ConstructorInvoker<T>) INVOKERS.computeIfAbsent(type.constructor(),
+                c -> new ConstructorInvoker<>((Constructor<Object>) c, findInstantiator(type.type())));
+    }
+
+    /**
+     * Returns the instantiator generated by the metamodel processor for the specified type, or {@code null} if none
+     * was generated.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T> RecordInstantiator<T> findInstantiator(@Nonnull Class<?> type) {
+        try {
+            Class<?> instantiatorClass = Class.forName(
+                    type.getName() + "Metamodel$Instantiator", true, type.getClassLoader());
+            for (Type t : instantiatorClass.getGenericInterfaces()) {
+                // Verify the instantiator targets this exact type, as metamodel classes are named by simple name.
+                if (t instanceof ParameterizedType p
+                        && p.getRawType() == RecordInstantiator.class
+                        && p.getActualTypeArguments()[0] == type) {
+                    return (RecordInstantiator<T>) instantiatorClass.getDeclaredConstructor().newInstance();
+                }
+            }
+        } catch (ReflectiveOperationException | LinkageError | SecurityException ignored) {
+            // No generated instantiator available; fall back to the method handle.
+        }
+        return null;
+    }
+
+    /**
+     * Constructs a new instance using the specified arguments.
+     *
+     * @param args the arguments to pass to the constructor.
+     * @param offset the parameter offset of the top-level input, used for error reporting.
+     * @return a new instance.
+     * @throws SqlTemplateException if the instance could not be created.
+     */
+    @SuppressWarnings("unchecked")
+    T newInstance(@Nonnull Object[] args, int offset) throws SqlTemplateException {
+        try {
+            for (int i : nonnullIndices) {
+                if (args[i] == null) {
+                    throw nullViolation(i, offset);
+                }
+            }
+            if (instantiator != null) {
+                return instantiator.newInstance(args);
+            }
+            if (handle == null) {
+                throw failure;
+            }
+            return (T) handle.invokeExact(args);
+        } catch (SqlTemplateException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SqlTemplateException("Failed to create a new instance of %s.".formatted(constructor.getDeclaringClass().getSimpleName()), t);
+        }
+    }
+
+    /**
+     * Returns the exception to throw when the database returned {@code null} for the specified parameter.
+     */
+    private SqlTemplateException nullViolation(int i, int offset) {
+        Class<?> type = constructor.getDeclaringClass();
+        if (isNonnull(parameters[i])) {
+            return new SqlTemplateException("Database returned NULL for non-nullable field '%s.%s' at column position %d. Either %s, ensure the column has a NOT NULL constraint with a default value, or verify the query returns the expected data."
+                    .formatted(type.getSimpleName(), parameters[i].getName(), offset + i + 1, nullableHint(type)));
+        }
+        return new SqlTemplateException("Database returned NULL for primitive field '%s.%s' at column position %d. Primitive types cannot hold null values. Change the field type to its wrapper class (e.g., int to Integer) and %s, or ensure the column is NOT NULL."
+                .formatted(type.getSimpleName(), parameters[i].getName(), offset + i + 1, nullableHint(type)));
+    }
+}
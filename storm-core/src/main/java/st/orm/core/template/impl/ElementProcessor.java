@@ -3,6 +3,7 @@ package st.orm.core.template.impl;
 import jakarta.annotation.Nonnull;
 import java.util.function.Function;
 import st.orm.Element;
+import st.orm.core.template.SqlTemplate;
 import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TemplateString;
 
@@ -64,6 +65,31 @@ interface ElementProcessor<E extends Element> {
         return getCompilationKey(element);
     }
 
+    /**
+     * Returns a compilation key for the given element, taking the configuration of the compiling template into
+     * account.
+     *
+     * <p>This variant is used by elements whose compiled shape depends on the template configuration or its dialect.
+     * The template configuration that is shared by all templates using the same cache does not need to be part of the
+     * key.</p>
+     *
+     * <p>If this method returns {@code null}, the element is treated as non-cacheable.</p>
+     *
+     * @param element the element to compute a key for.
+     * @param keyGenerator a function that generates compilation keys for sub-templates.
+     * @param template the template that compiles the element.
+     * @return an immutable key for caching, or {@code null} if the element or its compilation cannot be cached.
+     * @throws SqlTemplateException if the key generation fails.
+     * @since 1.11
+     */
+    default Object getCompilationKey(
+            @Nonnull E element,
+            @Nonnull Function<TemplateString, Object> keyGenerator,
+            @Nonnull SqlTemplate template
+    ) throws SqlTemplateException {
+        return getCompilationKey(element, keyGenerator);
+    }
+
     /**
      * Compiles the given element into an {@link CompiledElement}.
      *
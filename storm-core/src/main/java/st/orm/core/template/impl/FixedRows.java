@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The rows of a multi-row statement that is issued with the same number of rows for every chunk of a batch.
+ *
+ * <p>A {@code VALUES} clause over multiple records is only cached if the records are passed as {@code FixedRows}; the
+ * compiled template is then shared by all statements with the same number of rows. {@code VALUES} clauses over other
+ * collections are compiled for every request, so that collections of arbitrary sizes do not fill the template
+ * cache.</p>
+ *
+ * @param <T> the type of the rows.
+ * @since 1.11
+ */
+public final class FixedRows<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<T> rows;
+
+    private FixedRows(@Nonnull List<T> rows) {
+        this.rows = requireNonNull(rows, "rows");
+    }
+
+    /**
+     * Returns a view of the specified rows.
+     *
+     * @param rows the rows of the statement.
+     * @return the fixed rows.
+     * @param <T> the type of the rows.
+     */
+    public static <T> FixedRows<T> of(@Nonnull List<T> rows) {
+        return new FixedRows<>(rows);
+    }
+
+    @Override
+    public T get(int index) {
+        return rows.get(index);
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import st.orm.PersistenceException;
+
+/**
+ * Helper class for waiting on work that runs on other threads.
+ *
+ * @since 1.11
+ */
+public final class Futures {
+
+    private Futures() {}
+
+    /**
+     * Waits for the specified future to complete and returns its result.
+     *
+     * <p>Runtime exceptions thrown by the task are rethrown as is; checked exceptions and interruptions are wrapped
+     * in a {@link PersistenceException}. The interrupt flag of the calling thread is restored when interrupted.</p>
+     *
+     * @param future the future to wait for.
+     * @return the result of the future.
+     * @param <T> the result type.
+     * @throws PersistenceException if the task failed with a checked exception or the calling thread was interrupted.
+     */
+    public static <T> T await(@Nonnull Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new PersistenceException(e.getCause());
+        }
+    }
+}
@@ -70,13 +70,45 @@ public final class LazySupplier<T> implements Supplier<T> {
      * Gets a result. On the first invocation, the supplier is called to produce the value. The supplier is then
      * released for garbage collection.
      *
+     * <p>The supplier is invoked outside of any atomic update, so it may {@link #complete(Object) complete} this
+     * supplier itself, for instance when the value is loaded as part of a batch. In that case, and when another thread
+     * resolved the value concurrently, the value that was set first is returned.</p>
+     *
      * @return a result.
      */
     @Override
     public T get() {
-        T result = reference.updateAndGet(value -> requireNonNullElseGet(value, supplier));
+        T result = reference.get();
+        if (result != null) {
+            return result;
+        }
+        Supplier<T> current = supplier;
+        if (current == null) {
+            // Completed concurrently; the value is set before the supplier is released.
+            return reference.get();
+        }
+        T value = requireNonNull(current.get(), "supplier.get()");
+        if (!reference.compareAndSet(null, value)) {
+            value = reference.get();
+        }
         supplier = null;    // Release the supplier (and its captured context) for GC.
-        return result;
+        return value;
+    }
+
+    /**
+     * Sets the value if it has not been resolved yet, without invoking the supplier. This allows a value that was
+     * loaded together with other values, for instance by a single batch query, to be handed to this supplier.
+     *
+     * @param value the resolved value.
+     * @return {@code true} if the value was set, {@code false} if this supplier already held a value.
+     * @since 1.11
+     */
+    public boolean complete(@Nonnull T value) {
+        if (reference.compareAndSet(null, requireNonNull(value))) {
+            supplier = null;    // Release the supplier (and its captured context) for GC.
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -15,7 +15,10 @@
  */
 package st.orm.core.template.impl;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.lang.ref.Cleaner;
 import java.lang.ref.Cleaner.Cleanable;
 import java.lang.reflect.InvocationTargetException;
@@ -23,26 +26,194 @@ import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import st.orm.PersistenceException;
+import st.orm.StormConfig;
 
 /**
  * Monitors whether streams are closed.
+ *
+ * <p>The amount of monitoring is controlled by the {@code storm.leak_detection} property of the template
+ * configuration:</p>
+ * <ul>
+ *   <li>{@code off}: resources are not monitored.</li>
+ *   <li>{@code default} (default): a leaked resource is logged and closed when it is garbage collected. Streams are
+ *       monitored without a proxy and without capturing a stack trace.</li>
+ *   <li>{@code sampled}: like {@code default}, but one in {@code storm.leak_detection.sample_rate} resources is
+ *       monitored as in {@code full} mode.</li>
+ *   <li>{@code full}: every resource is wrapped in a proxy that records the stack trace of its creation, which is
+ *       logged when the resource leaks.</li>
+ * </ul>
  */
 final class MonitoredResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger("st.orm.resource");
     private static final Cleaner CLEANER = Cleaner.create();
+    private static final AtomicLong SAMPLE_COUNTER = new AtomicLong();
+    private static final int DEFAULT_SAMPLE_RATE = 100;
+
+    /**
+     * The leak detection level.
+     */
+    enum LeakDetection {
+        OFF,
+        DEFAULT,
+        SAMPLED,
+        FULL;
+
+        /**
+         * Returns the leak detection level of the specified configuration. Unknown values are logged and result in
+         * {@link #DEFAULT}.
+         */
+        static LeakDetection fromConfig(@Nonnull StormConfig config) {
+            String value = config.getProperty("storm.leak_detection", "DEFAULT").trim();
+            try {
+                return LeakDetection.valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Invalid value for storm.leak_detection: '{}'. Using default.", value);
+                return DEFAULT;
+            }
+        }
+    }
+
+    /**
+     * Registers the action that runs when a monitored object becomes unreachable.
+     */
+    @FunctionalInterface
+    interface Registrar {
+        Cleanable register(@Nonnull Object object, @Nonnull Runnable action);
+    }
+
+    /**
+     * Monitors resources with the default settings.
+     */
+    static final MonitoredResource DEFAULT = new MonitoredResource(LeakDetection.DEFAULT, DEFAULT_SAMPLE_RATE);
+
+    private final LeakDetection level;
+    private final int sampleRate;
+    private final Registrar registrar;
+
+    MonitoredResource(@Nonnull LeakDetection level, int sampleRate) {
+        this(level, sampleRate, CLEANER::register);
+    }
+
+    MonitoredResource(@Nonnull LeakDetection level, int sampleRate, @Nonnull Registrar registrar) {
+        this.level = requireNonNull(level, "level");
+        this.sampleRate = Math.max(1, sampleRate);
+        this.registrar = requireNonNull(registrar, "registrar");
+    }
+
+    /**
+     * Returns the monitor for the specified configuration. Invalid values are logged and replaced by their defaults.
+     *
+     * @param config the template configuration.
+     * @return the monitor.
+     */
+    static MonitoredResource of(@Nonnull StormConfig config) {
+        LeakDetection level = LeakDetection.fromConfig(config);
+        String value = config.getProperty("storm.leak_detection.sample_rate", String.valueOf(DEFAULT_SAMPLE_RATE)).trim();
+        int sampleRate;
+        try {
+            sampleRate = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid value for storm.leak_detection.sample_rate: '{}'. Using default.", value);
+            sampleRate = DEFAULT_SAMPLE_RATE;
+        }
+        if (level == LeakDetection.DEFAULT && sampleRate == DEFAULT_SAMPLE_RATE) {
+            return DEFAULT;
+        }
+        return new MonitoredResource(level, sampleRate);
+    }
 
-    static <T extends AutoCloseable> T wrap(@Nonnull T resource) {
-        return wrap(resource, new AtomicInteger());
+    /**
+     * Monitors the given resource according to the configured leak detection level.
+     *
+     * @param resource the resource to monitor.
+     * @return the monitored resource.
+     */
+    <T extends AutoCloseable> T wrap(@Nonnull T resource) {
+        return switch (level) {
+            case OFF -> resource;
+            case DEFAULT -> wrap(resource, new AtomicInteger(), null);
+            case SAMPLED, FULL -> wrap(resource, new AtomicInteger(), captureStackTrace());
+        };
     }
 
-    private static <T extends AutoCloseable> T wrap(@Nonnull T resource, AtomicInteger openCount) {
-        Exception createStackTrace = new Exception("Create stack trace");
+    /**
+     * Monitors the given stream according to the configured leak detection level.
+     *
+     * <p>The close action is registered with the stream, and is also run when the stream is garbage collected without
+     * having been closed. In {@code default} mode, the returned stream is the stream itself, so intermediate
+     * operations do not add any overhead.</p>
+     *
+     * @param stream the stream to monitor.
+     * @param closeAction the action that releases the resources of the stream.
+     * @return the monitored stream.
+     */
+    <T> Stream<T> wrap(@Nonnull Stream<T> stream, @Nonnull Runnable closeAction) {
+        Exception createStackTrace = captureStackTrace();
+        if (createStackTrace != null) {
+            return wrap(stream.onClose(closeAction), new AtomicInteger(), createStackTrace);
+        }
+        return switch (level) {
+            case OFF -> stream.onClose(closeAction);
+            default -> {
+                var closer = new Closer(closeAction);
+                Cleanable cleanable = registrar.register(stream, closer::leaked);
+                yield stream.onClose(() -> {
+                    closer.run();
+                    cleanable.clean();
+                });
+            }
+        };
+    }
+
+    @Nullable
+    private Exception captureStackTrace() {
+        return switch (level) {
+            case FULL -> new Exception("Create stack trace");
+            case SAMPLED -> SAMPLE_COUNTER.getAndIncrement() % sampleRate == 0
+                    ? new Exception("Create stack trace")
+                    : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * Runs a close action at most once. Holds no reference to the monitored stream, so it can be used as a
+     * {@link Cleaner} action.
+     */
+    private static final class Closer implements Runnable {
+        private final Runnable closeAction;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Closer(@Nonnull Runnable closeAction) {
+            this.closeAction = closeAction;
+        }
+
+        @Override
+        public void run() {
+            if (closed.compareAndSet(false, true)) {
+                closeAction.run();
+            }
+        }
+
+        void leaked() {
+            if (!closed.get()) {
+                LOGGER.warn("Resource was not closed properly. Set storm.leak_detection to full to log where it was created.");
+                run();
+            }
+        }
+    }
+
+    private <T extends AutoCloseable> T wrap(@Nonnull T resource, AtomicInteger openCount,
+                                             @Nullable Exception createStackTrace) {
         openCount.getAndIncrement();
         var cleanable = new AtomicReference<Cleanable>();
         //noinspection unchecked
@@ -60,19 +231,23 @@ final class MonitoredResource {
                             return p;   // Ensure monitored resource is returned.
                         }
                         if (result instanceof AutoCloseable c) {
-                            return MonitoredResource.wrap(c, openCount);
+                            return wrap(c, openCount, createStackTrace);
                         }
                         return result;
                     } catch (InvocationTargetException e) {
                         throw e.getTargetException();
                     }
                 });
-        cleanable.setPlain(CLEANER.register(proxy, () -> {
+        cleanable.setPlain(registrar.register(proxy, () -> {
             // This callback will be invoked when the Cleanable is explicitly cleaned, or when the Cleaner is
             // invoked by the garbage collector. It will be invoked at most once.
             int count = openCount.decrementAndGet();
             if (count == 0) {
-                LOGGER.warn("Resource was not closed properly.", createStackTrace);
+                if (createStackTrace != null) {
+                    LOGGER.warn("Resource was not closed properly.", createStackTrace);
+                } else {
+                    LOGGER.warn("Resource was not closed properly. Set storm.leak_detection to full to log where it was created.");
+                }
             }
             if (count <= 0) {
                 try {
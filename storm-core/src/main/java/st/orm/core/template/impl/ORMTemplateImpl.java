@@ -19,10 +19,10 @@ import static java.lang.System.identityHashCode;
 import static java.lang.reflect.Proxy.newProxyInstance;
 import static st.orm.core.spi.Providers.getEntityRepository;
 import static st.orm.core.spi.Providers.getProjectionRepository;
+import static st.orm.core.template.impl.RepositoryDispatchTable.bind;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -42,12 +42,15 @@ import st.orm.StormConfig;
 import st.orm.core.repository.EntityRepository;
 import st.orm.core.repository.ProjectionRepository;
 import st.orm.core.repository.Repository;
+import st.orm.core.repository.impl.EntityRepositoryImpl;
 import st.orm.core.spi.ORMReflection;
 import st.orm.core.spi.Provider;
 import st.orm.core.spi.Providers;
 import st.orm.core.spi.QueryFactory;
+import st.orm.core.spi.TypeDiscovery;
 import st.orm.core.template.ORMTemplate;
 import st.orm.core.template.SqlTemplateException;
+import st.orm.core.template.impl.RepositoryDispatchTable.Invoker;
 
 public final class ORMTemplateImpl extends QueryTemplateImpl implements ORMTemplate {
 
@@ -127,6 +130,39 @@ public final class ORMTemplateImpl extends QueryTemplateImpl implements ORMTempl
         }
     }
 
+    @Override
+    public void warmUp() {
+        warmUp(TypeDiscovery.getDataTypes());
+    }
+
+    @Override
+    public void warmUp(@Nonnull Iterable<Class<? extends Data>> types) {
+        if (queryFactory instanceof JpaTemplateImpl) {
+            return;     // JPA does not support the bind variables used by the batch statements.
+        }
+        for (var type : types) {
+            if (!Entity.class.isAssignableFrom(type) || (type.isInterface() && !type.isSealed())) {
+                continue;
+            }
+            EntityRepository<?, ?> repository;
+            try {
+                //noinspection unchecked,rawtypes
+                repository = entity((Class) type);
+            } catch (PersistenceException e) {
+                // Type cannot be modeled (e.g., invalid record structure). Skip; RecordValidation handles this.
+                continue;
+            }
+            if (repository instanceof EntityRepositoryImpl<?, ?> impl) {
+                impl.warmUp();
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsConcurrentQueries() {
+        return queryFactory.dataSource() != null;
+    }
+
     private boolean isStrictSchemaValidation() {
         return Boolean.parseBoolean(config.getProperty("storm.validation.strict", "false"));
     }
@@ -198,78 +234,55 @@ public final class ORMTemplateImpl extends QueryTemplateImpl implements ORMTempl
             EntityRepository<?, ?> entityRepository = createEntityRepository(type).orElse(null);
             ProjectionRepository<?, ?> projectionRepository = createProjectionRepository(type).orElse(null);
             Repository repository = createRepository();
-            return (R) newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
-                try {
-                    if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
-                        return identityHashCode(proxy);
-                    }
-                    if (method.getName().equals("equals") && method.getParameterCount() == 1) {
-                        return proxy == args[0];
-                    }
-                    if (method.getName().equals("toString") && method.getParameterCount() == 0) {
-                        return "%s@proxy".formatted(type.getName());
-                    }
-                    return SqlLogInterceptor.wrapIfNeeded(
-                            SqlLogInterceptor.resolve(type, method),
-                            type,
-                            toShortSignature(method),
-                            () -> dispatch(proxy, method, args, repository, entityRepository, projectionRepository, type)
-                    );
-                } catch (InvocationTargetException e) {
-                    throw e.getTargetException();
-                }
-            });
+            return (R) newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new RepositoryDispatchTable(type,
+                    method -> invoker(method, repository, entityRepository, projectionRepository, type)));
         });
     }
 
-    private static Object dispatch(Object proxy,
-                                    Method method,
-                                    Object[] args,
-                                    Repository repository,
-                                    EntityRepository<?, ?> entityRepository,
-                                    ProjectionRepository<?, ?> projectionRepository,
-                                    Class<?> type) throws Exception {
-        try {
-            if (REFLECTION.isDefaultMethod(method)) {
-                return REFLECTION.execute(proxy, method, args);
-            }
-            if (method.getDeclaringClass().isAssignableFrom(Repository.class)) {
-                return method.invoke(repository, args);
-            }
-            if (EntityRepository.class.isAssignableFrom(method.getDeclaringClass())) {
-                if (entityRepository == null) {
-                    throw new UnsupportedOperationException("EntityRepository not available for %s. Ensure the type implements the Entity interface and has a valid @DbTable annotation.".formatted(type.getName()));
-                }
-                return method.invoke(entityRepository, args);
-            }
-            if (ProjectionRepository.class.isAssignableFrom(method.getDeclaringClass())) {
-                if (projectionRepository == null) {
-                    throw new UnsupportedOperationException("ProjectionRepository not available for %s. Ensure the type implements the Projection interface and has a valid @DbTable annotation.".formatted(type.getName()));
-                }
-                return method.invoke(projectionRepository, args);
-            }
-            throw new UnsupportedOperationException("Unsupported repository method '%s' for type %s. This method is not available for the repository type associated with this class.".formatted(method.getName(), type.getName()));
-        } catch (InvocationTargetException e) {
-            var target = e.getTargetException();
-            if (target instanceof Exception ex) {
-                throw ex;
-            }
-            throw new PersistenceException("Repository method invocation failed for '%s' on type %s.".formatted(method.getName(), type.getName()), target);
-        } catch (Exception e) {
-            throw e;
-        } catch (Throwable t) {
-            throw new PersistenceException("Unexpected error invoking repository method '%s' on type %s.".formatted(method.getName(), type.getName()), t);
+    private static Invoker invoker(Method method,
+                                   Repository repository,
+                                   EntityRepository<?, ?> entityRepository,
+                                   ProjectionRepository<?, ?> projectionRepository,
+                                   Class<?> type) {
+        if (RepositoryDispatchTable.isObjectMethod(method)) {
+            String name = "%s@proxy".formatted(type.getName());
+            return switch (method.getName()) {
+                case "hashCode" -> (proxy, args) -> identityHashCode(proxy);
+                case "equals" -> (proxy, args) -> proxy == args[0];
+                default -> (proxy, args) -> name;
+            };
         }
+        Invoker invoker;
+        if (REFLECTION.isDefaultMethod(method)) {
+            invoker = (proxy, args) -> REFLECTION.execute(proxy, method, args);
+        } else if (method.getDeclaringClass().isAssignableFrom(Repository.class)) {
+            invoker = bind(method, repository);
+        } else if (EntityRepository.class.isAssignableFrom(method.getDeclaringClass())) {
+            invoker = entityRepository == null
+                    ? unsupported("EntityRepository not available for %s. Ensure the type implements the Entity interface and has a valid @DbTable annotation.".formatted(type.getName()))
+                    : bind(method, entityRepository);
+        } else if (ProjectionRepository.class.isAssignableFrom(method.getDeclaringClass())) {
+            invoker = projectionRepository == null
+                    ? unsupported("ProjectionRepository not available for %s. Ensure the type implements the Projection interface and has a valid @DbTable annotation.".formatted(type.getName()))
+                    : bind(method, projectionRepository);
+        } else {
+            invoker = unsupported("Unsupported repository method '%s' for type %s. This method is not available for the repository type associated with this class.".formatted(method.getName(), type.getName()));
+        }
+        return (proxy, args) -> {
+            try {
+                return invoker.invoke(proxy, args);
+            } catch (Exception e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new PersistenceException("Repository method invocation failed for '%s' on type %s.".formatted(method.getName(), type.getName()), t);
+            }
+        };
     }
 
-    private static String toShortSignature(@Nonnull Method method) {
-        var sb = new StringBuilder(method.getName()).append('(');
-        var params = method.getParameterTypes();
-        for (int i = 0; i < params.length; i++) {
-            if (i > 0) sb.append(", ");
-            sb.append(params[i].getSimpleName());
-        }
-        return sb.append(')').toString();
+    private static Invoker unsupported(String message) {
+        return (proxy, args) -> {
+            throw new UnsupportedOperationException(message);
+        };
     }
 
     private <T extends Entity<ID>, ID> Optional<EntityRepository<T, ID>> createEntityRepository(@Nonnull Class<?> type) {
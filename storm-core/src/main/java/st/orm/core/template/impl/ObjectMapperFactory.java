@@ -24,7 +24,6 @@ import static st.orm.core.template.impl.RecordValidation.validateDataType;
 import jakarta.annotation.Nonnull;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
 import java.util.BitSet;
 import java.util.Map;
@@ -107,81 +106,29 @@ public final class ObjectMapperFactory {
                 parameterTypes[i] = String.class;
             }
         }
+        @SuppressWarnings("unchecked")
+        var invoker = ConstructorInvoker.of((Constructor<T>) constructor);
         if (stringBuilders.isEmpty()) {
             return new ObjectMapper<>() {
                 @Override public Class<?>[] getParameterTypes() { return parameterTypes; }
 
-                @SuppressWarnings("unchecked") @Override public T newInstance(@Nonnull Object[] args) throws SqlTemplateException {
-                    return construct((Constructor<T>) constructor, args);
+                @Override public T newInstance(@Nonnull Object[] args) throws SqlTemplateException {
+                    return invoker.newInstance(args, 0);
                 }
             };
         }
         return new ObjectMapper<>() {
             @Override public Class<?>[] getParameterTypes() { return parameterTypes; }
 
-            @SuppressWarnings("unchecked") @Override public T newInstance(@Nonnull Object[] args) throws SqlTemplateException {
+            @Override public T newInstance(@Nonnull Object[] args) throws SqlTemplateException {
                 for (int i = stringBuilders.nextSetBit(0); i >= 0; i = stringBuilders.nextSetBit(i + 1)) {
                     args[i] = new StringBuilder(args[i].toString());
                 }
-                return construct((Constructor<T>) constructor, args);
+                return invoker.newInstance(args, 0);
             }
         };
     }
 
-    /**
-     * Constructs a new instance of the specified type using the specified constructor and arguments.
-     *
-     * @param constructor the constructor to use for creating the instance.
-     * @param args the arguments to pass to the constructor.
-     * @return a new instance of the specified type using the specified constructor and arguments.
-     * @param <T> the type of the instance to create.
-     * @throws SqlTemplateException if the instance could not be created.
-     */
-    private static <T> T construct(@Nonnull Constructor<T> constructor, @Nonnull Object[] args) throws SqlTemplateException {
-        return construct(constructor, args, 0);
-    }
-
-    /**
-     * Constructs a new instance of the specified type using the specified constructor and arguments.
-     *
-     * @param constructor the constructor to use for creating the instance.
-     * @param args the arguments to pass to the constructor.
-     * @param offset the parameter offset of the top-level input.
-     * @return a new instance of the specified type using the specified constructor and arguments.
-     * @param <T> the type of the instance to create.
-     * @throws SqlTemplateException if the instance could not be created.
-     */
-    static <T> T construct(@Nonnull Constructor<T> constructor, @Nonnull Object[] args, int offset) throws SqlTemplateException {
-        try {
-            Class<?>[] parameterTypes = constructor.getParameterTypes();
-            Parameter[] parameters = constructor.getParameters();
-            for (int i = 0; i < parameterTypes.length; i++) {
-                Object arg = args[i];
-                Class<?> paramType = parameterTypes[i];
-                if (arg == null) {
-                    if (isNonnull(parameters[i])) {
-                        throw new SqlTemplateException("Database returned NULL for non-nullable field '%s.%s' at column position %d. Either %s, ensure the column has a NOT NULL constraint with a default value, or verify the query returns the expected data."
-                                .formatted(constructor.getDeclaringClass().getSimpleName(), parameters[i].getName(), offset + i + 1, nullableHint(constructor.getDeclaringClass())));
-                    }
-                    if (paramType.isPrimitive()) {
-                        throw new SqlTemplateException("Database returned NULL for primitive field '%s.%s' at column position %d. Primitive types cannot hold null values. Change the field type to its wrapper class (e.g., int to Integer) and %s, or ensure the column is NOT NULL."
-                                .formatted(constructor.getDeclaringClass().getSimpleName(), parameters[i].getName(), offset + i + 1, nullableHint(constructor.getDeclaringClass())));
-                    }
-                }
-            }
-            constructor.setAccessible(true);
-            try {
-                return constructor.newInstance(args);
-            } catch (InvocationTargetException e) {
-                throw e.getTargetException();
-            }
-        } catch (SqlTemplateException e) {
-            throw e;
-        } catch (Throwable t) {
-            throw new SqlTemplateException("Failed to create a new instance of %s.".formatted(constructor.getDeclaringClass().getSimpleName()), t);
-        }
-    }
-
     @SuppressWarnings("unchecked")
     private static final Class<? extends Annotation> KOTLIN_METADATA = ((Supplier<Class<? extends Annotation>>) () -> {
         try {
@@ -49,8 +49,9 @@ final class PreparedQueryImpl extends QueryImpl implements PreparedQuery {
                              int defaultFetchSize,
                              boolean streamOnlyFetchSize,
                              boolean streamingRequiresTransaction,
+                             @Nonnull MonitoredResource monitor,
                              @Nonnull Function<Throwable, PersistenceException> exceptionTransformer) {
-        super(refFactory, ignore -> statement, bindVarsHandle, affectedType, versionAware, managed, false, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, exceptionTransformer);
+        super(refFactory, ignore -> statement, bindVarsHandle, affectedType, versionAware, managed, false, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, monitor, exceptionTransformer);
         this.refFactory = refFactory;
         this.statement = statement;
         this.bindVarsHandle = bindVarsHandle;
@@ -101,11 +102,12 @@ final class PreparedQueryImpl extends QueryImpl implements PreparedQuery {
                 int columnCount = resultSet.getMetaData().getColumnCount();
                 var mapper = getObjectMapper(columnCount, type, refFactory)
                         .orElseThrow(() -> new PersistenceException("No suitable constructor found for %s.".formatted(type.getName())));
+                var reader = rowReader(resultSet, columnCount, mapper);
                 close = false;
-                return MonitoredResource.wrap(
-                        generate(() -> readNext(resultSet, columnCount, mapper))
-                                .takeWhile(Objects::nonNull)
-                                .onClose(() -> close(resultSet, statement)));
+                return monitor().wrap(
+                        generate(reader)
+                                .takeWhile(Objects::nonNull),
+                        () -> close(resultSet, statement));
             } finally {
                 if (close) {
                     resultSet.close();
@@ -25,8 +25,6 @@ import static st.orm.core.template.impl.RecordValidation.validate;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Connection;
@@ -60,9 +58,11 @@ import st.orm.core.spi.RefFactory;
 import st.orm.core.spi.RefFactoryImpl;
 import st.orm.core.spi.TransactionContext;
 import st.orm.core.spi.TransactionTemplate;
+import st.orm.core.template.ArrayParameter;
 import st.orm.core.template.ORMTemplate;
 import st.orm.core.template.PreparedStatementTemplate;
 import st.orm.core.template.Query;
+import st.orm.core.template.QueryTemplate.ConnectionCallback;
 import st.orm.core.template.Sql;
 import st.orm.core.template.SqlDialect;
 import st.orm.core.template.SqlTemplate;
@@ -73,6 +73,7 @@ import st.orm.core.template.SqlTemplate.PositionalParameter;
 import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TableAliasResolver;
 import st.orm.core.template.TemplateString;
+import st.orm.core.template.impl.BindVarsImpl.BatchBinder;
 import st.orm.mapping.ColumnNameResolver;
 import st.orm.mapping.ForeignKeyResolver;
 import st.orm.mapping.TableNameResolver;
@@ -87,6 +88,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
 
     private final TemplateProcessor templateProcessor;
     private final @Nullable DataSource dataSource;
+    private final @Nullable Connection connection;
     private final ModelBuilder modelBuilder;
     private final TableAliasResolver tableAliasResolver;
     private final Predicate<Provider> providerFilter;
@@ -94,6 +96,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
     private final TransactionTemplate transactionTemplate;
     private final SqlTemplate sqlTemplate;
     private final StormConfig config;
+    private final MonitoredResource monitor;
 
     public PreparedStatementTemplateImpl(@Nonnull DataSource dataSource) {
         this(dataSource, StormConfig.defaults());
@@ -108,7 +111,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
     private PreparedStatementTemplateImpl(@Nonnull TransactionTemplate transactionTemplate,
                                           @Nonnull DataSource dataSource,
                                           @Nonnull StormConfig config) {
-        this(createDataSourceProcessor(dataSource, transactionTemplate, getSqlDialect(config)), dataSource,
+        this(createDataSourceProcessor(dataSource, transactionTemplate, getSqlDialect(config), getStatementCacheSize(config)), dataSource, null,
                 ModelBuilder.newInstance(), TableAliasResolver.DEFAULT, null, transactionTemplate, config);
     }
 
@@ -123,12 +126,13 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
     private PreparedStatementTemplateImpl(@Nonnull TransactionTemplate transactionTemplate,
                                           @Nonnull Connection connection,
                                           @Nonnull StormConfig config) {
-        this(createConnectionProcessor(connection, transactionTemplate, getSqlDialect(config)), null,
+        this(createConnectionProcessor(connection, transactionTemplate, getSqlDialect(config)), null, connection,
                 ModelBuilder.newInstance(), TableAliasResolver.DEFAULT, null, transactionTemplate, config);
     }
 
     private PreparedStatementTemplateImpl(@Nonnull TemplateProcessor templateProcessor,
                                           @Nullable DataSource dataSource,
+                                          @Nullable Connection connection,
                                           @Nonnull ModelBuilder modelBuilder,
                                           @Nonnull TableAliasResolver tableAliasResolver,
                                           @Nullable Predicate<Provider> providerFilter,
@@ -137,18 +141,26 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
         validate(config);
         this.templateProcessor = templateProcessor;
         this.dataSource = dataSource;
+        this.connection = connection;
         this.modelBuilder = modelBuilder;
         this.tableAliasResolver = tableAliasResolver;
         this.providerFilter = providerFilter;
         this.refFactory = new RefFactoryImpl(this, modelBuilder, providerFilter);
         this.transactionTemplate = transactionTemplate;
         this.config = config;
+        this.monitor = MonitoredResource.of(config);
         this.sqlTemplate = createSqlTemplate();
     }
 
+    private static int getStatementCacheSize(@Nonnull StormConfig config) {
+        return Math.max(0, Integer.parseInt(config.getProperty("storm.statement_cache.size", "0")));
+    }
+
     private static TemplateProcessor createDataSourceProcessor(@Nonnull DataSource dataSource,
                                                                 @Nonnull TransactionTemplate transactionTemplate,
-                                                                @Nonnull SqlDialect dialect) {
+                                                                @Nonnull SqlDialect dialect,
+                                                                int statementCacheSize) {
+        var statementCaches = statementCacheSize > 0 ? new StatementCache.Registry(statementCacheSize) : null;
         return (sql, unsafe) -> {
             if (!unsafe) {
                 sql.unsafeWarning().ifPresent(warning -> {
@@ -162,17 +174,18 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
             var transactionContext = transactionTemplate.currentContext().orElse(null);
             Connection connection = getConnection(dataSource, transactionContext);
             PreparedStatement preparedStatement = null;
+            StatementCache.Lease lease = null;
             boolean success = false;
             try {
-                if (!generatedKeys.isEmpty()) {
-                    try {
-                        //noinspection SqlSourceToSinkFlow
-                        preparedStatement = connection.prepareStatement(statement, generatedKeys.toArray(new String[0]));
-                    } catch (SQLFeatureNotSupportedException ignore) {}
-                }
-                if (preparedStatement == null) {
-                    //noinspection SqlSourceToSinkFlow
-                    preparedStatement = connection.prepareStatement(statement);
+                var statementCache = statementCaches != null && transactionContext != null
+                        ? statementCaches.of(transactionContext, connection)
+                        : null;
+                if (statementCache != null) {
+                    // The connection is held for the duration of the transaction, so its statements can be reused.
+                    lease = statementCache.lease(statement, generatedKeys, () -> prepareStatement(connection, statement, generatedKeys));
+                    preparedStatement = lease.statement();
+                } else {
+                    preparedStatement = prepareStatement(connection, statement, generatedKeys);
                 }
                 if (transactionContext != null) {
                     preparedStatement = transactionContext.getDecorator(PreparedStatement.class)
@@ -183,6 +196,8 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
                 }
                 if (bindVariables == null) {
                     setParameters(preparedStatement, parameters, dialect);
+                } else if (bindVariables instanceof BindVarsImpl vars) {
+                    vars.setBatchBinder(getBatchBinder(preparedStatement, parameters, dialect));
                 } else {
                     bindVariables.setBatchListener(getBatchListener(preparedStatement, parameters, dialect));
                 }
@@ -197,10 +212,23 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
                     releaseConnection(connection, dataSource, transactionContext);
                 }
             }
-            return createProxy(preparedStatement, connection, dataSource, transactionContext);
+            return new ConnectionReleasingPreparedStatement(preparedStatement, connection, dataSource, transactionContext, lease);
         };
     }
 
+    private static PreparedStatement prepareStatement(@Nonnull Connection connection,
+                                                      @Nonnull String statement,
+                                                      @Nonnull List<String> generatedKeys) throws SQLException {
+        if (!generatedKeys.isEmpty()) {
+            try {
+                //noinspection SqlSourceToSinkFlow
+                return connection.prepareStatement(statement, generatedKeys.toArray(new String[0]));
+            } catch (SQLFeatureNotSupportedException ignore) {}
+        }
+        //noinspection SqlSourceToSinkFlow
+        return connection.prepareStatement(statement);
+    }
+
     private static TemplateProcessor createConnectionProcessor(@Nonnull Connection connection,
                                                                 @Nonnull TransactionTemplate transactionTemplate,
                                                                 @Nonnull SqlDialect dialect) {
@@ -217,16 +245,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
             PreparedStatement preparedStatement = null;
             boolean success = false;
             try {
-                if (!generatedKeys.isEmpty()) {
-                    try {
-                        //noinspection SqlSourceToSinkFlow
-                        preparedStatement = connection.prepareStatement(statement, generatedKeys.toArray(new String[0]));
-                    } catch (SQLFeatureNotSupportedException ignore) {}
-                }
-                if (preparedStatement == null) {
-                    //noinspection SqlSourceToSinkFlow
-                    preparedStatement = connection.prepareStatement(statement);
-                }
+                preparedStatement = prepareStatement(connection, statement, generatedKeys);
                 var transactionContext = transactionTemplate.currentContext().orElse(null);
                 if (transactionContext != null) {
                     preparedStatement = transactionContext.getDecorator(PreparedStatement.class)
@@ -237,6 +256,8 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
                 }
                 if (bindVariables == null) {
                     setParameters(preparedStatement, parameters, dialect);
+                } else if (bindVariables instanceof BindVarsImpl vars) {
+                    vars.setBatchBinder(getBatchBinder(preparedStatement, parameters, dialect));
                 } else {
                     bindVariables.setBatchListener(getBatchListener(preparedStatement, parameters, dialect));
                 }
@@ -272,7 +293,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
      */
     @Override
     public PreparedStatementTemplateImpl withTableNameResolver(@Nullable TableNameResolver tableNameResolver) {
-        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, modelBuilder.tableNameResolver(tableNameResolver), tableAliasResolver, providerFilter, transactionTemplate, config);
+        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, connection, modelBuilder.tableNameResolver(tableNameResolver), tableAliasResolver, providerFilter, transactionTemplate, config);
     }
 
     /**
@@ -283,7 +304,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
      */
     @Override
     public PreparedStatementTemplateImpl withColumnNameResolver(@Nullable ColumnNameResolver columnNameResolver) {
-        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, modelBuilder.columnNameResolver(columnNameResolver), tableAliasResolver, providerFilter, transactionTemplate, config);
+        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, connection, modelBuilder.columnNameResolver(columnNameResolver), tableAliasResolver, providerFilter, transactionTemplate, config);
     }
 
     /**
@@ -294,7 +315,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
      */
     @Override
     public PreparedStatementTemplateImpl withForeignKeyResolver(@Nullable ForeignKeyResolver foreignKeyResolver) {
-        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, modelBuilder.foreignKeyResolver(foreignKeyResolver), tableAliasResolver, providerFilter, transactionTemplate, config);
+        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, connection, modelBuilder.foreignKeyResolver(foreignKeyResolver), tableAliasResolver, providerFilter, transactionTemplate, config);
     }
 
     /**
@@ -305,7 +326,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
      */
     @Override
     public PreparedStatementTemplate withTableAliasResolver(@Nonnull TableAliasResolver tableAliasResolver) {
-        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, modelBuilder, tableAliasResolver, providerFilter, transactionTemplate, config);
+        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, connection, modelBuilder, tableAliasResolver, providerFilter, transactionTemplate, config);
     }
 
     /**
@@ -316,7 +337,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
      */
     @Override
     public PreparedStatementTemplateImpl withProviderFilter(@Nullable Predicate<Provider> providerFilter) {
-        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, modelBuilder, tableAliasResolver, providerFilter, transactionTemplate, config);
+        return new PreparedStatementTemplateImpl(templateProcessor, dataSource, connection, modelBuilder, tableAliasResolver, providerFilter, transactionTemplate, config);
     }
 
     /**
@@ -344,6 +365,32 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
         };
     }
 
+    private static BatchBinder getBatchBinder(@Nonnull PreparedStatement preparedStatement,
+                                              @Nonnull List<Parameter> parameters,
+                                              @Nonnull SqlDialect dialect) {
+        var calendarSupplier = lazy(() -> Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+        return new BatchBinder() {
+            @Override
+            public void set(int position, @Nullable Object value) {
+                try {
+                    setParameter(preparedStatement, position, value, calendarSupplier, dialect);
+                } catch (SQLException e) {
+                    throw new PersistenceException(e);
+                }
+            }
+
+            @Override
+            public void addBatch() {
+                try {
+                    setParameters(preparedStatement, parameters, calendarSupplier, dialect);
+                    preparedStatement.addBatch();
+                } catch (SQLException e) {
+                    throw new PersistenceException(e);
+                }
+            }
+        };
+    }
+
     private static void setParameters(@Nonnull PreparedStatement preparedStatement,
                                       @Nonnull List<? extends Parameter> parameters,
                                       @Nonnull SqlDialect dialect) throws SQLException {
@@ -357,46 +404,52 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
                                       @Nonnull SqlDialect dialect) throws SQLException {
         for (var parameter : parameters) {
             switch (parameter) {
-                case PositionalParameter p -> {
-                    final int idx = p.position();
-                    final Object v = p.dbValue();
-                    switch (v) {
-                        case null              -> preparedStatement.setObject(idx, null);
-                        case Short s           -> preparedStatement.setShort(idx, s);
-                        case Integer i         -> preparedStatement.setInt(idx, i);
-                        case Long l            -> preparedStatement.setLong(idx, l);
-                        case Float f           -> preparedStatement.setFloat(idx, f);
-                        case Double d          -> preparedStatement.setDouble(idx, d);
-                        case Byte b            -> preparedStatement.setByte(idx, b);
-                        case Boolean b         -> preparedStatement.setBoolean(idx, b);
-                        case String s          -> preparedStatement.setString(idx, s);
-                        case BigDecimal bd     -> preparedStatement.setBigDecimal(idx, bd);
-                        case ByteBuffer buf -> {
-                            byte[] bytes = new byte[buf.remaining()];
-                            buf.duplicate().get(bytes);
-                            preparedStatement.setBytes(idx, bytes);
-                        }
-                        case java.sql.Date d   -> preparedStatement.setDate(idx, d);
-                        case Time t            -> preparedStatement.setTime(idx, t);
-                        case Timestamp ts      -> preparedStatement.setTimestamp(idx, ts, calendarSupplier.get());
-                        case UUID u            -> dialect.setParameter(preparedStatement, idx, u);
-                        case Enum<?> e         -> preparedStatement.setString(idx, e.name());   // Enum handled by ORM layer.
-                        // java.time using vendor-safe approach.
-                        case LocalDate ld      -> preparedStatement.setDate(idx, java.sql.Date.valueOf(ld));
-                        case LocalTime lt      -> preparedStatement.setTime(idx, java.sql.Time.valueOf(lt));
-                        case LocalDateTime ldt -> preparedStatement.setTimestamp(idx, Timestamp.valueOf(ldt));
-                        case OffsetDateTime odt-> preparedStatement.setTimestamp(idx, Timestamp.from(odt.toInstant()), calendarSupplier.get());
-                        case ZonedDateTime zdt -> preparedStatement.setTimestamp(idx, Timestamp.from(zdt.toInstant()), calendarSupplier.get());
-                        case Instant inst      -> preparedStatement.setTimestamp(idx, Timestamp.from(inst), calendarSupplier.get());
-                        default                -> preparedStatement.setObject(idx, v);
-                    }
-                }
+                case PositionalParameter p ->
+                        setParameter(preparedStatement, p.position(), p.dbValue(), calendarSupplier, dialect);
                 case NamedParameter ignored ->
                         throw new SQLException("Named parameters not supported for PreparedStatement.");
             }
         }
     }
 
+    private static void setParameter(@Nonnull PreparedStatement preparedStatement,
+                                     int idx,
+                                     @Nullable Object v,
+                                     @Nonnull Supplier<Calendar> calendarSupplier,
+                                     @Nonnull SqlDialect dialect) throws SQLException {
+        switch (v) {
+            case null              -> preparedStatement.setObject(idx, null);
+            case Short s           -> preparedStatement.setShort(idx, s);
+            case Integer i         -> preparedStatement.setInt(idx, i);
+            case Long l            -> preparedStatement.setLong(idx, l);
+            case Float f           -> preparedStatement.setFloat(idx, f);
+            case Double d          -> preparedStatement.setDouble(idx, d);
+            case Byte b            -> preparedStatement.setByte(idx, b);
+            case Boolean b         -> preparedStatement.setBoolean(idx, b);
+            case String s          -> preparedStatement.setString(idx, s);
+            case BigDecimal bd     -> preparedStatement.setBigDecimal(idx, bd);
+            case ByteBuffer buf -> {
+                byte[] bytes = new byte[buf.remaining()];
+                buf.duplicate().get(bytes);
+                preparedStatement.setBytes(idx, bytes);
+            }
+            case java.sql.Date d   -> preparedStatement.setDate(idx, d);
+            case Time t            -> preparedStatement.setTime(idx, t);
+            case Timestamp ts      -> preparedStatement.setTimestamp(idx, ts, calendarSupplier.get());
+            case UUID u            -> dialect.setParameter(preparedStatement, idx, u);
+            case ArrayParameter a  -> dialect.setParameter(preparedStatement, idx, a);
+            case Enum<?> e         -> preparedStatement.setString(idx, e.name());   // Enum handled by ORM layer.
+            // java.time using vendor-safe approach.
+            case LocalDate ld      -> preparedStatement.setDate(idx, java.sql.Date.valueOf(ld));
+            case LocalTime lt      -> preparedStatement.setTime(idx, java.sql.Time.valueOf(lt));
+            case LocalDateTime ldt -> preparedStatement.setTimestamp(idx, Timestamp.valueOf(ldt));
+            case OffsetDateTime odt-> preparedStatement.setTimestamp(idx, Timestamp.from(odt.toInstant()), calendarSupplier.get());
+            case ZonedDateTime zdt -> preparedStatement.setTimestamp(idx, Timestamp.from(zdt.toInstant()), calendarSupplier.get());
+            case Instant inst      -> preparedStatement.setTimestamp(idx, Timestamp.from(inst), calendarSupplier.get());
+            default                -> preparedStatement.setObject(idx, v);
+        }
+    }
+
     @FunctionalInterface
     interface SqlRunnable { void run() throws SQLException; }
 
@@ -420,6 +473,34 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
         return dataSource;
     }
 
+    /**
+     * Executes the specified callback with the connection of the current transaction.
+     *
+     * @param callback the callback to execute.
+     * @return the result of the callback.
+     * @param <T> the result type.
+     * @throws PersistenceException if the callback fails.
+     * @since 1.11
+     */
+    @Override
+    public <T> T withConnection(@Nonnull ConnectionCallback<T> callback) {
+        try {
+            if (connection != null) {
+                return callback.doInConnection(connection);
+            }
+            assert dataSource != null;
+            var transactionContext = transactionTemplate.currentContext().orElse(null);
+            Connection transactionConnection = getConnection(dataSource, transactionContext);
+            try {
+                return callback.doInConnection(transactionConnection);
+            } finally {
+                releaseConnection(transactionConnection, dataSource, transactionContext);
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
     /**
      * Get the SQL template used by this factory.
      *
@@ -455,37 +536,6 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
         return config;
     }
 
-    /**
-     * Creates a proxy for the PreparedStatement that closes the connection when the PreparedStatement is closed.
-     *
-     * @param statement the PreparedStatement to create a proxy for.
-     * @param connection the connection to close when the PreparedStatement is closed.
-     * @return a proxy for the PreparedStatement that closes the connection when the PreparedStatement is closed.
-     */
-    private static PreparedStatement createProxy(@Nonnull PreparedStatement statement, @Nonnull Connection connection, @Nonnull DataSource dataSource, @Nullable TransactionContext context) {
-        return (PreparedStatement) Proxy.newProxyInstance(
-                PreparedStatement.class.getClassLoader(),
-                new Class<?>[] { PreparedStatement.class },
-                (ignore, method, args) -> {
-                    // Check if the close method is being called on the PreparedStatement.
-                    if (method.getName().equals("close")) {
-                        try {
-                            statement.close();
-                        } finally {
-                            releaseConnection(connection, dataSource, context);
-                        }
-                        return null;
-                    }
-                    try {
-                        // For other methods, just invoke the method on the actual PreparedStatement.
-                        return method.invoke(statement, args);
-                    } catch (InvocationTargetException e) {
-                        throw e.getTargetException();
-                    }
-                }
-        );
-    }
-
     /**
      * Create a new query for the specified {@code template}.
      *
@@ -507,7 +557,7 @@ public final class PreparedStatementTemplateImpl implements PreparedStatementTem
                 } catch (SQLException e) {
                     throw new PersistenceException(e);
                 }
-            }, bindVariables == null ? null : bindVariables.getHandle(), sql.affectedType().orElse(null), sql.versionAware(), false, false, dialect.defaultFetchSize(), dialect.streamOnlyFetchSize(), dialect.streamingRequiresTransaction(), getExceptionTransformer(sql));
+            }, bindVariables == null ? null : bindVariables.getHandle(), sql.affectedType().orElse(null), sql.versionAware(), false, false, dialect.defaultFetchSize(), dialect.streamOnlyFetchSize(), dialect.streamingRequiresTransaction(), monitor, getExceptionTransformer(sql));
         } catch (SqlTemplateException e) {
             throw new PersistenceException(e);
         }
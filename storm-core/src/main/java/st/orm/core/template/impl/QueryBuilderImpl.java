@@ -36,8 +36,10 @@ import st.orm.Metamodel;
 import st.orm.Operator;
 import st.orm.PersistenceException;
 import st.orm.Ref;
+import st.orm.core.spi.Providers;
 import st.orm.core.template.JoinBuilder;
 import st.orm.core.template.Model;
+import st.orm.core.template.ORMTemplate;
 import st.orm.core.template.PredicateBuilder;
 import st.orm.core.template.QueryBuilder;
 import st.orm.core.template.QueryTemplate;
@@ -104,6 +106,20 @@ abstract class QueryBuilderImpl<T extends Data, R, ID> extends QueryBuilder<T, R
         return fromType;
     }
 
+    /**
+     * Returns whether windows may be prefetched on another thread, which requires a template that supports concurrent
+     * queries and no active transaction.
+     *
+     * @return {@code true} if windows may be prefetched, {@code false} otherwise.
+     * @since 1.11
+     */
+    @Override
+    protected boolean supportsPrefetch() {
+        return queryTemplate instanceof ORMTemplate template
+                && template.supportsConcurrentQueries()
+                && Providers.getTransactionTemplate().currentContext().isEmpty();
+    }
+
     /**
      * Returns a typed query builder for the specified primary key type.
      *
@@ -23,35 +23,26 @@ import static st.orm.core.template.impl.ObjectMapperFactory.getObjectMapper;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.math.BigDecimal;
-import java.nio.ByteBuffer;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Time;
-import java.sql.Timestamp;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TimeZone;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import st.orm.ColumnBatch;
 import st.orm.Data;
 import st.orm.Entity;
 import st.orm.PersistenceException;
 import st.orm.Ref;
 import st.orm.core.spi.Providers;
 import st.orm.core.spi.RefFactory;
+import st.orm.core.spi.SharedEntityCache;
 import st.orm.core.spi.TransactionTemplate;
 import st.orm.core.spi.WeakInterner;
 import st.orm.core.template.PreparedQuery;
@@ -72,6 +63,7 @@ class QueryImpl implements Query {
     private final int defaultFetchSize;
     private final boolean streamOnlyFetchSize;
     private final boolean streamingRequiresTransaction;
+    private final MonitoredResource monitor;
     private final Function<Throwable, PersistenceException> exceptionTransformer;
 
     QueryImpl(@Nonnull RefFactory refFactory,
@@ -79,7 +71,7 @@ class QueryImpl implements Query {
               @Nullable BindVarsHandle bindVarsHandle,
               boolean versionAware,
               @Nonnull Function<Throwable, PersistenceException> exceptionTransformer) {
-        this(refFactory, statement, bindVarsHandle, null, versionAware, false, false, 0, false, false, exceptionTransformer);
+        this(refFactory, statement, bindVarsHandle, null, versionAware, false, false, 0, false, false, MonitoredResource.DEFAULT, exceptionTransformer);
     }
 
     QueryImpl(@Nonnull RefFactory refFactory,
@@ -88,7 +80,7 @@ class QueryImpl implements Query {
               boolean versionAware,
               boolean unsafe,
               @Nonnull Function<Throwable, PersistenceException> exceptionTransformer) {
-        this(refFactory, statement, bindVarsHandle, null, versionAware, false, unsafe, 0, false, false, exceptionTransformer);
+        this(refFactory, statement, bindVarsHandle, null, versionAware, false, unsafe, 0, false, false, MonitoredResource.DEFAULT, exceptionTransformer);
     }
 
     QueryImpl(@Nonnull RefFactory refFactory,
@@ -98,7 +90,7 @@ class QueryImpl implements Query {
               boolean versionAware,
               boolean unsafe,
               @Nonnull Function<Throwable, PersistenceException> exceptionTransformer) {
-        this(refFactory, statement, bindVarsHandle, affectedType, versionAware, false, unsafe, 0, false, false, exceptionTransformer);
+        this(refFactory, statement, bindVarsHandle, affectedType, versionAware, false, unsafe, 0, false, false, MonitoredResource.DEFAULT, exceptionTransformer);
     }
 
     QueryImpl(@Nonnull RefFactory refFactory,
@@ -109,7 +101,7 @@ class QueryImpl implements Query {
               boolean managed,
               boolean unsafe,
               @Nonnull Function<Throwable, PersistenceException> exceptionTransformer) {
-        this(refFactory, statement, bindVarsHandle, affectedType, versionAware, managed, unsafe, 0, false, false, exceptionTransformer);
+        this(refFactory, statement, bindVarsHandle, affectedType, versionAware, managed, unsafe, 0, false, false, MonitoredResource.DEFAULT, exceptionTransformer);
     }
 
     QueryImpl(@Nonnull RefFactory refFactory,
@@ -122,6 +114,7 @@ class QueryImpl implements Query {
               int defaultFetchSize,
               boolean streamOnlyFetchSize,
               boolean streamingRequiresTransaction,
+              @Nonnull MonitoredResource monitor,
               @Nonnull Function<Throwable, PersistenceException> exceptionTransformer) {
         this.refFactory = refFactory;
         this.statement = statement;
@@ -133,6 +126,7 @@ class QueryImpl implements Query {
         this.defaultFetchSize = defaultFetchSize;
         this.streamOnlyFetchSize = streamOnlyFetchSize;
         this.streamingRequiresTransaction = streamingRequiresTransaction;
+        this.monitor = monitor;
         this.exceptionTransformer = exceptionTransformer;
     }
 
@@ -150,7 +144,7 @@ class QueryImpl implements Query {
      */
     @Override
     public PreparedQuery prepare() {
-        return MonitoredResource.wrap(new PreparedQueryImpl(refFactory, statement.apply(unsafe), bindVarsHandle, affectedType, versionAware, managed, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, exceptionTransformer));
+        return monitor.wrap(new PreparedQueryImpl(refFactory, statement.apply(unsafe), bindVarsHandle, affectedType, versionAware, managed, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, monitor, exceptionTransformer));
     }
 
     /**
@@ -161,7 +155,7 @@ class QueryImpl implements Query {
      */
     @Override
     public Query managed() {
-        return new QueryImpl(refFactory, statement, bindVarsHandle, affectedType, versionAware, true, unsafe, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, exceptionTransformer);
+        return new QueryImpl(refFactory, statement, bindVarsHandle, affectedType, versionAware, true, unsafe, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, monitor, exceptionTransformer);
     }
 
     /**
@@ -172,11 +166,18 @@ class QueryImpl implements Query {
      */
     @Override
     public Query unsafe() {
-        return new QueryImpl(refFactory, statement, bindVarsHandle, affectedType, versionAware, managed, true, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, exceptionTransformer);
+        return new QueryImpl(refFactory, statement, bindVarsHandle, affectedType, versionAware, managed, true, defaultFetchSize, streamOnlyFetchSize, streamingRequiresTransaction, monitor, exceptionTransformer);
     }
 
     private QueryImpl withoutFetchSize() {
-        return new QueryImpl(refFactory, statement, bindVarsHandle, affectedType, versionAware, managed, unsafe, 0, false, false, exceptionTransformer);
+        return new QueryImpl(refFactory, statement, bindVarsHandle, affectedType, versionAware, managed, unsafe, 0, false, false, monitor, exceptionTransformer);
+    }
+
+    /**
+     * Returns the monitor that tracks whether the streams of this query are closed.
+     */
+    MonitoredResource monitor() {
+        return monitor;
     }
 
     private PreparedStatement getStatement() {
@@ -256,7 +257,7 @@ class QueryImpl implements Query {
                 try {
                     int columnCount = resultSet.getMetaData().getColumnCount();
                     close = false;
-                    return MonitoredResource.wrap(
+                    return monitor.wrap(
                             generate(() -> {
                                 try {
                                     return readNext(resultSet, columnCount);
@@ -264,8 +265,8 @@ class QueryImpl implements Query {
                                     throw exceptionTransformer.apply(e);
                                 }
                             })
-                                    .takeWhile(Objects::nonNull)
-                                    .onClose(() -> close(resultSet, statement, streamingCleanup)));
+                                    .takeWhile(Objects::nonNull),
+                            () -> close(resultSet, statement, streamingCleanup));
                 } finally {
                     if (close) {
                         resultSet.close();
@@ -312,17 +313,75 @@ class QueryImpl implements Query {
                 int columnCount = resultSet.getMetaData().getColumnCount();
                 var mapper = getObjectMapper(columnCount, type, refFactory)
                         .orElseThrow(() -> new SqlTemplateException("No suitable constructor found for %s.".formatted(type.getName())));
+                var reader = rowReader(resultSet, columnCount, mapper);
+                close = false;
+                return monitor.wrap(
+                        generate(() -> {
+                            try {
+                                return reader.get();
+                            } catch (Exception e) {
+                                throw exceptionTransformer.apply(e);
+                            }
+                        })
+                                .takeWhile(Objects::nonNull),
+                        () -> close(resultSet, statement, streamingCleanup));
+            } finally {
+                if (close && closeStatement()) {
+                    statement.close();
+                }
+            }
+        } catch (Exception e) {
+            throw exceptionTransformer.apply(e);
+        }
+    }
+
+    /**
+     * Execute a SELECT query and return the resulting rows as a stream of column batches.
+     *
+     * <p>The columns of each batch follow the flattened column structure of the specified {@code type}, as used when
+     * the rows are mapped to instances of that type. The rows are not mapped, however: integral, boolean and
+     * floating-point columns are read into primitive arrays, and SQL {@code NULL} values are tracked in a bitmap per
+     * column.</p>
+     *
+     * <p><strong>Note:</strong> Calling this method does trigger the execution of the underlying query, so it should
+     * only be invoked when the query is intended to run. Since the stream holds resources open while in use, it must be
+     * closed after usage to prevent resource leaks. As the stream is {@code AutoCloseable}, it is recommended to use it
+     * within a {@code try-with-resources} block.</p>
+     *
+     * @param type the type that determines the columns of the batches.
+     * @param batchSize the maximum number of rows per batch.
+     * @return a stream of column batches.
+     * @throws PersistenceException if the query operation fails due to underlying database issues, such as
+     *                              connectivity.
+     * @since 1.11
+     */
+    @Override
+    public Stream<ColumnBatch> getColumnBatches(@Nonnull Class<?> type, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive.");
+        }
+        PreparedStatement statement = getStatement();
+        boolean close = true;
+        try {
+            try {
+                applyFetchSize(statement);
+                Runnable streamingCleanup = configureStreamingTransaction(statement);
+                ResultSet resultSet = statement.executeQuery();
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                var mapper = getObjectMapper(columnCount, type, refFactory)
+                        .orElseThrow(() -> new SqlTemplateException("No suitable constructor found for %s.".formatted(type.getName())));
+                var reader = new ColumnBatchReader(resultSet, mapper.getParameterTypes(), batchSize);
                 close = false;
-                return MonitoredResource.wrap(
+                return monitor.wrap(
                         generate(() -> {
                             try {
-                                return readNext(resultSet, columnCount, mapper);
+                                return reader.next();
                             } catch (Exception e) {
                                 throw exceptionTransformer.apply(e);
                             }
                         })
-                                .takeWhile(Objects::nonNull)
-                                .onClose(() -> close(resultSet, statement, streamingCleanup)));
+                                .takeWhile(Objects::nonNull),
+                        () -> close(resultSet, statement, streamingCleanup));
             } finally {
                 if (close && closeStatement()) {
                     statement.close();
@@ -438,6 +497,17 @@ class QueryImpl implements Query {
         }
     }
 
+    /**
+     * Returns the fetch size hint that is applied when the results of this query are streamed.
+     *
+     * @return the fetch size hint, or {@code 0} if the driver default is used.
+     * @since 1.11
+     */
+    @Override
+    public int getFetchSize() {
+        return defaultFetchSize;
+    }
+
     /**
      * Returns true if the query is version aware, false otherwise.
      *
@@ -478,13 +548,18 @@ class QueryImpl implements Query {
      * <p>If the affected type is known, only the cache for that type is cleared. If the affected type is unknown
      * (e.g., for raw SQL mutations), all entity caches are cleared to ensure dirty checking does not rely on stale
      * observed state.</p>
+     *
+     * <p>The shared caches of {@link st.orm.Cacheable} entities are always invalidated, also for managed queries, as
+     * they are not tied to the transaction of the caller.</p>
      */
     @SuppressWarnings("unchecked")
     private void invalidateAffectedEntityCaches() {
+        var context = TRANSACTION_TEMPLATE.currentContext();
+        SharedEntityCache.invalidate(refFactory.sharedCacheScope(), affectedType, context.orElse(null));
         if (managed) {
             return;  // Caller is managing cache.
         }
-        TRANSACTION_TEMPLATE.currentContext().ifPresent(ctx -> {
+        context.ifPresent(ctx -> {
             if (affectedType == null) {
                 // Unknown affected type: clear all caches to avoid stale observed state.
                 ctx.clearAllEntityCaches();
@@ -545,24 +620,50 @@ class QueryImpl implements Query {
         }
     }
 
+    /**
+     * Returns a reader that maps the rows of the ResultSet to instances using the specified mapper.
+     *
+     * <p>The column readers are resolved once from the parameter types of the mapper and reused for all rows. A single
+     * UTC calendar is created on first use and shared by all rows of the ResultSet.</p>
+     *
+     * @param resultSet   result set to read from.
+     * @param columnCount number of columns in ResultSet.
+     * @param mapper      mapper to use for creating instances.
+     * @return a supplier that returns the next row from the ResultSet or null if no more rows are available.
+     * @throws SqlTemplateException if the parameter types of the mapper could not be determined.
+     * @since 1.11
+     */
+    protected <T> Supplier<T> rowReader(@Nonnull ResultSet resultSet, int columnCount, @Nonnull ObjectMapper<T> mapper)
+            throws SqlTemplateException {
+        ColumnReader[] readers = ColumnReader.plan(mapper.getParameterTypes());
+        Supplier<Calendar> utc = lazy(() -> Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+        return () -> readNext(resultSet, columnCount, readers, utc, mapper);
+    }
+
     /**
      * Reads the next row from the ResultSet or returns null if no more rows are available.
      *
      * @param resultSet   result set to read from.
      * @param columnCount number of columns in ResultSet.
+     * @param readers     column readers, one per column.
+     * @param utc         UTC calendar shared by all rows of the ResultSet.
      * @param mapper      mapper to use for creating instances.
      * @return the next row from the ResultSet or null if no more rows are available.
      */
-    protected <T> T readNext(@Nonnull ResultSet resultSet, int columnCount, @Nonnull ObjectMapper<T> mapper) {
+    private static <T> T readNext(
+            @Nonnull ResultSet resultSet,
+            int columnCount,
+            @Nonnull ColumnReader[] readers,
+            @Nonnull Supplier<Calendar> utc,
+            @Nonnull ObjectMapper<T> mapper
+    ) {
         try {
             if (!resultSet.next()) {
                 return null;
             }
             Object[] args = new Object[columnCount];
-            Class<?>[] types = mapper.getParameterTypes();
-            var calendarSupplier = lazy(() -> Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
             for (int i = 0; i < columnCount; i++) {
-                args[i] = readColumnValue(resultSet, i + 1, types[i], calendarSupplier);
+                args[i] = readers[i].read(resultSet, i + 1, utc);
             }
             return mapper.newInstance(args);
         } catch (SQLException e) {
@@ -570,77 +671,6 @@ class QueryImpl implements Query {
         }
     }
 
-    private static Object readColumnValue(
-            @Nonnull ResultSet rs,
-            int columnIndex,
-            @Nonnull Class<?> targetType,
-            @Nonnull Supplier<Calendar> calendarSupplier
-    ) throws SQLException {
-        Object value = switch (targetType) {
-            // Primitives & basics.
-            case Class<?> c when c == Short.TYPE || c == Short.class     -> rs.getShort(columnIndex);
-            case Class<?> c when c == Integer.TYPE || c == Integer.class -> rs.getInt(columnIndex);
-            case Class<?> c when c == Long.TYPE || c == Long.class       -> rs.getLong(columnIndex);
-            case Class<?> c when c == Float.TYPE || c == Float.class     -> rs.getFloat(columnIndex);
-            case Class<?> c when c == Double.TYPE || c == Double.class   -> rs.getDouble(columnIndex);
-            case Class<?> c when c == Byte.TYPE || c == Byte.class       -> rs.getByte(columnIndex);
-            case Class<?> c when c == Boolean.TYPE || c == Boolean.class -> rs.getBoolean(columnIndex);
-            case Class<?> c when c == String.class                       -> rs.getString(columnIndex);
-            case Class<?> c when c == BigDecimal.class                   -> rs.getBigDecimal(columnIndex);
-            case Class<?> c when c == ByteBuffer.class -> {
-                byte[] bytes = rs.getBytes(columnIndex);
-                yield bytes != null ? ByteBuffer.wrap(bytes).asReadOnlyBuffer() : null;
-            }
-            case Class<?> c when c == UUID.class -> {
-                Object obj = rs.getObject(columnIndex);
-                yield obj instanceof UUID u ? u : obj != null ? UUID.fromString(obj.toString()) : null;
-            }
-            case Class<?> c when c.isEnum()                              -> rs.getString(columnIndex); // Enum handled by mapper.
-            case Class<?> c when c == java.util.Date.class -> {
-                Timestamp ts = rs.getTimestamp(columnIndex, calendarSupplier.get());
-                yield ts != null ? new java.util.Date(ts.getTime()) : null;
-            }
-            case Class<?> c when c == Calendar.class -> {
-                Timestamp ts = rs.getTimestamp(columnIndex, calendarSupplier.get());
-                if (ts == null) yield null;
-                Calendar out = (Calendar) calendarSupplier.get().clone();
-                out.setTimeInMillis(ts.getTime());
-                yield out;
-            }
-            case Class<?> c when c == Timestamp.class     -> rs.getTimestamp(columnIndex, calendarSupplier.get());
-            case Class<?> c when c == java.sql.Date.class -> rs.getDate(columnIndex);
-            case Class<?> c when c == Time.class          -> rs.getTime(columnIndex);
-            // java.time using vendor-safe approach.
-            case Class<?> c when c == LocalDateTime.class -> {
-                Timestamp ts = rs.getTimestamp(columnIndex);
-                yield ts != null ? ts.toLocalDateTime() : null;
-            }
-            case Class<?> c when c == LocalDate.class -> {
-                java.sql.Date d = rs.getDate(columnIndex);
-                yield d != null ? d.toLocalDate() : null;
-            }
-            case Class<?> c when c == LocalTime.class -> {
-                Time t = rs.getTime(columnIndex);
-                yield t != null ? t.toLocalTime() : null;
-            }
-            case Class<?> c when c == Instant.class -> {
-                Timestamp ts = rs.getTimestamp(columnIndex, calendarSupplier.get());
-                yield ts != null ? ts.toInstant() : null;
-            }
-            case Class<?> c when c == OffsetDateTime.class -> {
-                Timestamp ts = rs.getTimestamp(columnIndex, calendarSupplier.get());
-                yield ts != null ? OffsetDateTime.ofInstant(ts.toInstant(), ZoneOffset.UTC) : null;
-            }
-            case Class<?> c when c == ZonedDateTime.class -> {
-                Timestamp ts = rs.getTimestamp(columnIndex, calendarSupplier.get());
-                yield ts != null ? ZonedDateTime.ofInstant(ts.toInstant(), ZoneOffset.UTC) : null;
-            }
-            default -> rs.getObject(columnIndex);
-        };
-        if (rs.wasNull()) return null;
-        return value;
-    }
-
     @Override
     public String toString() {
         var statement = getStatement();
@@ -44,6 +44,7 @@ import st.orm.Ref;
 import st.orm.SelectMode;
 import st.orm.core.spi.ORMReflection;
 import st.orm.core.spi.Providers;
+import st.orm.core.template.ArrayParameter;
 import st.orm.core.template.Column;
 import st.orm.core.template.Model;
 import st.orm.core.template.Query;
@@ -349,6 +350,12 @@ final class QueryModelImpl implements QueryModel {
                                            @Nonnull Operator operator,
                                            @Nonnull Object object,
                                            @Nonnull TemplateCompiler compiler) throws SqlTemplateException {
+        var arrayType = ArrayInSupport.arrayType(template, operator, object);
+        if (arrayType != null) {
+            var column = toFullyQualifiedColumn(getModel(metamodel).getSingleColumn(metamodel));
+            var parameter = compiler.mapParameter(toArrayParameter(metamodel, arrayType, object));
+            return compiler.dialect().arrayIn(operator, column, parameter);
+        }
         //noinspection DuplicatedCode
         Model<Data, ?> model = getModel(metamodel);
         List<SequencedMap<String, Object>> multiValues = new ArrayList<>();
@@ -419,6 +426,11 @@ final class QueryModelImpl implements QueryModel {
                                       @Nonnull Operator operator,
                                       @Nonnull Object object,
                                       @Nonnull TemplateBinder binder) throws SqlTemplateException {
+        var arrayType = ArrayInSupport.arrayType(template, operator, object);
+        if (arrayType != null) {
+            binder.bindParameter(toArrayParameter(metamodel, arrayType, object));
+            return;
+        }
         var model = getModel(metamodel);
         List<SequencedMap<String, Object>> multiValues = new ArrayList<>();
         for (var o : getObjectIterable(object)) {
@@ -455,6 +467,28 @@ final class QueryModelImpl implements QueryModel {
         }
     }
 
+    /**
+     * Collects the values of a single-column {@code IN} expression into one array parameter.
+     *
+     * @param metamodel the metamodel describing the target column.
+     * @param arrayType the SQL array type of the values.
+     * @param object the object providing the values.
+     * @return the array parameter.
+     * @throws SqlTemplateException if the values cannot be mapped to the column.
+     */
+    private ArrayParameter toArrayParameter(@Nonnull Metamodel<?, ?> metamodel,
+                                            @Nonnull String arrayType,
+                                            @Nonnull Object object) throws SqlTemplateException {
+        Model<Data, ?> model = getModel(metamodel);
+        List<Object> values = new ArrayList<>();
+        for (var o : getObjectIterable(object)) {
+            var derivedObject = o instanceof Ref<?> ref ? ref.id() : o;
+            //noinspection unchecked
+            model.forEachValue((Metamodel<Data, ?>) metamodel, derivedObject, (ignore, v) -> values.add(v));
+        }
+        return new ArrayParameter(arrayType, values);
+    }
+
     /**
      * Compiles a multi-column, multi-row value set into a dialect-specific SQL fragment.
      *
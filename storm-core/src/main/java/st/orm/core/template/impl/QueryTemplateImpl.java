@@ -73,6 +73,16 @@ class QueryTemplateImpl implements QueryTemplate {
         return queryFactory.createBindVars();
     }
 
+    @Override
+    public Object sharedCacheScope() {
+        return queryFactory.sharedCacheScope();
+    }
+
+    @Override
+    public <T> T withConnection(@Nonnull ConnectionCallback<T> callback) {
+        return queryFactory.withConnection(callback);
+    }
+
     /**
      * Creates a ref instance for the specified record {@code type} and {@code pk}. This method can be used to generate
      * ref instances for entities, projections and regular records.
@@ -38,7 +38,6 @@ import static st.orm.core.template.impl.RecordReflection.resolveConcreteType;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -82,6 +81,8 @@ import st.orm.mapping.RecordType;
  * <ul>
  *   <li>An {@link ArgumentPlan} containing {@link Step} instances for each constructor parameter</li>
  *   <li>Expanded parameter types reflecting the flattened JDBC column structure</li>
+ *   <li>A {@link ConstructorInvoker} that binds the canonical constructor to a method handle, or to the instantiator
+ *       generated by the metamodel processor if available</li>
  * </ul>
  *
  * <h2>Interning and Caching</h2>
@@ -364,8 +365,13 @@ final class RecordMapper {
      *
      * @param plan the compiled argument plan for adapting flat JDBC args to constructor args.
      * @param parameterTypes the expanded JDBC column types (flattened from nested records).
+     * @param pkInfo the primary key location for early cache lookups.
+     * @param invoker the invoker for the canonical constructor of the record type.
      */
-    private record Compiled(@Nonnull ArgumentPlan plan, @Nonnull Class<?>[] parameterTypes, @Nonnull PkInfo pkInfo) {}
+    private record Compiled(@Nonnull ArgumentPlan plan,
+                            @Nonnull Class<?>[] parameterTypes,
+                            @Nonnull PkInfo pkInfo,
+                            @Nonnull ConstructorInvoker<?> invoker) {}
 
     /** Global cache of compiled plans, keyed by record class. Thread-safe for concurrent access. */
     private static final ConcurrentMap<Class<?>, Compiled> COMPILED = new ConcurrentHashMap<>();
@@ -386,7 +392,8 @@ final class RecordMapper {
                     PkInfo pkInfo = Entity.class.isAssignableFrom(type.type())
                             ? calculatePkInfo(type)
                             : PkInfo.NONE;
-                    return new Compiled(compilePlan(type), expandParameterTypes(type, refFactory), pkInfo);
+                    return new Compiled(compilePlan(type), expandParameterTypes(type, refFactory), pkInfo,
+                            ConstructorInvoker.of(type));
                 } catch (SqlTemplateException e) {
                     throw new RuntimeException(e);
                 }
@@ -460,6 +467,8 @@ final class RecordMapper {
             entityCache = null;
         }
         PkInfo pkInfo = compiled.pkInfo();
+        @SuppressWarnings("unchecked")
+        ConstructorInvoker<T> invoker = (ConstructorInvoker<T>) compiled.invoker();
         return new ObjectMapper<>() {
             @Override
             public Class<?>[] getParameterTypes() {
@@ -487,7 +496,7 @@ final class RecordMapper {
                         .adapt(args, 0, false, refFactory, interner, transactionContext)
                         .constructorArgs();
                 // Don't intern top level records.
-                var record = ObjectMapperFactory.construct((Constructor<T>) type.constructor(), adaptedArgs, 0);
+                var record = invoker.newInstance(adaptedArgs, 0);
                 if (entityCache != null) {
                     // Intern for dirty tracking and/or identity preservation.
                     Entity<?> interned = entityCache.intern((Entity<?>) record);
@@ -526,7 +535,7 @@ final class RecordMapper {
                     }
                     pkArgs[i] = arg;
                 }
-                return ObjectMapperFactory.construct(pkInfo.constructor, pkArgs, pkStart);
+                return pkInfo.constructor.newInstance(pkArgs, pkStart);
             }
         };
     }
@@ -897,6 +906,7 @@ final class RecordMapper {
         private final ArgumentPlan subPlan;
         private final boolean subIsEntity;
         private final boolean subNeedsCache;
+        private final ConstructorInvoker<?> invoker;
 
         // Fields for early PK cache lookup optimization.
 
@@ -907,7 +917,7 @@ final class RecordMapper {
         /** Total columns this record consumes (for skipping on cache hit). */
         private final int totalColumnCount;
         /** Constructor for composite PKs (null for simple single-column PKs). */
-        private final Constructor<?> pkConstructor;
+        private final ConstructorInvoker<?> pkConstructor;
 
         private RecordStep(@Nonnull RecordField field,
                            @Nonnull RecordType subType,
@@ -915,12 +925,13 @@ final class RecordMapper {
                            int pkFlatOffset,
                            int pkColumnCount,
                            int totalColumnCount,
-                           @Nullable Constructor<?> pkConstructor) {
+                           @Nullable ConstructorInvoker<?> pkConstructor) {
             this.field = field;
             this.subType = subType;
             this.subPlan = subPlan;
             this.subIsEntity = Entity.class.isAssignableFrom(subType.type());
             this.subNeedsCache = getUpdateMode(subType, StormConfig.defaults()) != OFF;
+            this.invoker = ConstructorInvoker.of(subType);
             this.pkFlatOffset = pkFlatOffset;
             this.pkColumnCount = pkColumnCount;
             this.totalColumnCount = totalColumnCount;
@@ -1005,7 +1016,7 @@ final class RecordMapper {
                 return null;
             }
             // Construct nested record.
-            Object record = ObjectMapperFactory.construct(subType.constructor(), childArgs, start);
+            Object record = invoker.newInstance(childArgs, start);
             if (entityCache != null) {
                 // Intern for dirty tracking and/or identity preservation.
                 Entity<?> interned = entityCache.intern((Entity<?>) record);
@@ -1045,7 +1056,7 @@ final class RecordMapper {
                 }
                 pkArgs[i] = arg;
             }
-            return ObjectMapperFactory.construct(pkConstructor, pkArgs, pkStart);
+            return pkConstructor.newInstance(pkArgs, pkStart);
         }
     }
 
@@ -1116,9 +1127,9 @@ final class RecordMapper {
      *
      * @param offset the offset into flatArgs where the PK columns start (-1 if not applicable).
      * @param columnCount the number of columns the PK spans.
-     * @param constructor the constructor for composite PKs (null for simple single-column PKs).
+     * @param constructor the constructor invoker for composite PKs (null for simple single-column PKs).
      */
-    private record PkInfo(int offset, int columnCount, @Nullable Constructor<?> constructor) {
+    private record PkInfo(int offset, int columnCount, @Nullable ConstructorInvoker<?> constructor) {
         /** Sentinel value indicating no PK information is available (non-entity types). */
         static final PkInfo NONE = new PkInfo(-1, 0, null);
     }
@@ -1154,9 +1165,9 @@ final class RecordMapper {
         // Calculate how many columns the PK spans.
         int pkColumnCount = getFieldColumnCount(pkField);
         // For composite PKs (record types), we need the constructor.
-        Constructor<?> pkConstructor = null;
+        ConstructorInvoker<?> pkConstructor = null;
         if (isRecord(pkField.type()) && pkColumnCount > 1) {
-            pkConstructor = getRecordType(pkField.type()).constructor();
+            pkConstructor = ConstructorInvoker.of(getRecordType(pkField.type()));
         }
         return new PkInfo(offset, pkColumnCount, pkConstructor);
     }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import jakarta.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import st.orm.PersistenceException;
+import st.orm.SqlLog;
+
+/**
+ * Invocation handler for repository proxies that dispatches through a table built once per proxy.
+ *
+ * <p>The table maps every method of the repository interface, and the {@code hashCode}, {@code equals} and
+ * {@code toString} methods of {@link Object}, to an {@link Invoker}. The {@link SqlLog} settings and the log signature
+ * of each method are resolved while the table is built, so a call only costs a map lookup before reaching its
+ * target.</p>
+ *
+ * <p>This handler is used by all three {@code ORMTemplateImpl} classes (core, java21, kotlin). Each of them provides
+ * the function that decides how a method is handled.</p>
+ *
+ * @since 1.11
+ */
+public final class RepositoryDispatchTable implements InvocationHandler {
+
+    private static final Object[] NO_ARGS = {};
+
+    /**
+     * Handles a call to a single repository method.
+     */
+    @FunctionalInterface
+    public interface Invoker {
+
+        /**
+         * Invokes the method.
+         *
+         * @param proxy the proxy the method was called on.
+         * @param args the arguments of the call; never {@code null}.
+         * @return the result of the call.
+         * @throws Throwable if the method throws.
+         */
+        Object invoke(@Nonnull Object proxy, @Nonnull Object[] args) throws Throwable;
+    }
+
+    private final Class<?> type;
+    private final Function<Method, Invoker> resolver;
+    private final Map<Method, Invoker> invokers = new ConcurrentHashMap<>();
+
+    /**
+     * Builds the dispatch table for the given repository interface.
+     *
+     * @param type the repository interface type.
+     * @param resolver returns the invoker for a method of the interface or of {@link Object}; must not throw.
+     */
+    public RepositoryDispatchTable(@Nonnull Class<?> type, @Nonnull Function<Method, Invoker> resolver) {
+        this.type = type;
+        this.resolver = resolver;
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            invokers.put(method, resolve(method));
+        }
+        try {
+            for (Method method : new Method[] {
+                    Object.class.getMethod("hashCode"),
+                    Object.class.getMethod("equals", Object.class),
+                    Object.class.getMethod("toString")}) {
+                invokers.put(method, resolve(method));
+            }
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Invoker resolve(@Nonnull Method method) {
+        Invoker invoker = resolver.apply(method);
+        return isObjectMethod(method) ? invoker : withSqlLog(type, method, invoker);
+    }
+
+    /**
+     * Returns whether the given method is {@code hashCode()}, {@code equals(Object)} or {@code toString()}.
+     *
+     * @param method the method to check.
+     * @return {@code true} if the method is one of the {@link Object} methods a proxy forwards.
+     */
+    public static boolean isObjectMethod(@Nonnull Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    /**
+     * Returns an invoker that calls the given method on the given target.
+     *
+     * <p>The method is bound to the target as a {@link MethodHandle}. If the method is not accessible through a
+     * public lookup, or if the target does not implement the declaring type of the method, the invoker falls back to
+     * reflection. In all cases, exceptions thrown by the method are propagated unwrapped.</p>
+     *
+     * @param method the method to invoke.
+     * @param target the object to invoke the method on.
+     * @return the invoker.
+     */
+    public static Invoker bind(@Nonnull Method method, @Nonnull Object target) {
+        Invoker reflective = (proxy, args) -> {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        if (!method.getDeclaringClass().isInstance(target)) {
+            // Let reflection report the mismatch when the method is called.
+            return reflective;
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method)
+                    .asFixedArity()
+                    .bindTo(target)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            return reflective;
+        }
+        return (proxy, args) -> (Object) handle.invokeExact(args);
+    }
+
+    private static Invoker withSqlLog(@Nonnull Class<?> type, @Nonnull Method method, @Nonnull Invoker invoker) {
+        SqlLog sqlLog = SqlLogInterceptor.resolve(type, method);
+        if (sqlLog == null) {
+            return invoker;
+        }
+        String signature = toShortSignature(method);
+        return (proxy, args) -> SqlLogInterceptor.wrapIfNeeded(sqlLog, type, signature,
+                () -> {
+                    try {
+                        return invoker.invoke(proxy, args);
+                    } catch (Exception | Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw new PersistenceException(t);
+                    }
+                });
+    }
+
+    private static String toShortSignature(@Nonnull Method method) {
+        var sb = new StringBuilder(method.getName()).append('(');
+        var params = method.getParameterTypes();
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(params[i].getSimpleName());
+        }
+        return sb.append(')').toString();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Invoker invoker = invokers.get(method);
+        if (invoker == null) {
+            // Methods inherited through more than one interface may be reported by a different declaring interface.
+            invoker = invokers.computeIfAbsent(method, this::resolve);
+        }
+        return invoker.invoke(proxy, args == null ? NO_ARGS : args);
+    }
+}
@@ -18,6 +18,7 @@ package st.orm.core.template.impl;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.LinkedHashMap;
 import java.util.function.Supplier;
 
@@ -31,12 +32,57 @@ import java.util.function.Supplier;
  * For many high-hit-rate caches, this yields much higher throughput with minimal complexity and no external
  * dependencies.</p>
  *
+ * <p>Optionally, each segment places a TinyLFU admission filter in front of its LRU order. The filter keeps an
+ * approximate access frequency per key in a small count-min sketch. When a full segment receives a new key, the key
+ * is only admitted if it was requested at least as often as the entry it would evict. This keeps frequently used
+ * entries in the cache when a burst of one-off keys passes through, which would flush a plain LRU cache. Ties are
+ * admitted, so that a new key replaces an equally cold entry right away instead of only on its second request.</p>
+ *
  * @param <K> key type.
  * @param <V> value type.
  * @since 1.8
  */
 public final class SegmentedLruCache<K, V> {
 
+    /**
+     * Receives per-segment cache events.
+     *
+     * <p>Methods are invoked while the segment lock is held, so implementations must be fast and must not access the
+     * cache.</p>
+     *
+     * @since 1.11
+     */
+    public interface StatsCounter {
+
+        /**
+         * Records a lookup that found an entry.
+         *
+         * @param segment the index of the segment.
+         */
+        default void recordHit(int segment) {}
+
+        /**
+         * Records a lookup that found no entry.
+         *
+         * @param segment the index of the segment.
+         */
+        default void recordMiss(int segment) {}
+
+        /**
+         * Records an entry that was evicted to make room for a new entry.
+         *
+         * @param segment the index of the segment.
+         */
+        default void recordEviction(int segment) {}
+
+        /**
+         * Records a new entry that was not admitted because it was used less often than the entry it would evict.
+         *
+         * @param segment the index of the segment.
+         */
+        default void recordRejection(int segment) {}
+    }
+
     private final Segment<K, V>[] segments;
     private final int segmentMask;
 
@@ -54,6 +100,20 @@ public final class SegmentedLruCache<K, V> {
         this(maxSize, defaultSegmentCount(maxSize));
     }
 
+    /**
+     * Creates a cache with an automatically chosen segment count, optionally using frequency-based admission.
+     *
+     * @param maxSize the maximum number of entries held by the cache across all segments; must be {@code > 0}.
+     * @param admission {@code true} to only admit new entries that are used at least as often as the entry they
+     *                  would evict, {@code false} for plain LRU eviction.
+     * @param stats receives per-segment cache events, or {@code null} to not record them.
+     * @throws IllegalArgumentException if {@code maxSize <= 0}.
+     * @since 1.11
+     */
+    public SegmentedLruCache(int maxSize, boolean admission, @Nullable StatsCounter stats) {
+        this(maxSize, defaultSegmentCount(maxSize), admission, stats);
+    }
+
     /**
      * Creates a cache with a given segment count.
      *
@@ -67,8 +127,23 @@ public final class SegmentedLruCache<K, V> {
      * @param segmentCount  the desired number of segments; must be {@code > 0} (rounded up to a power of two).
      * @throws IllegalArgumentException if {@code maxSize <= 0} or {@code segmentCount <= 0}.
      */
-    @SuppressWarnings("unchecked")
     public SegmentedLruCache(int maxSize, int segmentCount) {
+        this(maxSize, segmentCount, false, null);
+    }
+
+    /**
+     * Creates a cache with a given segment count, optionally using frequency-based admission.
+     *
+     * @param maxSize       the maximum number of entries held by the cache across all segments; must be {@code > 0}.
+     * @param segmentCount  the desired number of segments; must be {@code > 0} (rounded up to a power of two).
+     * @param admission     {@code true} to only admit new entries that are used at least as often as the entry they
+     *                      would evict, {@code false} for plain LRU eviction.
+     * @param stats         receives per-segment cache events, or {@code null} to not record them.
+     * @throws IllegalArgumentException if {@code maxSize <= 0} or {@code segmentCount <= 0}.
+     * @since 1.11
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedLruCache(int maxSize, int segmentCount, boolean admission, @Nullable StatsCounter stats) {
         if (maxSize <= 0) {
             throw new IllegalArgumentException("maxSize must be > 0.");
         }
@@ -81,7 +156,7 @@ public final class SegmentedLruCache<K, V> {
         int perSegment = Math.max(1, (maxSize + sc - 1) / sc); // ceil(maxSize / sc)
         this.segments = (Segment<K, V>[]) new Segment[sc];
         for (int i = 0; i < sc; i++) {
-            this.segments[i] = new Segment<>(perSegment);
+            this.segments[i] = new Segment<>(i, perSegment, admission ? new FrequencySketch(perSegment) : null, stats);
         }
     }
 
@@ -102,7 +177,8 @@ public final class SegmentedLruCache<K, V> {
      * Stores {@code value} under {@code key}, overwriting any existing mapping.
      *
      * <p>After insertion, the owning segment evicts least-recently-used entries until its segment capacity is
-     * respected. Eviction is performed under the segment lock.</p>
+     * respected. Eviction is performed under the segment lock. If admission is enabled and the segment is full, a new
+     * key is only stored if it was requested at least as often as the entry it would evict.</p>
      *
      * @param key the key; must not be {@code null}.
      * @param value the value; must not be {@code null}.
@@ -121,9 +197,13 @@ public final class SegmentedLruCache<K, V> {
      * <p>If the key is present, this method returns the existing value and updates recency (because an internal
      * {@code get} is used to check presence).</p>
      *
+     * <p>If admission is enabled and the segment is full, {@code value} is only stored if the key was requested more
+     * often than the entry it would evict. The caller can use {@code value} either way.</p>
+     *
      * @param key the key; must not be {@code null}
      * @param value the value to publish if absent; must not be {@code null}
-     * @return the existing value if present, otherwise {@code null} (and {@code value} is stored)
+     * @return the existing value if present, otherwise {@code null} (and {@code value} is stored, unless it was not
+     * admitted)
      * @throws NullPointerException if {@code key} or {@code value} is {@code null}
      */
     public V putIfAbsent(@Nonnull K key, @Nonnull V value) {
@@ -250,32 +330,55 @@ public final class SegmentedLruCache<K, V> {
      * the implementation small and predictable while still allowing concurrency across segments.</p>
      */
     private static final class Segment<K, V> {
+        private final int index;
         private final int maxSize;
         private final LinkedHashMap<K, V> lru;
+        private final FrequencySketch sketch;
+        private final StatsCounter stats;
 
         /**
          * Creates a segment with a fixed maximum size.
          *
+         * @param index the index of this segment, passed to {@code stats}.
          * @param maxSize maximum entries for this segment; must be {@code >= 1}.
+         * @param sketch the admission sketch, or {@code null} for plain LRU eviction.
+         * @param stats receives cache events, or {@code null}.
          */
-        Segment(int maxSize) {
+        Segment(int index, int maxSize, @Nullable FrequencySketch sketch, @Nullable StatsCounter stats) {
+            this.index = index;
             this.maxSize = maxSize;
             this.lru = new LinkedHashMap<>(16, 0.75f, true);
+            this.sketch = sketch;
+            this.stats = stats;
         }
 
         /**
          * Returns the value mapped to {@code key}, updating recency on a hit.
          */
         synchronized V get(@Nonnull K key) {
-            return lru.get(key);
+            if (sketch != null) {
+                sketch.increment(key.hashCode());
+            }
+            V value = lru.get(key);
+            if (stats != null) {
+                if (value != null) {
+                    stats.recordHit(index);
+                } else {
+                    stats.recordMiss(index);
+                }
+            }
+            return value;
         }
 
         /**
          * Stores a mapping, overwriting any previous value, and then evicts if needed.
          */
         synchronized void put(@Nonnull K key, @Nonnull V value) {
-            lru.put(key, requireNonNull(value));
-            evictIfNeeded();
+            requireNonNull(value);
+            if (lru.containsKey(key) || admit(key)) {
+                lru.put(key, value);
+                evictIfNeeded();
+            }
         }
 
         /**
@@ -288,11 +391,32 @@ public final class SegmentedLruCache<K, V> {
             if (existing != null) {
                 return existing;
             }
-            lru.put(key, requireNonNull(value));
-            evictIfNeeded();
+            requireNonNull(value);
+            if (admit(key)) {
+                lru.put(key, value);
+                evictIfNeeded();
+            }
             return null;
         }
 
+        /**
+         * Returns whether a new key may be stored. A key is always admitted while the segment has room. Once the
+         * segment is full, the key must have been requested at least as often as the least recently used entry.
+         */
+        private boolean admit(@Nonnull K key) {
+            if (sketch == null || lru.size() < maxSize) {
+                return true;
+            }
+            K victim = lru.keySet().iterator().next();
+            if (sketch.frequency(key.hashCode()) >= sketch.frequency(victim.hashCode())) {
+                return true;
+            }
+            if (stats != null) {
+                stats.recordRejection(index);
+            }
+            return false;
+        }
+
         /**
          * Removes the mapping for {@code key} if present.
          */
@@ -317,7 +441,74 @@ public final class SegmentedLruCache<K, V> {
             while (lru.size() > maxSize) {
                 var eldest = lru.entrySet().iterator().next();
                 lru.remove(eldest.getKey());
+                if (stats != null) {
+                    stats.recordEviction(index);
+                }
             }
         }
     }
+
+    /**
+     * A count-min sketch of 4-bit counters that estimates how often each key was requested.
+     *
+     * <p>Each key maps to four counters; its frequency is the smallest of them. After a number of increments
+     * proportional to the segment size, all counters are halved, so that the sketch follows changes in the workload
+     * instead of favoring keys that were popular long ago. The sketch is guarded by the segment lock.</p>
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb1a5b5b3, 0x7f4a7c15, 0x3c6ef373};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maxSize) {
+            int size = 16;
+            while (size < maxSize * 4L && size < (1 << 24)) {
+                size <<= 1;
+            }
+            this.table = new byte[size];
+            this.mask = size - 1;
+            this.sampleSize = (int) Math.min(Integer.MAX_VALUE, Math.max(16L, maxSize * 10L));
+        }
+
+        /**
+         * Increments the counters of the key with the given hash code, and halves all counters once the sample size
+         * is reached.
+         */
+        void increment(int hash) {
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int i = indexOf(hash, seed);
+                if (table[i] < MAX_COUNT) {
+                    table[i]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+                additions >>= 1;
+            }
+        }
+
+        /**
+         * Returns the estimated number of requests for the key with the given hash code.
+         */
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int seed) {
+            int h = spread(hash) * seed;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
 }
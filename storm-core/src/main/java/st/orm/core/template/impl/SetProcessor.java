@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import st.orm.BindVars;
 import st.orm.Data;
 import st.orm.Metamodel;
@@ -117,11 +118,12 @@ final class SetProcessor implements ElementProcessor<Set> {
                 //noinspection unchecked
                 var model = (Model<Data, ?>) binder.getModel(table.type());
                 var parameterFactory = binder.setBindVars(vars);
-                vars.addParameterExtractor(record -> {
+                BiConsumer<Column, Object> bindValue = (column, value) -> parameterFactory.bind(value);
+                vars.addParameterExtractor((record, sink) -> {
                     try {
                         model.validateForeignKeys(columns, record);
-                        model.forEachValue(columns, record, (column, value) -> parameterFactory.bind(value));
-                        return parameterFactory.getParameters();
+                        model.forEachValue(columns, record, bindValue);
+                        parameterFactory.writeParameters(sink);
                     } catch (SqlTemplateException ex) {
                         throw new UncheckedSqlTemplateException(ex);
                     }
@@ -15,17 +15,12 @@
  */
 package st.orm.core.template.impl;
 
-import static java.util.Collections.newSetFromMap;
-
 import jakarta.annotation.Nonnull;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Deque;
-import java.util.IdentityHashMap;
-import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -109,11 +104,22 @@ public final class SqlInterceptorManager {
         }
     }
 
-    private static final ReadWriteLock LOCK = new ReentrantReadWriteLock();
-    private static final Set<Object> GLOBAL_OPERATORS = newSetFromMap(new IdentityHashMap<>());
+    private static final Object LOCK = new Object();
+    private static final Object[] NO_OPERATORS = new Object[0];
+
+    /**
+     * The global operators, in registration order. The array is never modified after publication; registration
+     * replaces it with a copy, so statements only need a volatile read to iterate over it.
+     */
+    private static volatile Object[] globalOperators = NO_OPERATORS;
 
     private static final ThreadLocal<Deque<Operator>> LOCAL_OPERATORS = ThreadLocal.withInitial(() -> new ArrayDeque<>(4));
 
+    /**
+     * Marks a scope in which SQL statements are not passed to the interceptors registered outside of it.
+     */
+    private static final Operator SILENT = new Operator(UnaryOperator.identity());
+
     private SqlInterceptorManager() {
     }
 
@@ -123,12 +129,7 @@ public final class SqlInterceptorManager {
      * @param interceptor the interceptor to call for each SQL statement.
      */
     public static void registerGlobalInterceptor(@Nonnull UnaryOperator<Sql> interceptor) {
-        LOCK.writeLock().lock();
-        try {
-            GLOBAL_OPERATORS.add(interceptor);
-        } finally {
-            LOCK.writeLock().unlock();
-        }
+        addGlobalOperator(interceptor);
     }
 
     /**
@@ -137,12 +138,7 @@ public final class SqlInterceptorManager {
      * @param observer the observer to call for each SQL statement.
      */
     public static void registerGlobalObserver(@Nonnull Consumer<Sql> observer) {
-        LOCK.writeLock().lock();
-        try {
-            GLOBAL_OPERATORS.add(observer);
-        } finally {
-            LOCK.writeLock().unlock();
-        }
+        addGlobalOperator(observer);
     }
 
     /**
@@ -151,12 +147,7 @@ public final class SqlInterceptorManager {
      * @param observer the observer to unregister.
      */
     public static void unregisterGlobalObserver(@Nonnull UnaryOperator<Sql> observer) {
-        LOCK.writeLock().lock();
-        try {
-            GLOBAL_OPERATORS.remove(observer);
-        } finally {
-            LOCK.writeLock().unlock();
-        }
+        removeGlobalOperator(observer);
     }
 
     /**
@@ -165,11 +156,39 @@ public final class SqlInterceptorManager {
      * @param observer the observer to unregister.
      */
     public static void unregisterGlobalObserver(@Nonnull Consumer<Sql> observer) {
-        LOCK.writeLock().lock();
-        try {
-            GLOBAL_OPERATORS.remove(observer);
-        } finally {
-            LOCK.writeLock().unlock();
+        removeGlobalOperator(observer);
+    }
+
+    private static void addGlobalOperator(@Nonnull Object operator) {
+        synchronized (LOCK) {
+            var operators = globalOperators;
+            for (var existing : operators) {
+                if (existing == operator) {
+                    return;
+                }
+            }
+            var updated = Arrays.copyOf(operators, operators.length + 1);
+            updated[operators.length] = operator;
+            globalOperators = updated;
+        }
+    }
+
+    private static void removeGlobalOperator(@Nonnull Object operator) {
+        synchronized (LOCK) {
+            var operators = globalOperators;
+            for (int i = 0; i < operators.length; i++) {
+                if (operators[i] == operator) {
+                    if (operators.length == 1) {
+                        globalOperators = NO_OPERATORS;
+                    } else {
+                        var updated = new Object[operators.length - 1];
+                        System.arraycopy(operators, 0, updated, 0, i);
+                        System.arraycopy(operators, i + 1, updated, i, operators.length - i - 1);
+                        globalOperators = updated;
+                    }
+                    return;
+                }
+            }
         }
     }
 
@@ -242,6 +261,34 @@ public final class SqlInterceptorManager {
         }, customizer));
     }
 
+    /**
+     * Runs the specified action without passing the SQL statements it processes to the interceptors and observers
+     * registered outside of it. The statements are not logged either.
+     *
+     * <p>This is intended for statements that are compiled but never executed, such as the statements compiled by the
+     * template cache warm-up.</p>
+     *
+     * @param runnable the action to run.
+     * @since 1.11
+     */
+    public static void silent(@Nonnull Runnable runnable) {
+        new CarrierImpl(SILENT).run(runnable);
+    }
+
+    /**
+     * Returns whether the current thread runs in a {@link #silent(Runnable)} scope.
+     *
+     * @return {@code true} if SQL statements are currently not intercepted.
+     */
+    static boolean isSilent() {
+        for (var operator : LOCAL_OPERATORS.get()) {
+            if (operator == SILENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Customizes the given SQL template using the current thread's scoped customizer, if available.
      *
@@ -283,22 +330,20 @@ public final class SqlInterceptorManager {
         // they must not modify the local operators from the accept/apply method.
         try {
             for (var operator : LOCAL_OPERATORS.get()) {
+                if (operator == SILENT) {
+                    return adjusted;
+                }
                 adjusted = operator.interceptor().apply(adjusted);
             }
         } catch (ConcurrentModificationException e) {
             throw new PersistenceException("Registering interceptors from within their execution scope is not allowed.");
         }
-        LOCK.readLock().lock();
-        try {
-            for (var operator : GLOBAL_OPERATORS) {
-                if (operator instanceof Consumer c) {
-                    c.accept(adjusted);
-                } else if (operator instanceof UnaryOperator o) {
-                    adjusted = (Sql) o.apply(adjusted);
-                }
+        for (var operator : globalOperators) {
+            if (operator instanceof Consumer c) {
+                c.accept(adjusted);
+            } else if (operator instanceof UnaryOperator o) {
+                adjusted = (Sql) o.apply(adjusted);
             }
-        } finally {
-            LOCK.readLock().unlock();
         }
         return adjusted;
     }
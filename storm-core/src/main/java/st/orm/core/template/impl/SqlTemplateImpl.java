@@ -65,7 +65,7 @@ public final class SqlTemplateImpl implements SqlTemplate {
     /**
      * Config keys that affect the shape of generated SQL and must therefore be part of the template cache key.
      */
-    private static final Set<String> TEMPLATE_SHAPE_KEYS = Set.of("storm.ansi_escaping");
+    private static final Set<String> TEMPLATE_SHAPE_KEYS = Set.of("storm.ansi_escaping", "storm.in_list.array_binding");
 
     record ElementNode(@Nonnull Element element, boolean synthetic) {}
 
@@ -126,7 +126,9 @@ public final class SqlTemplateImpl implements SqlTemplate {
             this.cache = null;
         } else {
             var key = List.of(positionalOnly, expandCollection, supportRecords, new IdentityKey(modelBuilder), new IdentityKey(tableAliasResolver), dialect.name(), configCacheKey(config));
-            this.cache = CacheHolder.INSTANCE.getOrCompute(key, () -> new SegmentedLruCache<>(templateCacheSize));
+            // Admission keeps the frequently used shapes cached when a burst of one-off queries passes through.
+            this.cache = CacheHolder.INSTANCE.getOrCompute(key,
+                    () -> new SegmentedLruCache<>(templateCacheSize, true, TemplateMetrics.getInstance()));
         }
         this.templateMetrics = TemplateMetrics.getInstance();
         this.templateMetrics.registerCacheSize(templateCacheSize);
@@ -398,7 +400,7 @@ public final class SqlTemplateImpl implements SqlTemplate {
                 }
             }
             Sql sql = intercept(processor.bind(bindingContext));
-            if (LOGGER.isDebugEnabled()) {
+            if (LOGGER.isDebugEnabled() && !SqlInterceptorManager.isSilent()) {
                 String log = "SQL:\n%s".formatted(sql.statement());
                 if (LOGGER.isTraceEnabled()) {
                     LOGGER.trace(log);
@@ -414,37 +416,131 @@ public final class SqlTemplateImpl implements SqlTemplate {
 
     private Object getCompilationKey(@Nonnull BindingContext bindingContext) {
         try {
-            var fragments = bindingContext.fragments();
             var elements = bindingContext.elements();
-            var compilationKey = new ArrayList<>();
-            for (int i = 0, size = fragments.size(); i < size; i++) {
-                compilationKey.add(fragments.get(i));
-                if (i < elements.size()) {
-                    var element = elements.get(i);
-                    if (element instanceof Wrapped(var wrapped)) {
-                        for (var e : wrapped) {
-                            if (!e.synthetic()) {   // Ignore synthetic elements for the compilation key.
-                                var key = getElementProcessor(e.element()).getCompilationKey(e.element(), keyGenerator);
-                                if (key != null) {
-                                    compilationKey.add(key);
-                                } else {
-                                    return null;
-                                }
+            var keys = new Object[elements.size()];
+            for (int i = 0; i < keys.length; i++) {
+                var element = elements.get(i);
+                if (element instanceof Wrapped(var wrapped)) {
+                    var wrappedKeys = new ArrayList<>(wrapped.size());
+                    for (var e : wrapped) {
+                        if (!e.synthetic()) {   // Ignore synthetic elements for the compilation key.
+                            var key = getElementProcessor(e.element()).getCompilationKey(e.element(), keyGenerator, this);
+                            if (key == null) {
+                                return null;
                             }
+                            wrappedKeys.add(key);
                         }
-                    } else {
-                        var key = getElementProcessor(element).getCompilationKey(element, keyGenerator);
-                        if (key != null) {
-                            compilationKey.add(key);
-                        } else {
-                            return null;
-                        }
                     }
+                    keys[i] = wrappedKeys;
+                } else {
+                    var key = getElementProcessor(element).getCompilationKey(element, keyGenerator, this);
+                    if (key == null) {
+                        return null;
+                    }
+                    keys[i] = key;
                 }
             }
-            return compilationKey;
+            return new CompilationKey(Fragments.of(bindingContext.fragments()), keys);
         } catch (SqlTemplateException e) {
             throw new UncheckedSqlTemplateException(e);
         }
     }
+
+    /**
+     * The fragments of a template together with their fingerprint.
+     *
+     * <p>Templates from the same call site share the same fragments instance, so the fingerprint is memoized per
+     * instance in a small table indexed by identity hash code. A slot is overwritten when another fragments instance
+     * maps to it, which bounds the table to {@link #TABLE_SIZE} entries without any locking.</p>
+     */
+    static final class Fragments {
+        private static final int TABLE_SIZE = 1024;
+        private static final Fragments[] TABLE = new Fragments[TABLE_SIZE];
+
+        private final List<String> list;
+        private final long fingerprint;
+
+        private Fragments(@Nonnull List<String> list) {
+            this.list = list;
+            long h = list.size() * 0x9E3779B97F4A7C15L;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                h = mix(h, list.get(i).hashCode());
+            }
+            this.fingerprint = h;
+        }
+
+        /**
+         * Returns the fragments for the specified list, reusing the fingerprint of a previous call with the same list
+         * instance.
+         */
+        static Fragments of(@Nonnull List<String> list) {
+            int index = System.identityHashCode(list) & (TABLE_SIZE - 1);
+            Fragments fragments = TABLE[index];
+            if (fragments == null || fragments.list != list) {
+                fragments = new Fragments(list);
+                TABLE[index] = fragments;   // Benign race; instances are immutable.
+            }
+            return fragments;
+        }
+
+        boolean sameAs(@Nonnull Fragments other) {
+            return other == this || (other.fingerprint == fingerprint
+                    && (other.list == list || other.list.equals(list)));
+        }
+    }
+
+    private static long mix(long h, int hash) {
+        h = (h ^ hash) * 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * Key of a compiled template, consisting of the template fragments and the compilation keys of its elements.
+     *
+     * <p>The key combines the memoized fingerprint of the fragments with the hash codes of the element keys into a
+     * 64-bit fingerprint. Lookups use the fingerprint as hash code and compare it before the parts, so the parts are
+     * only compared when the fingerprints match, which is the case for a cache hit. The fragments are usually the
+     * same instance on every call, so their comparison is an identity check.</p>
+     */
+    static final class CompilationKey {
+        private final Fragments fragments;
+        private final Object[] keys;
+        private final long fingerprint;
+
+        CompilationKey(@Nonnull Fragments fragments, @Nonnull Object[] keys) {
+            this.fragments = fragments;
+            this.keys = keys;
+            long h = fragments.fingerprint;
+            for (Object key : keys) {
+                h = mix(h, key.hashCode());
+            }
+            this.fingerprint = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (fingerprint ^ (fingerprint >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof CompilationKey other)
+                    || other.fingerprint != fingerprint
+                    || other.keys.length != keys.length
+                    || !fragments.sameAs(other.fragments)) {
+                return false;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                Object a = keys[i];
+                Object b = other.keys[i];
+                if (a != b && !a.equals(b)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import st.orm.core.spi.TransactionContext;
+
+/**
+ * Bounded LRU cache of prepared statements for the connection of a transaction.
+ *
+ * <p>A statement is removed from the cache while it is in use and returned when its query is closed, so two queries
+ * never share a statement, even if they are open at the same time. Statements are reset before they are returned.
+ * Evicted statements are closed; the remaining statements are closed when the transaction completes, before its
+ * connection is released. Transactions that cannot report their completion do not cache statements.</p>
+ *
+ * @since 1.11
+ */
+final class StatementCache {
+
+    private static final StatementCacheMetrics METRICS = StatementCacheMetrics.getInstance();
+
+    /**
+     * Prepares a new statement.
+     */
+    @FunctionalInterface
+    interface StatementFactory {
+        PreparedStatement prepare() throws SQLException;
+    }
+
+    private record Key(@Nonnull String sql, @Nonnull List<String> generatedKeys) {}
+
+    /**
+     * A cached statement, together with the settings it had when it was prepared.
+     */
+    private record Entry(@Nonnull PreparedStatement statement,
+                         int fetchSize,
+                         int fetchDirection,
+                         int maxRows,
+                         int queryTimeout) {
+
+        static Entry of(@Nonnull PreparedStatement statement) throws SQLException {
+            return new Entry(statement, statement.getFetchSize(), statement.getFetchDirection(),
+                    statement.getMaxRows(), statement.getQueryTimeout());
+        }
+    }
+
+    /**
+     * A statement taken from the cache. The statement is returned to the cache by {@link #release()}.
+     */
+    final class Lease {
+        private final Key key;
+        private final Entry entry;
+
+        private Lease(@Nonnull Key key, @Nonnull Entry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+
+        /**
+         * Returns the leased statement.
+         *
+         * @return the leased statement.
+         */
+        PreparedStatement statement() {
+            return entry.statement();
+        }
+
+        /**
+         * Resets the statement and returns it to the cache. The statement is closed if it cannot be reset.
+         *
+         * @throws SQLException if the statement could not be closed.
+         */
+        void release() throws SQLException {
+            var statement = entry.statement();
+            try {
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.setFetchSize(entry.fetchSize());
+                statement.setFetchDirection(entry.fetchDirection());
+                statement.setMaxRows(entry.maxRows());
+                statement.setQueryTimeout(entry.queryTimeout());
+            } catch (SQLException e) {
+                statement.close();
+                return;
+            }
+            put(key, entry);
+        }
+    }
+
+    /**
+     * The statement caches of the transactions that are active on a template.
+     */
+    static final class Registry {
+        private final Map<TransactionContext, StatementCache> caches = new HashMap<>();
+        private final int size;
+
+        /**
+         * Creates a registry of statement caches.
+         *
+         * @param size the maximum number of statements to cache per transaction.
+         */
+        Registry(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Returns the statement cache for the specified transaction context and connection.
+         *
+         * <p>A new cache is closed when the transaction completes. If the context was previously used with a different
+         * connection, the statements of that connection are closed and a new cache is started.</p>
+         *
+         * @param context the transaction context that owns the cache.
+         * @param connection the connection of the transaction.
+         * @return the statement cache, or {@code null} if the transaction cannot report its completion.
+         */
+        @Nullable
+        synchronized StatementCache of(@Nonnull TransactionContext context, @Nonnull Connection connection) {
+            var cache = caches.get(context);
+            if (cache != null && cache.connection == connection) {
+                return cache;
+            }
+            if (cache != null) {
+                caches.remove(context);
+                cache.close();
+            }
+            var created = new StatementCache(connection, size);
+            if (!context.onCompletion(() -> remove(context, created))) {
+                return null;
+            }
+            caches.put(context, created);
+            return created;
+        }
+
+        private void remove(@Nonnull TransactionContext context, @Nonnull StatementCache cache) {
+            synchronized (this) {
+                caches.remove(context, cache);
+            }
+            cache.close();
+        }
+    }
+
+    private final Connection connection;
+    private final LinkedHashMap<Key, Entry> statements;
+    private boolean closed;
+
+    private StatementCache(@Nonnull Connection connection, int maxSize) {
+        this.connection = connection;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > maxSize) {
+                    METRICS.recordEviction();
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Takes the statement for the specified SQL from the cache, or prepares a new one using the factory if the cache
+     * holds no open statement for it.
+     *
+     * @param sql the SQL statement.
+     * @param generatedKeys the columns of the generated keys to return.
+     * @param factory prepares a new statement.
+     * @return the lease of the statement.
+     * @throws SQLException if the statement could not be prepared.
+     */
+    Lease lease(@Nonnull String sql, @Nonnull List<String> generatedKeys, @Nonnull StatementFactory factory)
+            throws SQLException {
+        var key = new Key(sql, generatedKeys);
+        Entry entry;
+        synchronized (this) {
+            entry = statements.remove(key);
+        }
+        if (entry != null && !entry.statement().isClosed()) {
+            METRICS.recordHit();
+            return new Lease(key, entry);
+        }
+        METRICS.recordMiss();
+        var statement = factory.prepare();
+        try {
+            return new Lease(key, Entry.of(statement));
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    private void put(@Nonnull Key key, @Nonnull Entry entry) {
+        Entry previous;
+        synchronized (this) {
+            if (closed) {
+                // The transaction completed while the statement was in use.
+                previous = entry;
+            } else {
+                previous = statements.put(key, entry);
+            }
+        }
+        if (previous != null) {
+            // Another statement for the same SQL was prepared while this one was in use.
+            closeQuietly(previous);
+        }
+    }
+
+    /**
+     * Closes all cached statements. Statements that are returned afterward are closed as well.
+     */
+    private synchronized void close() {
+        closed = true;
+        statements.values().forEach(StatementCache::closeQuietly);
+        statements.clear();
+    }
+
+    private static void closeQuietly(@Nonnull Entry entry) {
+        try {
+            entry.statement().close();
+        } catch (SQLException ignore) {}
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Singleton JMX MBean for prepared statement cache metrics.
+ *
+ * <p>Registered as {@code st.orm:type=StatementCacheMetrics} in the platform MBean server. All statement caches share
+ * this single metrics collector. If JMX registration fails, metrics are still collected in-memory and accessible via
+ * {@link #getInstance()}.</p>
+ *
+ * @since 1.11
+ */
+public final class StatementCacheMetrics implements StatementCacheMetricsMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCacheMetrics.class);
+
+    /**
+     * Initialization-on-demand holder for the singleton instance.
+     */
+    private static final class Holder {
+        static final StatementCacheMetrics INSTANCE = new StatementCacheMetrics();
+    }
+
+    /**
+     * Returns the singleton metrics instance.
+     */
+    public static StatementCacheMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private StatementCacheMetrics() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("st.orm:type=StatementCacheMetrics");
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Failed to register StatementCacheMetrics MBean: {}", e.getMessage());
+        }
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    void recordEviction() {
+        evictions.incrementAndGet();
+    }
+
+    @Override
+    public long getRequests() {
+        return hits.get() + misses.get();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public long getHitRatioPercent() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0 : (h * 100 / total);
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public void reset() {
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+}
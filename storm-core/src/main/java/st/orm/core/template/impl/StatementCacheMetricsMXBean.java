@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+/**
+ * JMX MXBean interface for prepared statement cache metrics.
+ *
+ * <p>Register under {@code st.orm:type=StatementCacheMetrics}. Exposes read-only counters and a {@link #reset()}
+ * operation to clear all accumulated data.</p>
+ *
+ * @since 1.11
+ */
+public interface StatementCacheMetricsMXBean {
+
+    /** Total number of statement requests served through a statement cache. */
+    long getRequests();
+
+    /** Number of requests served by a cached statement. */
+    long getHits();
+
+    /** Number of requests that prepared a new statement. */
+    long getMisses();
+
+    /** Hit ratio as a percentage (0-100). */
+    long getHitRatioPercent();
+
+    /** Number of statements closed because their cache was full. */
+    long getEvictions();
+
+    /** Resets all counters to zero. */
+    void reset();
+}
@@ -17,15 +17,14 @@ package st.orm.core.template.impl;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.util.List;
 import java.util.Optional;
 import st.orm.BindVars;
 import st.orm.Data;
 import st.orm.Element;
 import st.orm.core.template.Model;
-import st.orm.core.template.SqlTemplate.PositionalParameter;
 import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TemplateString;
+import st.orm.core.template.impl.BindVarsImpl.ParameterSink;
 
 /**
  * Binding-time API used by element processors to bind runtime values to parameters.
@@ -131,11 +130,12 @@ interface TemplateBinder {
      * Produces positional parameters for a single {@link BindVars} segment during binding.
      *
      * <p>A {@code ParameterFactory} is obtained from {@link TemplateBinder#setBindVars(BindVars)}. The caller binds values
-     * for the segment via {@link #bind(Object)} and then retrieves the resulting positional parameters via
-     * {@link #getParameters()}.</p>
+     * for the segment via {@link #bind(Object)} and then writes the resulting positional parameters to a sink via
+     * {@link #writeParameters(ParameterSink)}.</p>
      *
-     * <p>Implementations typically enforce the expected arity recorded during compilation. Calling {@link #getParameters()}
-     * may validate that the number of bound values matches that expected arity.</p>
+     * <p>Implementations typically enforce the expected arity recorded during compilation. Calling
+     * {@link #writeParameters(ParameterSink)} may validate that the number of bound values matches that expected
+     * arity.</p>
      */
     interface ParameterFactory {
 
@@ -150,14 +150,15 @@ interface TemplateBinder {
         void bind(@Nullable Object value);
 
         /**
-         * Returns the positional parameters produced for the current bind vars segment.
+         * Writes the positional parameters produced for the current bind vars segment to the sink.
          *
-         * <p>Implementations may validate arity and may reset internal temporary storage after this call.</p>
+         * <p>Implementations may validate arity and reset internal temporary storage after this call.</p>
          *
-         * @return the positional parameters for this segment.
+         * @param sink the sink to write the positional parameters of this segment to.
          * @throws IllegalStateException if the number of bound values does not match the expected arity.
+         * @since 1.11
          */
-        List<PositionalParameter> getParameters();
+        void writeParameters(@Nonnull ParameterSink sink);
     }
 
     /**
@@ -18,6 +18,7 @@ package st.orm.core.template.impl;
 import java.lang.management.ManagementFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import org.slf4j.Logger;
@@ -30,9 +31,12 @@ import org.slf4j.LoggerFactory;
  * instances share this single metrics collector. If JMX registration fails, metrics are still collected in-memory
  * and accessible via {@link #getInstance()}.</p>
  *
+ * <p>The template caches report their per-segment events to this collector. Segment counters are summed over all
+ * template caches, by segment index.</p>
+ *
  * @since 1.8
  */
-public final class TemplateMetrics implements TemplateMetricsMXBean {
+public final class TemplateMetrics implements TemplateMetricsMXBean, SegmentedLruCache.StatsCounter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateMetrics.class);
 
@@ -66,6 +70,14 @@ public final class TemplateMetrics implements TemplateMetricsMXBean {
     private final AtomicLong missNanosTotal = new AtomicLong();
     private final AtomicLong missNanosMax = new AtomicLong();
 
+    // Cache segments. Template caches use at most 32 segments.
+    private static final int MAX_SEGMENTS = 32;
+    private final AtomicLongArray segmentHits = new AtomicLongArray(MAX_SEGMENTS);
+    private final AtomicLongArray segmentMisses = new AtomicLongArray(MAX_SEGMENTS);
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicInteger segmentCount = new AtomicInteger();
+
     // Configuration.
     private final AtomicInteger templateCacheSize = new AtomicInteger();
 
@@ -90,6 +102,32 @@ public final class TemplateMetrics implements TemplateMetricsMXBean {
         templateCacheSize.set(size);
     }
 
+    @Override
+    public void recordHit(int segment) {
+        if (segment < MAX_SEGMENTS) {
+            segmentHits.incrementAndGet(segment);
+            segmentCount.accumulateAndGet(segment + 1, Math::max);
+        }
+    }
+
+    @Override
+    public void recordMiss(int segment) {
+        if (segment < MAX_SEGMENTS) {
+            segmentMisses.incrementAndGet(segment);
+            segmentCount.accumulateAndGet(segment + 1, Math::max);
+        }
+    }
+
+    @Override
+    public void recordEviction(int segment) {
+        evictions.incrementAndGet();
+    }
+
+    @Override
+    public void recordRejection(int segment) {
+        rejections.incrementAndGet();
+    }
+
     /**
      * Start measuring one request. Call {@link Request#hit()} or {@link Request#miss()} once you know,
      * then call {@link Request#close()} in a finally block.
@@ -169,6 +207,34 @@ public final class TemplateMetrics implements TemplateMetricsMXBean {
         return missNanosMax.get() / 1_000;
     }
 
+    @Override
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    @Override
+    public long[] getSegmentHits() {
+        return snapshot(segmentHits);
+    }
+
+    @Override
+    public long[] getSegmentMisses() {
+        return snapshot(segmentMisses);
+    }
+
+    private long[] snapshot(AtomicLongArray counters) {
+        long[] values = new long[segmentCount.get()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = counters.get(i);
+        }
+        return values;
+    }
+
     @Override
     public int getTemplateCacheSize() {
         return templateCacheSize.get();
@@ -185,6 +251,13 @@ public final class TemplateMetrics implements TemplateMetricsMXBean {
         misses.set(0);
         missNanosTotal.set(0);
         missNanosMax.set(0);
+        for (int i = 0; i < MAX_SEGMENTS; i++) {
+            segmentHits.set(i, 0);
+            segmentMisses.set(i, 0);
+        }
+        segmentCount.set(0);
+        evictions.set(0);
+        rejections.set(0);
     }
 
     private enum Outcome { HIT, MISS }
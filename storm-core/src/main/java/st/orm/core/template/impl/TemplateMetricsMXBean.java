@@ -55,6 +55,37 @@ public interface TemplateMetricsMXBean {
     /** Maximum cache miss duration in microseconds. */
     long getMaxMissMicros();
 
+    // -- Cache segments --
+
+    /**
+     * Number of compiled templates evicted from the template caches.
+     *
+     * @since 1.11
+     */
+    long getEvictions();
+
+    /**
+     * Number of compiled templates that were not cached because their shape was requested less often than the
+     * template they would replace.
+     *
+     * @since 1.11
+     */
+    long getRejections();
+
+    /**
+     * Cache hits per cache segment, summed over all template caches.
+     *
+     * @since 1.11
+     */
+    long[] getSegmentHits();
+
+    /**
+     * Cache misses per cache segment, summed over all template caches.
+     *
+     * @since 1.11
+     */
+    long[] getSegmentMisses();
+
     // -- Configuration --
 
     /** Returns the configured template cache size, or the last registered value if multiple instances exist. */
@@ -46,6 +46,7 @@ import st.orm.core.template.SqlTemplate.PositionalParameter;
 import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TemplateString;
 import st.orm.core.template.impl.BindHint.NoBindHint;
+import st.orm.core.template.impl.BindVarsImpl.ParameterSink;
 import st.orm.core.template.impl.SqlTemplateImpl.Wrapped;
 import st.orm.core.template.impl.TemplatePreparation.BindingContext;
 import st.orm.core.template.impl.TemplatePreparation.CompilationContext;
@@ -1173,33 +1174,43 @@ class TemplateProcessor {
                 throw new IllegalStateException("Not enough bind variables.");
             }
             return new ParameterFactory() {
-                final List<PositionalParameter> tmp = new ArrayList<>();
                 final int expectedBindVarCount = bindVarsCounts.get(bindVarsCursor++);
+                // Reused for every record, so binding a batch does not allocate per record.
+                final Object[] values = new Object[expectedBindVarCount];
+                int count;
 
                 /**
                  * Binds one value for the current bind vars segment.
                  *
                  * @param value the value to bind.
+                 * @throws IllegalStateException if more values are bound than the expected arity.
                  */
                 @Override
                 public void bind(@Nullable Object value) {
-                    tmp.add(new PositionalParameter(startPosition + tmp.size(), value));
+                    if (count == expectedBindVarCount) {
+                        count = 0;
+                        throw new IllegalStateException("Bind var count mismatch.");
+                    }
+                    values[count++] = value;
                 }
 
                 /**
-                 * Returns the parameters of the current bind vars segment and resets internal storage.
+                 * Writes the parameters of the current bind vars segment to the sink and resets internal storage.
                  *
-                 * @return the positional parameters for the bind vars segment.
+                 * @param sink the sink to write the positional parameters to.
                  * @throws IllegalStateException if the number of bound values differs from the expected arity.
                  */
                 @Override
-                public List<PositionalParameter> getParameters() {
-                    if (tmp.size() != expectedBindVarCount) {
+                public void writeParameters(@Nonnull ParameterSink sink) {
+                    int bound = count;
+                    count = 0;
+                    if (bound != expectedBindVarCount) {
                         throw new IllegalStateException("Bind var count mismatch.");
                     }
-                    var result = List.copyOf(tmp);
-                    tmp.clear();
-                    return result;
+                    for (int i = 0; i < bound; i++) {
+                        sink.set(startPosition + i, values[i]);
+                        values[i] = null;
+                    }
                 }
             };
         }
@@ -19,6 +19,7 @@ import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiConsumer;
 import st.orm.Data;
 import st.orm.core.template.Column;
 import st.orm.core.template.Model;
@@ -27,6 +28,7 @@ import st.orm.core.template.impl.Elements.Values;
 
 final class ValuesProcessor implements ElementProcessor<Values> {
     record ValuesBindHint(@Nonnull List<Column> columns) implements BindHint {}
+    record RowsKey(int rows, boolean ignoreAutoGenerate) {}
 
     private static final List<Data> EMPTY_DATA = List.of();
 
@@ -47,9 +49,13 @@ final class ValuesProcessor implements ElementProcessor<Values> {
     public Object getCompilationKey(@Nonnull Values values) {
         if (values.records() != null) {
             if (hasAtMostOneElement(values.records())) {
-                // Only cache when record-count is 1.
                 return new Values(EMPTY_DATA, null, values.ignoreAutoGenerate());
             }
+            if (values.records() instanceof FixedRows<?> rows) {
+                // The SQL only depends on the number of rows, which repositories keep fixed for multi-row statements.
+                // Other collections are not cached, so that arbitrary row counts do not fill the template cache.
+                return new RowsKey(rows.size(), values.ignoreAutoGenerate());
+            }
             return null;
         }
         return new Values(null, null, values.ignoreAutoGenerate());
@@ -116,20 +122,21 @@ final class ValuesProcessor implements ElementProcessor<Values> {
             }
             if (values.bindVars() instanceof BindVarsImpl vars) {
                 var parameterFactory = binder.setBindVars(vars);
-                vars.addParameterExtractor(record -> {
+                BiConsumer<Column, Object> bindValue = (column, value) -> {
+                    switch (column.generation()) {
+                        case NONE -> parameterFactory.bind(value);
+                        case IDENTITY, SEQUENCE -> {
+                            if (values.ignoreAutoGenerate()) {
+                                parameterFactory.bind(value);
+                            }
+                        }
+                    }
+                };
+                vars.addParameterExtractor((record, sink) -> {
                     try {
                         model.validateForeignKeys(columns, record);
-                        model.forEachValue(columns, record, (column, value) -> {
-                            switch (column.generation()) {
-                                case NONE -> parameterFactory.bind(value);
-                                case IDENTITY, SEQUENCE -> {
-                                    if (values.ignoreAutoGenerate()) {
-                                        parameterFactory.bind(value);
-                                    }
-                                }
-                            }
-                        });
-                        return parameterFactory.getParameters();
+                        model.forEachValue(columns, record, bindValue);
+                        parameterFactory.writeParameters(sink);
                     } catch (SqlTemplateException ex) {
                         throw new UncheckedSqlTemplateException(ex);
                     }
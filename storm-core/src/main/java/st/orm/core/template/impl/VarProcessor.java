@@ -81,9 +81,9 @@ final class VarProcessor implements ElementProcessor<BindVar> {
     public void bind(@Nonnull BindVar bindVar, @Nonnull TemplateBinder binder, @Nonnull BindHint bindHint) {
         if (bindVar.bindVars() instanceof BindVarsImpl vars) {
             var parameterFactory = binder.setBindVars(vars);
-            vars.addParameterExtractor(record -> {
+            vars.addParameterExtractor((record, sink) -> {
                 parameterFactory.bind(bindVar.extractor().apply(record));
-                return parameterFactory.getParameters();
+                parameterFactory.writeParameters(sink);
             });
         }
     }
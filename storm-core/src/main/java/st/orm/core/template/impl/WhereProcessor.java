@@ -20,11 +20,13 @@ import static st.orm.core.template.impl.ElementRouter.getElementProcessor;
 
 import jakarta.annotation.Nonnull;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import st.orm.BindVars;
 import st.orm.Data;
 import st.orm.core.template.Column;
 import st.orm.core.template.Model;
+import st.orm.core.template.SqlTemplate;
 import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TemplateString;
 import st.orm.core.template.impl.Elements.Where;
@@ -43,15 +45,17 @@ final class WhereProcessor implements ElementProcessor<Where> {
      * non-cacheable and the template must be recompiled each time it is requested.</p>
      *
      * @param where the element to compute a key for.
+     * @param keyGenerator a function that generates compilation keys for sub-templates.
+     * @param template the template that compiles the element.
      * @return an immutable key for caching, or {@code null} if the element (or its compilation) cannot be cached.
      * @throws SqlTemplateException if the key generation fails.
      */
     @Override
-    public Object getCompilationKey(@Nonnull Where where, @Nonnull Function<TemplateString, Object> keyGenerator)
-            throws SqlTemplateException {
+    public Object getCompilationKey(@Nonnull Where where, @Nonnull Function<TemplateString, Object> keyGenerator,
+                                    @Nonnull SqlTemplate template) throws SqlTemplateException {
         if (where.expression() != null) {
             var cacheable = new Cacheable(where.expression());
-            return getElementProcessor(cacheable).getCompilationKey(cacheable, keyGenerator);
+            return getElementProcessor(cacheable).getCompilationKey(cacheable, keyGenerator, template);
         }
         if (where.bindVars() != null) {
             return new Where(null, null);
@@ -104,12 +108,11 @@ final class WhereProcessor implements ElementProcessor<Where> {
                 //noinspection unchecked
                 var model = (Model<Data, ?>) binder.getModel(table.type());
                 var parameterFactory = binder.setBindVars(where.bindVars());
-                vars.addParameterExtractor(record -> {
+                BiConsumer<Column, Object> bindValue = (column, value) -> parameterFactory.bind(value);
+                vars.addParameterExtractor((record, sink) -> {
                     try {
-                        model
-                                .forEachValue(columns, record,
-                                        (column, value) -> parameterFactory.bind(value));
-                        return parameterFactory.getParameters();
+                        model.forEachValue(columns, record, bindValue);
+                        parameterFactory.writeParameters(sink);
                     } catch (SqlTemplateException ex) {
                         throw new UncheckedSqlTemplateException(ex);
                     }
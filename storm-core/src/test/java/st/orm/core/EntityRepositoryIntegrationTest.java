@@ -6,11 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
@@ -20,6 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
 import st.orm.DbTable;
 import st.orm.Entity;
 import st.orm.EntityCallback;
@@ -28,9 +32,13 @@ import st.orm.NoResultException;
 import st.orm.PK;
 import st.orm.PersistenceException;
 import st.orm.Ref;
+import st.orm.StormConfig;
 import st.orm.core.model.City;
 import st.orm.core.model.Owner;
+import st.orm.core.model.PetView;
 import st.orm.core.template.ORMTemplate;
+import st.orm.core.template.SqlInterceptor;
+import st.orm.core.template.impl.TemplateMetrics;
 
 /**
  * Extended integration tests for {@code EntityRepositoryImpl} to cover methods that are currently
@@ -864,6 +872,51 @@ public class EntityRepositoryIntegrationTest {
         }
     }
 
+    // selectById with parallelism
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    public void testSelectByIdWithParallelism() {
+        var orm = ORMTemplate.of(dataSource);
+        var cities = orm.entity(City.class);
+        try (var stream = cities.selectById(Stream.of(1, 2, 3, 4, 5, 6), 2, 3)) {
+            List<Integer> ids = stream.map(City::id).toList();
+            assertEquals(6, ids.size());
+            // Results are emitted in chunk order.
+            assertEquals(Set.of(1, 2), Set.copyOf(ids.subList(0, 2)));
+            assertEquals(Set.of(3, 4), Set.copyOf(ids.subList(2, 4)));
+            assertEquals(Set.of(5, 6), Set.copyOf(ids.subList(4, 6)));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    public void testSelectByIdWithParallelismClosedEarly() {
+        var orm = ORMTemplate.of(dataSource);
+        var cities = orm.entity(City.class);
+        try (var stream = cities.selectById(Stream.of(1, 2, 3, 4, 5, 6), 1, 4)) {
+            assertEquals(2, stream.limit(2).count());
+        }
+        assertEquals(6, cities.count());
+    }
+
+    @Test
+    public void testSelectByIdWithParallelismInTransaction() {
+        // Falls back to sequential execution on the transaction's connection.
+        var orm = ORMTemplate.of(dataSource);
+        var cities = orm.entity(City.class);
+        try (var stream = cities.selectById(Stream.of(1, 2, 3, 4), 2, 2)) {
+            assertEquals(4, stream.toList().size());
+        }
+    }
+
+    @Test
+    public void testSelectByIdWithInvalidParallelism() {
+        var orm = ORMTemplate.of(dataSource);
+        var cities = orm.entity(City.class);
+        assertThrows(IllegalArgumentException.class, () -> cities.selectById(Stream.of(1, 2), 2, 0));
+    }
+
     // selectByRef with chunkSize
 
     @Test
@@ -1009,4 +1062,57 @@ public class EntityRepositoryIntegrationTest {
         apiKeys.deleteById(SECONDARY_KEY_ID);
         assertEquals(before - 1, apiKeys.count());
     }
+
+    @Test
+    public void testWarmUpCompilesStatementsWithoutExecuting() {
+        var orm = ORMTemplate.of(dataSource);
+        List<String> observed = new ArrayList<>();
+        // PetView is not an entity and is skipped.
+        SqlInterceptor.observe(sql -> observed.add(sql.statement()),
+                () -> orm.warmUp(List.of(City.class, PetView.class)));
+        // The compiled statements are not executed, so they are not passed to the interceptors.
+        assertTrue(observed.isEmpty());
+        var metrics = TemplateMetrics.getInstance();
+        long misses = metrics.getMisses();
+        SqlInterceptor.observe(sql -> observed.add(sql.statement()), () -> orm.entity(City.class).findById(1));
+        assertEquals(1, observed.size());
+        assertEquals(misses, metrics.getMisses());
+        assertEquals(6, orm.entity(City.class).count());
+    }
+
+    @Test
+    public void testInsertUsesMultiRowStatements() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.insert.multi_row_size", "2")));
+        var cities = orm.entity(City.class);
+        long before = cities.count();
+        List<String> statements = new ArrayList<>();
+        SqlInterceptor.observe(sql -> statements.add(sql.statement()), () -> cities.insert(List.of(
+                City.builder().name("Multi1").build(),
+                City.builder().name("Multi2").build(),
+                City.builder().name("Multi3").build(),
+                City.builder().name("Multi4").build(),
+                City.builder().name("Multi5").build())));
+        assertEquals(before + 5, cities.count());
+        // The batch statement for the last row, and two statements with two rows each.
+        assertEquals(3, statements.size());
+        assertEquals(2, statements.stream().filter(statement -> statement.contains("), (")).count());
+    }
+
+    @Test
+    public void testInsertMultiRowStatementsAreCappedByBatchSize() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.insert.multi_row_size", "10")));
+        var cities = orm.entity(City.class);
+        long before = cities.count();
+        List<String> statements = new ArrayList<>();
+        SqlInterceptor.observe(sql -> statements.add(sql.statement()), () -> cities.insert(Stream.of(
+                City.builder().name("Multi1").build(),
+                City.builder().name("Multi2").build(),
+                City.builder().name("Multi3").build(),
+                City.builder().name("Multi4").build(),
+                City.builder().name("Multi5").build()), 2));
+        assertEquals(before + 5, cities.count());
+        // Two statements with two rows each, and the batch statement for the last chunk.
+        assertEquals(3, statements.size());
+        assertEquals(2, statements.stream().filter(statement -> statement.contains("(?), (?)")).count());
+    }
 }
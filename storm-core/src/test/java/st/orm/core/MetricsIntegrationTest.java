@@ -364,6 +364,29 @@ public class MetricsIntegrationTest {
         assertTrue(metrics.getMaxMissMicros() >= 0);
     }
 
+    @Test
+    public void testTemplateMetricsSegmentCounters() {
+        var metrics = TemplateMetrics.getInstance();
+        metrics.reset();
+        metrics.recordHit(0);
+        metrics.recordHit(1);
+        metrics.recordHit(1);
+        metrics.recordMiss(1);
+        metrics.recordEviction(0);
+        metrics.recordRejection(1);
+        assertEquals(1, metrics.getSegmentHits()[0]);
+        assertEquals(2, metrics.getSegmentHits()[1]);
+        assertEquals(0, metrics.getSegmentMisses()[0]);
+        assertEquals(1, metrics.getSegmentMisses()[1]);
+        assertEquals(1, metrics.getEvictions());
+        assertEquals(1, metrics.getRejections());
+        metrics.reset();
+        assertEquals(0, metrics.getSegmentHits().length);
+        assertEquals(0, metrics.getSegmentMisses().length);
+        assertEquals(0, metrics.getEvictions());
+        assertEquals(0, metrics.getRejections());
+    }
+
     @Test
     public void testTemplateMetricsUnmarkedOutcomeTreatedAsMiss() {
         var metrics = TemplateMetrics.getInstance();
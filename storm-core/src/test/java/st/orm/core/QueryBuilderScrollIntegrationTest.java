@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
+import java.util.List;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
 import st.orm.PersistenceException;
 import st.orm.Scrollable;
 import st.orm.core.model.Vet;
@@ -189,4 +192,34 @@ public class QueryBuilderScrollIntegrationTest {
                         .orderBy(Vet_.id)
                         .scroll(-1));
     }
+
+    // scrollAll chains keyset windows
+
+    @Test
+    public void scrollAllReturnsAllRowsInKeyOrder() {
+        try (var vets = ORMTemplate.of(dataSource)
+                .selectFrom(Vet.class)
+                .scrollAll(Vet_.id, 4)) {
+            assertEquals(List.of(1, 2, 3, 4, 5, 6), vets.map(Vet::id).toList());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    public void scrollAllWithPrefetchReturnsAllRowsInKeyOrder() {
+        try (var vets = ORMTemplate.of(dataSource)
+                .selectFrom(Vet.class)
+                .scrollAll(Vet_.id, 2, true)) {
+            assertEquals(List.of(1, 2, 3, 4, 5, 6), vets.map(Vet::id).toList());
+        }
+    }
+
+    @Test
+    public void scrollAllThrowsWhenExplicitOrderByIsPresent() {
+        assertThrows(PersistenceException.class, () ->
+                ORMTemplate.of(dataSource)
+                        .selectFrom(Vet.class)
+                        .orderBy(Vet_.lastName)
+                        .scrollAll(Vet_.id, 2));
+    }
 }
@@ -0,0 +1,120 @@
+package st.orm.core;
+
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static st.orm.core.template.TemplateString.raw;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import st.orm.ColumnBatch;
+import st.orm.core.model.Visit;
+import st.orm.core.template.ORMTemplate;
+
+/**
+ * Integration tests for {@link st.orm.core.template.Query#getColumnBatches(Class, int)}.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = IntegrationConfig.class)
+@DataJpaTest(showSql = false)
+public class QueryColumnBatchIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static final String ROWS = """
+            SELECT * FROM (VALUES
+                (CAST(1 AS INT), CAST(1.5 AS DOUBLE PRECISION), CAST('a' AS VARCHAR), TRUE),
+                (2, NULL, NULL, FALSE),
+                (NULL, 3.0, 'c', NULL)
+            ) AS t(id, amount, name, flag)
+            ORDER BY t.name NULLS FIRST""";
+
+    record Row(Integer id, Double amount, String name, Boolean flag) {}
+
+    record Inner(Double amount, String name) {}
+
+    record Outer(Integer id, Inner inner, boolean flag) {}
+
+    @Test
+    public void testColumnBatches() {
+        var orm = ORMTemplate.of(dataSource);
+        try (var stream = orm.query(raw(ROWS)).getColumnBatches(Row.class, 2)) {
+            var batches = stream.toList();
+            assertEquals(2, batches.size());
+            ColumnBatch first = batches.getFirst();
+            assertEquals(2, first.size());
+            assertEquals(4, first.columnCount());
+            assertEquals(Integer.class, first.columnType(0));
+            // Rows are ordered by name, nulls first: (2, NULL, NULL, FALSE), (1, 1.5, 'a', TRUE).
+            assertArrayEquals(new long[] {2, 1}, first.longs(0));
+            assertArrayEquals(new double[] {0, 1.5}, first.doubles(1));
+            assertTrue(first.isNull(1, 0));
+            assertFalse(first.isNull(1, 1));
+            assertArrayEquals(new Object[] {null, "a"}, first.objects(2));
+            assertArrayEquals(new long[] {0, 1}, first.longs(3));
+            ColumnBatch last = batches.getLast();
+            assertEquals(1, last.size());
+            assertEquals(1, last.longs(0).length);
+            assertTrue(last.isNull(0, 0));
+            assertTrue(last.isNull(3, 0));
+            assertNull(last.getObject(0, 0));
+            assertEquals(3.0, last.getObject(1, 0));
+            assertEquals("c", last.getObject(2, 0));
+        }
+    }
+
+    @Test
+    public void testColumnBatchesFlattenNestedRecords() {
+        var orm = ORMTemplate.of(dataSource);
+        try (var stream = orm.query(raw(ROWS)).getColumnBatches(Outer.class, 10)) {
+            var batches = stream.toList();
+            assertEquals(1, batches.size());
+            ColumnBatch batch = batches.getFirst();
+            assertEquals(3, batch.size());
+            assertEquals(4, batch.columnCount());
+            assertEquals(Double.class, batch.columnType(1));
+            assertEquals(String.class, batch.columnType(2));
+            assertEquals(boolean.class, batch.columnType(3));
+            assertArrayEquals(new Object[] {null, "a", "c"}, batch.objects(2));
+            assertThrows(IllegalStateException.class, () -> batch.longs(2));
+        }
+    }
+
+    @Test
+    public void testColumnBatchesMatchResultList() {
+        var orm = ORMTemplate.of(dataSource);
+        Map<Long, LocalDate> expected = orm.entity(Visit.class).select().getResultList().stream()
+                .collect(toMap(visit -> visit.id().longValue(), Visit::visitDate));
+        Map<Long, LocalDate> actual = new HashMap<>();
+        try (var stream = orm.entity(Visit.class).select().build().getColumnBatches(Visit.class, 4)) {
+            stream.forEach(batch -> {
+                assertTrue(batch.size() <= 4);
+                long[] ids = batch.longs(0);
+                Object[] dates = batch.objects(1);
+                for (int row = 0; row < batch.size(); row++) {
+                    actual.put(ids[row], (LocalDate) dates[row]);
+                }
+            });
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testInvalidBatchSize() {
+        var orm = ORMTemplate.of(dataSource);
+        assertThrows(IllegalArgumentException.class, () -> orm.query(raw(ROWS)).getColumnBatches(Row.class, 0));
+    }
+}
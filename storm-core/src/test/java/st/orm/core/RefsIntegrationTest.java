@@ -0,0 +1,95 @@
+package st.orm.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static st.orm.core.template.SqlInterceptor.observe;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import st.orm.Ref;
+import st.orm.core.model.Pet;
+import st.orm.core.model.PetType;
+import st.orm.core.template.ORMTemplate;
+import st.orm.core.template.Refs;
+
+/**
+ * Integration tests for batch fetching of refs.
+ */
+@SuppressWarnings("ALL")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = IntegrationConfig.class)
+@DataJpaTest(showSql = false)
+public class RefsIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void fetchAll_loadsRefsOfSameTypeWithSingleQuery() {
+        var pets = ORMTemplate.of(dataSource).entity(Pet.class).findAll();
+        List<Ref<PetType>> types = pets.stream().map(Pet::type).toList();
+        assertTrue(types.stream().noneMatch(Ref::isLoaded));
+        var selects = new AtomicInteger();
+        observe(sql -> selects.incrementAndGet(), () -> Refs.fetchAll(types));
+        assertEquals(1, selects.get());
+        assertTrue(types.stream().allMatch(Ref::isLoaded));
+        selects.set(0);
+        observe(sql -> selects.incrementAndGet(), () -> types.forEach(Ref::fetch));
+        assertEquals(0, selects.get());
+        assertEquals("cat", leo(pets).type().fetch().name());
+    }
+
+    @Test
+    void fetchAll_ignoresLoadedAndDetachedRefs() {
+        var selects = new AtomicInteger();
+        var detached = Ref.of(PetType.class, 1);
+        observe(sql -> selects.incrementAndGet(), () -> Refs.fetchAll(List.of(detached)));
+        assertEquals(0, selects.get());
+        assertFalse(detached.isLoaded());
+    }
+
+    @Test
+    void batch_fetchesPendingRefsOfSameTypeOnFirstFetch() {
+        var orm = ORMTemplate.of(dataSource);
+        Refs.batch(() -> {
+            var pets = orm.entity(Pet.class).findAll();
+            var selects = new AtomicInteger();
+            observe(sql -> selects.incrementAndGet(), () -> pets.forEach(pet -> pet.type().fetch()));
+            assertEquals(1, selects.get());
+            assertEquals("cat", leo(pets).type().fetch().name());
+        });
+    }
+
+    @Test
+    void batch_returnsResultOfSupplier() {
+        var orm = ORMTemplate.of(dataSource);
+        var names = Refs.batch(() -> orm.entity(Pet.class).findAll().stream()
+                .map(pet -> pet.type().fetch().name())
+                .distinct()
+                .count());
+        assertEquals(6, names);
+    }
+
+    @Test
+    void batch_releasesPendingRefsWhenWindowCloses() {
+        var orm = ORMTemplate.of(dataSource);
+        var pets = Refs.batch(() -> orm.entity(Pet.class).findAll());
+        var selects = new AtomicInteger();
+        observe(sql -> selects.incrementAndGet(), () -> leo(pets).type().fetch());
+        assertEquals(1, selects.get());
+        // Refs fetched after the window has closed are fetched individually.
+        assertTrue(pets.stream().filter(pet -> pet.id() != 1).noneMatch(pet -> pet.type().isLoaded()));
+    }
+
+    private static Pet leo(List<Pet> pets) {
+        return pets.stream().filter(pet -> pet.id() == 1).findFirst().orElseThrow();
+    }
+}
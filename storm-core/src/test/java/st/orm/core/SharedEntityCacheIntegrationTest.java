@@ -0,0 +1,246 @@
+package st.orm.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+import static st.orm.core.template.SqlInterceptor.observe;
+import static st.orm.core.template.TemplateString.raw;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.Builder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import st.orm.Cacheable;
+import st.orm.DbTable;
+import st.orm.Entity;
+import st.orm.PK;
+import st.orm.core.model.City;
+import st.orm.core.spi.SharedEntityCache;
+import st.orm.core.template.ORMTemplate;
+
+/**
+ * Integration tests for the shared entity cache of {@link Cacheable} entities.
+ */
+@SuppressWarnings("ALL")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = IntegrationConfig.class)
+@DataJpaTest(showSql = false)
+public class SharedEntityCacheIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Cacheable(ttl = 60, maxSize = 100)
+    @Builder(toBuilder = true)
+    @DbTable("city")
+    public record CachedCity(
+            @PK Integer id,
+            @Nonnull String name
+    ) implements Entity<Integer> {}
+
+    @Cacheable(ttl = 0)
+    @DbTable("city")
+    public record UnboundedCity(
+            @PK Integer id,
+            @Nonnull String name
+    ) implements Entity<Integer> {}
+
+    @AfterEach
+    void clearSharedCaches() {
+        SharedEntityCache.clearAll();
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void getById_servesRepeatedLookupFromSharedCache() {
+        var repo = ORMTemplate.of(dataSource).entity(CachedCity.class);
+        var selects = new AtomicInteger();
+        var second = countSelects(selects, () -> {
+            var first = repo.getById(1);
+            var again = repo.getById(1);
+            assertSame(first, again);
+            return again;
+        });
+        assertEquals(1, selects.get());
+        assertEquals("Sun Paririe", second.name());
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void findById_sharesEntitiesAcrossRepositories() {
+        var first = ORMTemplate.of(dataSource).entity(CachedCity.class).findById(2).orElseThrow();
+        var selects = new AtomicInteger();
+        var second = countSelects(selects, () -> ORMTemplate.of(dataSource).entity(CachedCity.class).findById(2).orElseThrow());
+        assertEquals(0, selects.get());
+        assertSame(first, second);
+    }
+
+    @Test
+    void nonCacheableEntity_isNotShared() {
+        var repo = ORMTemplate.of(dataSource).entity(City.class);
+        var selects = new AtomicInteger();
+        countSelects(selects, () -> {
+            repo.getById(1);
+            return repo.getById(1);
+        });
+        assertEquals(2, selects.get());
+    }
+
+    @Test
+    void update_invalidatesSharedCacheAndBypassesItForWritingTransaction() {
+        var repo = ORMTemplate.of(dataSource).entity(CachedCity.class);
+        var city = repo.getById(1);
+        repo.update(city.toBuilder().name("Updated").build());
+        var selects = new AtomicInteger();
+        var reloaded = countSelects(selects, () -> {
+            repo.getById(1);
+            return repo.getById(1);
+        });
+        // The writing transaction must not read from, nor publish to, the shared cache.
+        assertEquals(2, selects.get());
+        assertEquals("Updated", reloaded.name());
+    }
+
+    @Test
+    void rawUpdate_invalidatesAllSharedCaches() {
+        var orm = ORMTemplate.of(dataSource);
+        var repo = orm.entity(CachedCity.class);
+        repo.getById(1);
+        orm.query(raw("UPDATE city SET name = 'Raw' WHERE id = 1")).executeUpdate();
+        assertEquals("Raw", repo.getById(1).name());
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void refFetch_usesSharedCache() {
+        var orm = ORMTemplate.of(dataSource);
+        var city = orm.entity(CachedCity.class).getById(3);
+        var selects = new AtomicInteger();
+        var fetched = countSelects(selects, () -> orm.ref(CachedCity.class, 3).fetch());
+        assertEquals(0, selects.get());
+        assertSame(city, fetched);
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void selectById_onlyQueriesUncachedIds() {
+        var repo = ORMTemplate.of(dataSource).entity(CachedCity.class);
+        repo.getById(1);
+        repo.getById(2);
+        var selects = new AtomicInteger();
+        var cities = countSelects(selects, () -> repo.findAllById(List.of(1, 2, 3)));
+        assertEquals(1, selects.get());
+        assertEquals(3, cities.size());
+        selects.set(0);
+        countSelects(selects, () -> repo.findAllById(List.of(1, 2, 3)));
+        assertEquals(0, selects.get());
+    }
+
+    @Test
+    void readInsideTransaction_isNotPublished() {
+        var repo = ORMTemplate.of(dataSource).entity(CachedCity.class);
+        var selects = new AtomicInteger();
+        countSelects(selects, () -> {
+            repo.getById(1);
+            return repo.getById(1);
+        });
+        // Reads within a transaction are only published once the transaction commits.
+        assertEquals(2, selects.get());
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void readInsideCommittedTransaction_isPublishedAfterCommit() {
+        var repo = ORMTemplate.of(dataSource).entity(CachedCity.class);
+        var city = new TransactionTemplate(transactionManager).execute(status -> repo.getById(1));
+        var selects = new AtomicInteger();
+        var cached = countSelects(selects, () -> repo.getById(1));
+        assertEquals(0, selects.get());
+        assertSame(city, cached);
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void readInsideRolledBackTransaction_isNotPublished() {
+        var repo = ORMTemplate.of(dataSource).entity(CachedCity.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            repo.getById(1);
+            status.setRollbackOnly();
+        });
+        var selects = new AtomicInteger();
+        countSelects(selects, () -> repo.getById(1));
+        assertEquals(1, selects.get());
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void readInsideWritingTransaction_isNotPublished() {
+        var orm = ORMTemplate.of(dataSource);
+        var repo = orm.entity(CachedCity.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            repo.getById(2);
+            orm.query(raw("UPDATE city SET name = name WHERE id = 1")).executeUpdate();
+        });
+        var selects = new AtomicInteger();
+        countSelects(selects, () -> repo.getById(2));
+        assertEquals(1, selects.get());
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void templatesOnDifferentDataSources_doNotShareEntities() {
+        ORMTemplate.of(dataSource).entity(CachedCity.class).getById(2);
+        var repo = ORMTemplate.of(new DelegatingDataSource(dataSource)).entity(CachedCity.class);
+        var selects = new AtomicInteger();
+        countSelects(selects, () -> repo.getById(2));
+        assertEquals(1, selects.get());
+    }
+
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void writingTransaction_invalidatesSharedCacheOnCompletion() {
+        var repo = ORMTemplate.of(dataSource).entity(CachedCity.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            var city = repo.getById(1);
+            repo.update(city.toBuilder().name("Updated").build());
+            // A concurrent reader publishes while the update is not yet committed.
+            CompletableFuture.runAsync(() -> repo.getById(2)).join();
+            status.setRollbackOnly();
+        });
+        var selects = new AtomicInteger();
+        countSelects(selects, () -> repo.getById(2));
+        assertEquals(1, selects.get());
+    }
+
+    @Test
+    void nonPositiveTtl_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SharedEntityCache.of(dataSource, UnboundedCity.class));
+    }
+
+    private <T> T countSelects(AtomicInteger counter, Supplier<T> action) {
+        return observe(sql -> {
+            if (sql.statement().startsWith("SELECT")) {
+                counter.incrementAndGet();
+            }
+        }, action);
+    }
+}
@@ -0,0 +1,110 @@
+package st.orm.core.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import st.orm.Entity;
+import st.orm.PK;
+
+/**
+ * Tests for {@link PrimitiveKeyEntityCacheImpl}.
+ */
+public class PrimitiveKeyEntityCacheImplTest {
+
+    record LongEntity(@PK Long id, String name) implements Entity<Long> {}
+
+    record IntEntity(@PK int id, String name) implements Entity<Integer> {}
+
+    record StringEntity(@PK String id, String name) implements Entity<String> {}
+
+    @BeforeEach
+    public void resetMetrics() {
+        EntityCacheMetrics.getInstance().reset();
+    }
+
+    @Test
+    public void testCreateSelectsImplementationByPrimaryKeyType() {
+        assertInstanceOf(PrimitiveKeyEntityCacheImpl.class, EntityCache.create(LongEntity.class, CacheRetention.DEFAULT));
+        assertInstanceOf(PrimitiveKeyEntityCacheImpl.class, EntityCache.create(IntEntity.class, CacheRetention.DEFAULT));
+        assertInstanceOf(EntityCacheImpl.class, EntityCache.create(StringEntity.class, CacheRetention.DEFAULT));
+    }
+
+    @Test
+    public void testInternReturnsCachedInstanceForEqualEntity() {
+        PrimitiveKeyEntityCacheImpl<LongEntity, Long> cache = new PrimitiveKeyEntityCacheImpl<>(CacheRetention.DEFAULT);
+        LongEntity entity1 = new LongEntity(1L, "Alice");
+        LongEntity entity2 = new LongEntity(1L, "Alice");
+        assertSame(entity1, cache.intern(entity1));
+        assertSame(entity1, cache.intern(entity2));
+        EntityCacheMetrics metrics = EntityCacheMetrics.getInstance();
+        assertEquals(1, metrics.getInternHits());
+        assertEquals(1, metrics.getInternMisses());
+    }
+
+    @Test
+    public void testInternReplacesWhenEntityDiffers() {
+        PrimitiveKeyEntityCacheImpl<LongEntity, Long> cache = new PrimitiveKeyEntityCacheImpl<>(CacheRetention.DEFAULT);
+        cache.intern(new LongEntity(1L, "Alice"));
+        LongEntity updated = new LongEntity(1L, "Updated Alice");
+        assertSame(updated, cache.intern(updated));
+        assertSame(updated, cache.get(1L).orElseThrow());
+    }
+
+    @Test
+    public void testIntPrimaryKey() {
+        PrimitiveKeyEntityCacheImpl<IntEntity, Integer> cache = new PrimitiveKeyEntityCacheImpl<>(CacheRetention.LIGHT);
+        IntEntity entity = new IntEntity(-7, "Alice");
+        cache.intern(entity);
+        assertSame(entity, cache.get(-7).orElseThrow());
+        assertTrue(cache.get(7).isEmpty());
+    }
+
+    @Test
+    public void testGrowAndRemoveKeepsRemainingEntries() {
+        PrimitiveKeyEntityCacheImpl<LongEntity, Long> cache = new PrimitiveKeyEntityCacheImpl<>(CacheRetention.DEFAULT);
+        LongEntity[] entities = new LongEntity[10_000];
+        for (int i = 0; i < entities.length; i++) {
+            // Use strided keys so probe sequences overlap after removal.
+            entities[i] = new LongEntity(i * 1024L, "Entity " + i);
+            cache.intern(entities[i]);
+        }
+        for (int i = 0; i < entities.length; i += 2) {
+            cache.remove(entities[i].id());
+        }
+        for (int i = 0; i < entities.length; i++) {
+            if (i % 2 == 0) {
+                assertTrue(cache.get(entities[i].id()).isEmpty());
+            } else {
+                assertSame(entities[i], cache.get(entities[i].id()).orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    public void testClearRemovesAllEntries() {
+        PrimitiveKeyEntityCacheImpl<LongEntity, Long> cache = new PrimitiveKeyEntityCacheImpl<>(CacheRetention.DEFAULT);
+        for (long i = 0; i < 100; i++) {
+            cache.intern(new LongEntity(i, "Entity " + i));
+        }
+        cache.clear();
+        for (long i = 0; i < 100; i++) {
+            assertTrue(cache.get(i).isEmpty());
+        }
+        assertEquals(1, EntityCacheMetrics.getInstance().getClears());
+    }
+
+    @Test
+    public void testMetricsRemovalAndGetMissRecording() {
+        PrimitiveKeyEntityCacheImpl<LongEntity, Long> cache = new PrimitiveKeyEntityCacheImpl<>(CacheRetention.DEFAULT);
+        cache.intern(new LongEntity(1L, "Alice"));
+        cache.remove(1L);
+        cache.get(1L);
+        EntityCacheMetrics metrics = EntityCacheMetrics.getInstance();
+        assertEquals(1, metrics.getRemovals());
+        assertEquals(1, metrics.getGetMisses());
+    }
+}
@@ -1,11 +1,17 @@
 package st.orm.core.template.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import st.orm.Data;
 import st.orm.PersistenceException;
+import st.orm.core.template.SqlTemplate.PositionalParameter;
+import st.orm.core.template.impl.BindVarsImpl.BatchBinder;
 
 /**
  * Tests for {@link BindVarsImpl}.
@@ -57,4 +63,60 @@ public class BindVarsImplTest {
         // No parameter extractors set.
         assertThrows(IllegalStateException.class, () -> handle.addBatch(null));
     }
+
+    record Item(int id, String name) implements Data {}
+
+    @Test
+    public void testBatchListenerReceivesPositionalParameters() {
+        BindVarsImpl bindVars = new BindVarsImpl();
+        List<List<PositionalParameter>> batches = new ArrayList<>();
+        bindVars.setBatchListener(batches::add);
+        bindVars.addParameterExtractor((record, sink) -> {
+            var item = (Item) record;
+            sink.set(1, item.id());
+            sink.set(2, item.name());
+        });
+        BindVarsHandle handle = bindVars.getHandle();
+        handle.addBatch(new Item(1, "a"));
+        handle.addBatch(new Item(2, "b"));
+        assertEquals(List.of(
+                List.of(new PositionalParameter(1, 1), new PositionalParameter(2, "a")),
+                List.of(new PositionalParameter(1, 2), new PositionalParameter(2, "b"))), batches);
+    }
+
+    @Test
+    public void testBatchBinderReceivesValues() {
+        BindVarsImpl bindVars = new BindVarsImpl();
+        List<String> calls = new ArrayList<>();
+        bindVars.setBatchBinder(new BatchBinder() {
+            @Override
+            public void set(int position, Object value) {
+                calls.add(position + "=" + value);
+            }
+
+            @Override
+            public void addBatch() {
+                calls.add("addBatch");
+            }
+        });
+        bindVars.addParameterExtractor((record, sink) -> sink.set(1, ((Item) record).id()));
+        bindVars.addParameterExtractor((record, sink) -> sink.set(2, ((Item) record).name()));
+        BindVarsHandle handle = bindVars.getHandle();
+        handle.addBatch(new Item(1, "a"));
+        handle.addBatch(new Item(2, "b"));
+        assertEquals(List.of("1=1", "2=a", "addBatch", "1=2", "2=b", "addBatch"), calls);
+    }
+
+    @Test
+    public void testSetBatchBinderAfterBatchListenerThrows() {
+        BindVarsImpl bindVars = new BindVarsImpl();
+        bindVars.setBatchListener(params -> {});
+        assertThrows(PersistenceException.class, () -> bindVars.setBatchBinder(new BatchBinder() {
+            @Override
+            public void set(int position, Object value) {}
+
+            @Override
+            public void addBatch() {}
+        }));
+    }
 }
@@ -0,0 +1,84 @@
+package st.orm.core.template.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConnectionReleasingPreparedStatement}.
+ */
+class ConnectionReleasingPreparedStatementTest {
+
+    private static final AtomicInteger DB_COUNTER = new AtomicInteger();
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:releasing_statement_test_" + DB_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id INTEGER PRIMARY KEY, name VARCHAR(255))");
+        }
+    }
+
+    @Test
+    void testDelegatesToStatement() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        PreparedStatement delegate = connection.prepareStatement("INSERT INTO item (id, name) VALUES (?, ?)");
+        try (var statement = new ConnectionReleasingPreparedStatement(delegate, connection, dataSource, null)) {
+            statement.setInt(1, 1);
+            statement.setString(2, "a");
+            statement.addBatch();
+            statement.setInt(1, 2);
+            statement.setString(2, "b");
+            statement.addBatch();
+            assertArrayEquals(new int[] {1, 1}, statement.executeBatch());
+            assertSame(connection, statement.getConnection());
+            assertTrue(statement.isWrapperFor(PreparedStatement.class));
+        }
+        try (var check = dataSource.getConnection();
+             var statement = check.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM item")) {
+            assertTrue(resultSet.next());
+            assertEquals(2, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    void testCloseReleasesConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        PreparedStatement delegate = connection.prepareStatement("SELECT 1");
+        var statement = new ConnectionReleasingPreparedStatement(delegate, connection, dataSource, null);
+        assertFalse(connection.isClosed());
+        statement.close();
+        assertTrue(delegate.isClosed());
+        assertTrue(connection.isClosed());
+        // Closing again has no effect.
+        statement.close();
+    }
+
+    @Test
+    void testClosedStatementRejectsCalls() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        PreparedStatement delegate = connection.prepareStatement("SELECT ?");
+        var statement = new ConnectionReleasingPreparedStatement(delegate, connection, dataSource, null);
+        statement.close();
+        assertTrue(statement.isClosed());
+        assertThrows(SQLException.class, () -> statement.setInt(1, 1));
+        assertThrows(SQLException.class, statement::executeQuery);
+        assertThrows(SQLException.class, statement::getConnection);
+    }
+}
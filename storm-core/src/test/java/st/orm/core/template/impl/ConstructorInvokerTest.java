@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.core.template.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static st.orm.core.template.impl.RecordReflection.getRecordType;
+
+import jakarta.annotation.Nonnull;
+import java.lang.reflect.Constructor;
+import org.junit.jupiter.api.Test;
+import st.orm.core.model.City;
+import st.orm.core.template.SqlTemplateException;
+import st.orm.mapping.RecordInstantiator;
+
+/**
+ * Tests for {@link ConstructorInvoker}.
+ */
+public class ConstructorInvokerTest {
+
+    record Item(int id, @Nonnull String name, Long count) {}
+
+    record Failing(String value) {
+        Failing {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ConstructorInvoker<T> invoker(Class<T> type) {
+        return ConstructorInvoker.of((Constructor<T>) type.getDeclaredConstructors()[0]);
+    }
+
+    @Test
+    public void testNewInstance() throws SqlTemplateException {
+        Item item = invoker(Item.class).newInstance(new Object[]{1, "a", null}, 0);
+        assertEquals(new Item(1, "a", null), item);
+    }
+
+    @Test
+    public void testInvokerIsCachedPerConstructor() {
+        assertSame(invoker(Item.class), invoker(Item.class));
+    }
+
+    @Test
+    public void testNullForNonnullParameter() {
+        var e = assertThrows(SqlTemplateException.class,
+                () -> invoker(Item.class).newInstance(new Object[]{1, null, 2L}, 3));
+        assertTrue(e.getMessage().contains("non-nullable field 'Item.name' at column position 5"), e.getMessage());
+    }
+
+    @Test
+    public void testNullForPrimitiveParameter() {
+        var e = assertThrows(SqlTemplateException.class,
+                () -> invoker(Item.class).newInstance(new Object[]{null, "a", 2L}, 0));
+        assertTrue(e.getMessage().contains("primitive field 'Item.id' at column position 1"), e.getMessage());
+    }
+
+    @Test
+    public void testConstructorExceptionIsWrapped() {
+        var e = assertThrows(SqlTemplateException.class,
+                () -> invoker(Failing.class).newInstance(new Object[]{"x"}, 0));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    public void testArgumentTypeMismatchIsWrapped() {
+        var e = assertThrows(SqlTemplateException.class,
+                () -> invoker(Item.class).newInstance(new Object[]{1, "a", "not a long"}, 0));
+        assertTrue(e.getMessage().startsWith("Failed to create a new instance of Item."), e.getMessage());
+    }
+
+    @Test
+    public void testGeneratedInstantiator() throws Exception {
+        var instantiator = Class.forName(City.class.getName() + "Metamodel$Instantiator")
+                .getDeclaredConstructor()
+                .newInstance();
+        assertInstanceOf(RecordInstantiator.class, instantiator);
+        ConstructorInvoker<City> invoker = ConstructorInvoker.of(getRecordType(City.class));
+        City city = invoker.newInstance(new Object[]{1, "Sun Paririe"}, 0);
+        assertEquals(new City(1, "Sun Paririe"), city);
+    }
+
+    @Test
+    public void testGeneratedInstantiatorKeepsNullChecks() {
+        var e = assertThrows(SqlTemplateException.class,
+                () -> ConstructorInvoker.of(getRecordType(City.class)).newInstance(new Object[]{1, null}, 0));
+        assertTrue(e.getMessage().contains("non-nullable field 'City.name' at column position 2"), e.getMessage());
+    }
+
+    @Test
+    public void testGeneratedInstantiatorArgumentTypeMismatchIsWrapped() {
+        var e = assertThrows(SqlTemplateException.class,
+                () -> ConstructorInvoker.of(getRecordType(City.class)).newInstance(new Object[]{"x", "a"}, 0));
+        assertTrue(e.getMessage().startsWith("Failed to create a new instance of City."), e.getMessage());
+    }
+}
@@ -89,6 +89,7 @@ public class FetchSizeTest {
                 defaultFetchSize,
                 streamOnlyFetchSize,
                 streamingRequiresTransaction,
+                MonitoredResource.DEFAULT,
                 e -> new PersistenceException(e)
         );
     }
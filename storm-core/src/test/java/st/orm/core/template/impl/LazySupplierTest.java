@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -41,6 +42,17 @@ public class LazySupplierTest {
         assertEquals(1, callCount.get(), "Static factory lazy supplier should also only invoke once");
     }
 
+    @Test
+    public void testSupplierMayCompleteItself() {
+        var holder = new AtomicReference<LazySupplier<String>>();
+        holder.set(new LazySupplier<>(() -> {
+            holder.get().complete("batched");
+            return "fetched";
+        }));
+        assertEquals("batched", holder.get().get());
+        assertEquals("batched", holder.get().get());
+    }
+
     @Test
     public void testConstructorWithInitialValue() {
         LazySupplier<String> lazy = new LazySupplier<>("initial");
@@ -0,0 +1,115 @@
+package st.orm.core.template.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import st.orm.StormConfig;
+import st.orm.core.template.impl.MonitoredResource.LeakDetection;
+
+/**
+ * Tests for {@link MonitoredResource}.
+ */
+public class MonitoredResourceTest {
+
+    private static MonitoredResource monitor(LeakDetection level) {
+        return new MonitoredResource(level, 100);
+    }
+
+    @Test
+    public void testDefaultReturnsStreamWithoutProxy() {
+        var closed = new AtomicInteger();
+        Stream<Integer> stream = Stream.of(1, 2, 3);
+        Stream<Integer> monitored = monitor(LeakDetection.DEFAULT).wrap(stream, closed::incrementAndGet);
+        assertSame(stream, monitored);
+        try (var mapped = monitored.map(i -> i * 2)) {
+            assertFalse(Proxy.isProxyClass(mapped.getClass()));
+            assertEquals(List.of(2, 4, 6), mapped.toList());
+        }
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testFullWrapsStreamInProxy() {
+        var closed = new AtomicInteger();
+        Stream<Integer> monitored = monitor(LeakDetection.FULL).wrap(Stream.of(1, 2, 3), closed::incrementAndGet);
+        assertTrue(Proxy.isProxyClass(monitored.getClass()));
+        try (var filtered = monitored.filter(i -> i > 1)) {
+            assertEquals(List.of(2, 3), filtered.toList());
+        }
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testOffClosesOnlyExplicitly() {
+        var closed = new AtomicInteger();
+        Stream<Integer> stream = Stream.of(1);
+        Stream<Integer> monitored = monitor(LeakDetection.OFF).wrap(stream, closed::incrementAndGet);
+        assertSame(stream, monitored);
+        monitored.close();
+        monitored.close();
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testDefaultClosesLeakedStream() {
+        var closed = new AtomicInteger();
+        var leakAction = new AtomicReference<Runnable>();
+        var monitor = new MonitoredResource(LeakDetection.DEFAULT, 100, (object, action) -> {
+            leakAction.set(action);
+            return () -> {};
+        });
+        var stream = monitor.wrap(Stream.of(1, 2, 3), closed::incrementAndGet);
+        assertEquals(List.of(2, 3, 4), stream.map(i -> i + 1).toList());
+        assertNotNull(leakAction.get());
+        // The action that the cleaner runs when the stream is garbage collected without having been closed.
+        leakAction.get().run();
+        assertEquals(1, closed.get());
+        leakAction.get().run();
+        stream.close();
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testClosedStreamIsNotReportedAsLeaked() {
+        var closed = new AtomicInteger();
+        var cleaned = new AtomicInteger();
+        var leakAction = new AtomicReference<Runnable>();
+        var monitor = new MonitoredResource(LeakDetection.DEFAULT, 100, (object, action) -> {
+            leakAction.set(action);
+            return cleaned::incrementAndGet;
+        });
+        monitor.wrap(Stream.of(1), closed::incrementAndGet).close();
+        assertEquals(1, closed.get());
+        assertEquals(1, cleaned.get());
+        leakAction.get().run();
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testInvalidConfigFallsBackToDefaults() {
+        var monitor = MonitoredResource.of(StormConfig.of(Map.of(
+                "storm.leak_detection", "fulll",
+                "storm.leak_detection.sample_rate", "often")));
+        assertSame(MonitoredResource.DEFAULT, monitor);
+    }
+
+    @Test
+    public void testConfigSelectsLevel() {
+        var closed = new AtomicInteger();
+        var monitor = MonitoredResource.of(StormConfig.of(Map.of("storm.leak_detection", "full")));
+        Stream<Integer> monitored = monitor.wrap(Stream.of(1), closed::incrementAndGet);
+        assertTrue(Proxy.isProxyClass(monitored.getClass()));
+        monitored.close();
+        assertEquals(1, closed.get());
+    }
+}
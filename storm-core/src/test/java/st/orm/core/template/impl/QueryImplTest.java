@@ -3,6 +3,7 @@ package st.orm.core.template.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static st.orm.core.template.TemplateString.raw;
@@ -66,6 +67,21 @@ public class QueryImplTest {
         assertTrue(result.value() == null);
     }
 
+    @Test
+    public void testCalendarMappingAcrossRowsReturnsDistinctInstances() {
+        var orm = ORMTemplate.of(dataSource);
+        List<CalendarResult> results = orm.query(raw("""
+                SELECT CAST('2023-06-15 10:30:00' AS TIMESTAMP)
+                UNION ALL
+                SELECT CAST('2024-01-01 00:00:00' AS TIMESTAMP)
+                ORDER BY 1"""))
+                .getResultList(CalendarResult.class);
+        assertEquals(2, results.size());
+        assertNotSame(results.get(0).value(), results.get(1).value());
+        assertEquals(2023, results.get(0).value().get(Calendar.YEAR));
+        assertEquals(2024, results.get(1).value().get(Calendar.YEAR));
+    }
+
     record TimestampResult(Timestamp value) {}
 
     @Test
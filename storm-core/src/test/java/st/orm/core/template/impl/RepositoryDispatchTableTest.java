@@ -0,0 +1,120 @@
+package st.orm.core.template.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RepositoryDispatchTable}.
+ */
+public class RepositoryDispatchTableTest {
+
+    public interface Calculator {
+        int add(int a, int b);
+        void record(String value);
+        String join(String... values);
+        default int twice(int a) {
+            return add(a, a);
+        }
+    }
+
+    public static class CalculatorImpl implements Calculator {
+        final List<String> recorded = new ArrayList<>();
+
+        @Override
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        @Override
+        public void record(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("value");
+            }
+            recorded.add(value);
+        }
+
+        @Override
+        public String join(String... values) {
+            return String.join(",", values);
+        }
+    }
+
+    private static Calculator proxy(CalculatorImpl target, List<Method> resolved) {
+        return (Calculator) Proxy.newProxyInstance(Calculator.class.getClassLoader(), new Class<?>[] {Calculator.class},
+                new RepositoryDispatchTable(Calculator.class, method -> {
+                    resolved.add(method);
+                    if (RepositoryDispatchTable.isObjectMethod(method)) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> (proxy, args) -> System.identityHashCode(proxy);
+                            case "equals" -> (proxy, args) -> proxy == args[0];
+                            default -> (proxy, args) -> "Calculator@proxy";
+                        };
+                    }
+                    if (method.isDefault()) {
+                        return (proxy, args) -> 2 * (int) args[0];
+                    }
+                    return RepositoryDispatchTable.bind(method, target);
+                }));
+    }
+
+    @Test
+    public void testResolvesMethodsOnceWhenBuilt() {
+        List<Method> resolved = new ArrayList<>();
+        Calculator calculator = proxy(new CalculatorImpl(), resolved);
+        int count = resolved.size();
+        // Four interface methods and hashCode, equals and toString.
+        assertEquals(7, count);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(3, calculator.add(1, 2));
+        }
+        assertEquals(count, resolved.size());
+    }
+
+    @Test
+    public void testDispatchesToBoundTarget() {
+        CalculatorImpl target = new CalculatorImpl();
+        Calculator calculator = proxy(target, new ArrayList<>());
+        assertEquals(5, calculator.add(2, 3));
+        calculator.record("a");
+        assertEquals(List.of("a"), target.recorded);
+        assertEquals("x,y", calculator.join("x", "y"));
+        assertEquals(8, calculator.twice(4));
+    }
+
+    @Test
+    public void testObjectMethods() {
+        Calculator calculator = proxy(new CalculatorImpl(), new ArrayList<>());
+        Calculator other = proxy(new CalculatorImpl(), new ArrayList<>());
+        assertEquals(System.identityHashCode(calculator), calculator.hashCode());
+        assertTrue(calculator.equals(calculator));
+        assertNotEquals(calculator, other);
+        assertEquals("Calculator@proxy", calculator.toString());
+    }
+
+    @Test
+    public void testExceptionIsPropagatedUnwrapped() {
+        Calculator calculator = proxy(new CalculatorImpl(), new ArrayList<>());
+        assertThrows(IllegalArgumentException.class, () -> calculator.record(null));
+    }
+
+    @Test
+    public void testBindFallsBackToReflectionForForeignTarget() throws Throwable {
+        Method add = Calculator.class.getMethod("add", int.class, int.class);
+        var invoker = RepositoryDispatchTable.bind(add, new Object());
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(new Object(), new Object[] {1, 2}));
+        Method record = Calculator.class.getMethod("record", String.class);
+        CalculatorImpl target = new CalculatorImpl();
+        assertNull(RepositoryDispatchTable.bind(record, target).invoke(target, new Object[] {"b"}));
+        assertSame("b", target.recorded.getFirst());
+    }
+}
@@ -189,4 +189,86 @@ public class SegmentedLruCacheTest {
         assertNull(cache.get("a"), "First entry should be evicted when maxSize is 1");
         assertEquals("beta", cache.get("b"));
     }
+
+    @Test
+    public void testAdmissionKeepsFrequentEntriesDuringScan() {
+        SegmentedLruCache<Integer, String> cache = new SegmentedLruCache<>(16, 1, true, null);
+        for (int i = 0; i < 16; i++) {
+            assertNull(cache.get(i));
+            cache.putIfAbsent(i, "hot");
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 16; i++) {
+                assertNotNull(cache.get(i));
+            }
+        }
+        // A burst of one-off keys is not admitted, as each was requested less often than the entry it would evict.
+        for (int i = 1000; i < 1100; i++) {
+            assertNull(cache.get(i));
+            assertNull(cache.putIfAbsent(i, "scan"));
+        }
+        for (int i = 0; i < 16; i++) {
+            assertEquals("hot", cache.get(i));
+        }
+    }
+
+    @Test
+    public void testAdmissionAdmitsEntryRequestedMoreOftenThanVictim() {
+        SegmentedLruCache<Integer, String> cache = new SegmentedLruCache<>(1, 1, true, null);
+        assertNull(cache.get(1));
+        cache.putIfAbsent(1, "one");
+        for (int i = 0; i < 3; i++) {
+            assertNull(cache.get(2));
+        }
+        assertNull(cache.putIfAbsent(2, "two"));
+        assertEquals("two", cache.get(2));
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void testAdmissionAdmitsEntryRequestedAsOftenAsVictim() {
+        SegmentedLruCache<Integer, String> cache = new SegmentedLruCache<>(1, 1, true, null);
+        assertNull(cache.get(1));
+        cache.putIfAbsent(1, "one");
+        // Both keys were requested once, so the new key replaces the old one on its first request.
+        assertNull(cache.get(2));
+        assertNull(cache.putIfAbsent(2, "two"));
+        assertEquals("two", cache.get(2));
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void testStatsCounterReceivesSegmentEvents() {
+        long[] events = new long[4];
+        SegmentedLruCache<Integer, String> cache = new SegmentedLruCache<>(1, 1, true, new SegmentedLruCache.StatsCounter() {
+            @Override
+            public void recordHit(int segment) {
+                events[0]++;
+            }
+
+            @Override
+            public void recordMiss(int segment) {
+                events[1]++;
+            }
+
+            @Override
+            public void recordEviction(int segment) {
+                events[2]++;
+            }
+
+            @Override
+            public void recordRejection(int segment) {
+                events[3]++;
+            }
+        });
+        cache.get(1);
+        cache.putIfAbsent(1, "one");
+        cache.get(1);
+        cache.get(2);
+        cache.putIfAbsent(2, "two");
+        assertEquals(1, events[0]);
+        assertEquals(2, events[1]);
+        assertEquals(0, events[2]);
+        assertEquals(1, events[3]);
+    }
 }
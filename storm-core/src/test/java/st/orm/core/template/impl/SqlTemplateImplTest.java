@@ -2,18 +2,22 @@ package st.orm.core.template.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static st.orm.core.template.TemplateString.raw;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import st.orm.StormConfig;
 import st.orm.core.template.Sql;
 import st.orm.core.template.SqlTemplate;
 import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TableAliasResolver;
+import st.orm.core.template.TemplateString;
 import st.orm.mapping.ColumnNameResolver;
 import st.orm.mapping.ForeignKeyResolver;
 import st.orm.mapping.TableNameResolver;
@@ -217,6 +221,51 @@ public class SqlTemplateImplTest {
         assertFalse(sql1.statement().equals(sql2.statement()));
     }
 
+    @Test
+    public void testEqualTemplatesHitCache() throws SqlTemplateException {
+        SqlTemplate template = SqlTemplate.PS;
+        template.process(raw("SELECT id FROM city WHERE id = \0", 1));
+        var metrics = TemplateMetrics.getInstance();
+        long hits = metrics.getHits();
+        long misses = metrics.getMisses();
+        // A different fragments instance with the same content compiles to the same key.
+        Sql sql = template.process(new TemplateString(new ArrayList<>(List.of("SELECT id FROM city WHERE id = ", "")), List.of(2)));
+        assertEquals("SELECT id FROM city WHERE id = ?", sql.statement());
+        assertEquals(hits + 1, metrics.getHits());
+        assertEquals(misses, metrics.getMisses());
+    }
+
+    @Test
+    public void testRawTemplatesShareFragments() {
+        // Fragments are memoized once the same template instance is seen a second time.
+        List<List<String>> fragments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            fragments.add(raw("SELECT id FROM city WHERE id = \0", i).fragments());
+        }
+        assertSame(fragments.get(1), fragments.get(2));
+    }
+
+    @Test
+    public void testCompilationKeyComparesPartsOnFingerprintCollision() {
+        record Colliding(String value) {
+            @Override
+            public int hashCode() {
+                return 42;
+            }
+        }
+        var fragments = SqlTemplateImpl.Fragments.of(List.of("SELECT ", ""));
+        var key = new SqlTemplateImpl.CompilationKey(fragments, new Object[] {new Colliding("a")});
+        var collision = new SqlTemplateImpl.CompilationKey(fragments, new Object[] {new Colliding("b")});
+        assertEquals(key.hashCode(), collision.hashCode());
+        assertNotEquals(key, collision);
+        var equal = new SqlTemplateImpl.CompilationKey(SqlTemplateImpl.Fragments.of(new ArrayList<>(List.of("SELECT ", ""))),
+                new Object[] {new Colliding("a")});
+        assertEquals(key, equal);
+        var otherFragments = new SqlTemplateImpl.CompilationKey(SqlTemplateImpl.Fragments.of(List.of("DELETE ", "")),
+                new Object[] {new Colliding("a")});
+        assertNotEquals(key, otherFragments);
+    }
+
     @Test
     public void testCreateBindVars() {
         SqlTemplateImpl template = (SqlTemplateImpl) SqlTemplate.PS;
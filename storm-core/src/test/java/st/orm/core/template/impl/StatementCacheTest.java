@@ -0,0 +1,185 @@
+package st.orm.core.template.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.annotation.Nonnull;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import st.orm.Entity;
+import st.orm.core.spi.CacheRetention;
+import st.orm.core.spi.EntityCache;
+import st.orm.core.spi.TransactionContext;
+
+/**
+ * Tests for {@link StatementCache}.
+ */
+class StatementCacheTest {
+
+    private static final AtomicInteger DB_COUNTER = new AtomicInteger();
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:statement_cache_test_" + DB_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        connection = dataSource.getConnection();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testReleasedStatementIsReused() throws SQLException {
+        var cache = new StatementCache.Registry(4).of(new TestContext(), connection);
+        var first = cache.lease("SELECT ?", List.of(), () -> connection.prepareStatement("SELECT ?"));
+        PreparedStatement statement = first.statement();
+        statement.setInt(1, 1);
+        first.release();
+        assertFalse(statement.isClosed());
+        var second = cache.lease("SELECT ?", List.of(), () -> connection.prepareStatement("SELECT ?"));
+        assertSame(statement, second.statement());
+        second.release();
+    }
+
+    @Test
+    void testLeasedStatementIsNotShared() throws SQLException {
+        var cache = new StatementCache.Registry(4).of(new TestContext(), connection);
+        var first = cache.lease("SELECT 1", List.of(), () -> connection.prepareStatement("SELECT 1"));
+        var second = cache.lease("SELECT 1", List.of(), () -> connection.prepareStatement("SELECT 1"));
+        assertNotSame(first.statement(), second.statement());
+        first.release();
+        second.release();
+        // Only the statement that was returned last is kept.
+        assertTrue(first.statement().isClosed());
+        assertFalse(second.statement().isClosed());
+    }
+
+    @Test
+    void testEldestStatementIsClosedWhenFull() throws SQLException {
+        var cache = new StatementCache.Registry(1).of(new TestContext(), connection);
+        var first = cache.lease("SELECT 1", List.of(), () -> connection.prepareStatement("SELECT 1"));
+        first.release();
+        var second = cache.lease("SELECT 2", List.of(), () -> connection.prepareStatement("SELECT 2"));
+        second.release();
+        assertTrue(first.statement().isClosed());
+        assertFalse(second.statement().isClosed());
+    }
+
+    @Test
+    void testNewConnectionClosesCachedStatements() throws SQLException {
+        var context = new TestContext();
+        var registry = new StatementCache.Registry(4);
+        var cache = registry.of(context, connection);
+        assertSame(cache, registry.of(context, connection));
+        var lease = cache.lease("SELECT 1", List.of(), () -> connection.prepareStatement("SELECT 1"));
+        lease.release();
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:statement_cache_test_" + DB_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        try (var other = dataSource.getConnection()) {
+            assertNotSame(cache, registry.of(context, other));
+            assertTrue(lease.statement().isClosed());
+        }
+    }
+
+    @Test
+    void testCompletionClosesCachedStatements() throws SQLException {
+        var context = new TestContext();
+        var registry = new StatementCache.Registry(4);
+        var cache = registry.of(context, connection);
+        var released = cache.lease("SELECT 1", List.of(), () -> connection.prepareStatement("SELECT 1"));
+        released.release();
+        var leased = cache.lease("SELECT 2", List.of(), () -> connection.prepareStatement("SELECT 2"));
+        context.complete();
+        assertTrue(released.statement().isClosed());
+        assertFalse(leased.statement().isClosed());
+        // A statement that is returned after completion is closed instead of cached.
+        leased.release();
+        assertTrue(leased.statement().isClosed());
+        assertNotSame(cache, registry.of(context, connection));
+    }
+
+    @Test
+    void testContextWithoutCompletionIsNotCached() {
+        var context = new TestContext() {
+            @Override
+            public boolean onCompletion(@Nonnull Runnable callback) {
+                return false;
+            }
+        };
+        assertNull(new StatementCache.Registry(4).of(context, connection));
+    }
+
+    @Test
+    void testSettingsAreRestoredOnRelease() throws SQLException {
+        var cache = new StatementCache.Registry(4).of(new TestContext(), connection);
+        var lease = cache.lease("SELECT 1", List.of(), () -> connection.prepareStatement("SELECT 1"));
+        var statement = lease.statement();
+        int fetchSize = statement.getFetchSize();
+        int maxRows = statement.getMaxRows();
+        int queryTimeout = statement.getQueryTimeout();
+        statement.setFetchSize(fetchSize + 10);
+        statement.setMaxRows(maxRows + 10);
+        statement.setQueryTimeout(queryTimeout + 10);
+        lease.release();
+        assertEquals(fetchSize, statement.getFetchSize());
+        assertEquals(maxRows, statement.getMaxRows());
+        assertEquals(queryTimeout, statement.getQueryTimeout());
+    }
+
+    private static class TestContext implements TransactionContext {
+
+        private final List<Runnable> callbacks = new ArrayList<>();
+
+        void complete() {
+            callbacks.forEach(Runnable::run);
+            callbacks.clear();
+        }
+
+        @Override
+        public boolean onCompletion(@Nonnull Runnable callback) {
+            callbacks.add(callback);
+            return true;
+        }
+
+        @Override
+        public EntityCache<? extends Entity<?>, ?> entityCache(@Nonnull Class<? extends Entity<?>> entityType,
+                                                               @Nonnull CacheRetention retention) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EntityCache<? extends Entity<?>, ?> getEntityCache(@Nonnull Class<? extends Entity<?>> entityType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EntityCache<? extends Entity<?>, ?> findEntityCache(@Nonnull Class<? extends Entity<?>> entityType) {
+            return null;
+        }
+
+        @Override
+        public void clearAllEntityCaches() {
+        }
+
+        @Override
+        public <T> Decorator<T> getDecorator(@Nonnull Class<T> resourceType) {
+            return resource -> resource;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the shared, cross-transaction entity cache for the annotated entity.
+ *
+ * <p>By default, Storm only caches entities within a transaction. Entities annotated with {@code @Cacheable} are
+ * additionally kept in a shared cache that outlives individual transactions. Primary key lookups, such as
+ * {@code findById}, {@code getById}, {@code selectById} and fetching a {@link Ref}, consult the shared cache before
+ * querying the database. This is intended for reference data that is read often and changes rarely, such as
+ * countries, tenants or feature flags.</p>
+ *
+ * <p>The shared cache is bounded by {@link #maxSize()} and entries expire after {@link #ttl()} seconds. Least recently
+ * used entries are evicted first when the cache is full.</p>
+ *
+ * <h2>General rules</h2>
+ * <ul>
+ *   <li>Any INSERT, UPDATE, UPSERT or DELETE executed through Storm for the annotated entity invalidates the shared
+ *       cache for that entity. Mutations for which the affected entity type cannot be determined, such as raw SQL
+ *       statements, invalidate the shared caches of all entities.</li>
+ *   <li>A transaction that has modified the annotated entity bypasses the shared cache for the remainder of the
+ *       transaction, and the shared cache is invalidated again when that transaction completes.</li>
+ *   <li>Only entities read outside of a transaction are added to the shared cache, so uncommitted state is never
+ *       shared with other callers. Reads within a transaction do consult the shared cache.</li>
+ *   <li>Changes made outside of Storm, for example by other applications or database triggers on other tables, are not
+ *       detected. Such changes become visible once the cached entry expires.</li>
+ *   <li>Entities served from the shared cache are not used as the baseline for dirty checking. Updating such an
+ *       entity results in a full-row update.</li>
+ *   <li>The shared cache is scoped to the {@code DataSource} of the template. Templates created from a
+ *       {@code Connection} or {@code EntityManager} have a shared cache of their own.</li>
+ * </ul>
+ *
+ * @since 1.11
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface Cacheable {
+
+    /**
+     * The time, in seconds, after which a cached entity expires.
+     *
+     * <p>The value must be positive, so changes made outside of Storm are eventually observed.</p>
+     */
+    long ttl() default 300;
+
+    /**
+     * The maximum number of entities held by the shared cache for the annotated entity.
+     */
+    int maxSize() default 1000;
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * A batch of query results in columnar layout.
+ *
+ * <p>Each column of the batch is stored in a single array, so rows are never materialized as objects. The columns
+ * follow the flattened column structure of the result type: nested records contribute their own columns, and
+ * references contribute the columns of their primary key. The storage of a column depends on its type:</p>
+ *
+ * <ul>
+ *   <li>{@code byte}, {@code short}, {@code int}, {@code long} and {@code boolean} columns (boxed or unboxed) are
+ *       stored in a {@code long[]}; booleans are stored as {@code 1} and {@code 0}. See {@link #longs(int)}.</li>
+ *   <li>{@code float} and {@code double} columns (boxed or unboxed) are stored in a {@code double[]}. See
+ *       {@link #doubles(int)}.</li>
+ *   <li>All other columns are stored in an {@code Object[]} with the values as read from the result set, before
+ *       conversion to the result type. Enum columns, for instance, hold their database representation. See
+ *       {@link #objects(int)}.</li>
+ * </ul>
+ *
+ * <p>SQL {@code NULL} values are tracked in a bitmap per column (see {@link #nulls(int)}). The primitive arrays hold
+ * {@code 0} for null rows.</p>
+ *
+ * <pre>{@code
+ * try (Stream<ColumnBatch> batches = query.getColumnBatches(Sale.class, 4096)) {
+ *     total = batches.mapToDouble(batch -> {
+ *         double[] amounts = batch.doubles(2);
+ *         double sum = 0;
+ *         for (int row = 0; row < batch.size(); row++) {
+ *             if (!batch.isNull(2, row)) {
+ *                 sum += amounts[row];
+ *             }
+ *         }
+ *         return sum;
+ *     }).sum();
+ * }
+ * }</pre>
+ *
+ * <p>The arrays of a batch are exposed without copying and are exactly {@link #size()} elements long. A batch is not
+ * reused by the query that produced it, so it may be retained after the next batch has been read.</p>
+ *
+ * @since 1.11
+ */
+public final class ColumnBatch {
+
+    private final Class<?>[] types;
+    private final int size;
+    private final Object[] columns;
+    private final long[][] nulls;
+
+    private ColumnBatch(@Nonnull Class<?>[] types, int size, @Nonnull Object[] columns, @Nonnull long[][] nulls) {
+        this.types = types;
+        this.size = size;
+        this.columns = columns;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Creates a batch from the specified column arrays.
+     *
+     * <p>This method is intended for query implementations. Each column must be stored in the array type that
+     * corresponds to its column type, as described in the class documentation. The batch takes ownership of the
+     * column arrays and null bitmaps; they are exposed without copying and must not be modified afterward.</p>
+     *
+     * @param types the types of the columns.
+     * @param size the number of rows in the batch.
+     * @param columns the column arrays, one per column, each holding {@code size} elements.
+     * @param nulls the null bitmaps, one per column; bit {@code row} is set if the row holds SQL {@code NULL}.
+     * @return a new batch.
+     * @throws IllegalArgumentException if the arrays do not match the column types or the number of rows.
+     */
+    public static ColumnBatch of(@Nonnull Class<?>[] types, int size, @Nonnull Object[] columns,
+                                 @Nonnull long[][] nulls) {
+        requireNonNull(types, "types");
+        requireNonNull(columns, "columns");
+        requireNonNull(nulls, "nulls");
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative.");
+        }
+        if (columns.length != types.length || nulls.length != types.length) {
+            throw new IllegalArgumentException("Expected %d columns.".formatted(types.length));
+        }
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = requireNonNull(types[i], "type");
+            boolean longType = type == Long.TYPE || type == Long.class
+                    || type == Integer.TYPE || type == Integer.class
+                    || type == Short.TYPE || type == Short.class
+                    || type == Byte.TYPE || type == Byte.class
+                    || type == Boolean.TYPE || type == Boolean.class;
+            boolean doubleType = type == Double.TYPE || type == Double.class
+                    || type == Float.TYPE || type == Float.class;
+            int length = switch (columns[i]) {
+                case long[] a when longType -> a.length;
+                case double[] a when doubleType -> a.length;
+                case Object[] a when !longType && !doubleType -> a.length;
+                case null, default -> throw new IllegalArgumentException(
+                        "Invalid array for column %d of type %s.".formatted(i, type.getSimpleName()));
+            };
+            if (length != size || nulls[i] == null || nulls[i].length != (size + 63) >>> 6) {
+                throw new IllegalArgumentException("Invalid length for column %d.".formatted(i));
+            }
+        }
+        return new ColumnBatch(types.clone(), size, columns.clone(), nulls.clone());
+    }
+
+    /**
+     * Returns the number of rows in this batch.
+     *
+     * @return the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of columns in this batch.
+     *
+     * @return the number of columns.
+     */
+    public int columnCount() {
+        return types.length;
+    }
+
+    /**
+     * Returns the type of the specified column.
+     *
+     * @param column the zero-based column index.
+     * @return the type of the record component, or primary key, that the column maps to.
+     */
+    public Class<?> columnType(int column) {
+        return types[column];
+    }
+
+    /**
+     * Returns the values of the specified integral or boolean column.
+     *
+     * @param column the zero-based column index.
+     * @return the values of the column; rows holding SQL {@code NULL} are {@code 0}.
+     * @throws IllegalStateException if the column is not stored as {@code long[]}.
+     */
+    public long[] longs(int column) {
+        if (columns[column] instanceof long[] values) {
+            return values;
+        }
+        throw new IllegalStateException("Column %d of type %s is not stored as long[].".formatted(column, types[column].getSimpleName()));
+    }
+
+    /**
+     * Returns the values of the specified floating-point column.
+     *
+     * @param column the zero-based column index.
+     * @return the values of the column; rows holding SQL {@code NULL} are {@code 0}.
+     * @throws IllegalStateException if the column is not stored as {@code double[]}.
+     */
+    public double[] doubles(int column) {
+        if (columns[column] instanceof double[] values) {
+            return values;
+        }
+        throw new IllegalStateException("Column %d of type %s is not stored as double[].".formatted(column, types[column].getSimpleName()));
+    }
+
+    /**
+     * Returns the values of the specified non-primitive column.
+     *
+     * @param column the zero-based column index.
+     * @return the values of the column; rows holding SQL {@code NULL} are {@code null}.
+     * @throws IllegalStateException if the column is not stored as {@code Object[]}.
+     */
+    public Object[] objects(int column) {
+        if (columns[column] instanceof Object[] values) {
+            return values;
+        }
+        throw new IllegalStateException("Column %d of type %s is not stored as Object[].".formatted(column, types[column].getSimpleName()));
+    }
+
+    /**
+     * Returns the null bitmap of the specified column.
+     *
+     * <p>Bit {@code row % 64} of word {@code row / 64} is set if the row holds SQL {@code NULL}.</p>
+     *
+     * @param column the zero-based column index.
+     * @return the null bitmap of the column.
+     */
+    public long[] nulls(int column) {
+        return nulls[column];
+    }
+
+    /**
+     * Returns whether the specified cell holds SQL {@code NULL}.
+     *
+     * @param column the zero-based column index.
+     * @param row the zero-based row index.
+     * @return {@code true} if the cell holds SQL {@code NULL}.
+     */
+    public boolean isNull(int column, int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        return (nulls[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the value of the specified cell, boxing primitive values.
+     *
+     * <p>This method is a convenience for occasional access. Use the column arrays to process a batch without
+     * allocating.</p>
+     *
+     * @param column the zero-based column index.
+     * @param row the zero-based row index.
+     * @return the value of the cell, or {@code null} if the cell holds SQL {@code NULL}.
+     */
+    @Nullable
+    public Object getObject(int column, int row) {
+        if (isNull(column, row)) {
+            return null;
+        }
+        return switch (columns[column]) {
+            case long[] values -> values[row];
+            case double[] values -> values[row];
+            case Object[] values -> values[row];
+            default -> throw new IllegalStateException();
+        };
+    }
+}
@@ -39,4 +39,15 @@ public @interface Json {
      * True if the deserializer should fail if a required creator property is missing. Default is false.
      */
     boolean failOnMissing() default false;
+
+    /**
+     * True if the column is read as UTF-8 encoded bytes instead of a string. Default is false.
+     *
+     * <p>Binary mode lets the JSON library parse large documents, such as PostgreSQL {@code jsonb} columns, directly
+     * from the bytes returned by the driver, without materializing an intermediate string. Values are still written as
+     * strings, as drivers type byte parameters as binary data, which JSON columns do not accept.</p>
+     *
+     * @since 1.11
+     */
+    boolean binary() default false;
 }
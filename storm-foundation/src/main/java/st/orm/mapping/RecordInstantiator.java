@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.mapping;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Creates record instances by invoking the canonical constructor directly.
+ *
+ * <p>Implementations are generated by the metamodel processors as a nested {@code Instantiator} class of the
+ * generated metamodel class, for example {@code UserMetamodel.Instantiator} for {@code User}. When present, Storm uses
+ * the generated instantiator instead of invoking the constructor reflectively.</p>
+ *
+ * @param <R> the record type.
+ * @since 1.11
+ */
+@FunctionalInterface
+public interface RecordInstantiator<R> {
+
+    /**
+     * Creates a new instance of the record.
+     *
+     * <p>The arguments are passed in the order of the canonical constructor parameters and must already be of the
+     * parameter types. Primitive parameters are passed in boxed form.</p>
+     *
+     * @param args the constructor arguments.
+     * @return a new instance of the record.
+     */
+    R newInstance(@Nonnull Object[] args);
+}
@@ -0,0 +1,64 @@
+package st.orm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ColumnBatchTest {
+
+    private static ColumnBatch batch() {
+        long[] ids = {1, 2, 0};
+        double[] amounts = {1.5, 0, 3};
+        Object[] names = {"a", null, "c"};
+        long[][] nulls = {{0b100}, {0b010}, {0b010}};
+        return ColumnBatch.of(new Class<?>[] {Integer.class, double.class, String.class}, 3,
+                new Object[] {ids, amounts, names}, nulls);
+    }
+
+    @Test
+    void columnsAreExposedByStorage() {
+        ColumnBatch batch = batch();
+        assertEquals(3, batch.size());
+        assertEquals(3, batch.columnCount());
+        assertEquals(Integer.class, batch.columnType(0));
+        assertEquals(2, batch.longs(0)[1]);
+        assertEquals(1.5, batch.doubles(1)[0]);
+        assertEquals("c", batch.objects(2)[2]);
+        assertSame(batch.longs(0), batch.longs(0));
+    }
+
+    @Test
+    void wrongStorageThrows() {
+        ColumnBatch batch = batch();
+        assertThrows(IllegalStateException.class, () -> batch.doubles(0));
+        assertThrows(IllegalStateException.class, () -> batch.objects(1));
+        assertThrows(IllegalStateException.class, () -> batch.longs(2));
+    }
+
+    @Test
+    void nullsAreTrackedPerCell() {
+        ColumnBatch batch = batch();
+        assertFalse(batch.isNull(0, 0));
+        assertTrue(batch.isNull(0, 2));
+        assertTrue(batch.isNull(1, 1));
+        assertNull(batch.getObject(0, 2));
+        assertEquals(1L, batch.getObject(0, 0));
+        assertEquals(3.0, batch.getObject(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isNull(0, 3));
+    }
+
+    @Test
+    void mismatchedArraysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ColumnBatch.of(new Class<?>[] {long.class}, 1,
+                new Object[] {new double[1]}, new long[][] {{0}}));
+        assertThrows(IllegalArgumentException.class, () -> ColumnBatch.of(new Class<?>[] {long.class}, 2,
+                new Object[] {new long[1]}, new long[][] {{0}}));
+        assertThrows(IllegalArgumentException.class, () -> ColumnBatch.of(new Class<?>[] {long.class}, 1,
+                new Object[] {new long[1]}, new long[][] {}));
+    }
+}
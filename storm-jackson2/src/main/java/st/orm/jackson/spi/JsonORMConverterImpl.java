@@ -22,17 +22,19 @@ import static java.util.Objects.requireNonNull;
 import static java.util.Optional.empty;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
@@ -59,7 +61,9 @@ public final class JsonORMConverterImpl implements ORMConverter {
 
     private final RecordField field;
     private final TypeReference<?> typeReference;
-    private final ObjectMapper mapper;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final boolean binary;
 
     record CacheKey(@Nonnull Json json,
                     @Nullable Class<?> sealedType,
@@ -86,7 +90,7 @@ public final class JsonORMConverterImpl implements ORMConverter {
                 deserializeAnnotation != null && deserializeAnnotation.using() != JsonDeserializer.None.class
                         ? (Class<? extends JsonDeserializer<?>>) deserializeAnnotation.using()
                         : null;
-        this.mapper = OBJECT_MAPPER.getOrCompute(
+        ObjectMapper objectMapper = OBJECT_MAPPER.getOrCompute(
                 new CacheKey(requireNonNull(json, "json"), type, serializerClass, deserializerClass),
                 () -> {
                     var mapper = new ObjectMapper();
@@ -127,6 +131,10 @@ public final class JsonORMConverterImpl implements ORMConverter {
                     }
                     return mapper;
                 });
+        // Readers and writers are immutable and resolve their root (de)serializer once, so reuse them for all rows.
+        this.reader = objectMapper.readerFor(typeReference);
+        this.writer = objectMapper.writer();
+        this.binary = json.binary();
     }
 
     private static Optional<Class<?>> getRawType(@Nonnull Type type) {
@@ -156,7 +164,8 @@ public final class JsonORMConverterImpl implements ORMConverter {
 
     @Override
     public List<Class<?>> getParameterTypes() {
-        return List.of(String.class);
+        // In binary mode the column is read as UTF-8 bytes, which are parsed without creating an intermediate String.
+        return List.of(binary ? byte[].class : String.class);
     }
 
     @Override
@@ -168,7 +177,7 @@ public final class JsonORMConverterImpl implements ORMConverter {
     public List<Object> toDatabase(@Nullable Object record) throws SqlTemplateException {
         try {
             Object o = record == null ? null : REFLECTION.invoke(field, record);
-            return singletonList(o == null ? null : mapper.writeValueAsString(o));
+            return singletonList(o == null ? null : writer.writeValueAsString(o));
         } catch (Throwable e) {
             throw new SqlTemplateException(e);
         }
@@ -182,8 +191,10 @@ public final class JsonORMConverterImpl implements ORMConverter {
         }
         try {
             REF_FACTORY.set(refFactory);
-            return mapper.readValue((String) values[0], typeReference);
-        } catch (JsonProcessingException e) {
+            return binary
+                    ? reader.readValue((byte[]) value)
+                    : reader.readValue((String) value);
+        } catch (IOException e) {
             throw new SqlTemplateException(e);
         } finally {
             REF_FACTORY.remove();
@@ -43,6 +43,7 @@ import st.orm.jackson.model.Address;
  *   <li>Sealed type (polymorphic) JSON fields with @JsonTypeName</li>
  *   <li>toDatabase with null record (null field value path)</li>
  *   <li>failOnUnknown and failOnMissing enabled paths</li>
+ *   <li>binary mode reading the column as bytes</li>
  * </ul>
  */
 @ExtendWith(SpringExtension.class)
@@ -277,4 +278,24 @@ public class JsonORMConverterImplTest {
                 .getSingleResult(OwnerWithFailOnMissing.class);
         assertNotNull(result.address());
     }
+
+    // binary enabled
+
+    @DbTable("owner")
+    public record OwnerWithBinaryAddress(
+            @PK Integer id,
+            @Nonnull @Json(binary = true) Address address,
+            @Nullable String telephone
+    ) implements Entity<Integer> {}
+
+    @Test
+    public void jsonWithBinaryTrueShouldReadAndWriteAddress() {
+        var orm = of(dataSource);
+        var repository = orm.entity(OwnerWithBinaryAddress.class);
+        var owner = repository.getById(1);
+        assertNotNull(owner.address());
+        var updated = new OwnerWithBinaryAddress(owner.id(), owner.address(), "555-0100");
+        repository.update(updated);
+        assertEquals(updated, repository.getById(1));
+    }
 }
@@ -40,6 +40,8 @@ import st.orm.jackson.StormModule;
 import st.orm.mapping.RecordField;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.annotation.JsonDeserialize;
@@ -59,7 +61,9 @@ public final class JsonORMConverterImpl implements ORMConverter {
 
     private final RecordField field;
     private final TypeReference<?> typeReference;
-    private final JsonMapper mapper;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final boolean binary;
 
     record CacheKey(@Nonnull Json json,
                     @Nullable Class<?> sealedType,
@@ -86,7 +90,7 @@ public final class JsonORMConverterImpl implements ORMConverter {
                 deserializeAnnotation != null && deserializeAnnotation.using() != ValueDeserializer.None.class
                         ? (Class<? extends ValueDeserializer<?>>) deserializeAnnotation.using()
                         : null;
-        this.mapper = MAPPER_CACHE.getOrCompute(
+        JsonMapper objectMapper = MAPPER_CACHE.getOrCompute(
                 new CacheKey(requireNonNull(json, "json"), type, serializerClass, deserializerClass),
                 () -> {
                     var builder = JsonMapper.builder();
@@ -127,6 +131,10 @@ public final class JsonORMConverterImpl implements ORMConverter {
                     }
                     return builder.build();
                 });
+        // Readers and writers are immutable and resolve their root (de)serializer once, so reuse them for all rows.
+        this.reader = objectMapper.readerFor(typeReference);
+        this.writer = objectMapper.writer();
+        this.binary = json.binary();
     }
 
     private static Optional<Class<?>> getRawType(@Nonnull Type type) {
@@ -156,7 +164,8 @@ public final class JsonORMConverterImpl implements ORMConverter {
 
     @Override
     public List<Class<?>> getParameterTypes() {
-        return List.of(String.class);
+        // In binary mode the column is read as UTF-8 bytes, which are parsed without creating an intermediate String.
+        return List.of(binary ? byte[].class : String.class);
     }
 
     @Override
@@ -168,7 +177,7 @@ public final class JsonORMConverterImpl implements ORMConverter {
     public List<Object> toDatabase(@Nullable Object record) throws SqlTemplateException {
         try {
             Object o = record == null ? null : REFLECTION.invoke(field, record);
-            return singletonList(o == null ? null : mapper.writeValueAsString(o));
+            return singletonList(o == null ? null : writer.writeValueAsString(o));
         } catch (Throwable e) {
             throw new SqlTemplateException(e);
         }
@@ -182,7 +191,9 @@ public final class JsonORMConverterImpl implements ORMConverter {
         }
         try {
             REF_FACTORY.set(refFactory);
-            return mapper.readValue((String) values[0], typeReference);
+            return binary
+                    ? reader.readValue((byte[]) value)
+                    : reader.readValue((String) value);
         } catch (JacksonException e) {
             throw new SqlTemplateException(e);
         } finally {
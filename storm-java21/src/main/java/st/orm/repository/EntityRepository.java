@@ -1069,6 +1069,35 @@ public interface EntityRepository<E extends Entity<ID>, ID> extends Repository {
      */
     Stream<E> selectById(@Nonnull Stream<ID> ids, int chunkSize);
 
+    /**
+     * Retrieves a stream of entities based on their primary keys, executing up to {@code parallelism} chunks
+     * concurrently.
+     *
+     * <p>Each chunk is executed on a virtual thread, using its own connection obtained from the underlying
+     * {@code DataSource}. This reduces the latency of large lookups, at the cost of using up to
+     * {@code parallelism} connections at the same time. The entities are emitted in chunk order, so the result is
+     * the same as that of {@link #selectById(Stream, int)}.</p>
+     *
+     * <p>The chunks are executed sequentially if {@code parallelism} is {@code 1}, if a transaction is active, or if
+     * the template is not backed by a {@code DataSource}, as a transaction's connection cannot be shared between
+     * threads.</p>
+     *
+     * <p><strong>Note:</strong> Since the stream holds resources open while in use, it must be closed after usage to
+     * prevent resource leaks. As the stream is {@code AutoCloseable}, it is recommended to use it within a
+     * {@code try-with-resources} block.</p>
+     *
+     * @param ids a stream of entity IDs to retrieve from the repository.
+     * @param chunkSize the number of primary keys to include in each batch.
+     * @param parallelism the maximum number of chunks to execute concurrently.
+     * @return a stream of entities corresponding to the provided primary keys. If an id does not correspond to any
+     * entity in the database, it will simply be skipped.
+     * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}.
+     * @throws PersistenceException if the selection operation fails due to underlying database issues, such as
+     *                              connectivity.
+     * @since 1.11
+     */
+    Stream<E> selectById(@Nonnull Stream<ID> ids, int chunkSize, int parallelism);
+
     /**
      * Retrieves a stream of entities based on their primary keys.
      *
@@ -344,6 +344,11 @@ public final class EntityRepositoryImpl<E extends Entity<ID>, ID> implements Ent
         return core.selectById(ids, chunkSize);
     }
 
+    @Override
+    public Stream<E> selectById(@Nonnull Stream<ID> ids, int chunkSize, int parallelism) {
+        return core.selectById(ids, chunkSize, parallelism);
+    }
+
     @Override
     public Stream<E> selectByRef(@Nonnull Stream<Ref<E>> refs, int chunkSize) {
         return core.selectByRef(refs, chunkSize);
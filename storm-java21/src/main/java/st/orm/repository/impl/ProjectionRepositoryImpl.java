@@ -216,6 +216,11 @@ public final class ProjectionRepositoryImpl<P extends Projection<ID>, ID> implem
         return core.selectById(ids, batchSize);
     }
 
+    @Override
+    public Stream<P> selectById(@Nonnull Stream<ID> ids, int chunkSize, int parallelism) {
+        return core.selectById(ids, chunkSize, parallelism);
+    }
+
     @Override
     public Stream<P> selectByRef(@Nonnull Stream<Ref<P>> refs, int batchSize) {
         return core.selectByRef(refs, batchSize);
@@ -145,6 +145,31 @@ public interface ORMTemplate extends QueryTemplate, RepositoryLookup {
      */
     void validateSchemaOrThrow(@Nonnull Iterable<Class<? extends Data>> types);
 
+    /**
+     * Compiles the statements that repositories issue for all discovered entity types, so that the first requests
+     * after startup are served from the template cache.
+     *
+     * <p>For each entity type, the lookup by primary key and the batch insert, update and delete statements are
+     * compiled. The statements are not executed. Statements whose shape depends on the entity values, such as
+     * dirty-checked updates, are compiled on first use.</p>
+     *
+     * <p>Templates created from an {@link EntityManager} ignore this call.</p>
+     *
+     * @since 1.11
+     */
+    void warmUp();
+
+    /**
+     * Compiles the statements that repositories issue for the specified types, so that the first requests after
+     * startup are served from the template cache. Types that are not entities are ignored.
+     *
+     * <p>Templates created from an {@link EntityManager} ignore this call.</p>
+     *
+     * @param types the entity types to compile the statements for.
+     * @since 1.11
+     */
+    void warmUp(@Nonnull Iterable<Class<? extends Data>> types);
+
     /**
      * Returns an {@link ORMTemplate} for use with JPA.
      *
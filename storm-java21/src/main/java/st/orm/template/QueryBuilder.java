@@ -801,6 +801,44 @@ public abstract class QueryBuilder<T extends Data, R, ID> {
      */
     public abstract MappedWindow<R, T> scroll(@Nonnull Scrollable<T> scrollable);
 
+    /**
+     * Executes the query as a sequence of keyset windows over the specified key and returns all results as a lazy
+     * stream.
+     *
+     * <p>Windows of {@code windowSize} rows are fetched one query at a time, each continuing after the last key of the
+     * previous window. Every window is read completely before it is consumed, so no database cursor is held open
+     * while the stream is processed. This makes the method suitable for exporting large tables, where offset-based
+     * pagination slows down with every page.</p>
+     *
+     * @param key the unique key to order and continue by; must not be nullable.
+     * @param windowSize the number of rows per window (must be positive).
+     * @return a lazy stream of all results, ordered by the key.
+     * @throws IllegalArgumentException if {@code windowSize} is not positive.
+     * @throws PersistenceException if the key is nullable or the query has explicit orderBy calls.
+     * @since 1.11
+     */
+    public abstract Stream<R> scrollAll(@Nonnull Metamodel.Key<T, ?> key, int windowSize);
+
+    /**
+     * Executes the query as a sequence of keyset windows over the specified key and returns all results as a lazy
+     * stream.
+     *
+     * <p>If {@code prefetch} is {@code true}, the next window is fetched on a virtual thread while the current window
+     * is consumed. Prefetching only takes effect for templates backed by a {@code DataSource} and outside a
+     * transaction. Otherwise, windows are fetched when they are needed.</p>
+     *
+     * <p>The stream must be closed after use. Closing the stream discards a window that is still being fetched.</p>
+     *
+     * @param key the unique key to order and continue by; must not be nullable.
+     * @param windowSize the number of rows per window (must be positive).
+     * @param prefetch whether to fetch the next window while the current window is consumed.
+     * @return a lazy stream of all results, ordered by the key.
+     * @throws IllegalArgumentException if {@code windowSize} is not positive.
+     * @throws PersistenceException if the key is nullable or the query has explicit orderBy calls.
+     * @since 1.11
+     */
+    public abstract Stream<R> scrollAll(@Nonnull Metamodel.Key<T, ?> key, int windowSize, boolean prefetch);
+
     //
     // Execution methods.
     //
@@ -18,21 +18,24 @@ package st.orm.template.impl;
 import static java.lang.System.identityHashCode;
 import static java.lang.reflect.Proxy.newProxyInstance;
 import static java.util.Optional.empty;
+import static st.orm.core.template.impl.RepositoryDispatchTable.bind;
 
 import jakarta.annotation.Nonnull;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import st.orm.Data;
 import st.orm.Entity;
 import st.orm.EntityCallback;
 import st.orm.Projection;
 import st.orm.core.spi.ORMReflection;
 import st.orm.core.spi.Providers;
-import st.orm.core.template.impl.SqlLogInterceptor;
+import st.orm.core.template.impl.RepositoryDispatchTable;
+import st.orm.core.template.impl.RepositoryDispatchTable.Invoker;
 import st.orm.repository.EntityRepository;
 import st.orm.repository.ProjectionRepository;
 import st.orm.repository.Repository;
@@ -43,6 +46,7 @@ import st.orm.template.ORMTemplate;
 public final class ORMTemplateImpl extends QueryTemplateImpl implements ORMTemplate {
     private static final ORMReflection REFLECTION = Providers.getORMReflection();
     private final st.orm.core.template.ORMTemplate core;
+    private final ConcurrentMap<Class<?>, Repository> repositories = new ConcurrentHashMap<>();
 
     public ORMTemplateImpl(st.orm.core.template.ORMTemplate core) {
         super(core);
@@ -79,6 +83,16 @@ public final class ORMTemplateImpl extends QueryTemplateImpl implements ORMTempl
         core.validateSchemaOrThrow(types);
     }
 
+    @Override
+    public void warmUp() {
+        core.warmUp();
+    }
+
+    @Override
+    public void warmUp(@Nonnull Iterable<Class<? extends Data>> types) {
+        core.warmUp(types);
+    }
+
     /**
      * Returns the repository for the given entity type.
      *
@@ -112,83 +126,58 @@ public final class ORMTemplateImpl extends QueryTemplateImpl implements ORMTempl
      * @param <R> the repository type.
      * @return a proxy for the repository of the given type.
      */
+    @SuppressWarnings("unchecked")
     @Override
     public <R extends Repository> R repository(@Nonnull Class<R> type) {
-        var entityRepository = EntityRepository.class.isAssignableFrom(type)
-                ? createEntityRepository(type).orElse(null)
-                : null;
-        var projectionRepository = ProjectionRepository.class.isAssignableFrom(type)
-                ? createProjectionRepository(type).orElse(null)
-                : null;
-        Repository repository = createRepository();
-        //noinspection unchecked
-        return (R) newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
-            try {
-                if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
-                    return identityHashCode(proxy);
-                }
-                if (method.getName().equals("equals") && method.getParameterCount() == 1) {
-                    return proxy == args[0];
-                }
-                if (method.getName().equals("toString") && method.getParameterCount() == 0) {
-                    return STR."RepositoryProxy(\{type.getSimpleName()})";
-                }
-                return SqlLogInterceptor.wrapIfNeeded(
-                        SqlLogInterceptor.resolve(type, method),
-                        type,
-                        toShortSignature(method),
-                        () -> dispatch(proxy, method, args, repository, entityRepository, projectionRepository, type)
-                );
-            } catch (InvocationTargetException e) {
-                throw e.getTargetException();
-            }
+        return (R) repositories.computeIfAbsent(type, t -> {
+            var entityRepository = EntityRepository.class.isAssignableFrom(type)
+                    ? createEntityRepository(type).orElse(null)
+                    : null;
+            var projectionRepository = ProjectionRepository.class.isAssignableFrom(type)
+                    ? createProjectionRepository(type).orElse(null)
+                    : null;
+            Repository repository = createRepository();
+            return (R) newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new RepositoryDispatchTable(type,
+                    method -> invoker(method, repository, entityRepository, projectionRepository, type)));
         });
     }
 
-    private static Object dispatch(Object proxy,
-                                    Method method,
-                                    Object[] args,
-                                    Repository repository,
-                                    EntityRepository<?, ?> entityRepository,
-                                    ProjectionRepository<?, ?> projectionRepository,
-                                    Class<?> type) throws Exception {
-        try {
-            if (method.getDeclaringClass().isAssignableFrom(Repository.class)) {
-                return method.invoke(repository, args);
-            }
-            if (method.getDeclaringClass().isAssignableFrom(EntityRepository.class)) {
-                assert entityRepository != null;
-                return method.invoke(entityRepository, args);
-            }
-            if (method.getDeclaringClass().isAssignableFrom(ProjectionRepository.class)) {
-                assert projectionRepository != null;
-                return method.invoke(projectionRepository, args);
-            }
-            if (REFLECTION.isDefaultMethod(method)) {
-                return REFLECTION.execute(proxy, method, args);
-            }
-            throw new UnsupportedOperationException(STR."Unsupported method: \{method.getName()} for \{type.getName()}.");
-        } catch (InvocationTargetException e) {
-            var target = e.getTargetException();
-            if (target instanceof Exception ex) {
-                throw ex;
-            }
-            throw new st.orm.PersistenceException(target);
-        } catch (Exception e) {
-            throw e;
-        } catch (Throwable t) {
-            throw new st.orm.PersistenceException(t);
+    private static Invoker invoker(Method method,
+                                   Repository repository,
+                                   EntityRepository<?, ?> entityRepository,
+                                   ProjectionRepository<?, ?> projectionRepository,
+                                   Class<?> type) {
+        if (RepositoryDispatchTable.isObjectMethod(method)) {
+            String name = STR."RepositoryProxy(\{type.getSimpleName()})";
+            return switch (method.getName()) {
+                case "hashCode" -> (proxy, args) -> identityHashCode(proxy);
+                case "equals" -> (proxy, args) -> proxy == args[0];
+                default -> (proxy, args) -> name;
+            };
         }
-    }
-
-    private static String toShortSignature(@Nonnull Method method) {
-        var sb = new StringBuilder(method.getName()).append('(');
-        var params = method.getParameterTypes();
-        for (int i = 0; i < params.length; i++) {
-            if (i > 0) sb.append(", ");
-            sb.append(params[i].getSimpleName());
+        Invoker invoker;
+        if (method.getDeclaringClass().isAssignableFrom(Repository.class)) {
+            invoker = bind(method, repository);
+        } else if (method.getDeclaringClass().isAssignableFrom(EntityRepository.class) && entityRepository != null) {
+            invoker = bind(method, entityRepository);
+        } else if (method.getDeclaringClass().isAssignableFrom(ProjectionRepository.class) && projectionRepository != null) {
+            invoker = bind(method, projectionRepository);
+        } else if (REFLECTION.isDefaultMethod(method)) {
+            invoker = (proxy, args) -> REFLECTION.execute(proxy, method, args);
+        } else {
+            invoker = (proxy, args) -> {
+                throw new UnsupportedOperationException(STR."Unsupported method: \{method.getName()} for \{type.getName()}.");
+            };
         }
-        return sb.append(')').toString();
+        return (proxy, args) -> {
+            try {
+                return invoker.invoke(proxy, args);
+            } catch (Exception e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new st.orm.PersistenceException(t);
+            }
+        };
     }
 
     @SuppressWarnings("unchecked")
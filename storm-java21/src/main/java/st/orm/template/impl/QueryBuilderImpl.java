@@ -579,6 +579,16 @@ public final class QueryBuilderImpl<T extends Data, R, ID> extends QueryBuilder<
         return core.scroll(scrollable);
     }
 
+    @Override
+    public Stream<R> scrollAll(@Nonnull Metamodel.Key<T, ?> key, int windowSize) {
+        return core.scrollAll(key, windowSize);
+    }
+
+    @Override
+    public Stream<R> scrollAll(@Nonnull Metamodel.Key<T, ?> key, int windowSize, boolean prefetch) {
+        return core.scrollAll(key, windowSize, prefetch);
+    }
+
     @Override
     public TemplateString getSubquery() {
         return ((Subqueryable) core).getSubquery();
@@ -21,6 +21,7 @@ import jakarta.annotation.Nonnull;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
+import st.orm.ColumnBatch;
 import st.orm.Data;
 import st.orm.PersistenceException;
 import st.orm.Ref;
@@ -169,6 +170,31 @@ public class QueryImpl implements Query {
         return core.getRefStream(type, pkType);
     }
 
+    /**
+     * Execute a SELECT query and return the resulting rows as a stream of column batches.
+     *
+     * <p>The columns of each batch follow the flattened column structure of the specified {@code type}, as used when
+     * the rows are mapped to instances of that type. The rows are not mapped, however: integral, boolean and
+     * floating-point columns are read into primitive arrays, and SQL {@code NULL} values are tracked in a bitmap per
+     * column. This avoids the construction of an object per row when the results are processed column by column, for
+     * instance in analytics and reporting.</p>
+     *
+     * <p><strong>Note:</strong> Calling this method does trigger the execution of the underlying query, so it should
+     * only be invoked when the query is intended to run. Since the stream holds resources open while in use, it must
+     * be closed after usage to prevent resource leaks.</p>
+     *
+     * @param type the type that determines the columns of the batches.
+     * @param batchSize the maximum number of rows per batch.
+     * @return a stream of column batches.
+     * @throws PersistenceException if the query operation fails due to underlying database issues, such as
+     *                              connectivity.
+     * @since 1.11
+     */
+    @Override
+    public Stream<ColumnBatch> getColumnBatches(@Nonnull Class<?> type, int batchSize) {
+        return core.getColumnBatches(type, batchSize);
+    }
+
     /**
      * Returns true if the query is version aware, false otherwise.
      *
@@ -4,6 +4,7 @@ import static java.lang.StringTemplate.RAW;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -74,9 +75,10 @@ public class RepositoryTest {
     public void testRepositoryProxyEquals() {
         CityRepository repo1 = orm.repository(CityRepository.class);
         CityRepository repo2 = orm.repository(CityRepository.class);
-        // Proxy equals is identity-based
-        assertFalse(repo1.equals(repo2));
+        // Proxies are cached per repository type; equals is identity-based.
+        assertSame(repo1, repo2);
         assertTrue(repo1.equals(repo1));
+        assertFalse(repo1.equals(orm.repository(OwnerViewRepository.class)));
     }
 
     @Test
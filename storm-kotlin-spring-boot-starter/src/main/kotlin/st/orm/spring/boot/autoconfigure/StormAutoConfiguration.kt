@@ -15,6 +15,7 @@
  */
 package st.orm.spring.boot.autoconfigure
 
+import org.springframework.beans.factory.ObjectProvider
 import org.springframework.beans.factory.SmartInitializingSingleton
 import org.springframework.boot.autoconfigure.AutoConfiguration
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean
@@ -82,6 +83,20 @@ open class StormAutoConfiguration {
         }
     }
 
+    /**
+     * Compiles the repository statements of all entity types after all singleton beans have been fully initialized,
+     * if enabled by `storm.template-cache.warm-up`.
+     */
+    @Bean
+    open fun stormTemplateWarmUp(
+        ormTemplate: ObjectProvider<ORMTemplate>,
+        properties: StormProperties,
+    ): SmartInitializingSingleton = SmartInitializingSingleton {
+        if (properties.templateCache.warmUp == true) {
+            ormTemplate.ifAvailable { it.warmUp() }
+        }
+    }
+
     private fun toStormConfig(properties: StormProperties): StormConfig {
         val map = mutableMapOf<String, String>()
         properties.update.defaultMode?.let {
@@ -93,12 +108,21 @@ open class StormAutoConfiguration {
         properties.update.maxShapes?.let {
             map["storm.update.max_shapes"] = it.toString()
         }
+        properties.insert.multiRowSize?.let {
+            map["storm.insert.multi_row_size"] = it.toString()
+        }
+        properties.upsert.multiRowSize?.let {
+            map["storm.upsert.multi_row_size"] = it.toString()
+        }
         properties.entityCache.retention?.let {
             map["storm.entity_cache.retention"] = it.trim()
         }
         properties.templateCache.size?.let {
             map["storm.template_cache.size"] = it.toString()
         }
+        properties.statementCache.size?.let {
+            map["storm.statement_cache.size"] = it.toString()
+        }
         properties.ansiEscaping?.let {
             map["storm.ansi_escaping"] = it.toString()
         }
@@ -21,11 +21,12 @@ import org.springframework.transaction.PlatformTransactionManager
 import org.springframework.transaction.TransactionDefinition
 import org.springframework.transaction.TransactionDefinition.*
 import org.springframework.transaction.TransactionStatus
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
 import st.orm.Entity
 import st.orm.PersistenceException
 import st.orm.core.spi.CacheRetention
 import st.orm.core.spi.EntityCache
-import st.orm.core.spi.EntityCacheImpl
 import st.orm.core.spi.TransactionCallback
 import st.orm.core.spi.TransactionContext
 import st.orm.spring.SpringTransactionConfiguration
@@ -195,7 +196,7 @@ internal class SpringTransactionContext : TransactionContext {
     ): EntityCache<out Entity<*>, *> {
         @Suppress("UNCHECKED_CAST")
         return currentState.entityCacheMap.getOrPut(entityType.kotlin) {
-            EntityCacheImpl<Entity<Any>, Any>(retention)
+            EntityCache.create(entityType, retention)
         } as EntityCache<Entity<*>, *>
     }
 
@@ -217,6 +218,28 @@ internal class SpringTransactionContext : TransactionContext {
         currentState.entityCacheMap.values.forEach { it.clear() }
     }
 
+    /**
+     * Registers a callback with the Spring transaction synchronization of the current physical transaction.
+     */
+    override fun onCompletion(callback: Runnable): Boolean {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCompletion(status: Int) = callback.run()
+        })
+        return true
+    }
+
+    /**
+     * Registers a callback with the Spring transaction synchronization that runs after a successful commit.
+     */
+    override fun onCommit(callback: Runnable): Boolean {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() = callback.run()
+        })
+        return true
+    }
+
     /**
      * Gets the decorator for the specified resource type.
      *
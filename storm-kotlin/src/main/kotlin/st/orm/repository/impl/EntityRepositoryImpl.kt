@@ -19,7 +19,6 @@ import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.asFlow
 import kotlinx.coroutines.flow.fold
 import kotlinx.coroutines.flow.map
-import kotlinx.coroutines.stream.consumeAsFlow
 import st.orm.Data
 import st.orm.Entity
 import st.orm.Metamodel
@@ -33,6 +32,7 @@ import st.orm.template.*
 import st.orm.template.impl.ModelImpl
 import st.orm.template.impl.ORMTemplateImpl
 import st.orm.template.impl.QueryBuilderImpl
+import st.orm.template.impl.windowedFlow
 import kotlin.reflect.KClass
 
 /**
@@ -154,7 +154,7 @@ class EntityRepositoryImpl<E, ID : Any>(
 
     override fun deleteByRef(refs: Iterable<Ref<E>>) = core.deleteByRef(refs)
 
-    override fun selectAll(): Flow<E> = core.selectAll().consumeAsFlow()
+    override fun selectAll(): Flow<E> = windowedFlow(0) { core.selectAll() }
 
     override fun selectById(ids: Flow<ID>): Flow<E> = ids.chunked(core.defaultChunkSize)
         .flatMapConcat { core.findAllById(it).asFlow() }
@@ -19,13 +19,13 @@ import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.asFlow
 import kotlinx.coroutines.flow.fold
 import kotlinx.coroutines.flow.map
-import kotlinx.coroutines.stream.consumeAsFlow
 import st.orm.*
 import st.orm.repository.ProjectionRepository
 import st.orm.template.*
 import st.orm.template.impl.ModelImpl
 import st.orm.template.impl.ORMTemplateImpl
 import st.orm.template.impl.QueryBuilderImpl
+import st.orm.template.impl.windowedFlow
 import kotlin.reflect.KClass
 
 /**
@@ -91,7 +91,7 @@ class ProjectionRepositoryImpl<P, ID : Any>(
 
     override fun findAllByRef(refs: Iterable<Ref<P>>): List<P> = core.findAllByRef(refs)
 
-    override fun selectAll(): Flow<P> = core.selectAll().consumeAsFlow()
+    override fun selectAll(): Flow<P> = windowedFlow(0) { core.selectAll() }
 
     override fun selectById(ids: Flow<ID>): Flow<P> = ids.chunked(core.defaultChunkSize)
         .flatMapConcat { core.findAllById(it).asFlow() }
@@ -138,6 +138,31 @@ interface ORMTemplate :
      */
     fun validateSchemaOrThrow(types: Iterable<Class<out Data>>)
 
+    /**
+     * Compiles the statements that repositories issue for all discovered entity types, so that the first requests
+     * after startup are served from the template cache.
+     *
+     * For each entity type, the lookup by primary key and the batch insert, update and delete statements are
+     * compiled. The statements are not executed. Statements whose shape depends on the entity values, such as
+     * dirty-checked updates, are compiled on first use.
+     *
+     * Templates created from an [EntityManager] ignore this call.
+     *
+     * @since 1.11
+     */
+    fun warmUp()
+
+    /**
+     * Compiles the statements that repositories issue for the specified types, so that the first requests after
+     * startup are served from the template cache. Types that are not entities are ignored.
+     *
+     * Templates created from an [EntityManager] ignore this call.
+     *
+     * @param types the entity types to compile the statements for.
+     * @since 1.11
+     */
+    fun warmUp(types: Iterable<Class<out Data>>)
+
     companion object {
         /**
          * Returns an [ORMTemplate] for use with JPA.
@@ -16,11 +16,12 @@
 package st.orm.template
 
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.stream.consumeAsFlow
+import st.orm.ColumnBatch
 import st.orm.Data
 import st.orm.NoResultException
 import st.orm.NonUniqueResultException
 import st.orm.Ref
+import st.orm.template.impl.windowedFlow
 import java.util.function.Supplier
 import java.util.stream.Stream
 import kotlin.reflect.KClass
@@ -207,13 +208,16 @@ interface Query {
      * Each element in the flow represents a row in the result, where the columns of the row corresponds to the
      * order of values in the row array.
      *
+     * Outside a transaction, the rows are read on [TransactionDispatchers.Default] in windows of [fetchSize] rows, so
+     * the collector does not block on the database. Within a transaction, the rows are read by the collector.
+     *
      * @return a flow of results.
      * @throws st.orm.PersistenceException if the query operation fails due to underlying database issues, such as
      * connectivity.
      * @since 1.5
      */
     val resultFlow: Flow<Array<Any>>
-        get() = resultStream.consumeAsFlow()
+        get() = windowedFlow(fetchSize) { resultStream }
 
     /**
      * Execute a SELECT query and return the resulting rows as a stream of row instances.
@@ -247,7 +251,7 @@ interface Query {
      * connectivity.
      * @since 1.5
      */
-    fun <T : Any> getResultFlow(type: KClass<T>): Flow<T> = getResultStream(type).consumeAsFlow()
+    fun <T : Any> getResultFlow(type: KClass<T>): Flow<T> = windowedFlow(fetchSize) { getResultStream(type) }
 
     /**
      * Execute a SELECT query and return the resulting rows as a stream of ref instances.
@@ -280,7 +284,28 @@ interface Query {
      * @throws st.orm.PersistenceException if the query fails.
      * @since 1.5
      */
-    fun <T : Data> getRefFlow(type: KClass<T>, pkType: KClass<*>): Flow<Ref<T>> = getRefStream(type, pkType).consumeAsFlow()
+    fun <T : Data> getRefFlow(type: KClass<T>, pkType: KClass<*>): Flow<Ref<T>> = windowedFlow(fetchSize) { getRefStream(type, pkType) }
+
+    /**
+     * Execute a SELECT query and return the resulting rows as a stream of column batches.
+     *
+     * The columns of each batch follow the flattened column structure of the specified [type], as used when the rows
+     * are mapped to instances of that type. The rows are not mapped, however: integral, boolean and floating-point
+     * columns are read into primitive arrays, and SQL `NULL` values are tracked in a bitmap per column. This avoids the
+     * construction of an object per row when the results are processed column by column, for instance in analytics and
+     * reporting.
+     *
+     * **Note:** Calling this method does trigger the execution of the underlying query, so it should
+     * only be invoked when the query is intended to run. Since the stream holds resources open while in use, it must be
+     * closed after usage to prevent resource leaks.
+     *
+     * @param type the type that determines the columns of the batches.
+     * @param batchSize the maximum number of rows per batch.
+     * @return a stream of column batches.
+     * @throws st.orm.PersistenceException if the query fails.
+     * @since 1.11
+     */
+    fun getColumnBatches(type: KClass<*>, batchSize: Int): Stream<ColumnBatch>
 
     /**
      * Returns true if the query is version aware, false otherwise.
@@ -289,6 +314,15 @@ interface Query {
      */
     val versionAware: Boolean
 
+    /**
+     * Returns the fetch size hint that is applied when the results of this query are streamed, or `0` if the driver
+     * default is used.
+     *
+     * @since 1.11
+     */
+    val fetchSize: Int
+        get() = 0
+
     /**
      * Execute a command, such as an INSERT, UPDATE, or DELETE statement.
      *
@@ -16,7 +16,6 @@
 package st.orm.template
 
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.stream.consumeAsFlow
 import st.orm.*
 import st.orm.Operator.*
 import st.orm.core.template.impl.Elements.ObjectExpression
@@ -25,6 +24,7 @@ import st.orm.template.TemplateString.Companion.raw
 import st.orm.template.TemplateString.Companion.wrap
 import st.orm.template.impl.create
 import st.orm.template.impl.createRef
+import st.orm.template.impl.windowedFlow
 import java.util.function.Supplier
 import java.util.stream.Stream
 import kotlin.reflect.KClass
@@ -951,6 +951,26 @@ interface QueryBuilder<T : Data, R, ID> {
      */
     fun scroll(scrollable: Scrollable<T>): MappedWindow<R, T>
 
+    /**
+     * Executes the query as a sequence of keyset windows over [key] and returns all results as a flow.
+     *
+     * Windows of [windowSize] rows are fetched one query at a time, each continuing after the last key of the
+     * previous window. Every window is read completely before it is emitted, so no database cursor is held open while
+     * the flow is collected. This makes the method suitable for exporting large tables, where offset-based pagination
+     * slows down with every page.
+     *
+     * Outside a transaction, the next window is fetched on [TransactionDispatchers.Default] while the current window
+     * is collected.
+     *
+     * @param key the unique key to order and continue by; must not be nullable.
+     * @param windowSize the number of rows per window (must be positive).
+     * @return a flow of all results, ordered by the key.
+     * @throws IllegalArgumentException if [windowSize] is not positive.
+     * @throws PersistenceException if the key is nullable or the query has explicit orderBy calls.
+     * @since 1.11
+     */
+    fun scrollAll(key: Metamodel.Key<T, *>, windowSize: Int): Flow<R>
+
     //
     // Execution methods.
     //
@@ -979,7 +999,7 @@ interface QueryBuilder<T : Data, R, ID> {
      * @since 1.5
      */
     val resultFlow: Flow<R>
-        get() = resultStream.consumeAsFlow()
+        get() = windowedFlow(0) { resultStream }
 
     val resultCount: Long
         /**
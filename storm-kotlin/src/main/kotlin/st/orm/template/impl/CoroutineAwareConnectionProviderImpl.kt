@@ -171,6 +171,17 @@ class CoroutineAwareConnectionProviderImpl : ConnectionProvider {
         private val RELEASE_CONNECTION_METHOD: Method?
         private val IS_ACTUAL_TRANSACTION_ACTIVE: Method?
 
+        /**
+         * Returns true if a Spring managed transaction is bound to the current thread.
+         *
+         * @since 1.11
+         */
+        internal fun isSpringTransactionActive(): Boolean = try {
+            IS_ACTUAL_TRANSACTION_ACTIVE?.invoke(null) as? Boolean ?: false
+        } catch (_: InvocationTargetException) {
+            false
+        }
+
         init {
             var getConnection: Method?
             var releaseConnection: Method?
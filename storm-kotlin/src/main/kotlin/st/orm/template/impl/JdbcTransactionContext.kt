@@ -82,6 +82,8 @@ internal class JdbcTransactionContext : TransactionContext {
      * @property suspendedConnection Stored connection when transaction is suspended.
      * @property suspendedDataSource Stored DataSource when transaction is suspended.
      * @property suspended Indicates if transaction is currently suspended.
+     * @property completionCallbacks Callbacks invoked when the connection owned by this state is released.
+     * @property commitCallbacks Callbacks invoked after the connection owned by this state has been committed.
      */
     internal data class TransactionState(
         val propagation: TransactionPropagation = REQUIRED,
@@ -105,6 +107,8 @@ internal class JdbcTransactionContext : TransactionContext {
         // - Joined REQUIRED/SUPPORTS/MANDATORY frames share the same map instance for identity stability.
         // - NESTED also shares the map (same connection), but on savepoint rollback we clear it to avoid stale state.
         var entityCacheMap: MutableMap<KClass<*>, EntityCache<*, *>> = mutableMapOf(),
+        val completionCallbacks: MutableList<Runnable> = mutableListOf(),
+        val commitCallbacks: MutableList<Runnable> = mutableListOf(),
     )
 
     private fun nowNanos(): Long = System.nanoTime()
@@ -166,7 +170,7 @@ internal class JdbcTransactionContext : TransactionContext {
     ): EntityCache<out Entity<*>, *> {
         @Suppress("UNCHECKED_CAST")
         return currentState.entityCacheMap.getOrPut(entityType.kotlin) {
-            EntityCacheImpl<Entity<Any>, Any>(retention)
+            EntityCache.create(entityType, retention)
         } as EntityCache<Entity<*>, *>
     }
 
@@ -188,6 +192,32 @@ internal class JdbcTransactionContext : TransactionContext {
         currentState.entityCacheMap.values.forEach { it.clear() }
     }
 
+    /**
+     * Registers a callback that is invoked when the transaction that owns the current connection completes.
+     *
+     * Joined and nested scopes register the callback with the scope that owns the connection, so the callback runs
+     * once the physical transaction is committed or rolled back.
+     */
+    override fun onCompletion(callback: Runnable): Boolean {
+        val connection = stack.lastOrNull()?.connection ?: return false
+        val owner = stack.lastOrNull { it.ownsConnection && it.connection === connection } ?: return false
+        owner.completionCallbacks += callback
+        return true
+    }
+
+    /**
+     * Registers a callback that is invoked when the transaction that owns the current connection commits.
+     *
+     * Joined and nested scopes register the callback with the scope that owns the connection, so the callback only
+     * runs once the physical transaction is committed.
+     */
+    override fun onCommit(callback: Runnable): Boolean {
+        val connection = stack.lastOrNull()?.connection ?: return false
+        val owner = stack.lastOrNull { it.ownsConnection && it.connection === connection } ?: return false
+        owner.commitCallbacks += callback
+        return true
+    }
+
     /**
      * Gets the decorator for the specified resource type.
      *
@@ -439,6 +469,7 @@ internal class JdbcTransactionContext : TransactionContext {
                 state.ownsConnection -> {
                     logger.debug("Committing transaction on {} ({}).", connection, state.transactionId)
                     if (!connection.autoCommit) connection.commit()
+                    runCallbacks(state.commitCallbacks, state)
                     close(connection, state)
                 }
                 else -> {
@@ -503,7 +534,18 @@ internal class JdbcTransactionContext : TransactionContext {
         }
     }
 
+    private fun runCallbacks(callbacks: List<Runnable>, state: TransactionState) {
+        callbacks.forEach { callback ->
+            try {
+                callback.run()
+            } catch (e: Exception) {
+                logger.warn("Transaction completion callback failed (${state.transactionId}).", e)
+            }
+        }
+    }
+
     private fun close(connection: Connection, state: TransactionState) {
+        runCallbacks(state.completionCallbacks, state)
         state.originalIsolationLevel?.let { connection.transactionIsolation = it }
         state.originalReadOnly?.let { connection.isReadOnly = it }
         connection.autoCommit = true
@@ -21,65 +21,60 @@ import st.orm.EntityCallback
 import st.orm.Projection
 import st.orm.core.spi.ORMReflection
 import st.orm.core.spi.Providers
-import st.orm.core.template.impl.SqlLogInterceptor
+import st.orm.core.template.impl.RepositoryDispatchTable
+import st.orm.core.template.impl.RepositoryDispatchTable.Invoker
 import st.orm.repository.EntityRepository
 import st.orm.repository.ProjectionRepository
 import st.orm.repository.Repository
 import st.orm.repository.impl.EntityRepositoryImpl
 import st.orm.repository.impl.ProjectionRepositoryImpl
 import st.orm.template.ORMTemplate
-import java.lang.reflect.InvocationTargetException
 import java.lang.reflect.Method
 import java.lang.reflect.ParameterizedType
 import java.lang.reflect.Proxy
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.reflect.KClass
 
 class ORMTemplateImpl(private val core: st.orm.core.template.ORMTemplate) :
     QueryTemplateImpl(core),
     ORMTemplate {
+    private val repositories = ConcurrentHashMap<KClass<*>, Repository>()
+
     companion object {
         val REFLECTION: ORMReflection = Providers.getORMReflection()
 
-        private fun dispatch(
-            proxy: Any,
+        private fun invoker(
             method: Method,
-            args: Array<Any>,
             repository: Repository,
             entityRepository: EntityRepository<*, *>?,
             projectionRepository: ProjectionRepository<*, *>?,
             type: KClass<*>,
-        ): Any? {
-            try {
-                return when {
-                    method.declaringClass.isAssignableFrom(Repository::class.java) ->
-                        method.invoke(repository, *args)
-                    method.declaringClass.isAssignableFrom(EntityRepository::class.java) -> {
-                        requireNotNull(entityRepository)
-                        method.invoke(entityRepository, *args)
-                    }
-                    method.declaringClass.isAssignableFrom(ProjectionRepository::class.java) -> {
-                        requireNotNull(projectionRepository)
-                        method.invoke(projectionRepository, *args)
-                    }
-                    REFLECTION.isDefaultMethod(method) ->
-                        REFLECTION.execute(proxy, method, *args)
-                    else ->
-                        throw UnsupportedOperationException("Unsupported method: ${method.name} for ${type.java.name}.")
+        ): Invoker {
+            if (RepositoryDispatchTable.isObjectMethod(method)) {
+                val name = "RepositoryProxy(${type.simpleName})"
+                return when (method.name) {
+                    "hashCode" -> Invoker { proxy, _ -> System.identityHashCode(proxy) }
+                    "equals" -> Invoker { proxy, args -> proxy === args[0] }
+                    else -> Invoker { _, _ -> name }
                 }
-            } catch (e: InvocationTargetException) {
-                throw e.targetException
             }
-        }
-
-        private fun toShortSignature(method: Method): String = buildString {
-            append(method.name)
-            append('(')
-            method.parameterTypes.forEachIndexed { i, p ->
-                if (i > 0) append(", ")
-                append(p.simpleName)
+            return when {
+                method.declaringClass.isAssignableFrom(Repository::class.java) ->
+                    RepositoryDispatchTable.bind(method, repository)
+                method.declaringClass.isAssignableFrom(EntityRepository::class.java) ->
+                    entityRepository?.let { RepositoryDispatchTable.bind(method, it) }
+                        ?: unsupported("EntityRepository not available for ${type.java.name}.")
+                method.declaringClass.isAssignableFrom(ProjectionRepository::class.java) ->
+                    projectionRepository?.let { RepositoryDispatchTable.bind(method, it) }
+                        ?: unsupported("ProjectionRepository not available for ${type.java.name}.")
+                REFLECTION.isDefaultMethod(method) ->
+                    Invoker { proxy, args -> REFLECTION.execute(proxy, method, *args) }
+                else ->
+                    unsupported("Unsupported method: ${method.name} for ${type.java.name}.")
             }
-            append(')')
         }
+
+        private fun unsupported(message: String): Invoker = Invoker { _, _ -> throw UnsupportedOperationException(message) }
     }
 
     override fun withEntityCallback(callback: EntityCallback<*>): ORMTemplate = ORMTemplateImpl(core.withEntityCallback(callback))
@@ -94,6 +89,10 @@ class ORMTemplateImpl(private val core: st.orm.core.template.ORMTemplate) :
 
     override fun validateSchemaOrThrow(types: Iterable<Class<out Data>>) = core.validateSchemaOrThrow(types)
 
+    override fun warmUp() = core.warmUp()
+
+    override fun warmUp(types: Iterable<Class<out Data>>) = core.warmUp(types)
+
     /**
      * Returns the repository for the given entity type.
      *
@@ -115,37 +114,18 @@ class ORMTemplateImpl(private val core: st.orm.core.template.ORMTemplate) :
     override fun <T : Projection<ID>, ID : Any> projection(type: KClass<T>): ProjectionRepository<T, ID> = ProjectionRepositoryImpl(core.projection(type.java))
 
     @Suppress("UNCHECKED_CAST")
-    override fun <R : Repository> repository(type: KClass<R>): R {
+    override fun <R : Repository> repository(type: KClass<R>): R = repositories.computeIfAbsent(type) {
         val entityRepository = createEntityRepository(type)
         val projectionRepository = createProjectionRepository(type)
         val repository = createRepository()
-        return Proxy.newProxyInstance(
+        Proxy.newProxyInstance(
             type.java.classLoader,
             arrayOf(type.java),
-        ) { proxy, method, args ->
-            val arguments = args ?: emptyArray()
-            try {
-                when {
-                    method.name == "hashCode" && method.parameterCount == 0 ->
-                        System.identityHashCode(proxy)
-                    method.name == "equals" && method.parameterCount == 1 ->
-                        proxy === arguments[0]
-                    method.name == "toString" && method.parameterCount == 0 ->
-                        "RepositoryProxy(${type.simpleName})"
-                    else ->
-                        SqlLogInterceptor.wrapIfNeeded(
-                            SqlLogInterceptor.resolve(type.java, method),
-                            type.java,
-                            toShortSignature(method),
-                        ) {
-                            dispatch(proxy, method, arguments, repository, entityRepository, projectionRepository, type)
-                        }
-                }
-            } catch (e: InvocationTargetException) {
-                throw e.targetException
-            }
-        } as R
-    }
+            RepositoryDispatchTable(type.java) { method ->
+                invoker(method, repository, entityRepository, projectionRepository, type)
+            },
+        ) as Repository
+    } as R
 
     private fun createEntityRepository(type: KClass<*>): EntityRepository<*, *>? {
         if (!EntityRepository::class.java.isAssignableFrom(type.java)) return null
@@ -15,6 +15,7 @@
  */
 package st.orm.template.impl
 
+import kotlinx.coroutines.flow.Flow
 import st.orm.*
 import st.orm.core.template.impl.Subqueryable
 import st.orm.template.*
@@ -420,5 +421,23 @@ class QueryBuilderImpl<T : Data, R, ID>(
 
     override fun scroll(scrollable: Scrollable<T>): MappedWindow<R, T> = core.scroll(scrollable)
 
+    override fun scrollAll(key: Metamodel.Key<T, *>, windowSize: Int): Flow<R> {
+        // Validate eagerly, as the flow does not build the underlying stream until it is collected.
+        require(windowSize > 0) { "windowSize must be positive." }
+        if (key.isNullable()) {
+            throw PersistenceException(
+                "Scrolling requires a non-nullable unique key, but '${key.fieldPath()}' allows NULL values. " +
+                    "SQL comparisons with NULL silently exclude rows from the result set. " +
+                    "Either make the field non-nullable (@Nonnull or a primitive type), or set " +
+                    "@UK(nullsDistinct = false) if the database constraint prevents duplicate NULLs.",
+            )
+        }
+        if (hasOrderBy()) {
+            throw PersistenceException("scrollAll manages ORDER BY internally; remove explicit orderBy calls.")
+        }
+        // The windowed flow reads one window ahead outside a transaction, which prefetches the next keyset window.
+        return windowedFlow(windowSize) { core.scrollAll(key, windowSize) }
+    }
+
     override fun getSubquery(): st.orm.core.template.TemplateString = (core as Subqueryable).subquery
 }
@@ -15,6 +15,7 @@
  */
 package st.orm.template.impl
 
+import st.orm.ColumnBatch
 import st.orm.Data
 import st.orm.Ref
 import st.orm.template.PreparedQuery
@@ -128,6 +129,8 @@ open class QueryImpl(private val core: st.orm.core.template.Query) : Query {
         pkType: KClass<*>,
     ): Stream<Ref<T>> = core.getRefStream<T>(type.java, pkType.java)
 
+    override fun getColumnBatches(type: KClass<*>, batchSize: Int): Stream<ColumnBatch> = core.getColumnBatches(type.java, batchSize)
+
     override val versionAware: Boolean
         /**
          * Returns true if the query is version aware, false otherwise.
@@ -136,6 +139,14 @@ open class QueryImpl(private val core: st.orm.core.template.Query) : Query {
          */
         get() = core.isVersionAware()
 
+    override val fetchSize: Int
+        /**
+         * Returns the fetch size hint that is applied when the results of this query are streamed.
+         *
+         * @return the fetch size hint, or `0` if the driver default is used.
+         */
+        get() = core.getFetchSize()
+
     /**
      * Execute a command, such as an INSERT, UPDATE, or DELETE statement.
      *
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.template.impl
+
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.emitAll
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.flow.transform
+import kotlinx.coroutines.stream.consumeAsFlow
+import st.orm.core.spi.Providers.getTransactionTemplate
+import st.orm.template.TransactionDispatchers
+import java.util.stream.Stream
+
+/**
+ * Number of rows per window if the query does not specify a fetch size.
+ */
+private const val DEFAULT_WINDOW_SIZE = 256
+
+/**
+ * Number of windows the producer may read ahead of the collector.
+ */
+private const val READ_AHEAD = 1
+
+/**
+ * Returns a flow that reads the stream returned by [supplier] on [TransactionDispatchers.Default].
+ *
+ * Rows are read in windows of [fetchSize] rows and handed to the collector through a bounded channel. The producer
+ * reads at most [READ_AHEAD] window ahead of the collector, so a slow collector suspends the producer instead of
+ * blocking a thread, while a fast collector only switches threads once per window instead of once per row. The stream
+ * is closed when the flow completes, fails or is cancelled.
+ *
+ * A transaction binds its connection to the collecting coroutine, and the connection must not be used by two threads
+ * at the same time. While a transaction is active, the stream is therefore read by the collector itself.
+ *
+ * @param fetchSize the fetch size of the query, or `0` to use the default window size.
+ * @param supplier supplies the stream to read. It is invoked when the flow is collected.
+ * @since 1.11
+ */
+internal fun <T> windowedFlow(fetchSize: Int, supplier: () -> Stream<T>): Flow<T> = flow {
+    if (getTransactionTemplate().currentContext().isPresent || CoroutineAwareConnectionProviderImpl.isSpringTransactionActive()) {
+        emitAll(supplier().consumeAsFlow())
+        return@flow
+    }
+    val windowSize = if (fetchSize > 0) fetchSize else DEFAULT_WINDOW_SIZE
+    val windows = flow {
+        supplier().use { stream ->
+            val iterator = stream.iterator()
+            while (iterator.hasNext()) {
+                val window = ArrayList<T>(windowSize)
+                while (window.size < windowSize && iterator.hasNext()) {
+                    window.add(iterator.next())
+                }
+                emit(window)
+            }
+        }
+    }
+    emitAll(
+        windows
+            .buffer(READ_AHEAD)
+            .flowOn(TransactionDispatchers.Default)
+            .transform { window -> window.forEach { emit(it) } },
+    )
+}
@@ -184,10 +184,10 @@ open class CustomRepositoryTest(
     }
 
     @Test
-    fun `custom repository proxy equals should return false for different proxy`() {
+    fun `custom repository proxy should be cached per repository type`() {
         val repo1 = orm.repository(CityCustomRepo::class)
         val repo2 = orm.repository(CityCustomRepo::class)
-        (repo1 === repo2) shouldBe false
+        (repo1 === repo2) shouldBe true
     }
 
     @Test
@@ -2,7 +2,11 @@ package st.orm.template
 
 import io.kotest.matchers.shouldBe
 import kotlinx.coroutines.flow.count
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.yield
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.springframework.beans.factory.annotation.Autowired
@@ -10,7 +14,10 @@ import org.springframework.test.context.ContextConfiguration
 import org.springframework.test.context.jdbc.Sql
 import org.springframework.test.context.junit.jupiter.SpringExtension
 import st.orm.repository.selectAll
+import st.orm.template.impl.windowedFlow
 import st.orm.template.model.Visit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.stream.Stream
 
 @ExtendWith(SpringExtension::class)
 @ContextConfiguration(classes = [IntegrationConfig::class])
@@ -44,6 +51,44 @@ open class FlowTest(
         repository.count() shouldBe 0
     }
 
+    @Test
+    fun `selectAll should stop reading when collector cancels`(): Unit = runBlocking {
+        // Taking fewer rows than available cancels the producer and closes the underlying stream.
+        orm.selectAll<Visit>().take(3).toList().size shouldBe 3
+        orm.selectAll<Visit>().count() shouldBe 14
+    }
+
+    @Test
+    fun `selectAll should deliver all rows to a slow collector`(): Unit = runBlocking {
+        // The producer reads ahead a bounded number of rows while the collector suspends.
+        val ids = orm.selectAll<Visit>().map { visit ->
+            yield()
+            visit.id
+        }.toList()
+        ids.toSet().size shouldBe 14
+    }
+
+    @Test
+    fun `windowedFlow should read on another thread outside a transaction`(): Unit = runBlocking {
+        // Outside a transaction, the stream is read on the transaction dispatcher, not on the collecting thread.
+        val collectorThread = Thread.currentThread()
+        var readerThread: Thread? = null
+        windowedFlow(2) {
+            readerThread = Thread.currentThread()
+            Stream.of(1, 2, 3, 4, 5)
+        }.toList() shouldBe listOf(1, 2, 3, 4, 5)
+        (readerThread !== collectorThread) shouldBe true
+    }
+
+    @Test
+    fun `windowedFlow should close the stream when collector cancels`(): Unit = runBlocking {
+        val closed = AtomicBoolean(false)
+        windowedFlow(2) {
+            Stream.iterate(1) { it + 1 }.onClose { closed.set(true) }
+        }.take(3).toList() shouldBe listOf(1, 2, 3)
+        closed.get() shouldBe true
+    }
+
     // Flow operations within a suspend transaction
 
     @Test
@@ -64,6 +109,20 @@ open class FlowTest(
         }
     }
 
+    @Test
+    fun `windowedFlow within suspend transaction should read on the collector thread`(): Unit = runBlocking {
+        // The transaction connection must not be shared between threads, so the collector reads the stream itself.
+        transaction {
+            val collectorThread = Thread.currentThread()
+            var readerThread: Thread? = null
+            windowedFlow(2) {
+                readerThread = Thread.currentThread()
+                Stream.of(1, 2, 3)
+            }.toList() shouldBe listOf(1, 2, 3)
+            readerThread shouldBe collectorThread
+        }
+    }
+
     @Test
     fun `delete flow within suspend transaction should remove all visits`(): Unit = runBlocking {
         // Deleting all entities via flow within a suspend transaction should leave the table empty.
@@ -1441,6 +1441,27 @@ open class QueryBuilderTest(
         }
     }
 
+    @Test
+    fun `scrollAll should return all rows in key order`() {
+        val repo = orm.entity(City::class)
+        val idKey = metamodel<City, Int>(repo.model, "id").key()
+        val cities = runBlocking { repo.select().scrollAll(idKey, 4).toList() }
+        cities shouldHaveSize 6
+        cities.map { it.id } shouldBe (1..6).toList()
+    }
+
+    @Test
+    fun `scrollAll should validate arguments before the flow is collected`() {
+        val repo = orm.entity(City::class)
+        val idKey = metamodel<City, Int>(repo.model, "id").key()
+        assertThrows<IllegalArgumentException> {
+            repo.select().scrollAll(idKey, 0)
+        }
+        assertThrows<PersistenceException> {
+            repo.select().orderBy(metamodel<City, Int>(repo.model, "id")).scrollAll(idKey, 2)
+        }
+    }
+
     @Test
     fun `selectFrom with entity and select type should work`() {
         val cities = orm.selectFrom(City::class, City::class).resultList
@@ -867,10 +867,10 @@ open class TemplatesTest(
     }
 
     @Test
-    fun `repository proxy equals should return false for different proxy`() {
+    fun `repository proxy should be cached per repository type`() {
         val repo1 = orm.repository(CityRepository::class)
         val repo2 = orm.repository(CityRepository::class)
-        (repo1 === repo2) shouldBe false
+        (repo1 === repo2) shouldBe true
     }
 
     @Test
@@ -15,12 +15,14 @@
  */
 package st.orm.serialization.spi
 
+import kotlinx.serialization.ExperimentalSerializationApi
 import kotlinx.serialization.KSerializer
 import kotlinx.serialization.Serializable
 import kotlinx.serialization.SerializationException
 import kotlinx.serialization.builtins.ListSerializer
 import kotlinx.serialization.builtins.MapSerializer
 import kotlinx.serialization.builtins.SetSerializer
+import kotlinx.serialization.json.decodeFromStream
 import kotlinx.serialization.serializer
 import st.orm.Data
 import st.orm.Json
@@ -30,6 +32,7 @@ import st.orm.core.template.SqlTemplateException
 import st.orm.mapping.RecordField
 import st.orm.serialization.RefSerializer
 import st.orm.serialization.StormSerializersModule
+import java.io.ByteArrayInputStream
 import java.util.concurrent.ConcurrentHashMap
 import kotlin.reflect.KClass
 import kotlin.reflect.KType
@@ -154,6 +157,7 @@ class JsonORMConverterImpl(
 
     private val json: JsonMapper
     private val serializer: KSerializer<Any?>
+    private val binary: Boolean = json.binary
 
     init {
         val sealedBase = kType.jvmErasure.java.takeIf { it.isSealed }
@@ -172,7 +176,8 @@ class JsonORMConverterImpl(
     }
 
     override fun getParameterCount(): Int = 1
-    override fun getParameterTypes(): List<Class<*>> = listOf(String::class.java)
+    // In binary mode the column is read as UTF-8 bytes, which are decoded without creating an intermediate String.
+    override fun getParameterTypes(): List<Class<*>> = listOf(if (binary) ByteArray::class.java else String::class.java)
 
     override fun getColumns(nameResolver: ORMConverter.NameResolver): List<Name> = listOf(nameResolver.getName(field))
 
@@ -183,11 +188,15 @@ class JsonORMConverterImpl(
         throw SqlTemplateException(t)
     }
 
+    @OptIn(ExperimentalSerializationApi::class)
     override fun fromDatabase(values: Array<Any?>, refFactory: RefFactory): Any? {
-        val raw = values[0] as? String? ?: return null
+        val raw = values[0] ?: return null
         return try {
             REF_FACTORY.set(refFactory)
-            this@JsonORMConverterImpl.json.decodeFromString(serializer, raw)
+            when (raw) {
+                is ByteArray -> this@JsonORMConverterImpl.json.decodeFromStream(serializer, ByteArrayInputStream(raw))
+                else -> this@JsonORMConverterImpl.json.decodeFromString(serializer, raw as String)
+            }
         } catch (e: SerializationException) {
             throw SqlTemplateException(e)
         } finally {
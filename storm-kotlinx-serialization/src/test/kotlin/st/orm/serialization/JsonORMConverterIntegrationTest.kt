@@ -452,4 +452,26 @@ open class JsonORMConverterIntegrationTest(@Autowired val dataSource: DataSource
         assertNotNull(result)
         assertEquals(listOf("a", "b", "c"), result.names)
     }
+
+    // Binary mode: the JSON column is read as UTF-8 bytes instead of a String.
+
+    @DbTable("owner")
+    data class OwnerWithBinaryAddress(
+        @PK val id: Int = 0,
+        @Json(binary = true) val address: Address,
+        val telephone: String?,
+    ) : Entity<Int>
+
+    @Test
+    fun `Json with binary true should read and write address`() {
+        // With @Json(binary = true), the address column is read as bytes and decoded without an intermediate
+        // String. Reading owner id=1, updating it and reading it back should round-trip the address.
+        val orm = ORMTemplate.of(dataSource)
+        val repository = orm.entity(OwnerWithBinaryAddress::class)
+        val owner = repository.getById(1)
+        assertNotNull(owner.address.address)
+        val updated = owner.copy(telephone = "555-0100")
+        repository.update(updated)
+        assertEquals(updated, repository.getById(1))
+    }
 }
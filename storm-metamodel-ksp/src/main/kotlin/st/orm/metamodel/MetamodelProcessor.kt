@@ -966,6 +966,41 @@ class MetamodelProcessor(
         return builder.toString()
     }
 
+    /**
+     * Builds the nested `Instantiator` class that invokes the primary constructor directly, or returns an empty string
+     * if the constructor cannot be invoked from generated code.
+     */
+    private fun buildInstantiatorClass(classDeclaration: KSClassDeclaration, packageName: String): String {
+        if (classDeclaration.typeParameters.isNotEmpty()) return ""
+        val constructor = classDeclaration.primaryConstructor ?: return ""
+        if (constructor.modifiers.contains(Modifier.PRIVATE)) return ""
+        val className = classDeclaration.simpleName.asString()
+        val args = constructor.parameters.mapIndexed { index, parameter ->
+            val declaration = parameter.type.resolve().declaration
+            if (declaration.modifiers.contains(Modifier.PRIVATE) ||
+                declaration.modifiers.contains(Modifier.VALUE) ||
+                declaration.modifiers.contains(Modifier.INLINE) ||
+                declaration is KSTypeParameter
+            ) {
+                return ""
+            }
+            "args[$index] as ${getKotlinValueTypeName(parameter.type, packageName)}"
+        }
+        return """
+            |
+            |    /**
+            |     * Instantiates $className by invoking its primary constructor directly.
+            |     */
+            |    @Generated("${this::class.java.name}")
+            |    class Instantiator : st.orm.mapping.RecordInstantiator<$className> {
+            |        @Suppress("UNCHECKED_CAST")
+            |        override fun newInstance(args: Array<Any?>): $className = $className(
+            |${args.joinToString(",\n") { "            $it" }}
+            |        )
+            |    }
+        """.trimMargin()
+    }
+
     private fun generateMetamodelClass(classDeclaration: KSClassDeclaration, forceNullableChain: Boolean) {
         val packageName = classDeclaration.packageName.asString()
         val className = classDeclaration.simpleName.asString()
@@ -1108,6 +1143,7 @@ class MetamodelProcessor(
                         ""
                     }
                 }
+                |${if (forceNullableChain) "" else buildInstantiatorClass(classDeclaration, packageName)}
                 |}
                 """.trimMargin(),
             )
@@ -1038,6 +1038,68 @@ public final class MetamodelProcessor extends AbstractProcessor {
         return builder.toString();
     }
 
+    /**
+     * Builds the nested {@code Instantiator} class that invokes the canonical constructor directly, or returns an
+     * empty string if the constructor cannot be invoked from generated code.
+     */
+    private String buildInstantiatorClass(@Nonnull Element recordElement, @Nonnull String recordName) {
+        if (!(recordElement instanceof TypeElement typeElement) || !typeElement.getTypeParameters().isEmpty()) {
+            return "";
+        }
+        ExecutableElement constructor = findCanonicalConstructor(recordElement);
+        if (constructor == null || constructor.getModifiers().contains(javax.lang.model.element.Modifier.PRIVATE)) {
+            return "";
+        }
+        StringBuilder args = new StringBuilder();
+        var parameters = constructor.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            TypeMirror parameterType = parameters.get(i).asType();
+            if (!isAccessibleType(parameterType)) {
+                return "";
+            }
+            String typeName = parameterType.toString().replaceAll("@\\S+\\s+", "");  // Erase any annotations.
+            args.append(i == 0 ? "\n                    " : ",\n                    ")
+                    .append("(").append(typeName).append(") args[").append(i).append("]");
+        }
+        return "\n" +
+                "    /**\n" +
+                "     * Instantiates " + recordName + " by invoking its canonical constructor directly.\n" +
+                "     */\n" +
+                "    @Generated(\"" + getClass().getName() + "\")\n" +
+                "    public static final class Instantiator implements st.orm.mapping.RecordInstantiator<" + recordName + "> {\n\n" +
+                "        @Override\n" +
+                "        @SuppressWarnings(\"unchecked\")\n" +
+                "        public " + recordName + " newInstance(@Nonnull Object[] args) {\n" +
+                "            return new " + recordName + "(" + args + ");\n" +
+                "        }\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns true if the specified type can be referenced from generated code in the package of the record.
+     */
+    private static boolean isAccessibleType(@Nonnull TypeMirror typeMirror) {
+        return switch (typeMirror.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> true;
+            case ARRAY -> isAccessibleType(((javax.lang.model.type.ArrayType) typeMirror).getComponentType());
+            case DECLARED -> {
+                DeclaredType declaredType = (DeclaredType) typeMirror;
+                for (Element e = declaredType.asElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+                    if (e.getModifiers().contains(javax.lang.model.element.Modifier.PRIVATE)) {
+                        yield false;
+                    }
+                }
+                for (TypeMirror argument : declaredType.getTypeArguments()) {
+                    if (argument.getKind() != TypeKind.WILDCARD && !isAccessibleType(argument)) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            default -> false;
+        };
+    }
+
     private void generateMetamodelClass(@Nonnull Element recordElement) {
         String packageName = elementUtils.getPackageOf(recordElement).getQualifiedName().toString();
         String recordName = recordElement.getSimpleName().toString();
@@ -1198,6 +1260,7 @@ public final class MetamodelProcessor extends AbstractProcessor {
                         "        return INSTANCE;\n" +
                         "    }\n";
             }
+            String instantiatorClass = buildInstantiatorClass(recordElement, recordName);
             String footer = "}\n";
             try (Writer writer = fileObject.openWriter()) {
                 writer.write(header);
@@ -1205,6 +1268,7 @@ public final class MetamodelProcessor extends AbstractProcessor {
                 writer.write(constructors);
                 writer.write(fullCtor);
                 writer.write(staticInstance);
+                writer.write(instantiatorClass);
                 writer.write(footer);
             }
         } catch (Exception e) {
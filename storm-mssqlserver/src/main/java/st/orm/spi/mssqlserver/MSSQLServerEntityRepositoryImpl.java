@@ -167,6 +167,13 @@ public class MSSQLServerEntityRepositoryImpl<E extends Entity<ID>, ID>
      */
     private TemplateString mergeSelect(@Nonnull Iterable<E> entities) {
         assert generationStrategy == SEQUENCE;
+        return mergeValues(entities);
+    }
+
+    /**
+     * Builds a VALUES clause for the merge source based on entities.
+     */
+    private TemplateString mergeValues(@Nonnull Iterable<E> entities) {
         try {
             List<TemplateString> valuesTemplates = new ArrayList<>();
             for (E entity : entities) {
@@ -466,22 +473,39 @@ public class MSSQLServerEntityRepositoryImpl<E extends Entity<ID>, ID>
 
     @Override
     protected void doUpsertBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query,
-                                 @Nullable EntityCache<E, ID> cache) {
+                                 @Nullable EntityCache<E, ID> cache, int batchSize) {
         if (batch.isEmpty()) {
             return;
         }
-        batch.stream().map(this::validateUpsert).forEach(query::addBatch);
+        List<E> validated = batch.stream().map(this::validateUpsert).toList();
         if (cache != null) {
-            batch.stream()
+            validated.stream()
                     .filter(e -> !model.isDefaultPrimaryKey(e.id()))
                     .forEach(e -> cache.remove(e.id()));
         }
+        int offset = upsertRows(validated, batchSize);
+        if (offset == validated.size()) {
+            return;
+        }
+        validated.subList(offset, validated.size()).forEach(query::addBatch);
         int[] result = query.executeBatch();
         if (IntStream.of(result).anyMatch(r -> r != 0 && r != 1 && r != 2)) {
             throw new PersistenceException("Batch upsert failed.");
         }
     }
 
+    @Override
+    protected void doUpsertRows(@Nonnull List<E> rows) {
+        var versionAware = new AtomicBoolean();
+        intercept(sql -> sql.versionAware(versionAware.getPlain()), () -> {
+            var query = ormTemplate.query(flatten(raw("""
+                    MERGE INTO \0 t
+                    USING (\0) AS src(\0)
+                    ON (\0)\0\0;""", model.type(), mergeValues(rows), mergeSource(), mergeOn(), mergeUpdate(versionAware), mergeInsert()))).managed();
+            query.executeUpdate();
+        });
+    }
+
     @Override
     protected List<ID> doUpsertAndFetchIdsBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query,
                                                 @Nullable EntityCache<E, ID> cache) {
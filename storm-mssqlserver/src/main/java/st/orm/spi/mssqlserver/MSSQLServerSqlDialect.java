@@ -250,6 +250,28 @@ public class MSSQLServerSqlDialect extends DefaultSqlDialect implements SqlDiale
         return ConstraintDiscoveryStrategy.JDBC_METADATA;
     }
 
+    /**
+     * Returns the maximum number of bind parameters that a single statement may contain.
+     *
+     * @return {@code 2100}.
+     * @since 1.11
+     */
+    @Override
+    public int maxParameterCount() {
+        return 2100;
+    }
+
+    /**
+     * Returns the maximum number of rows that a single {@code VALUES} clause may contain.
+     *
+     * @return {@code 1000}.
+     * @since 1.11
+     */
+    @Override
+    public int maxValuesRowCount() {
+        return 1000;
+    }
+
     /**
      * Returns the SQL statement for getting the next value of the given sequence.
      *
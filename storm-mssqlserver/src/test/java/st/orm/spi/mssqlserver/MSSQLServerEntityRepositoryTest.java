@@ -21,8 +21,10 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.sql.DataSource;
@@ -48,7 +50,9 @@ import st.orm.Metamodel;
 import st.orm.PK;
 import st.orm.Persist;
 import st.orm.PersistenceException;
+import st.orm.StormConfig;
 import st.orm.Version;
+import st.orm.core.template.ORMTemplate;
 import st.orm.core.template.PreparedStatementTemplate;
 
 @ExtendWith(SpringExtension.class)
@@ -282,6 +286,22 @@ public class MSSQLServerEntityRepositoryTest {
         });
     }
 
+    @Test
+    public void testInsertBatchMultiRow() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.insert.multi_row_size", "2")));
+        var repo = orm.entity(Vet.class);
+        long before = repo.count();
+        var statements = new ArrayList<String>();
+        observe(sql -> statements.add(sql.statement()), () -> repo.insert(List.of(
+                Vet.builder().firstName("John").lastName("Doe").build(),
+                Vet.builder().firstName("Jane").lastName("Doe").build(),
+                Vet.builder().firstName("Jim").lastName("Doe").build())));
+        // Two rows in a single multi-row statement, the remaining row in a JDBC batch.
+        assertEquals(2, statements.size());
+        assertEquals(1, statements.stream().filter(sql -> sql.contains("VALUES (?, ?), (?, ?)")).count());
+        assertEquals(before + 3, repo.count());
+    }
+
     @Test
     public void testUpdateAndFetchInlineVersion() {
         String expectedSql = """
@@ -652,6 +672,56 @@ public class MSSQLServerEntityRepositoryTest {
         });
     }
 
+    @Test
+    public void testUpsertBatchMultiRow() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.upsert.multi_row_size", "2")));
+        var repo = orm.entity(Specialty.class);
+        var statements = new ArrayList<String>();
+        observe(sql -> statements.add(sql.statement()), () -> repo.upsert(List.of(
+                Specialty.builder().id(4).name("anaesthetics").build(),
+                Specialty.builder().id(5).name("nurse").build(),
+                Specialty.builder().id(6).name("pharmacy").build())));
+        // Two rows in a single multi-row statement, the remaining row in a JDBC batch.
+        assertEquals(2, statements.size());
+        assertEquals(1, statements.stream().filter(sql -> sql.contains("USING (VALUES (?, ?), (?, ?)) AS src")).count());
+        assertTrue(statements.stream().allMatch(sql -> sql.contains("WHEN MATCHED THEN")));
+        var entities = repo.select().where(Metamodel.of(Specialty.class, "id"), GREATER_THAN_OR_EQUAL, 4).getResultList();
+        assertEquals(3, entities.size());
+        repo.upsert(entities.stream().map(e -> e.toBuilder().name("%ss".formatted(e.name())).build()).toList());
+        var updated = repo.select().where(Metamodel.of(Specialty.class, "id"), GREATER_THAN_OR_EQUAL, 4).getResultList();
+        assertEquals(3, updated.size());
+        assertTrue(updated.stream().allMatch(entity -> entity.name().endsWith("s")));
+    }
+
+    @Test
+    public void testUpsertBatchMultiRowCappedByBatchSize() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.upsert.multi_row_size", "10")));
+        var repo = orm.entity(Specialty.class);
+        var statements = new ArrayList<String>();
+        // The batch size is smaller than the multi-row size, so each full batch is upserted in a single statement.
+        observe(sql -> statements.add(sql.statement()), () -> repo.upsert(List.of(
+                Specialty.builder().id(4).name("anaesthetics").build(),
+                Specialty.builder().id(5).name("nurse").build(),
+                Specialty.builder().id(6).name("pharmacy").build()).stream(), 2));
+        assertEquals(2, statements.size());
+        assertEquals(1, statements.stream().filter(sql -> sql.contains("USING (VALUES (?, ?), (?, ?)) AS src")).count());
+        assertEquals(3, repo.select().where(Metamodel.of(Specialty.class, "id"), GREATER_THAN_OR_EQUAL, 4).getResultCount());
+    }
+
+    @Test
+    public void testUpsertBatchMultiRowDuplicateKeys() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.upsert.multi_row_size", "2")));
+        var repo = orm.entity(Specialty.class);
+        var statements = new ArrayList<String>();
+        // A multi-row upsert cannot affect the same row twice, so the batch falls back to JDBC batching.
+        observe(sql -> statements.add(sql.statement()), () -> repo.upsert(List.of(
+                Specialty.builder().id(4).name("anaesthetics").build(),
+                Specialty.builder().id(4).name("nurse").build())));
+        assertEquals(1, statements.size());
+        assertFalse(statements.getFirst().contains("), ("));
+        assertEquals("nurse", repo.getById(4).name());
+    }
+
     @Test
     public void testUpsertNonAutoGeneratedBatch() {
         String expectedSql = """
@@ -186,26 +186,43 @@ public class MySQLEntityRepositoryImpl<E extends Entity<ID>, ID>
 
     @Override
     protected void doUpsertBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query,
-                                 @Nullable EntityCache<E, ID> cache) {
+                                 @Nullable EntityCache<E, ID> cache, int batchSize) {
         if (batch.isEmpty()) {
             return;
         }
-        batch.stream().map(this::validateUpsert).forEach(query::addBatch);
+        List<E> validated = batch.stream().map(this::validateUpsert).toList();
         if (cache != null) {
-            if (batch.stream().anyMatch(e -> model.isDefaultPrimaryKey(e.id()))) {
+            if (validated.stream().anyMatch(e -> model.isDefaultPrimaryKey(e.id()))) {
                 // MySQL can update a record with the same unique key so we need to clear the cache
                 // as we cannot predict which record is updated.
                 cache.clear();
             } else {
-                batch.forEach(e -> cache.remove(e.id()));
+                validated.forEach(e -> cache.remove(e.id()));
             }
         }
+        int offset = upsertRows(validated, batchSize);
+        if (offset == validated.size()) {
+            return;
+        }
+        validated.subList(offset, validated.size()).forEach(query::addBatch);
         int[] result = query.executeBatch();
         if (IntStream.of(result).anyMatch(r -> r != 1 && r != 2)) {
             throw new PersistenceException("Batch upsert failed.");
         }
     }
 
+    @Override
+    protected void doUpsertRows(@Nonnull List<E> rows) {
+        var versionAware = new AtomicBoolean();
+        intercept(sql -> sql.versionAware(versionAware.getPlain()), () -> {
+            // The affected row count is not checked, as MySQL reports 0, 1 or 2 per row depending on the outcome.
+            var query = ormTemplate.query(flatten(raw("""
+                    INSERT INTO \0
+                    VALUES \0\0""", model.type(), rows, onDuplicateKey(versionAware)))).managed();
+            query.executeUpdate();
+        });
+    }
+
     @Override
     protected List<ID> doUpsertAndFetchIdsBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query,
                                                 @Nullable EntityCache<E, ID> cache) {
@@ -121,6 +121,16 @@ public class OracleEntityRepositoryImpl<E extends Entity<ID>, ID> extends Entity
         }
     }
 
+    /**
+     * Builds the merge source for multiple entities by combining the SELECT clause of each entity with UNION ALL.
+     */
+    private TemplateString mergeSelect(@Nonnull List<E> entities) {
+        return entities.stream()
+                .map(entity -> mergeSelect(entity))
+                .reduce((left, right) -> combine(left, TemplateString.of("\nUNION ALL\n"), right))
+                .orElseThrow();
+    }
+
     private TemplateString mergeSelect(@Nonnull BindVars bindVars) {
         var dialect = ormTemplate.dialect();
         var values = new AtomicReference<Map<Column, ?>>();
@@ -288,22 +298,39 @@ public class OracleEntityRepositoryImpl<E extends Entity<ID>, ID> extends Entity
     }
 
     @Override
-    protected void doUpsertBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query, @Nullable EntityCache<E, ID> cache) {
+    protected void doUpsertBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query, @Nullable EntityCache<E, ID> cache, int batchSize) {
         if (batch.isEmpty()) {
             return;
         }
-        batch.stream().map(this::validateUpsert).forEach(query::addBatch);
+        List<E> validated = batch.stream().map(this::validateUpsert).toList();
         if (cache != null) {
-            batch.stream()
+            validated.stream()
                     .filter(e -> !model.isDefaultPrimaryKey(e.id()))
                     .forEach(e -> cache.remove(e.id()));
         }
+        int offset = upsertRows(validated, batchSize);
+        if (offset == validated.size()) {
+            return;
+        }
+        validated.subList(offset, validated.size()).forEach(query::addBatch);
         int[] result = query.executeBatch();
         if (IntStream.of(result).anyMatch(r -> r != 0 && r != 1 && r != 2)) {
             throw new PersistenceException("Batch upsert failed.");
         }
     }
 
+    @Override
+    protected void doUpsertRows(@Nonnull List<E> rows) {
+        var versionAware = new AtomicBoolean();
+        intercept(sql -> sql.versionAware(versionAware.getPlain()), () -> {
+            var query = ormTemplate.query(flatten(raw("""
+                    MERGE INTO \0 t
+                    USING (\0) src
+                    ON (\0)\0\0""", table(model.type()), mergeSelect(rows), mergeOn(), mergeUpdate(versionAware), mergeInsert()))).managed();
+            query.executeUpdate();
+        });
+    }
+
     @Override
     protected List<ID> doUpsertAndFetchIdsBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query, @Nullable EntityCache<E, ID> cache) {
         if (batch.isEmpty()) {
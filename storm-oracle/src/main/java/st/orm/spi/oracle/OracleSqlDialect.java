@@ -15,6 +15,7 @@
  */
 package st.orm.spi.oracle;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.util.stream.Collectors.toSet;
 import static st.orm.Operator.BETWEEN;
 import static st.orm.Operator.EQUALS;
@@ -27,7 +28,16 @@ import static st.orm.Operator.NOT_EQUALS;
 import static st.orm.Operator.NOT_IN;
 
 import jakarta.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.SequencedMap;
 import java.util.Set;
 import java.util.function.Function;
@@ -36,16 +46,29 @@ import java.util.stream.Stream;
 import st.orm.Operator;
 import st.orm.StormConfig;
 import st.orm.core.spi.DefaultSqlDialect;
+import st.orm.core.template.ArrayParameter;
 import st.orm.core.template.SqlDialect;
 import st.orm.core.template.SqlTemplateException;
 
 public class OracleSqlDialect extends DefaultSqlDialect implements SqlDialect {
 
+    private static final Map<Class<?>, String> ARRAY_TYPES = Map.of(
+            Short.class, "SYS.ODCINUMBERLIST",
+            Integer.class, "SYS.ODCINUMBERLIST",
+            Long.class, "SYS.ODCINUMBERLIST",
+            BigDecimal.class, "SYS.ODCINUMBERLIST",
+            String.class, "SYS.ODCIVARCHAR2LIST"
+    );
+
+    private final boolean arrayBinding;
+
     public OracleSqlDialect() {
+        this(StormConfig.defaults());
     }
 
     public OracleSqlDialect(@Nonnull StormConfig config) {
         super(config);
+        this.arrayBinding = parseBoolean(config.getProperty("storm.in_list.array_binding", "false"));
     }
 
     /**
@@ -270,6 +293,77 @@ public class OracleSqlDialect extends DefaultSqlDialect implements SqlDialect {
         return ConstraintDiscoveryStrategy.ALL_CONSTRAINTS;
     }
 
+    /**
+     * Returns the Oracle collection type for the given element type if {@code storm.in_list.array_binding} is
+     * enabled. The built-in {@code SYS.ODCINUMBERLIST} and {@code SYS.ODCIVARCHAR2LIST} types are used, so no custom
+     * types need to be created in the schema.
+     *
+     * @param elementType the type of the values in the {@code IN} list.
+     * @return the SQL array type, or an empty optional if the values must be bound individually.
+     * @since 1.11
+     */
+    @Override
+    public Optional<String> arrayType(@Nonnull Class<?> elementType) {
+        if (!arrayBinding) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ARRAY_TYPES.get(elementType));
+    }
+
+    /**
+     * Builds an {@code IN} or {@code NOT IN} expression that selects the values from the collection parameter.
+     *
+     * @param operator the operator, either {@link Operator#IN} or {@link Operator#NOT_IN}.
+     * @param column the column to compare.
+     * @param parameter the placeholder of the array parameter.
+     * @return the SQL fragment representing the expression.
+     * @throws SqlTemplateException if the operator is not supported.
+     * @since 1.11
+     */
+    @Override
+    public String arrayIn(@Nonnull Operator operator, @Nonnull String column, @Nonnull String parameter)
+            throws SqlTemplateException {
+        if (operator == IN) {
+            return "%s IN (SELECT column_value FROM TABLE(%s))".formatted(column, parameter);
+        }
+        if (operator == NOT_IN) {
+            return "%s NOT IN (SELECT column_value FROM TABLE(%s))".formatted(column, parameter);
+        }
+        throw new SqlTemplateException("Unsupported operator for array parameter: %s.".formatted(operator));
+    }
+
+    /**
+     * Sets an array parameter using {@code OracleConnection.createOracleArray}, as the Oracle JDBC driver does not
+     * support {@link java.sql.Connection#createArrayOf(String, Object[])}. The driver is accessed reflectively, so that
+     * it is not required at compile time.
+     *
+     * @param preparedStatement the prepared statement.
+     * @param index the parameter index.
+     * @param array the array parameter.
+     * @throws SQLException if a database access error occurs.
+     * @since 1.11
+     */
+    @Override
+    public void setParameter(@Nonnull PreparedStatement preparedStatement, int index,
+                             @Nonnull ArrayParameter array) throws SQLException {
+        Connection connection = preparedStatement.getConnection();
+        try {
+            Class<?> oracleConnectionClass = Class.forName("oracle.jdbc.OracleConnection", true,
+                    connection.getClass().getClassLoader());
+            Object oracleConnection = connection.unwrap(oracleConnectionClass);
+            Method createOracleArray = oracleConnectionClass.getMethod("createOracleArray", String.class, Object.class);
+            preparedStatement.setArray(index,
+                    (Array) createOracleArray.invoke(oracleConnection, array.type(), array.values().toArray()));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Oracle JDBC driver not available for array parameter binding.", e);
+        }
+    }
+
     /**
      * Returns the SQL statement for getting the next value of the given sequence.
      *
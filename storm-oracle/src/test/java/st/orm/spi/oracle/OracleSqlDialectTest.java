@@ -352,4 +352,26 @@ class OracleSqlDialectTest {
         assertThrows(SqlTemplateException.class,
                 () -> dialect.multiColumnExpression(Operator.LIKE, values, v -> "?"));
     }
+
+    // Array binding for IN lists
+
+    @Test
+    void arrayTypeShouldBeEmptyByDefault() {
+        assertTrue(dialect.arrayType(Integer.class).isEmpty());
+    }
+
+    @Test
+    void arrayTypeShouldMapSupportedTypesWhenEnabled() {
+        var arrayDialect = new OracleSqlDialect(StormConfig.of(Map.of("storm.in_list.array_binding", "true")));
+        assertEquals("SYS.ODCINUMBERLIST", arrayDialect.arrayType(Integer.class).orElseThrow());
+        assertEquals("SYS.ODCINUMBERLIST", arrayDialect.arrayType(Long.class).orElseThrow());
+        assertEquals("SYS.ODCIVARCHAR2LIST", arrayDialect.arrayType(String.class).orElseThrow());
+        assertTrue(arrayDialect.arrayType(Object.class).isEmpty());
+    }
+
+    @Test
+    void arrayInShouldSelectFromTable() throws Exception {
+        assertEquals("a.id IN (SELECT column_value FROM TABLE(?))", dialect.arrayIn(Operator.IN, "a.id", "?"));
+        assertEquals("a.id NOT IN (SELECT column_value FROM TABLE(?))", dialect.arrayIn(Operator.NOT_IN, "a.id", "?"));
+    }
 }
@@ -4,6 +4,7 @@ module storm.postgresql {
     requires storm.core;
     requires jakarta.annotation;
     requires java.sql;
+    requires org.postgresql.jdbc;
     provides st.orm.core.spi.EntityRepositoryProvider with st.orm.spi.postgresql.PostgreSQLEntityRepositoryProviderImpl;
     provides st.orm.core.spi.SqlDialectProvider with st.orm.spi.postgresql.PostgreSQLSqlDialectProviderImpl;
 }
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2024 - 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package st.orm.spi.postgresql;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import st.orm.PersistenceException;
+import st.orm.core.template.Column;
+
+/**
+ * Writer for PostgreSQL's binary {@code COPY ... FROM STDIN} format.
+ *
+ * <p>The binary format requires each value to be encoded exactly as the server's receive function for the column type
+ * expects it. The encoders are therefore selected from the column types reported by the database, not from the Java
+ * types of the values. Values are expected to be JDBC-ready, as produced by
+ * {@link st.orm.core.template.Model#forEachValue}.</p>
+ *
+ * @since 1.11
+ */
+final class PostgreSQLBinaryCopy implements AutoCloseable {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final Instant POSTGRES_EPOCH = POSTGRES_EPOCH_DATE.atStartOfDay(UTC).toInstant();
+    private static final BigInteger NBASE = BigInteger.valueOf(10_000);
+
+    /**
+     * Encodes a single non-null value, including its length prefix.
+     */
+    @FunctionalInterface
+    private interface Encoder {
+        void write(@Nonnull DataOutputStream out, @Nonnull Object value) throws IOException;
+    }
+
+    private final PGCopyOutputStream copy;
+    private final DataOutputStream out;
+    private final List<Column> columns;
+    private final List<Encoder> encoders;
+    private boolean finished;
+
+    private PostgreSQLBinaryCopy(@Nonnull PGCopyOutputStream copy,
+                                 @Nonnull List<Column> columns,
+                                 @Nonnull List<Encoder> encoders) {
+        this.copy = copy;
+        this.out = new DataOutputStream(copy);
+        this.columns = columns;
+        this.encoders = encoders;
+    }
+
+    /**
+     * Starts a binary {@code COPY} into the specified table.
+     *
+     * <p>The column types are resolved before the copy is started, so that unsupported column types are reported
+     * before any data is sent to the server.</p>
+     *
+     * @param connection the connection to copy on.
+     * @param table the qualified table name.
+     * @param columnNames the qualified column names, in the order of {@code columns}.
+     * @param columns the columns to copy.
+     * @return the started copy.
+     * @throws SQLException if the copy cannot be started.
+     * @throws PersistenceException if one of the column types is not supported.
+     */
+    static PostgreSQLBinaryCopy start(@Nonnull Connection connection,
+                                      @Nonnull String table,
+                                      @Nonnull List<String> columnNames,
+                                      @Nonnull List<Column> columns) throws SQLException {
+        var columnList = String.join(", ", columnNames);
+        List<Encoder> encoders = new ArrayList<>(columns.size());
+        //noinspection SqlSourceToSinkFlow
+        try (var statement = connection.prepareStatement("SELECT %s FROM %s WHERE false".formatted(columnList, table))) {
+            ResultSetMetaData metaData = statement.getMetaData();
+            for (int i = 0; i < columns.size(); i++) {
+                String typeName = metaData.getColumnTypeName(i + 1);
+                Encoder encoder = encoder(typeName);
+                if (encoder == null) {
+                    throw new PersistenceException("Column %s has type %s, which is not supported by binary COPY. Use insert(Stream, int) instead."
+                            .formatted(columns.get(i).name(), typeName));
+                }
+                encoders.add(encoder);
+            }
+        }
+        var copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                "COPY %s (%s) FROM STDIN (FORMAT binary)".formatted(table, columnList), BUFFER_SIZE);
+        var writer = new PostgreSQLBinaryCopy(copy, columns, encoders);
+        try {
+            writer.out.write(SIGNATURE);
+            writer.out.writeInt(0);     // Flags.
+            writer.out.writeInt(0);     // Header extension length.
+        } catch (IOException e) {
+            writer.close();
+            throw new SQLException(e);
+        }
+        return writer;
+    }
+
+    /**
+     * Writes a single row.
+     *
+     * @param values the JDBC-ready values of the row, in column order.
+     * @throws UncheckedIOException if the row cannot be written to the server.
+     * @throws PersistenceException if a value cannot be encoded for its column.
+     */
+    void writeRow(@Nonnull List<Object> values) {
+        assert values.size() == encoders.size();
+        try {
+            out.writeShort(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    out.writeInt(-1);
+                    continue;
+                }
+                try {
+                    encoders.get(i).write(out, value);
+                } catch (ClassCastException e) {
+                    throw new PersistenceException("Cannot copy value of type %s to column %s."
+                            .formatted(value.getClass().getSimpleName(), columns.get(i).name()), e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sends the rows written so far to the server.
+     *
+     * @throws UncheckedIOException if the rows cannot be written to the server.
+     */
+    void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Completes the copy.
+     *
+     * @return the number of rows copied.
+     * @throws SQLException if the server rejects the copied data.
+     */
+    long finish() throws SQLException {
+        try {
+            out.writeShort(-1);     // File trailer.
+            out.flush();
+        } catch (IOException e) {
+            throw new SQLException(e);
+        }
+        finished = true;
+        return copy.endCopy();
+    }
+
+    /**
+     * Cancels the copy if it has not been completed.
+     */
+    @Override
+    public void close() {
+        if (!finished && copy.isActive()) {
+            try {
+                copy.cancelCopy();
+            } catch (SQLException ignore) {}
+        }
+    }
+
+    @Nullable
+    private static Encoder encoder(@Nonnull String typeName) {
+        return switch (typeName) {
+            case "bool" -> (out, value) -> {
+                out.writeInt(1);
+                out.writeByte((Boolean) value ? 1 : 0);
+            };
+            case "int2", "smallserial" -> (out, value) -> {
+                out.writeInt(2);
+                out.writeShort(((Number) value).shortValue());
+            };
+            case "int4", "serial" -> (out, value) -> {
+                out.writeInt(4);
+                out.writeInt(((Number) value).intValue());
+            };
+            case "int8", "bigserial" -> (out, value) -> {
+                out.writeInt(8);
+                out.writeLong(((Number) value).longValue());
+            };
+            case "float4" -> (out, value) -> {
+                out.writeInt(4);
+                out.writeFloat(((Number) value).floatValue());
+            };
+            case "float8" -> (out, value) -> {
+                out.writeInt(8);
+                out.writeDouble(((Number) value).doubleValue());
+            };
+            case "numeric" -> PostgreSQLBinaryCopy::writeNumeric;
+            case "text", "varchar", "bpchar", "name", "citext", "json" -> (out, value) ->
+                    writeBytes(out, text(value).getBytes(UTF_8));
+            case "jsonb" -> (out, value) -> {
+                byte[] bytes = text(value).getBytes(UTF_8);
+                out.writeInt(bytes.length + 1);
+                out.writeByte(1);   // jsonb format version.
+                out.write(bytes);
+            };
+            case "bytea" -> (out, value) -> writeBytes(out, switch (value) {
+                case ByteBuffer buffer -> {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.duplicate().get(bytes);
+                    yield bytes;
+                }
+                default -> (byte[]) value;
+            });
+            case "uuid" -> (out, value) -> {
+                UUID uuid = value instanceof UUID u ? u : UUID.fromString(value.toString());
+                out.writeInt(16);
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            };
+            case "date" -> (out, value) -> {
+                LocalDate date = switch (value) {
+                    case java.sql.Date d -> d.toLocalDate();
+                    default -> (LocalDate) value;
+                };
+                out.writeInt(4);
+                out.writeInt((int) ChronoUnit.DAYS.between(POSTGRES_EPOCH_DATE, date));
+            };
+            case "time" -> (out, value) -> {
+                LocalTime time = switch (value) {
+                    case java.sql.Time t -> t.toLocalTime();
+                    default -> (LocalTime) value;
+                };
+                out.writeInt(8);
+                out.writeLong(time.toNanoOfDay() / 1_000);
+            };
+            // Mirrors the JDBC binding: Timestamp values are bound in UTC, LocalDateTime values as wall-clock time.
+            case "timestamp" -> (out, value) -> writeTimestamp(out, switch (value) {
+                case LocalDateTime ldt -> ldt.atZone(UTC).toInstant();
+                default -> instant(value);
+            });
+            case "timestamptz" -> (out, value) -> writeTimestamp(out, switch (value) {
+                case LocalDateTime ldt -> ldt.atZone(ZoneId.systemDefault()).toInstant();
+                default -> instant(value);
+            });
+            default -> null;
+        };
+    }
+
+    private static String text(@Nonnull Object value) {
+        return switch (value) {
+            case String s -> s;
+            case Enum<?> e -> e.name();
+            default -> value.toString();
+        };
+    }
+
+    private static Instant instant(@Nonnull Object value) {
+        return switch (value) {
+            case Instant i -> i;
+            case Timestamp ts -> ts.toInstant();
+            case OffsetDateTime odt -> odt.toInstant();
+            case ZonedDateTime zdt -> zdt.toInstant();
+            default -> ((Date) value).toInstant();
+        };
+    }
+
+    private static void writeBytes(@Nonnull DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeTimestamp(@Nonnull DataOutputStream out, @Nonnull Instant instant) throws IOException {
+        out.writeInt(8);
+        out.writeLong(ChronoUnit.MICROS.between(POSTGRES_EPOCH, instant));
+    }
+
+    /**
+     * Writes a numeric value as a sequence of base-10000 digits, aligned on the decimal point.
+     */
+    private static void writeNumeric(@Nonnull DataOutputStream out, @Nonnull Object value) throws IOException {
+        BigDecimal decimal = switch (value) {
+            case BigDecimal d -> d;
+            case BigInteger i -> new BigDecimal(i);
+            case Double d -> BigDecimal.valueOf(d);
+            case Float f -> BigDecimal.valueOf(f);
+            default -> BigDecimal.valueOf(((Number) value).longValue());
+        };
+        int scale = Math.max(decimal.scale(), 0);
+        BigDecimal abs = decimal.abs().setScale(scale);
+        // Pad the fraction to a whole number of base-10000 digits.
+        int fractionDigits = (scale + 3) / 4;
+        BigInteger unscaled = abs.unscaledValue().multiply(BigInteger.TEN.pow(fractionDigits * 4 - scale));
+        List<Short> digits = new ArrayList<>();
+        while (unscaled.signum() != 0) {
+            BigInteger[] division = unscaled.divideAndRemainder(NBASE);
+            digits.addFirst(division[1].shortValue());
+            unscaled = division[0];
+        }
+        int weight = digits.size() - fractionDigits - 1;
+        while (!digits.isEmpty() && digits.getLast() == 0) {
+            digits.removeLast();
+        }
+        if (digits.isEmpty()) {
+            weight = 0;
+        }
+        out.writeInt(8 + digits.size() * 2);
+        out.writeShort(digits.size());
+        out.writeShort(weight);
+        out.writeShort(decimal.signum() < 0 ? 0x4000 : 0x0000);
+        out.writeShort(scale);
+        for (short digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+}
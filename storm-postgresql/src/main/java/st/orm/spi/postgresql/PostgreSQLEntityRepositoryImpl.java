@@ -16,6 +16,7 @@
 package st.orm.spi.postgresql;
 
 import static java.util.function.Predicate.not;
+import static st.orm.GenerationStrategy.NONE;
 import static st.orm.GenerationStrategy.SEQUENCE;
 import static st.orm.core.repository.impl.StreamSupport.partitioned;
 import static st.orm.core.template.SqlInterceptor.intercept;
@@ -26,7 +27,9 @@ import static st.orm.core.template.impl.StringTemplates.flatten;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -37,7 +40,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import st.orm.Data;
 import st.orm.Entity;
 import st.orm.Metamodel;
@@ -47,11 +52,14 @@ import st.orm.PersistenceException;
 import st.orm.core.repository.EntityRepository;
 import st.orm.core.repository.impl.EntityRepositoryImpl;
 import st.orm.core.spi.EntityCache;
+import st.orm.core.spi.Providers;
+import st.orm.core.spi.SharedEntityCache;
 import st.orm.core.template.Column;
 import st.orm.core.template.Model;
 import st.orm.core.template.ORMTemplate;
 import st.orm.core.template.PreparedQuery;
 import st.orm.core.template.Query;
+import st.orm.core.template.SqlTemplateException;
 import st.orm.core.template.TemplateString;
 
 /**
@@ -280,22 +288,38 @@ public class PostgreSQLEntityRepositoryImpl<E extends Entity<ID>, ID>
 
     @Override
     protected void doUpsertBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query,
-                                 @Nullable EntityCache<E, ID> cache) {
+                                 @Nullable EntityCache<E, ID> cache, int batchSize) {
         if (batch.isEmpty()) {
             return;
         }
-        batch.stream().map(this::validateUpsert).forEach(query::addBatch);
+        List<E> validated = batch.stream().map(this::validateUpsert).toList();
         if (cache != null) {
-            batch.stream()
+            validated.stream()
                     .filter(e -> !model.isDefaultPrimaryKey(e.id()))
                     .forEach(e -> cache.remove(e.id()));
         }
+        int offset = upsertRows(validated, batchSize);
+        if (offset == validated.size()) {
+            return;
+        }
+        validated.subList(offset, validated.size()).forEach(query::addBatch);
         int[] result = query.executeBatch();
         if (IntStream.of(result).anyMatch(r -> r != 0 && r != 1 && r != 2)) {
             throw new PersistenceException("Batch upsert failed.");
         }
     }
 
+    @Override
+    protected void doUpsertRows(@Nonnull List<E> rows) {
+        var versionAware = new AtomicBoolean();
+        intercept(sql -> sql.versionAware(versionAware.getPlain()), () -> {
+            var query = ormTemplate.query(flatten(raw("""
+                    INSERT INTO \0
+                    VALUES \0\0""", model.type(), rows, onConflictClause(versionAware)))).managed();
+            query.executeUpdate();
+        });
+    }
+
     @Override
     protected List<ID> doUpsertAndFetchIdsBatch(@Nonnull List<E> batch, @Nonnull PreparedQuery query,
                                                 @Nullable EntityCache<E, ID> cache) {
@@ -353,4 +377,96 @@ public class PostgreSQLEntityRepositoryImpl<E extends Entity<ID>, ID>
                 .managed();
         return query.getResultList(model.primaryKeyType());
     }
+
+    /**
+     * Inserts a stream of entities using PostgreSQL's binary {@code COPY} protocol.
+     *
+     * <p>All entities are streamed to the server as part of a single {@code COPY ... FROM STDIN (FORMAT binary)}
+     * statement, which is considerably faster than the batched {@code INSERT} statements used by
+     * {@link #insert(Stream, int)} when loading large volumes of data. The copy is atomic: if any row is rejected, none
+     * of the rows are inserted.</p>
+     *
+     * <p>Auto-generated primary key columns are omitted from the copy, so their values are provided by the column
+     * default. For {@code SEQUENCE} primary keys this means that the column must default to the sequence. Joined and
+     * polymorphic entities are inserted using {@link #insert(Stream, int)} instead.</p>
+     *
+     * <p>If entity callbacks are registered, the after-insert callbacks are fired for every chunk of
+     * {@code defaultBatchSize} entities once the chunk has been sent to the server, as with the batches of
+     * {@link #insert(Stream, int)}.</p>
+     *
+     * @param entities the entities to insert. Each entity must not be null and must conform to the model constraints.
+     * @return the number of inserted rows.
+     * @throws PersistenceException if the insert fails, for instance due to database constraint violations, or if one
+     *                              of the column types is not supported by the binary copy format.
+     * @since 1.11
+     */
+    public long insertBulk(@Nonnull Stream<E> entities) {
+        return insertBulk(entities, false);
+    }
+
+    /**
+     * Inserts a stream of entities using PostgreSQL's binary {@code COPY} protocol.
+     *
+     * <p>See {@link #insertBulk(Stream)} for details.</p>
+     *
+     * @param entities the entities to insert. Each entity must not be null and must conform to the model constraints.
+     * @param ignoreAutoGenerate true to ignore the auto-generate flag on the primary key and explicitly insert the
+     *                           provided primary key value. Use this flag only when intentionally providing the primary
+     *                           key value (e.g., migrations, data exports).
+     * @return the number of inserted rows.
+     * @throws PersistenceException if the insert fails, for instance due to database constraint violations, or if one
+     *                              of the column types is not supported by the binary copy format.
+     * @since 1.11
+     */
+    public long insertBulk(@Nonnull Stream<E> entities, boolean ignoreAutoGenerate) {
+        if (model.isJoinedInheritance() || model.type().isSealed()) {
+            var count = new AtomicLong();
+            insert(entities.peek(ignore -> count.incrementAndGet()), defaultBatchSize, ignoreAutoGenerate);
+            return count.get();
+        }
+        var dialect = ormTemplate.dialect();
+        var columns = model.declaredColumns().stream()
+                .filter(Column::insertable)
+                .filter(column -> ignoreAutoGenerate || !column.primaryKey() || column.generation() == NONE)
+                .toList();
+        var table = model.qualifiedName(dialect);
+        var columnNames = columns.stream().map(column -> column.qualifiedName(dialect)).toList();
+        try {
+            return ormTemplate.withConnection(connection -> {
+                try (var copy = PostgreSQLBinaryCopy.start(connection, table, columnNames, columns)) {
+                    var values = new ArrayList<>(columns.size());
+                    return writeInserts(entities, defaultBatchSize, ignoreAutoGenerate, new InsertWriter<>() {
+                        @Override
+                        public void write(@Nonnull E entity) {
+                            values.clear();
+                            try {
+                                model.forEachValue(columns, entity, (ignore, value) -> values.add(value));
+                            } catch (SqlTemplateException e) {
+                                throw new PersistenceException(e);
+                            }
+                            copy.writeRow(values);
+                        }
+
+                        @Override
+                        public void flush() {
+                            copy.flush();
+                        }
+
+                        @Override
+                        public long finish() {
+                            try {
+                                return copy.finish();
+                            } catch (SQLException e) {
+                                throw new PersistenceException(e);
+                            }
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw new PersistenceException("Bulk insert of %s failed.".formatted(model.type().getSimpleName()), e.getCause());
+                }
+            });
+        } finally {
+            SharedEntityCache.invalidate(ormTemplate.sharedCacheScope(), model.type(), Providers.getTransactionTemplate().currentContext().orElse(null));
+        }
+    }
 }
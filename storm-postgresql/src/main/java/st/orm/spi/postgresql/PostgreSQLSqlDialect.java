@@ -15,6 +15,7 @@
  */
 package st.orm.spi.postgresql;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.util.stream.Collectors.toSet;
 import static st.orm.Operator.BETWEEN;
 import static st.orm.Operator.EQUALS;
@@ -27,9 +28,12 @@ import static st.orm.Operator.NOT_EQUALS;
 import static st.orm.Operator.NOT_IN;
 
 import jakarta.annotation.Nonnull;
+import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.SequencedMap;
 import java.util.Set;
 import java.util.UUID;
@@ -44,11 +48,24 @@ import st.orm.core.template.SqlTemplateException;
 
 public class PostgreSQLSqlDialect extends DefaultSqlDialect implements SqlDialect {
 
+    private static final Map<Class<?>, String> ARRAY_TYPES = Map.of(
+            Short.class, "smallint",
+            Integer.class, "integer",
+            Long.class, "bigint",
+            BigDecimal.class, "numeric",
+            String.class, "varchar",
+            UUID.class, "uuid"
+    );
+
+    private final boolean arrayBinding;
+
     public PostgreSQLSqlDialect() {
+        this(StormConfig.defaults());
     }
 
     public PostgreSQLSqlDialect(@Nonnull StormConfig config) {
         super(config);
+        this.arrayBinding = parseBoolean(config.getProperty("storm.in_list.array_binding", "false"));
     }
 
     /**
@@ -284,6 +301,43 @@ public class PostgreSQLSqlDialect extends DefaultSqlDialect implements SqlDialec
         preparedStatement.setObject(index, uuid);
     }
 
+    /**
+     * Returns the PostgreSQL array type for the given element type if {@code storm.in_list.array_binding} is enabled.
+     *
+     * @param elementType the type of the values in the {@code IN} list.
+     * @return the SQL array type, or an empty optional if the values must be bound individually.
+     * @since 1.11
+     */
+    @Override
+    public Optional<String> arrayType(@Nonnull Class<?> elementType) {
+        if (!arrayBinding) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ARRAY_TYPES.get(elementType));
+    }
+
+    /**
+     * Builds an {@code = ANY(?)} or {@code <> ALL(?)} expression for the given array parameter.
+     *
+     * @param operator the operator, either {@link Operator#IN} or {@link Operator#NOT_IN}.
+     * @param column the column to compare.
+     * @param parameter the placeholder of the array parameter.
+     * @return the SQL fragment representing the expression.
+     * @throws SqlTemplateException if the operator is not supported.
+     * @since 1.11
+     */
+    @Override
+    public String arrayIn(@Nonnull Operator operator, @Nonnull String column, @Nonnull String parameter)
+            throws SqlTemplateException {
+        if (operator == IN) {
+            return "%s = ANY(%s)".formatted(column, parameter);
+        }
+        if (operator == NOT_IN) {
+            return "%s <> ALL(%s)".formatted(column, parameter);
+        }
+        throw new SqlTemplateException("Unsupported operator for array parameter: %s.".formatted(operator));
+    }
+
     /**
      * Returns the SQL statement for getting the next value of the given sequence.
      *
@@ -20,10 +20,15 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 import lombok.Builder;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,12 +48,15 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import st.orm.DbTable;
 import st.orm.Entity;
+import st.orm.EntityCallback;
 import st.orm.FK;
 import st.orm.Metamodel;
 import st.orm.PK;
 import st.orm.Persist;
 import st.orm.PersistenceException;
+import st.orm.StormConfig;
 import st.orm.Version;
+import st.orm.core.template.ORMTemplate;
 import st.orm.core.template.PreparedStatementTemplate;
 
 @ExtendWith(SpringExtension.class)
@@ -425,6 +433,41 @@ public class PostgreSQLEntityRepositoryTest {
         assertEquals(0, none);
     }
 
+    @Test
+    public void testUpsertBatchMultiRow() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.upsert.multi_row_size", "2")));
+        var repo = orm.entity(Specialty.class);
+        var statements = new ArrayList<String>();
+        observe(sql -> statements.add(sql.statement()), () -> repo.upsert(List.of(
+                Specialty.builder().id(4).name("anaesthetics").build(),
+                Specialty.builder().id(5).name("nurse").build(),
+                Specialty.builder().id(6).name("pharmacy").build())));
+        // Two rows in a single multi-row statement, the remaining row in a JDBC batch.
+        assertEquals(2, statements.size());
+        assertEquals(1, statements.stream().filter(sql -> sql.contains("VALUES (?, ?), (?, ?)")).count());
+        assertTrue(statements.stream().allMatch(sql -> sql.contains("ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name")));
+        var entities = repo.select().where(Metamodel.of(Specialty.class, "id"), GREATER_THAN_OR_EQUAL, 4).getResultList();
+        assertEquals(3, entities.size());
+        repo.upsert(entities.stream().map(e -> e.toBuilder().name("%ss".formatted(e.name())).build()).toList());
+        var updated = repo.select().where(Metamodel.of(Specialty.class, "id"), GREATER_THAN_OR_EQUAL, 4).getResultList();
+        assertEquals(3, updated.size());
+        assertTrue(updated.stream().allMatch(entity -> entity.name().endsWith("s")));
+    }
+
+    @Test
+    public void testUpsertBatchMultiRowDuplicateKeys() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.upsert.multi_row_size", "2")));
+        var repo = orm.entity(Specialty.class);
+        var statements = new ArrayList<String>();
+        // A multi-row upsert cannot affect the same row twice, so the batch falls back to JDBC batching.
+        observe(sql -> statements.add(sql.statement()), () -> repo.upsert(List.of(
+                Specialty.builder().id(4).name("anaesthetics").build(),
+                Specialty.builder().id(4).name("nurse").build())));
+        assertEquals(1, statements.size());
+        assertFalse(statements.getFirst().contains("), ("));
+        assertEquals("nurse", repo.getById(4).name());
+    }
+
     @Test
     public void testUpsertInlineVersion() {
         String expectedSql = """
@@ -2311,4 +2354,109 @@ public class PostgreSQLEntityRepositoryTest {
         repo.delete(repo.getById(DEFAULT_KEY_ID));
         assertEquals(before - 1, repo.count());
     }
+
+    @Test
+    public void testFindAllByIdWithArrayBinding() {
+        var orm = ORMTemplate.of(dataSource, StormConfig.of(Map.of("storm.in_list.array_binding", "true")));
+        var repo = orm.entity(Owner.class);
+        var statements = new ArrayList<String>();
+        var small = observe(sql -> statements.add(sql.statement()), () -> repo.findAllById(List.of(1, 2, 3)));
+        var large = observe(sql -> statements.add(sql.statement()), () -> repo.findAllById(List.of(1, 2, 3, 4, 5, 6, 7)));
+        assertEquals(3, small.size());
+        assertEquals(7, large.size());
+        assertEquals(2, statements.size());
+        assertEquals(statements.get(0), statements.get(1));
+        assertTrue(statements.get(0).contains("= ANY(?)"));
+    }
+
+    @Test
+    public void testFindAllByIdWithoutArrayBinding() {
+        var repo = PreparedStatementTemplate.ORM(dataSource).entity(Owner.class);
+        var statements = new ArrayList<String>();
+        observe(sql -> statements.add(sql.statement()), () -> repo.findAllById(List.of(1, 2, 3)));
+        assertEquals(1, statements.size());
+        assertFalse(statements.getFirst().contains("ANY("));
+    }
+
+    @Test
+    public void testInsertBulk() {
+        var repo = (PostgreSQLEntityRepositoryImpl<Owner, Integer>) PreparedStatementTemplate.ORM(dataSource).entity(Owner.class);
+        long before = repo.count();
+        var owners = IntStream.range(0, 2_500).mapToObj(i -> Owner.builder()
+                .firstName("First " + i)
+                .lastName("Last " + i)
+                .address(Address.builder().address("Street " + i).city("City").build())
+                .telephone(i % 2 == 0 ? null : "555" + i)
+                .build());
+        var statements = new AtomicInteger();
+        long count = observe(sql -> statements.incrementAndGet(), () -> repo.insertBulk(owners));
+        assertEquals(2_500, count);
+        assertEquals(0, statements.get());
+        assertEquals(before + 2_500, repo.count());
+        var last = repo.findAll().stream().max(Comparator.comparingInt(Owner::id)).orElseThrow();
+        assertEquals("First 2499", last.firstName());
+        assertEquals("Street 2499", last.address().address());
+        assertEquals("5552499", last.telephone());
+        assertEquals(0, last.version());
+    }
+
+    @Test
+    public void testInsertBulkFiresCallbacks() {
+        var afterInsert = new AtomicInteger();
+        var orm = PreparedStatementTemplate.ORM(dataSource).withEntityCallback(new EntityCallback<Owner>() {
+            @Override
+            public Owner beforeInsert(Owner entity) {
+                return entity.toBuilder().lastName(entity.lastName().toUpperCase()).build();
+            }
+
+            @Override
+            public void afterInsert(Owner entity) {
+                assertEquals("BULK", entity.lastName());
+                afterInsert.incrementAndGet();
+            }
+        });
+        var repo = (PostgreSQLEntityRepositoryImpl<Owner, Integer>) orm.entity(Owner.class);
+        long count = repo.insertBulk(IntStream.range(0, 2_500).mapToObj(i -> Owner.builder()
+                .firstName("First " + i)
+                .lastName("Bulk")
+                .address(Address.builder().address("Street " + i).city("City").build())
+                .build()));
+        assertEquals(2_500, count);
+        assertEquals(2_500, afterInsert.get());
+        assertEquals(2_500, repo.select().where(Metamodel.of(Owner.class, "lastName"), EQUALS, "BULK").getResultCount());
+    }
+
+    @Test
+    public void testInsertBulkWithSequence() {
+        var repo = (PostgreSQLEntityRepositoryImpl<Pet, Integer>) PreparedStatementTemplate.ORM(dataSource).entity(Pet.class);
+        long before = repo.count();
+        long count = repo.insertBulk(Stream.of(
+                Pet.builder().name("Buddy").birthDate(LocalDate.of(2020, 1, 1))
+                        .type(PetType.builder().id(1).build()).owner(Owner.builder().id(1).build()).build(),
+                Pet.builder().name("Stray").birthDate(LocalDate.of(1999, 12, 31))
+                        .type(PetType.builder().id(2).build()).build()));
+        assertEquals(2, count);
+        assertEquals(before + 2, repo.count());
+        var pets = repo.findAll().stream().sorted(Comparator.comparingInt(Pet::id)).toList();
+        var buddy = pets.get(pets.size() - 2);
+        var stray = pets.getLast();
+        assertEquals("Buddy", buddy.name());
+        assertEquals(LocalDate.of(2020, 1, 1), buddy.birthDate());
+        assertEquals(1, buddy.owner().id());
+        assertEquals(LocalDate.of(1999, 12, 31), stray.birthDate());
+        assertEquals(2, stray.type().id());
+        assertNull("owner", stray.owner());
+    }
+
+    @Test
+    public void testInsertBulkIsAtomic() {
+        var repo = (PostgreSQLEntityRepositoryImpl<Pet, Integer>) PreparedStatementTemplate.ORM(dataSource).entity(Pet.class);
+        long before = repo.count();
+        assertThrows(PersistenceException.class, () -> repo.insertBulk(Stream.of(
+                Pet.builder().name("Buddy").birthDate(LocalDate.of(2020, 1, 1))
+                        .type(PetType.builder().id(1).build()).build(),
+                Pet.builder().name("Ghost").birthDate(LocalDate.of(2020, 1, 1))
+                        .type(PetType.builder().id(999).build()).build())));
+        assertEquals(before, repo.count());
+    }
 }
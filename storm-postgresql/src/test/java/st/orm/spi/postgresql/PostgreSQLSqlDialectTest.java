@@ -324,4 +324,36 @@ class PostgreSQLSqlDialectTest {
         assertThrows(SqlTemplateException.class,
                 () -> dialect.multiColumnExpression(Operator.LIKE, values, v -> "?"));
     }
+
+    // Array binding for IN lists
+
+    @Test
+    void arrayTypeShouldBeEmptyByDefault() {
+        assertTrue(dialect.arrayType(Integer.class).isEmpty());
+    }
+
+    @Test
+    void arrayTypeShouldMapSupportedTypesWhenEnabled() {
+        var arrayDialect = new PostgreSQLSqlDialect(StormConfig.of(Map.of("storm.in_list.array_binding", "true")));
+        assertEquals("integer", arrayDialect.arrayType(Integer.class).orElseThrow());
+        assertEquals("bigint", arrayDialect.arrayType(Long.class).orElseThrow());
+        assertEquals("varchar", arrayDialect.arrayType(String.class).orElseThrow());
+        assertEquals("uuid", arrayDialect.arrayType(java.util.UUID.class).orElseThrow());
+        assertTrue(arrayDialect.arrayType(Object.class).isEmpty());
+    }
+
+    @Test
+    void arrayInShouldUseAnyForIn() throws Exception {
+        assertEquals("a.id = ANY(?)", dialect.arrayIn(Operator.IN, "a.id", "?"));
+    }
+
+    @Test
+    void arrayInShouldUseAllForNotIn() throws Exception {
+        assertEquals("a.id <> ALL(?)", dialect.arrayIn(Operator.NOT_IN, "a.id", "?"));
+    }
+
+    @Test
+    void arrayInShouldRejectOtherOperators() {
+        assertThrows(SqlTemplateException.class, () -> dialect.arrayIn(Operator.EQUALS, "a.id", "?"));
+    }
 }
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -86,6 +87,19 @@ public class StormAutoConfiguration {
         };
     }
 
+    /**
+     * Compiles the repository statements of all entity types after all singleton beans have been fully initialized,
+     * if enabled by {@code storm.template-cache.warm-up}.
+     */
+    @Bean
+    SmartInitializingSingleton stormTemplateWarmUp(ObjectProvider<ORMTemplate> ormTemplate, StormProperties properties) {
+        return () -> {
+            if (Boolean.TRUE.equals(properties.getTemplateCache().getWarmUp())) {
+                ormTemplate.ifAvailable(ORMTemplate::warmUp);
+            }
+        };
+    }
+
     private static StormConfig toStormConfig(StormProperties properties) {
         Map<String, String> map = new HashMap<>();
         var update = properties.getUpdate();
@@ -98,6 +112,14 @@ public class StormAutoConfiguration {
         if (update.getMaxShapes() != null) {
             map.put("storm.update.max_shapes", update.getMaxShapes().toString());
         }
+        var insert = properties.getInsert();
+        if (insert.getMultiRowSize() != null) {
+            map.put("storm.insert.multi_row_size", insert.getMultiRowSize().toString());
+        }
+        var upsert = properties.getUpsert();
+        if (upsert.getMultiRowSize() != null) {
+            map.put("storm.upsert.multi_row_size", upsert.getMultiRowSize().toString());
+        }
         var entityCache = properties.getEntityCache();
         if (entityCache.getRetention() != null) {
             map.put("storm.entity_cache.retention", entityCache.getRetention().trim());
@@ -106,6 +128,10 @@ public class StormAutoConfiguration {
         if (templateCache.getSize() != null) {
             map.put("storm.template_cache.size", templateCache.getSize().toString());
         }
+        var statementCache = properties.getStatementCache();
+        if (statementCache.getSize() != null) {
+            map.put("storm.statement_cache.size", statementCache.getSize().toString());
+        }
         if (properties.getAnsiEscaping() != null) {
             map.put("storm.ansi_escaping", properties.getAnsiEscaping().toString());
         }
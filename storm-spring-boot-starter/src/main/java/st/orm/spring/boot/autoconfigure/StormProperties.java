@@ -42,12 +42,21 @@ public class StormProperties {
     /** Update behavior configuration. */
     private Update update = new Update();
 
+    /** Batch insert configuration. */
+    private Insert insert = new Insert();
+
+    /** Batch upsert configuration. */
+    private Upsert upsert = new Upsert();
+
     /** Entity cache configuration. */
     private EntityCache entityCache = new EntityCache();
 
     /** Template cache configuration. */
     private TemplateCache templateCache = new TemplateCache();
 
+    /** Prepared statement cache configuration. */
+    private StatementCache statementCache = new StatementCache();
+
     /** Validation configuration. */
     private Validation validation = new Validation();
 
@@ -60,6 +69,18 @@ public class StormProperties {
     /** Sets the update behavior configuration. */
     public void setUpdate(Update update) { this.update = update; }
 
+    /** Returns the batch insert configuration. */
+    public Insert getInsert() { return insert; }
+
+    /** Sets the batch insert configuration. */
+    public void setInsert(Insert insert) { this.insert = insert; }
+
+    /** Returns the batch upsert configuration. */
+    public Upsert getUpsert() { return upsert; }
+
+    /** Sets the batch upsert configuration. */
+    public void setUpsert(Upsert upsert) { this.upsert = upsert; }
+
     /** Returns the entity cache configuration. */
     public EntityCache getEntityCache() { return entityCache; }
 
@@ -72,6 +93,12 @@ public class StormProperties {
     /** Sets the template cache configuration. */
     public void setTemplateCache(TemplateCache templateCache) { this.templateCache = templateCache; }
 
+    /** Returns the prepared statement cache configuration. */
+    public StatementCache getStatementCache() { return statementCache; }
+
+    /** Sets the prepared statement cache configuration. */
+    public void setStatementCache(StatementCache statementCache) { this.statementCache = statementCache; }
+
     /** Returns the validation configuration. */
     public Validation getValidation() { return validation; }
 
@@ -151,6 +178,66 @@ public class StormProperties {
 
         /** Sets the maximum number of templates to cache. */
         public void setSize(Integer size) { this.size = size; }
+
+        /** Whether to compile the repository statements of all entity types at startup. */
+        private Boolean warmUp;
+
+        /** Returns whether to compile the repository statements of all entity types at startup. */
+        public Boolean getWarmUp() { return warmUp; }
+
+        /** Sets whether to compile the repository statements of all entity types at startup. */
+        public void setWarmUp(Boolean warmUp) { this.warmUp = warmUp; }
+    }
+
+    /**
+     * Configuration properties for Storm's batch inserts.
+     *
+     * <p>Mapped to the {@code storm.insert.*} namespace.</p>
+     */
+    public static class Insert {
+
+        /** The number of rows per multi-row insert statement, or {@code 0} to use JDBC batching. */
+        private Integer multiRowSize;
+
+        /** Returns the number of rows per multi-row insert statement. */
+        public Integer getMultiRowSize() { return multiRowSize; }
+
+        /** Sets the number of rows per multi-row insert statement. */
+        public void setMultiRowSize(Integer multiRowSize) { this.multiRowSize = multiRowSize; }
+    }
+
+    /**
+     * Configuration properties for Storm's batch upserts.
+     *
+     * <p>Mapped to the {@code storm.upsert.*} namespace.</p>
+     */
+    public static class Upsert {
+
+        /** The number of rows per multi-row upsert statement, or {@code 0} to use JDBC batching. */
+        private Integer multiRowSize;
+
+        /** Returns the number of rows per multi-row upsert statement. */
+        public Integer getMultiRowSize() { return multiRowSize; }
+
+        /** Sets the number of rows per multi-row upsert statement. */
+        public void setMultiRowSize(Integer multiRowSize) { this.multiRowSize = multiRowSize; }
+    }
+
+    /**
+     * Configuration properties for Storm's prepared statement cache.
+     *
+     * <p>Mapped to the {@code storm.statement-cache.*} namespace.</p>
+     */
+    public static class StatementCache {
+
+        /** The maximum number of prepared statements to cache per transaction. */
+        private Integer size;
+
+        /** Returns the maximum number of prepared statements to cache per transaction. */
+        public Integer getSize() { return size; }
+
+        /** Sets the maximum number of prepared statements to cache per transaction. */
+        public void setSize(Integer size) { this.size = size; }
     }
 
     /**